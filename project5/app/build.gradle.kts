@@ -8,6 +8,9 @@
 plugins {
     // Apply the application plugin to add support for building a CLI application in Java.
     application
+
+    // Adds the jmh source set and the jmh task that runs the benchmarks in it.
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 repositories {
@@ -34,7 +37,14 @@ java {
 
 application {
     // Define the main class for the application.
-    mainClass.set("com.awtpi314.project5.MaxeSolver")
+    mainClass.set("com.awtpi314.project5.MazeSolver")
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    // The gc profiler reports the bytes allocated per operation next to each time.
+    profilers.add("gc")
+    resultFormat.set("JSON")
 }
 
 tasks.named<Test>("test") {
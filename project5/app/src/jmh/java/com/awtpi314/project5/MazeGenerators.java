@@ -0,0 +1,268 @@
+package com.awtpi314.project5;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * <h3>MazeGenerators</h3>
+ *
+ * Builds the mazes the benchmarks run against. Every maze comes from a seed,
+ * so the same name, size and seed always give the same maze and one run can
+ * be compared with another. The start is always the top left open cell and
+ * the finish the bottom right one.
+ *
+ * <ul>
+ * <li>perfect - a maze of one cell wide corridors carved with a depth-first
+ * walk, so there is exactly one path between any two cells</li>
+ * <li>rooms - open rooms of ten by ten cells with one door into each
+ * neighbouring room</li>
+ * <li>random - walls dropped on cells at random, three in every ten, over a
+ * winding corridor from the start to the finish</li>
+ * <li>serpentine - one corridor that snakes across every other row, which is
+ * the worst case for a search that looks at every cell</li>
+ * </ul>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public final class MazeGenerators {
+  /**
+   * The number of open cells along each side of a room
+   */
+  private static final int ROOM_SIZE = 10;
+  /**
+   * The text character for each cell code
+   */
+  private static final byte[] TEXT = { 'X', '.', 'S', 'T' };
+
+  /**
+   * Nothing to construct, everything here is static
+   */
+  private MazeGenerators() {
+  }
+
+  /**
+   * Builds a maze by name
+   *
+   * @param shape the kind of maze, one of perfect, rooms, random or serpentine
+   * @param size  the number of rows and columns
+   * @param seed  the seed for the random number generator
+   * @return the grid holding the maze
+   */
+  public static MazeGrid generate(String shape, int size, long seed) {
+    switch (shape) {
+      case "perfect":
+        return perfect(size, seed);
+      case "rooms":
+        return rooms(size, seed);
+      case "random":
+        return random(size, 0.3, seed);
+      case "serpentine":
+        return serpentine(size);
+      default:
+        throw new IllegalArgumentException("Unknown maze shape " + shape);
+    }
+  }
+
+  /**
+   * Carves a perfect maze with a depth-first walk between rooms on the odd
+   * rows and columns
+   *
+   * @param size the number of rows and columns
+   * @param seed the seed for the random number generator
+   * @return the grid holding the maze
+   */
+  public static MazeGrid perfect(int size, long seed) {
+    Random random = new Random(seed);
+    MazeGrid grid = new MazeGrid(size, size);
+    int rooms = (size - 1) / 2;
+    boolean[] carved = new boolean[rooms * rooms];
+    // The walk can go as deep as there are rooms, so it keeps its own stack
+    int[] stack = new int[rooms * rooms];
+    int depth = 0;
+    int[] options = new int[4];
+
+    stack[depth++] = 0;
+    carved[0] = true;
+    grid.setType(grid.index(1, 1), MazeGrid.OPEN);
+
+    while (depth > 0) {
+      int room = stack[depth - 1];
+      int x = room % rooms;
+      int y = room / rooms;
+
+      // Pick a random neighbouring room that hasn't been carved into yet
+      int count = 0;
+      if (x > 0 && !carved[room - 1]) {
+        options[count++] = room - 1;
+      }
+      if (x < rooms - 1 && !carved[room + 1]) {
+        options[count++] = room + 1;
+      }
+      if (y > 0 && !carved[room - rooms]) {
+        options[count++] = room - rooms;
+      }
+      if (y < rooms - 1 && !carved[room + rooms]) {
+        options[count++] = room + rooms;
+      }
+      if (count == 0) {
+        // Nowhere left to go from this room, so back up
+        depth--;
+        continue;
+      }
+
+      int next = options[random.nextInt(count)];
+      carved[next] = true;
+      stack[depth++] = next;
+      int nx = next % rooms;
+      int ny = next / rooms;
+      grid.setType(grid.index(nx * 2 + 1, ny * 2 + 1), MazeGrid.OPEN);
+      grid.setType(grid.index(x + nx + 1, y + ny + 1), MazeGrid.OPEN);
+    }
+
+    int last = (rooms - 1) * 2 + 1;
+    grid.setType(grid.index(1, 1), MazeGrid.START);
+    grid.setType(grid.index(last, last), MazeGrid.FINISH);
+    return grid;
+  }
+
+  /**
+   * Builds a grid of open rooms separated by walls one cell thick, with a door
+   * at a random place in the wall between each pair of neighbouring rooms
+   *
+   * @param size the number of rows and columns
+   * @param seed the seed for the random number generator
+   * @return the grid holding the maze
+   */
+  public static MazeGrid rooms(int size, long seed) {
+    Random random = new Random(seed);
+    MazeGrid grid = new MazeGrid(size, size);
+    int period = ROOM_SIZE + 1;
+
+    for (int y = 0; y < size; y++) {
+      for (int x = 0; x < size; x++) {
+        boolean wall = x % period == ROOM_SIZE || y % period == ROOM_SIZE;
+        grid.setType(grid.index(x, y), wall ? MazeGrid.WALL : MazeGrid.OPEN);
+      }
+    }
+
+    // Knock a door through the right and bottom wall of every room
+    for (int top = 0; top < size; top += period) {
+      for (int left = 0; left < size; left += period) {
+        int right = left + ROOM_SIZE;
+        int bottom = top + ROOM_SIZE;
+        if (right < size - 1) {
+          int y = top + random.nextInt(Math.min(ROOM_SIZE, size - top));
+          grid.setType(grid.index(right, y), MazeGrid.OPEN);
+        }
+        if (bottom < size - 1) {
+          int x = left + random.nextInt(Math.min(ROOM_SIZE, size - left));
+          grid.setType(grid.index(x, bottom), MazeGrid.OPEN);
+        }
+      }
+    }
+
+    grid.setType(0, MazeGrid.START);
+    grid.setType(lastOpen(grid), MazeGrid.FINISH);
+    return grid;
+  }
+
+  /**
+   * Fills a grid with walls at random, then carves a corridor that wanders
+   * right and down from the start to the finish so there is always a path.
+   * Dense enough walls would otherwise cut the two apart, and the benchmark
+   * would only measure how fast a search gives up.
+   *
+   * @param size    the number of rows and columns
+   * @param density the chance of each cell being a wall
+   * @param seed    the seed for the random number generator
+   * @return the grid holding the maze
+   */
+  public static MazeGrid random(int size, double density, long seed) {
+    Random random = new Random(seed);
+    MazeGrid grid = new MazeGrid(size, size);
+
+    for (int i = 0; i < grid.getCellCount(); i++) {
+      grid.setType(i, random.nextDouble() < density ? MazeGrid.WALL : MazeGrid.OPEN);
+    }
+
+    // Each step goes right or down at random until it runs into an edge
+    int x = 0;
+    int y = 0;
+    while (x < size - 1 || y < size - 1) {
+      if (y == size - 1 || (x < size - 1 && random.nextBoolean())) {
+        x++;
+      } else {
+        y++;
+      }
+      grid.setType(grid.index(x, y), MazeGrid.OPEN);
+    }
+
+    grid.setType(0, MazeGrid.START);
+    grid.setType(grid.getCellCount() - 1, MazeGrid.FINISH);
+    return grid;
+  }
+
+  /**
+   * Builds a maze that snakes back and forth across every other row
+   *
+   * @param size the number of rows and columns
+   * @return the grid holding the maze
+   */
+  public static MazeGrid serpentine(int size) {
+    MazeGrid grid = new MazeGrid(size, size);
+
+    for (int y = 0; y < size; y++) {
+      for (int x = 0; x < size; x++) {
+        // Even rows are corridors, odd rows are walls with a gap at alternating ends
+        boolean gap = (y % 4 == 1 && x == size - 1) || (y % 4 == 3 && x == 0);
+        grid.setType(grid.index(x, y), y % 2 == 0 || gap ? MazeGrid.OPEN : MazeGrid.WALL);
+      }
+    }
+
+    grid.setType(0, MazeGrid.START);
+    grid.setType(lastOpen(grid), MazeGrid.FINISH);
+    return grid;
+  }
+
+  /**
+   * Writes a maze in the text format {@link MazeLoader} reads
+   *
+   * @param grid the maze to write
+   * @return the text of the maze
+   */
+  public static byte[] toText(MazeGrid grid) {
+    int rows = grid.getRows();
+    int cols = grid.getCols();
+    ByteArrayOutputStream out = new ByteArrayOutputStream(rows * (cols + 1) + 32);
+    out.writeBytes((rows + " " + cols + "\n").getBytes(StandardCharsets.US_ASCII));
+
+    byte[] line = new byte[cols + 1];
+    line[cols] = '\n';
+    for (int y = 0; y < rows; y++) {
+      for (int x = 0; x < cols; x++) {
+        line[x] = TEXT[grid.getType(grid.index(x, y))];
+      }
+      out.write(line, 0, line.length);
+    }
+
+    return out.toByteArray();
+  }
+
+  /**
+   * Finds the last open cell in row order
+   *
+   * @param grid the grid to look through
+   * @return the cell index of the last open cell
+   */
+  private static int lastOpen(MazeGrid grid) {
+    int index = grid.getCellCount() - 1;
+    while (!grid.isPassable(index)) {
+      index--;
+    }
+
+    return index;
+  }
+}
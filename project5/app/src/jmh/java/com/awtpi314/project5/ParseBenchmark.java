@@ -0,0 +1,74 @@
+package com.awtpi314.project5;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.awtpi314.project5.exceptions.InvalidMazeException;
+
+/**
+ * <h3>ParseBenchmark</h3>
+ *
+ * Times reading a text maze into a {@link MazeGrid}. The text is held in
+ * memory so the disk isn't part of what is measured.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class ParseBenchmark {
+  /**
+   * The kind of maze to parse
+   */
+  @Param({ "perfect", "rooms", "random", "serpentine" })
+  public String shape;
+  /**
+   * The number of rows and columns
+   */
+  @Param({ "100", "1000", "10000" })
+  public int size;
+
+  /**
+   * The maze in the text format
+   */
+  private byte[] text;
+
+  /**
+   * Builds the maze and writes it out as text
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    text = MazeGenerators.toText(MazeGenerators.generate(shape, size, 42));
+  }
+
+  /**
+   * Parses the text into a grid
+   *
+   * @return the grid, so the parse can't be optimized away
+   * @throws IOException          if the text can't be read
+   * @throws InvalidMazeException if the text isn't a valid maze
+   */
+  @Benchmark
+  public MazeGrid parse() throws IOException, InvalidMazeException {
+    return MazeLoader.load(new ByteArrayInputStream(text));
+  }
+}
@@ -0,0 +1,85 @@
+package com.awtpi314.project5;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <h3>PathPrintBenchmark</h3>
+ *
+ * Times printing a solved path the way the command line does. The output is
+ * thrown away so the console isn't part of what is measured. Only the shapes
+ * with long paths are used, since that is where printing costs the most. Both
+ * the line per step format and the compact one are timed.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class PathPrintBenchmark {
+  /**
+   * The kind of maze whose path is printed
+   */
+  @Param({ "perfect", "serpentine" })
+  public String shape;
+  /**
+   * The number of rows and columns
+   */
+  @Param({ "100", "1000", "10000" })
+  public int size;
+  /**
+   * True to print the start and the runs of moves instead of a line per step
+   */
+  @Param({ "false", "true" })
+  public boolean compact;
+
+  /**
+   * The maze the path goes through
+   */
+  private MazeGrid grid;
+  /**
+   * The path to print
+   */
+  private int[] path;
+  /**
+   * A stream that throws away everything printed to it
+   */
+  private PrintStream out;
+
+  /**
+   * Builds the maze and solves it
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    grid = MazeGenerators.generate(shape, size, 42);
+    path = new MazeSolver(grid).findPath();
+    out = new PrintStream(OutputStream.nullOutputStream());
+  }
+
+  /**
+   * Prints the path
+   */
+  @Benchmark
+  public void print() {
+    MazeSolver.printPath(grid, path, compact, out);
+  }
+}
@@ -0,0 +1,81 @@
+package com.awtpi314.project5;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <h3>SearchBenchmark</h3>
+ *
+ * Times one search from the S to the T with each strategy. The maze and the
+ * solver are made once per trial, so only the search is measured, along with
+ * the path the strategy builds at the end of it.
+ *
+ * <p>
+ * Every strategy on every shape and size takes a long time, so pick the ones
+ * that matter with JMH's parameter option, for example
+ * {@code -p size=1000 -p strategy=bfs,astar}.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class SearchBenchmark {
+  /**
+   * The kind of maze to search
+   */
+  @Param({ "perfect", "rooms", "random", "serpentine" })
+  public String shape;
+  /**
+   * The number of rows and columns
+   */
+  @Param({ "100", "1000", "10000" })
+  public int size;
+  /**
+   * The strategy to search with, by its command line name
+   */
+  @Param({ "bfs", "bidirectional", "astar", "jps", "dial", "bits" })
+  public String strategy;
+
+  /**
+   * The solver for the maze, which keeps its search state between runs
+   */
+  private MazeSolver solver;
+
+  /**
+   * Builds the maze and the solver
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    MazeGrid grid = MazeGenerators.generate(shape, size, 42);
+    solver = new MazeSolver(grid, MazeSolver.strategyFor(strategy));
+  }
+
+  /**
+   * Searches from the S to the T
+   *
+   * @return the path, so the search can't be optimized away
+   */
+  @Benchmark
+  public int[] search() {
+    return solver.findPath();
+  }
+}
@@ -0,0 +1,127 @@
+package com.awtpi314.project5;
+
+import com.awtpi314.project5.interfaces.SearchStrategy;
+
+/**
+ * <h3>AStarStrategy</h3>
+ *
+ * A* search using the Manhattan distance to the target as the heuristic. On a
+ * 4-connected grid where every move costs one the Manhattan distance never
+ * overestimates and is consistent, so the first time the target comes off the
+ * open list we have the shortest path. Ties in the total estimate go to the
+ * cell closest to the target, which keeps the search heading straight for it
+ * on open mazes.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class AStarStrategy implements SearchStrategy {
+  /**
+   * This method performs an A* search on the grid and returns the path as cell
+   * indices. The distance from the start is kept in the state, the open list
+   * holds the estimated total distance in the top half of the priority and the
+   * estimate to the target in the bottom half.
+   *
+   * @param state  the search state for the grid being searched
+   * @param start  the cell index to start from
+   * @param target the cell index to find
+   * @return the cell indices from the start to the target, or null if there is
+   *         no path
+   */
+  @Override
+  public int[] findPath(SearchState state, int start, int target) {
+    MazeGrid grid = state.getGrid();
+    // The open list of cells ordered by their estimated total distance
+    IntPriorityQueue openList = state.getOpenList();
+    long nodesExpanded = 0;
+    int cols = grid.getCols();
+    int rows = grid.getRows();
+    int targetX = grid.getX(target);
+    int targetY = grid.getY(target);
+
+    state.setDist(start, 0);
+    int startH = Math.abs(grid.getX(start) - targetX) + Math.abs(grid.getY(start) - targetY);
+    openList.add(start, priority(startH, startH));
+
+    while (!openList.isEmpty()) {
+      long priority = openList.peekPriority();
+      int current = openList.remove();
+      int y = current / cols;
+      int x = current - y * cols;
+      int g = state.getDist(current);
+      int h = Math.abs(x - targetX) + Math.abs(y - targetY);
+
+      // Skip entries that were pushed before a shorter way to the cell was found
+      if ((int) (priority >>> 32) != g + h) {
+        continue;
+      }
+      if (state.shouldStop()) {
+        // The limits ran out, which the caller finds out from the state
+        break;
+      }
+      nodesExpanded++;
+
+      // The heuristic is consistent so the target is final once it comes off
+      if (current == target) {
+        state.addNodesExpanded(nodesExpanded);
+        state.startReconstruction();
+        return state.reconstructPath(target);
+      }
+
+      // Try each of the cardinal directions that stay on the maze
+      if (x > 0) {
+        relax(state, openList, current - 1, g + 1, MazeGrid.EAST, Math.abs(x - 1 - targetX) + Math.abs(y - targetY));
+      }
+      if (x < cols - 1) {
+        relax(state, openList, current + 1, g + 1, MazeGrid.WEST, Math.abs(x + 1 - targetX) + Math.abs(y - targetY));
+      }
+      if (y > 0) {
+        relax(state, openList, current - cols, g + 1, MazeGrid.SOUTH, Math.abs(x - targetX) + Math.abs(y - 1 - targetY));
+      }
+      if (y < rows - 1) {
+        relax(state, openList, current + cols, g + 1, MazeGrid.NORTH, Math.abs(x - targetX) + Math.abs(y + 1 - targetY));
+      }
+    }
+
+    // We emptied the open list without reaching the target
+    state.addNodesExpanded(nodesExpanded);
+    return null;
+  }
+
+  /**
+   * Records a new distance for a cell if it is open and the distance is shorter
+   * than what we had, then puts it on the open list
+   *
+   * @param state    the search state for the grid being searched
+   * @param openList the open list to add the cell to
+   * @param next     the cell to update
+   * @param g        the distance from the start through the current cell
+   * @param parent   the direction from next back to the current cell
+   * @param h        the Manhattan distance from next to the target
+   */
+  private void relax(SearchState state, IntPriorityQueue openList, int next, int g, int parent, int h) {
+    if (!state.getGrid().isPassable(next)) {
+      return;
+    }
+
+    int known = state.getDist(next);
+    if (known == -1 || g < known) {
+      state.setDist(next, g);
+      state.setParent(next, parent);
+      openList.add(next, priority(g + h, h));
+    }
+  }
+
+  /**
+   * Packs the estimated total and the estimate to the target into one priority
+   * so that ties in the total go to the cell closest to the target
+   *
+   * @param f the estimated total distance
+   * @param h the estimated distance to the target
+   * @return the packed priority
+   */
+  static long priority(int f, int h) {
+    return ((long) f << 32) | h;
+  }
+}
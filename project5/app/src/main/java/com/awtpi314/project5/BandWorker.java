@@ -0,0 +1,372 @@
+package com.awtpi314.project5;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.BitSet;
+
+/**
+ * <h3>BandWorker</h3>
+ *
+ * One worker of a {@link PartitionedSolver}, run in its own JVM. A worker is
+ * given a band of whole rows of the maze along with the row either side of
+ * it, and only ever holds the search state for its own rows. It runs a
+ * breadth-first search one level at a time when the coordinator tells it to.
+ * Cells it reaches in the rows either side belong to its neighbours, so
+ * instead of searching them it sends their columns back to the coordinator,
+ * which passes them on to the band that owns them for the next level.
+ *
+ * <p>
+ * Once the target has been reached the coordinator asks each band in turn to
+ * follow the parents back through its rows, which gives the path in pieces
+ * from the target back to the start.
+ * </p>
+ *
+ * <p>
+ * The messages the coordinator sends all start with one of the op codes
+ * below, and are answered before the next one is read:
+ * </p>
+ *
+ * <ul>
+ * <li>{@link #INIT} - the size of the maze, the rows of the band, the start
+ * and target, then the cells of the band and the rows either side. No
+ * answer.</li>
+ * <li>{@link #LEVEL} - the columns reached in the first row from above and in
+ * the last row from below. The answer is whether the target has been reached,
+ * the number of cells in the band waiting for the next level, and the columns
+ * reached in the rows above and below.</li>
+ * <li>{@link #CHAIN} - a cell in the band. The answer is the cells from it
+ * back along the parents while they stay in the band, then the cell the path
+ * carries on from in another band, or -1 at the start.</li>
+ * <li>{@link #QUIT} - the worker exits.</li>
+ * </ul>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class BandWorker {
+  /**
+   * Op code for loading a new band
+   */
+  static final int INIT = 1;
+  /**
+   * Op code for searching one level
+   */
+  static final int LEVEL = 2;
+  /**
+   * Op code for following the parents back through the band
+   */
+  static final int CHAIN = 3;
+  /**
+   * Op code for exiting
+   */
+  static final int QUIT = 4;
+
+  /**
+   * Number of columns in the maze
+   */
+  private int cols;
+  /**
+   * The first row of the maze in this band
+   */
+  private int firstRow;
+  /**
+   * Number of rows in this band
+   */
+  private int rowCount;
+  /**
+   * Cell index in the maze of the first cell of the band
+   */
+  private int offset;
+  /**
+   * Cell index in the maze of the start
+   */
+  private int start;
+  /**
+   * Cell index in the band of the target, or -1 if it is in another band
+   */
+  private int target;
+  /**
+   * The cells of the band
+   */
+  private byte[] cells;
+  /**
+   * The row above the band, or null if the band is at the top
+   */
+  private byte[] above;
+  /**
+   * The row below the band, or null if the band is at the bottom
+   */
+  private byte[] below;
+  /**
+   * The cells of the band that have been reached
+   */
+  private BitSet visited;
+  /**
+   * The direction of the parent of each cell that has been reached
+   */
+  private PackedDirections parents;
+  /**
+   * Columns of the row above that have already been sent, so each is only
+   * sent once
+   */
+  private BitSet sentAbove;
+  /**
+   * Columns of the row below that have already been sent
+   */
+  private BitSet sentBelow;
+  /**
+   * True once the target has been reached
+   */
+  private boolean found;
+  /**
+   * Cells of the band in the level being searched
+   */
+  private IntQueue frontier = new IntQueue();
+  /**
+   * Cells of the band in the next level
+   */
+  private IntQueue next = new IntQueue();
+  /**
+   * Columns of the row above reached in this level
+   */
+  private final IntList up = new IntList();
+  /**
+   * Columns of the row below reached in this level
+   */
+  private final IntList down = new IntList();
+
+  /**
+   * Connects to the coordinator and does what it says until it says to quit
+   *
+   * @param args the port the coordinator is listening on, on the loopback
+   *             interface
+   */
+  public static void main(String[] args) {
+    try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), Integer.parseInt(args[0]))) {
+      socket.setTcpNoDelay(true);
+      DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 1 << 16));
+      DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 1 << 16));
+      new BandWorker().serve(in, out);
+    } catch (EOFException e) {
+      // The coordinator went away, so there is nothing left to do
+    } catch (IOException e) {
+      System.err.println("Band worker stopped: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Answers messages from the coordinator until it says to quit
+   *
+   * @param in  the messages from the coordinator
+   * @param out the answers to the coordinator
+   * @throws IOException if the connection is broken
+   */
+  void serve(DataInputStream in, DataOutputStream out) throws IOException {
+    while (true) {
+      int op = in.readUnsignedByte();
+      switch (op) {
+        case INIT:
+          init(in);
+          break;
+        case LEVEL:
+          level(in, out);
+          break;
+        case CHAIN:
+          chain(in, out);
+          break;
+        case QUIT:
+          return;
+        default:
+          throw new IOException("Unknown op code " + op);
+      }
+      out.flush();
+    }
+  }
+
+  /**
+   * Loads a new band and starts a search in it
+   *
+   * @param in the rest of the message
+   * @throws IOException if the connection is broken
+   */
+  private void init(DataInputStream in) throws IOException {
+    int rows = in.readInt();
+    cols = in.readInt();
+    firstRow = in.readInt();
+    rowCount = in.readInt();
+    start = in.readInt();
+    int finish = in.readInt();
+    offset = firstRow * cols;
+    cells = new byte[rowCount * cols];
+    in.readFully(cells);
+    above = readRow(in, firstRow > 0);
+    below = readRow(in, firstRow + rowCount < rows);
+
+    visited = new BitSet(cells.length);
+    parents = new PackedDirections(cells.length);
+    sentAbove = new BitSet(cols);
+    sentBelow = new BitSet(cols);
+    frontier.clear();
+    next.clear();
+    found = false;
+    target = finish - offset >= 0 && finish - offset < cells.length ? finish - offset : -1;
+
+    // The band holding the start searches from it in the first level
+    if (start - offset >= 0 && start - offset < cells.length) {
+      visited.set(start - offset);
+      frontier.add(start - offset);
+    }
+  }
+
+  /**
+   * Takes in the cells reached by the neighbouring bands and then searches one
+   * level of the band
+   *
+   * @param in  the rest of the message
+   * @param out the answer to the coordinator
+   * @throws IOException if the connection is broken
+   */
+  private void level(DataInputStream in, DataOutputStream out) throws IOException {
+    // Cells reached from above were reached from the row above them, and cells
+    // reached from below from the row below
+    for (int i = in.readInt(); i > 0; i--) {
+      visit(in.readInt(), MazeGrid.NORTH, frontier);
+    }
+    int lastRow = (rowCount - 1) * cols;
+    for (int i = in.readInt(); i > 0; i--) {
+      visit(lastRow + in.readInt(), MazeGrid.SOUTH, frontier);
+    }
+
+    up.clear();
+    down.clear();
+    while (!frontier.isEmpty()) {
+      int cell = frontier.remove();
+      int x = cell % cols;
+
+      if (cell >= cols) {
+        visit(cell - cols, MazeGrid.SOUTH, next);
+      } else if (above != null && above[x] != MazeGrid.WALL && !sentAbove.get(x)) {
+        // The neighbour belongs to the band above
+        sentAbove.set(x);
+        up.add(x);
+      }
+      if (x < cols - 1) {
+        visit(cell + 1, MazeGrid.WEST, next);
+      }
+      if (cell < lastRow) {
+        visit(cell + cols, MazeGrid.NORTH, next);
+      } else if (below != null && below[x] != MazeGrid.WALL && !sentBelow.get(x)) {
+        sentBelow.set(x);
+        down.add(x);
+      }
+      if (x > 0) {
+        visit(cell - 1, MazeGrid.EAST, next);
+      }
+    }
+
+    // The next level becomes the one to search
+    IntQueue searched = frontier;
+    frontier = next;
+    next = searched;
+
+    out.writeBoolean(found);
+    out.writeInt(frontier.size());
+    writeList(out, up);
+    writeList(out, down);
+  }
+
+  /**
+   * Follows the parents back from a cell while they stay in the band
+   *
+   * @param in  the rest of the message
+   * @param out the answer to the coordinator
+   * @throws IOException if the connection is broken
+   */
+  private void chain(DataInputStream in, DataOutputStream out) throws IOException {
+    int cell = in.readInt() - offset;
+    IntList chain = new IntList();
+    int carryOn = -1;
+
+    while (cell + offset != start) {
+      chain.add(cell + offset);
+      int direction = parents.get(cell);
+      // A parent across the edge of the band is in the band next door
+      if (direction == MazeGrid.NORTH && cell < cols) {
+        carryOn = cell + offset - cols;
+        break;
+      }
+      if (direction == MazeGrid.SOUTH && cell >= cells.length - cols) {
+        carryOn = cell + offset + cols;
+        break;
+      }
+      cell += direction == MazeGrid.NORTH ? -cols
+          : direction == MazeGrid.SOUTH ? cols : direction == MazeGrid.EAST ? 1 : -1;
+    }
+    if (carryOn < 0) {
+      chain.add(start);
+    }
+
+    writeList(out, chain);
+    out.writeInt(carryOn);
+  }
+
+  /**
+   * Marks a cell of the band as reached if it is open and hasn't been reached
+   * yet
+   *
+   * @param cell      the cell index in the band
+   * @param direction the direction of the cell's parent
+   * @param level     the queue to add the cell to
+   */
+  private void visit(int cell, int direction, IntQueue level) {
+    if (cells[cell] == MazeGrid.WALL || visited.get(cell)) {
+      return;
+    }
+
+    visited.set(cell);
+    parents.set(cell, direction);
+    level.add(cell);
+    if (cell == target) {
+      found = true;
+    }
+  }
+
+  /**
+   * Reads one of the rows either side of the band
+   *
+   * @param in      the message being read
+   * @param present true if the row is in the maze
+   * @return the cells of the row, or null if it isn't in the maze
+   * @throws IOException if the connection is broken
+   */
+  private byte[] readRow(DataInputStream in, boolean present) throws IOException {
+    if (!present) {
+      return null;
+    }
+
+    byte[] row = new byte[cols];
+    in.readFully(row);
+    return row;
+  }
+
+  /**
+   * Writes a list as its length followed by its values
+   *
+   * @param out  where to write it
+   * @param list the list to write
+   * @throws IOException if the connection is broken
+   */
+  static void writeList(DataOutputStream out, IntList list) throws IOException {
+    out.writeInt(list.size());
+    for (int i = 0; i < list.size(); i++) {
+      out.writeInt(list.get(i));
+    }
+  }
+}
@@ -0,0 +1,201 @@
+package com.awtpi314.project5;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.awtpi314.project5.exceptions.InvalidMazeException;
+import com.awtpi314.project5.interfaces.SearchStrategy;
+
+/**
+ * <h3>BatchSolver</h3>
+ *
+ * Solves a stream of mazes one after another in the same JVM. The mazes are
+ * read with {@link MazeLoader#next()} on the calling thread and solved on a
+ * fixed pool of workers. Only a few mazes per worker are ever in flight, so a
+ * huge stream never has to fit in memory, and the results are written in the
+ * same order the mazes were read no matter which worker finishes first.
+ *
+ * <p>
+ * Each result is written the same way {@link MazeSolver#main(String[])} writes
+ * a single one, through a {@link PathWriter} and either a line per step or
+ * compact, followed by a newline so the results can be told apart.
+ * </p>
+ *
+ * <p>
+ * Given a {@link SolveCache}, a maze that has already been solved is written
+ * straight from the cache without building a solver for it, which is most of
+ * the cost of a small maze.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class BatchSolver {
+  /**
+   * How many mazes each worker can have waiting before the reader stops to
+   * write some results out
+   */
+  public static final int MAZES_PER_WORKER = 4;
+
+  /**
+   * The strategy every maze is solved with
+   */
+  private final SearchStrategy strategy;
+  /**
+   * The number of workers solving mazes
+   */
+  private final int threads;
+  /**
+   * The answers shared by every worker, or null to solve every maze
+   */
+  private final SolveCache cache;
+  /**
+   * True to write each path as runs of moves instead of a line per step
+   */
+  private final boolean compact;
+
+  /**
+   * Constructor that takes the strategy to solve with and how many workers to
+   * use
+   *
+   * @param strategy the strategy every maze is solved with
+   * @param threads  the number of workers solving mazes
+   */
+  public BatchSolver(SearchStrategy strategy, int threads) {
+    this(strategy, threads, null);
+  }
+
+  /**
+   * Constructor that also takes a cache of answers shared by every worker
+   *
+   * @param strategy the strategy every maze is solved with
+   * @param threads  the number of workers solving mazes
+   * @param cache    the cache mazes are looked up in, or null to solve every
+   *                 maze
+   */
+  public BatchSolver(SearchStrategy strategy, int threads, SolveCache cache) {
+    this(strategy, threads, cache, false);
+  }
+
+  /**
+   * All parameter constructor
+   *
+   * @param strategy the strategy every maze is solved with
+   * @param threads  the number of workers solving mazes
+   * @param cache    the cache mazes are looked up in, or null to solve every
+   *                 maze
+   * @param compact  true to write each path as runs of moves, the same as
+   *                 {@link PathWriter#writeCompact(MazeGrid, int[])}
+   */
+  public BatchSolver(SearchStrategy strategy, int threads, SolveCache cache, boolean compact) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("A batch needs at least one worker");
+    }
+    this.strategy = strategy;
+    this.threads = threads;
+    this.cache = cache;
+    this.compact = compact;
+  }
+
+  /**
+   * Reads every maze left in the loader, solves them and writes the results
+   * in order. The writer is flushed but not closed.
+   *
+   * @param loader the mazes to solve
+   * @param out    where the results are written
+   * @return the number of mazes solved
+   * @throws IOException          if the input can't be read or the output
+   *                              can't be written
+   * @throws InvalidMazeException if one of the mazes isn't in the right format.
+   *                              Everything before it has been written.
+   */
+  public long run(MazeLoader loader, Writer out) throws IOException, InvalidMazeException {
+    ExecutorService workers = Executors.newFixedThreadPool(threads);
+    // Results that are still being worked on, oldest first
+    ArrayDeque<CompletableFuture<String>> pending = new ArrayDeque<>();
+    int window = threads * MAZES_PER_WORKER;
+    long count = 0;
+
+    try {
+      MazeGrid grid;
+      while ((grid = loader.next()) != null) {
+        // Wait for the oldest maze once enough are in flight
+        if (pending.size() >= window) {
+          out.write(pending.remove().join());
+        }
+
+        MazeGrid maze = grid;
+        pending.add(CompletableFuture.supplyAsync(() -> solve(maze), workers));
+        count++;
+      }
+    } finally {
+      // Write out whatever was read before we stopped, even if we stopped early
+      try {
+        while (!pending.isEmpty()) {
+          out.write(pending.remove().join());
+        }
+        out.flush();
+      } finally {
+        workers.shutdown();
+      }
+    }
+
+    return count;
+  }
+
+  /**
+   * Solves a single maze and formats the result. Safe to call from any
+   * number of threads at once.
+   *
+   * @param grid the maze to solve
+   * @return the text to write for the maze
+   */
+  String solve(MazeGrid grid) {
+    int[] path;
+    int distance;
+
+    SolveCache.Entry entry = cache == null ? null
+        : cache.get(grid, grid.getStart(), grid.getFinish(), strategy.isWeighted());
+    if (entry != null) {
+      path = entry.getPath();
+      distance = entry.getDistance();
+    } else {
+      MazeSolver solver = new MazeSolver(grid, strategy);
+      path = solver.findPath();
+      distance = path == null ? -1 : solver.getState().getDist(path[path.length - 1]);
+      // The solver isn't given the cache, or it would count this maze as a
+      // second miss
+      if (cache != null) {
+        cache.put(grid, grid.getStart(), grid.getFinish(), strategy.isWeighted(), path, distance);
+      }
+    }
+
+    // Check if we actually found a path from start to finish
+    if (path == null) {
+      return "Maze not solvable.\n";
+    }
+
+    ByteArrayOutputStream result = new ByteArrayOutputStream(compact ? 64 : path.length * 10 + 24);
+    PathWriter writer = new PathWriter(result, (int) Math.min(PathWriter.BUFFER_SIZE, path.length * 24L + 32));
+    try {
+      if (compact) {
+        writer.writeCompact(grid, path);
+      } else {
+        writer.writePath(grid, path);
+      }
+      writer.write("Total distance = " + distance + "\n");
+      writer.flush();
+    } catch (IOException e) {
+      // Writing to an array never fails
+    }
+
+    return result.toString(StandardCharsets.US_ASCII);
+  }
+}
@@ -0,0 +1,197 @@
+package com.awtpi314.project5;
+
+import com.awtpi314.project5.interfaces.SearchStrategy;
+
+/**
+ * <h3>BidirectionalStrategy</h3>
+ *
+ * A bidirectional breadth-first search. One frontier grows from the start and
+ * one from the target, and whichever is smaller has its whole level expanded
+ * next. The path is stitched together where the two frontiers meet. On open
+ * mazes this looks at about half as many cells as
+ * {@link BreadthFirstStrategy}.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class BidirectionalStrategy implements SearchStrategy {
+  /**
+   * This method performs the bidirectional search on the grid and returns the
+   * path as cell indices. Distances from the start are stored in the state as
+   * usual, distances from the target are stored as {@code -(distance + 2)} so
+   * both searches can share one array and one set of parent directions.
+   *
+   * @param state  the search state for the grid being searched
+   * @param start  the cell index to start from
+   * @param target the cell index to find
+   * @return the cell indices from the start to the target, or null if there is
+   *         no path
+   */
+  @Override
+  public int[] findPath(SearchState state, int start, int target) {
+    // Seed both frontiers
+    IntQueue forward = state.getQueue();
+    IntQueue backward = state.getSecondQueue();
+    forward.add(start);
+    state.setDist(start, 0);
+    backward.add(target);
+    state.setDist(target, encodeBackward(0));
+
+    // meeting[0] is the cell on the start side and meeting[1] the cell on the
+    // target side of the best meeting point, meeting[2] the total length
+    int[] meeting = { -1, -1, Integer.MAX_VALUE };
+
+    // Keep going until one side runs out of cells, which means there is no path
+    while (!forward.isEmpty() && !backward.isEmpty()) {
+      // A whole level is expanded at once, so the limits are checked for it
+      if (state.shouldStop(Math.min(forward.size(), backward.size()))) {
+        return null;
+      }
+
+      // Always expand the smaller frontier
+      if (forward.size() <= backward.size()) {
+        expandLevel(state, forward, true, meeting);
+      } else {
+        expandLevel(state, backward, false, meeting);
+      }
+
+      // The best meeting found while expanding a full level is the shortest path
+      if (meeting[0] >= 0) {
+        state.startReconstruction();
+        return stitchPath(state, meeting[0], meeting[1], meeting[2]);
+      }
+    }
+
+    // We have no path to the target. Return null to indicate that.
+    return null;
+  }
+
+  /**
+   * Expands every cell in the current level of one side of the search. Any
+   * neighbour that the other side has already reached is a meeting point, and
+   * the shortest one is kept.
+   *
+   * @param state     the search state for the grid being searched
+   * @param queue     the frontier to expand
+   * @param fromStart true if this is the side growing from the start
+   * @param meeting   the best meeting point found so far
+   */
+  private void expandLevel(SearchState state, IntQueue queue, boolean fromStart, int[] meeting) {
+    MazeGrid mazeDetails = state.getGrid();
+    int cols = mazeDetails.getCols();
+    int rows = mazeDetails.getRows();
+    int[] moves = new int[4];
+    int[] directions = new int[4];
+
+    // Only expand the cells that are in the queue right now, which is one level
+    state.addNodesExpanded(queue.size());
+    for (int remaining = queue.size(); remaining > 0; remaining--) {
+      int current = queue.remove();
+      int nextDist = decode(state.getDist(current)) + 1;
+      int y = current / cols;
+      int x = current - y * cols;
+
+      // Collect the neighbours that are on the maze
+      int count = 0;
+      if (x > 0) {
+        moves[count] = current - 1;
+        directions[count++] = MazeGrid.WEST;
+      }
+      if (x < cols - 1) {
+        moves[count] = current + 1;
+        directions[count++] = MazeGrid.EAST;
+      }
+      if (y > 0) {
+        moves[count] = current - cols;
+        directions[count++] = MazeGrid.NORTH;
+      }
+      if (y < rows - 1) {
+        moves[count] = current + cols;
+        directions[count++] = MazeGrid.SOUTH;
+      }
+
+      for (int i = 0; i < count; i++) {
+        int next = moves[i];
+        if (!mazeDetails.isPassable(next)) {
+          continue;
+        }
+
+        int nextStored = state.getDist(next);
+        if (nextStored == -1) {
+          // A new cell for this side, so record it and keep searching from it
+          state.setDist(next, fromStart ? nextDist : encodeBackward(nextDist));
+          state.setParent(next, MazeGrid.opposite(directions[i]));
+          queue.add(next);
+        } else if ((nextStored >= 0) != fromStart) {
+          // The other side already reached this cell, so the frontiers meet here
+          int total = nextDist + decode(nextStored);
+          if (total < meeting[2]) {
+            meeting[0] = fromStart ? current : next;
+            meeting[1] = fromStart ? next : current;
+            meeting[2] = total;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Joins the two halves of the search together. The distances and parents on
+   * the target half are rewritten so the whole path looks like it was found
+   * from the start, which keeps {@link SearchState#toLocations(int[])} working.
+   *
+   * @param state      the search state for the grid being searched
+   * @param startSide  the meeting cell that was reached from the start
+   * @param targetSide the meeting cell that was reached from the target
+   * @param length     the number of hops in the whole path
+   * @return the cell indices from the start to the target
+   */
+  private int[] stitchPath(SearchState state, int startSide, int targetSide, int length) {
+    MazeGrid mazeDetails = state.getGrid();
+    int[] path = new int[length + 1];
+    int startDist = state.getDist(startSide);
+
+    // Walk back from the meeting point to the start
+    int current = startSide;
+    for (int i = startDist; i > 0; i--) {
+      path[i] = current;
+      current = mazeDetails.step(current, state.getParent(current));
+    }
+    path[0] = current;
+
+    // Walk forward from the meeting point to the target
+    current = targetSide;
+    for (int i = startDist + 1; i <= length; i++) {
+      path[i] = current;
+      if (i < length) {
+        current = mazeDetails.step(current, state.getParent(current));
+      }
+    }
+
+    // Point the target half back along the path towards the start
+    state.markPath(path);
+    return path;
+  }
+
+  /**
+   * Encodes a distance from the target so it can't be confused with a distance
+   * from the start or the unreached marker
+   *
+   * @param distance the distance from the target
+   * @return the value to store in the grid
+   */
+  private static int encodeBackward(int distance) {
+    return -distance - 2;
+  }
+
+  /**
+   * Decodes a stored distance from either side of the search
+   *
+   * @param stored the value stored in the grid
+   * @return the distance from whichever end reached the cell
+   */
+  private static int decode(int stored) {
+    return stored >= 0 ? stored : -stored - 2;
+  }
+}
@@ -0,0 +1,285 @@
+package com.awtpi314.project5;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.awtpi314.project5.exceptions.InvalidMazeException;
+
+/**
+ * <h3>BinaryMazeFormat</h3>
+ *
+ * A compact binary version of the maze file. The file starts with a 32 byte
+ * header of big-endian integers
+ *
+ * <pre>
+ * magic "MAZB", version, rows, cols, start y, start x, finish y, finish x
+ * </pre>
+ *
+ * where a missing start or finish is stored as -1. A binary maze has at most
+ * one start and one finish, the ones in the header. After the header come the
+ * cells packed two bits each in row order, laid out the same way as
+ * {@link PackedCellStore}. A maze that is gigabytes as text is a quarter of
+ * the cell count in bytes here, and {@link #map(Path)} hands the file straight
+ * to the search without parsing or copying it.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class BinaryMazeFormat {
+  /**
+   * The first four bytes of every binary maze, "MAZB" in ASCII
+   */
+  public static final int MAGIC = 0x4D415A42;
+  /**
+   * The version of the format written by this class
+   */
+  public static final int VERSION = 1;
+  /**
+   * Number of bytes before the packed cells start
+   */
+  public static final int HEADER_SIZE = 32;
+  /**
+   * Number of bytes packed before each write to the file
+   */
+  private static final int WRITE_CHUNK = 1 << 20;
+
+  /**
+   * Private constructor since this class only has static helpers
+   */
+  private BinaryMazeFormat() {
+  }
+
+  /**
+   * Converts a maze in the text format into the binary format
+   *
+   * @param text   the text maze to read
+   * @param binary the binary file to write
+   * @throws IOException          if either file can't be used
+   * @throws InvalidMazeException if the text isn't a valid maze
+   */
+  public static void convert(Path text, Path binary) throws IOException, InvalidMazeException {
+    write(MazeLoader.load(text), binary);
+  }
+
+  /**
+   * Writes a maze in the binary format
+   *
+   * @param grid the maze to write
+   * @param file the file to write to
+   * @throws IOException          if the file can't be written
+   * @throws InvalidMazeException if the maze has cells that don't fit in two
+   *                              bits, or more than one start or finish
+   */
+  public static void write(MazeGrid grid, Path file) throws IOException, InvalidMazeException {
+    if (grid.getStarts().length > 1 || grid.getFinishes().length > 1) {
+      throw new InvalidMazeException("The binary format only holds one start and one finish");
+    }
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING)) {
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+      int start = grid.getStart();
+      int finish = grid.getFinish();
+      header.putInt(MAGIC).putInt(VERSION).putInt(grid.getRows()).putInt(grid.getCols());
+      header.putInt(start < 0 ? -1 : grid.getY(start)).putInt(start < 0 ? -1 : grid.getX(start));
+      header.putInt(finish < 0 ? -1 : grid.getY(finish)).putInt(finish < 0 ? -1 : grid.getX(finish));
+      header.flip();
+      writeFully(channel, header);
+
+      // Pack the cells a chunk at a time so a huge maze doesn't need a second copy
+      ByteBuffer chunk = ByteBuffer.allocate(WRITE_CHUNK);
+      int cellCount = grid.getCellCount();
+      for (int i = 0; i < cellCount; i += 4) {
+        int packed = 0;
+        for (int j = 0; j < 4 && i + j < cellCount; j++) {
+          packed |= packedCode(grid, i + j) << (j << 1);
+        }
+        chunk.put((byte) packed);
+
+        if (!chunk.hasRemaining()) {
+          chunk.flip();
+          writeFully(channel, chunk);
+          chunk.clear();
+        }
+      }
+      chunk.flip();
+      writeFully(channel, chunk);
+    }
+  }
+
+  /**
+   * Maps a binary maze read-only and wraps it in a grid. The cells stay in the
+   * mapped file, only the search state is allocated on the heap.
+   *
+   * @param file the binary maze to map
+   * @return the grid backed by the mapped file
+   * @throws IOException          if the file can't be mapped
+   * @throws InvalidMazeException if the file isn't a binary maze
+   */
+  public static MazeGrid map(Path file) throws IOException, InvalidMazeException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size < HEADER_SIZE) {
+        throw new InvalidMazeException(file + " is too small to be a binary maze");
+      }
+
+      // The mapping stays valid after the channel is closed
+      MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      if (mapped.getInt(0) != MAGIC) {
+        throw new InvalidMazeException(file + " is not a binary maze");
+      }
+      if (mapped.getInt(4) != VERSION) {
+        throw new InvalidMazeException("Unsupported binary maze version " + mapped.getInt(4));
+      }
+
+      int rows = mapped.getInt(8);
+      int cols = mapped.getInt(12);
+      if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE
+          || size < HEADER_SIZE + PackedCellStore.packedLength(rows * cols)) {
+        throw new InvalidMazeException("Invalid maze dimensions " + rows + "x" + cols);
+      }
+
+      ByteBuffer cells = mapped.position(HEADER_SIZE).slice();
+      PackedCellStore store = new PackedCellStore(cells, rows * cols);
+      int start = indexOf(mapped.getInt(16), mapped.getInt(20), rows, cols, MazeGrid.START);
+      int finish = indexOf(mapped.getInt(24), mapped.getInt(28), rows, cols, MazeGrid.FINISH);
+      if (start >= 0) {
+        checkType(mapped.getInt(16), mapped.getInt(20), store.get(start), MazeGrid.START);
+      }
+      if (finish >= 0) {
+        checkType(mapped.getInt(24), mapped.getInt(28), store.get(finish), MazeGrid.FINISH);
+      }
+      MazeGrid grid = new MazeGrid(rows, cols, store, start, finish);
+      // The header has the only start and finish, so nothing has to scan for them
+      grid.setStartsAndFinishes(start < 0 ? new int[0] : new int[] { start },
+          finish < 0 ? new int[0] : new int[] { finish });
+      return grid;
+    }
+  }
+
+  /**
+   * Checks whether a file starts with the binary maze magic number
+   *
+   * @param file the file to check
+   * @return true if the file looks like a binary maze
+   * @throws IOException if the file can't be read
+   */
+  public static boolean isBinary(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      ByteBuffer magic = ByteBuffer.allocate(4);
+      while (magic.hasRemaining() && channel.read(magic) > 0) {
+        // Keep reading until we have all four bytes or the file ends
+      }
+
+      return !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+    }
+  }
+
+  /**
+   * Loads a maze from a file in either format. Binary mazes are mapped and text
+   * mazes are parsed.
+   *
+   * @param file the file to load
+   * @return the maze
+   * @throws IOException          if the file can't be read
+   * @throws InvalidMazeException if the file isn't a valid maze
+   */
+  public static MazeGrid load(Path file) throws IOException, InvalidMazeException {
+    if (Files.size(file) >= HEADER_SIZE && isBinary(file)) {
+      return map(file);
+    }
+
+    return MazeLoader.load(file);
+  }
+
+  /**
+   * Gets the two bit code to store for a cell. Found cells are only a display
+   * state, so they are stored as open.
+   *
+   * @param grid  the maze being written
+   * @param index the cell index
+   * @return the code to pack
+   * @throws InvalidMazeException if the cell doesn't fit in two bits
+   */
+  private static int packedCode(MazeGrid grid, int index) throws InvalidMazeException {
+    byte type = grid.getType(index);
+    if (type == MazeGrid.FOUND) {
+      return MazeGrid.OPEN;
+    } else if (type < 0 || type > MazeGrid.FINISH) {
+      throw new InvalidMazeException("Cell " + index + " can't be stored in the binary format");
+    }
+
+    return type;
+  }
+
+  /**
+   * Turns a stored y-x position back into a cell index, making sure it is
+   * inside the maze. Shared with {@link BinaryTileSource} so both readers of
+   * the header agree on what a valid one is.
+   *
+   * @param y    the stored y position, or -1
+   * @param x    the stored x position, or -1
+   * @param rows the number of rows
+   * @param cols the number of columns
+   * @param type the type the cell has to be, START or FINISH
+   * @return the cell index, or -1 if there wasn't a position
+   * @throws InvalidMazeException if the position is off the maze
+   */
+  static int indexOf(int y, int x, int rows, int cols, byte type) throws InvalidMazeException {
+    if (y == -1 && x == -1) {
+      return -1;
+    }
+    if (y < 0 || x < 0 || y >= rows || x >= cols) {
+      throw new InvalidMazeException("The " + nameOf(type) + " <" + y + " " + x + "> is outside the maze");
+    }
+
+    // Both are inside the maze, so this can't overflow
+    return y * cols + x;
+  }
+
+  /**
+   * Makes sure the cell at a stored position is the start or finish the
+   * header says it is
+   *
+   * @param y     the stored y position
+   * @param x     the stored x position
+   * @param found the type of the cell at that position
+   * @param type  the type the cell has to be, START or FINISH
+   * @throws InvalidMazeException if the cell is the wrong type
+   */
+  static void checkType(int y, int x, byte found, byte type) throws InvalidMazeException {
+    if (found != type) {
+      throw new InvalidMazeException("The " + nameOf(type) + " <" + y + " " + x + "> is not on a "
+          + Location.SquareType.values()[type].display + " cell");
+    }
+  }
+
+  /**
+   * Gets what to call a start or finish in an error message
+   *
+   * @param type START or FINISH
+   * @return "start" or "finish"
+   */
+  private static String nameOf(byte type) {
+    return type == MazeGrid.START ? "start" : "finish";
+  }
+
+  /**
+   * Writes everything left in a buffer to a channel
+   *
+   * @param channel the channel to write to
+   * @param buffer  the bytes to write
+   * @throws IOException if the write fails
+   */
+  private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+}
@@ -0,0 +1,205 @@
+package com.awtpi314.project5;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.awtpi314.project5.exceptions.InvalidMazeException;
+import com.awtpi314.project5.interfaces.TileSource;
+
+/**
+ * <h3>BinaryTileSource</h3>
+ *
+ * Reads rows straight out of a file in the {@link BinaryMazeFormat} with
+ * positional reads. Nothing is mapped or cached here, only the bytes that
+ * cover the row being asked for are read, so the file can be much bigger than
+ * the heap. {@link TileCache} decides which parts are worth keeping.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class BinaryTileSource implements TileSource, Closeable {
+  /**
+   * The open binary maze
+   */
+  private final FileChannel channel;
+  /**
+   * Number of rows in the maze
+   */
+  private final int rows;
+  /**
+   * Number of columns in the maze
+   */
+  private final int cols;
+  /**
+   * Index of the start, or -1 if there isn't one
+   */
+  private final int start;
+  /**
+   * Index of the finish, or -1 if there isn't one
+   */
+  private final int finish;
+  /**
+   * Reused buffer for the packed bytes of a row
+   */
+  private ByteBuffer packed = ByteBuffer.allocate(256);
+
+  /**
+   * Constructor that opens a binary maze and reads its header
+   *
+   * @param file the binary maze to read
+   * @throws IOException          if the file can't be read
+   * @throws InvalidMazeException if the file isn't a binary maze
+   */
+  public BinaryTileSource(Path file) throws IOException, InvalidMazeException {
+    channel = FileChannel.open(file, StandardOpenOption.READ);
+    try {
+      ByteBuffer header = ByteBuffer.allocate(BinaryMazeFormat.HEADER_SIZE);
+      readFully(header, 0);
+      if (header.getInt(0) != BinaryMazeFormat.MAGIC) {
+        throw new InvalidMazeException(file + " is not a binary maze");
+      }
+      if (header.getInt(4) != BinaryMazeFormat.VERSION) {
+        throw new InvalidMazeException("Unsupported binary maze version " + header.getInt(4));
+      }
+
+      rows = header.getInt(8);
+      cols = header.getInt(12);
+      if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE
+          || channel.size() < BinaryMazeFormat.HEADER_SIZE + PackedCellStore.packedLength(rows * cols)) {
+        throw new InvalidMazeException("Invalid maze dimensions " + rows + "x" + cols);
+      }
+      start = BinaryMazeFormat.indexOf(header.getInt(16), header.getInt(20), rows, cols, MazeGrid.START);
+      finish = BinaryMazeFormat.indexOf(header.getInt(24), header.getInt(28), rows, cols, MazeGrid.FINISH);
+      // Read just the two cells the header points at
+      byte[] cell = new byte[1];
+      if (start >= 0) {
+        readCells(header.getInt(16), header.getInt(20), 1, cell, 0);
+        BinaryMazeFormat.checkType(header.getInt(16), header.getInt(20), cell[0], MazeGrid.START);
+      }
+      if (finish >= 0) {
+        readCells(header.getInt(24), header.getInt(28), 1, cell, 0);
+        BinaryMazeFormat.checkType(header.getInt(24), header.getInt(28), cell[0], MazeGrid.FINISH);
+      }
+    } catch (IOException | InvalidMazeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Getter for the number of rows
+   *
+   * @return the number of rows in the maze
+   */
+  @Override
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Getter for the number of columns
+   *
+   * @return the number of columns in the maze
+   */
+  @Override
+  public int getCols() {
+    return cols;
+  }
+
+  /**
+   * Getter for the start index
+   *
+   * @return the index of the start, or -1 if there isn't one
+   */
+  @Override
+  public int getStart() {
+    return start;
+  }
+
+  /**
+   * Getter for the finish index
+   *
+   * @return the index of the finish, or -1 if there isn't one
+   */
+  @Override
+  public int getFinish() {
+    return finish;
+  }
+
+  /**
+   * Reads the packed bytes covering part of a row and unpacks them
+   *
+   * @param y      the row to read
+   * @param x      the first column to read
+   * @param length the number of cells to read
+   * @param cells  where the cell codes are written
+   * @param offset the position in cells to write the first code
+   * @throws IOException if the file can't be read
+   */
+  @Override
+  public void readRow(int y, int x, int length, byte[] cells, int offset) throws IOException {
+    readCells(y, x, length, cells, offset);
+  }
+
+  /**
+   * Does the work of {@link #readRow(int, int, int, byte[], int)}, kept private
+   * so the constructor can read the start and finish cells without calling a
+   * method a subclass could change
+   *
+   * @param y      the row to read
+   * @param x      the first column to read
+   * @param length the number of cells to read
+   * @param cells  where the cell codes are written
+   * @param offset the position in cells to write the first code
+   * @throws IOException if the file can't be read
+   */
+  private void readCells(int y, int x, int length, byte[] cells, int offset) throws IOException {
+    int first = y * cols + x;
+    int firstByte = first >>> 2;
+    int byteCount = ((first + length - 1) >>> 2) - firstByte + 1;
+    if (packed.capacity() < byteCount) {
+      packed = ByteBuffer.allocate(Math.max(byteCount, packed.capacity() * 2));
+    }
+
+    packed.clear().limit(byteCount);
+    readFully(packed, (long) BinaryMazeFormat.HEADER_SIZE + firstByte);
+
+    // Unpack the same way as PackedCellStore, lowest bits first
+    for (int i = 0; i < length; i++) {
+      int index = first + i;
+      cells[offset + i] = (byte) ((packed.get((index >>> 2) - firstByte) >>> ((index & 3) << 1)) & 3);
+    }
+  }
+
+  /**
+   * Closes the file
+   *
+   * @throws IOException if it can't be closed
+   */
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  /**
+   * Fills a buffer from a position in the file
+   *
+   * @param buffer   the buffer to fill up to its limit
+   * @param position where in the file to start reading
+   * @throws IOException if the file ends first or can't be read
+   */
+  private void readFully(ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      int read = channel.read(buffer, position);
+      if (read < 0) {
+        throw new IOException("Binary maze ended early");
+      }
+      position += read;
+    }
+  }
+}
@@ -0,0 +1,199 @@
+package com.awtpi314.project5;
+
+import java.util.Arrays;
+
+import com.awtpi314.project5.interfaces.SearchStrategy;
+
+/**
+ * <h3>BitParallelStrategy</h3>
+ *
+ * A breadth-first search that keeps the frontier and the visited cells as one
+ * bit per cell, a row of 64-bit words at a time. A whole level is expanded by
+ * shifting the frontier one column left and right, reading the rows above and
+ * below, and masking the result with the open cells that haven't been
+ * visited. That handles 64 cells with a few word operations where a normal
+ * search checks every neighbour of every cell one at a time.
+ *
+ * <p>
+ * Only the words next to the frontier are looked at for each level, so the
+ * work per level follows the size of the frontier rather than the maze. The
+ * cells found on each level get their distance written to the search state,
+ * so the path is rebuilt from the distances with
+ * {@link SearchState#reconstructPathFromDistances(int)}.
+ * </p>
+ *
+ * <p>
+ * This works best on open mazes where the frontier is wide. On long winding
+ * mazes the frontier is only a few cells at a time and the normal search is
+ * quicker.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class BitParallelStrategy implements SearchStrategy {
+  /**
+   * This method performs the bit-parallel search and returns the path as cell
+   * indices
+   *
+   * @param state  the search state for the grid being searched
+   * @param start  the cell index to start from
+   * @param target the cell index to find
+   * @return the cell indices from the start to the target, or null if there is
+   *         no path
+   */
+  @Override
+  public int[] findPath(SearchState state, int start, int target) {
+    MazeGrid grid = state.getGrid();
+    int rows = grid.getRows();
+    int cols = grid.getCols();
+    int words = state.getWordsPerRow();
+    long[] open = state.getOpenMask();
+    long[][] masks = state.getMasks(3);
+    long[] frontier = masks[0];
+    long[] next = masks[1];
+    long[] visited = masks[2];
+    long nodesExpanded = 0;
+
+    int startRow = start / cols;
+    int startColumn = start - startRow * cols;
+    int targetWord = target / cols * words + (target % cols >>> 6);
+    long targetBit = 1L << (target % cols);
+    frontier[startRow * words + (startColumn >>> 6)] = 1L << startColumn;
+    visited[startRow * words + (startColumn >>> 6)] = 1L << startColumn;
+    state.setDist(start, 0);
+
+    // The first and last word with any cells in each row of the frontier and
+    // the next level, so only the words near the frontier are looked at
+    int[] frontierFirst = new int[rows];
+    int[] frontierLast = new int[rows];
+    int[] nextFirst = new int[rows];
+    int[] nextLast = new int[rows];
+    Arrays.fill(frontierFirst, words);
+    Arrays.fill(frontierLast, -1);
+    Arrays.fill(nextFirst, words);
+    Arrays.fill(nextLast, -1);
+    frontierFirst[startRow] = startColumn >>> 6;
+    frontierLast[startRow] = startColumn >>> 6;
+
+    // The rows the frontier has cells in
+    int top = startRow;
+    int bottom = startRow;
+    int level = 0;
+    // The number of cells in the frontier, so the limits can be checked a whole
+    // level at a time
+    long frontierCount = 1;
+
+    while (top <= bottom && (visited[targetWord] & targetBit) == 0 && !state.shouldStop(frontierCount)) {
+      state.recordFrontier(frontierCount);
+      level++;
+      frontierCount = 0;
+      int nextTop = rows;
+      int nextBottom = -1;
+
+      for (int y = Math.max(0, top - 1); y <= Math.min(rows - 1, bottom + 1); y++) {
+        // Only words next to a frontier word in this row or the rows either side
+        // can find anything
+        int lo = frontierFirst[y];
+        int hi = frontierLast[y];
+        if (y > 0) {
+          lo = Math.min(lo, frontierFirst[y - 1]);
+          hi = Math.max(hi, frontierLast[y - 1]);
+        }
+        if (y < rows - 1) {
+          lo = Math.min(lo, frontierFirst[y + 1]);
+          hi = Math.max(hi, frontierLast[y + 1]);
+        }
+        if (lo > hi) {
+          continue;
+        }
+
+        int row = y * words;
+        for (int w = Math.max(0, lo - 1); w <= Math.min(words - 1, hi + 1); w++) {
+          int word = row + w;
+          long current = frontier[word];
+          nodesExpanded += Long.bitCount(current);
+
+          // Everything one step from the frontier: from the left and right
+          // neighbours in this row, carrying bits across word boundaries, and
+          // from the same columns in the rows above and below
+          long reached = current << 1 | current >>> 1;
+          if (w > 0) {
+            reached |= frontier[word - 1] >>> 63;
+          }
+          if (w < words - 1) {
+            reached |= frontier[word + 1] << 63;
+          }
+          if (y > 0) {
+            reached |= frontier[word - words];
+          }
+          if (y < rows - 1) {
+            reached |= frontier[word + words];
+          }
+
+          long found = reached & open[word] & ~visited[word];
+          if (found != 0) {
+            next[word] = found;
+            visited[word] |= found;
+            nextFirst[y] = Math.min(nextFirst[y], w);
+            nextLast[y] = w;
+            nextTop = Math.min(nextTop, y);
+            nextBottom = y;
+            frontierCount += Long.bitCount(found);
+            recordLevel(state, found, y * cols + (w << 6), level);
+          }
+        }
+      }
+
+      // Clear the old frontier so it can be written as the next level, then
+      // swap the two over
+      for (int y = top; y <= bottom; y++) {
+        for (int w = frontierFirst[y]; w <= frontierLast[y]; w++) {
+          frontier[y * words + w] = 0;
+        }
+        frontierFirst[y] = words;
+        frontierLast[y] = -1;
+      }
+      long[] swap = frontier;
+      frontier = next;
+      next = swap;
+      int[] swapFirst = frontierFirst;
+      frontierFirst = nextFirst;
+      nextFirst = swapFirst;
+      int[] swapLast = frontierLast;
+      frontierLast = nextLast;
+      nextLast = swapLast;
+      top = nextTop;
+      bottom = nextBottom;
+    }
+
+    state.addNodesExpanded(nodesExpanded);
+    if ((visited[targetWord] & targetBit) == 0) {
+      // We have no path to the target. Return null to indicate that.
+      return null;
+    }
+
+    state.startReconstruction();
+    int[] path = state.reconstructPathFromDistances(target);
+    // Fill in the parents along the path so the location adapter works
+    state.markPath(path);
+    return path;
+  }
+
+  /**
+   * Writes the distance of every cell found in one word of a level
+   *
+   * @param state the search state for the grid being searched
+   * @param found the bits of the cells that were found
+   * @param first the cell index of the first bit in the word
+   * @param level the distance of the level
+   */
+  private static void recordLevel(SearchState state, long found, int first, int level) {
+    while (found != 0) {
+      state.setDist(first + Long.numberOfTrailingZeros(found), level);
+      // Clear the lowest bit
+      found &= found - 1;
+    }
+  }
+}
@@ -0,0 +1,209 @@
+package com.awtpi314.project5;
+
+import com.awtpi314.project5.interfaces.SearchStrategy;
+
+/**
+ * <h3>BreadthFirstStrategy</h3>
+ *
+ * The original breadth-first search. Every direction is explored evenly, one
+ * level at a time, so the first time the target is discovered we know we have
+ * the shortest path. This is the default strategy for {@link MazeSolver}.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class BreadthFirstStrategy implements SearchStrategy {
+  /**
+   * This method performs a breadth-first search on the grid and returns the path
+   * as cell indices. Nothing is allocated per visited cell.
+   *
+   * @param state  the search state for the grid being searched
+   * @param start  the cell index to start from
+   * @param target the cell index to find
+   * @return the cell indices from the start to the target, or null if there is
+   *         no path
+   */
+  @Override
+  public int[] findPath(SearchState state, int start, int target) {
+    // Queue to hold the indices of the next cells to search from
+    IntQueue mazeQueue = state.getQueue();
+    long nodesExpanded = 0;
+    // Set the finish to -1 so we know if we've actually found a path from start
+    // to finish
+    int finish = -1;
+    // This holds the moves found around each cell so we can reuse it
+    int[] moves = new int[4];
+    // Add the start as the first position in the queue
+    state.setDist(start, 0);
+    mazeQueue.add(start);
+
+    // Loop while we have more moves to perform and the limits allow it
+    while (!mazeQueue.isEmpty() && finish < 0 && !state.shouldStop()) {
+      // Get the current location
+      int current = mazeQueue.remove();
+      nodesExpanded++;
+
+      // Search for moves using the current location
+      int count = searchMoves(state, current, moves);
+      for (int i = 0; i < count; i++) {
+        // Check whether we have found the solution to the maze. Stopping when the
+        // target is discovered still gives the shortest path because every cell
+        // in this level has the same distance.
+        if (moves[i] == target) {
+          finish = moves[i];
+          break;
+        }
+
+        // Add each new location to the queue to search
+        mazeQueue.add(moves[i]);
+      }
+    }
+
+    state.addNodesExpanded(nodesExpanded);
+
+    // Check to make sure we've found a solution
+    if (finish < 0) {
+      // We have no path to the finish. Return null to indicate that.
+      return null;
+    }
+
+    // Follow the parent directions back to the start
+    state.startReconstruction();
+    return state.reconstructPath(finish);
+  }
+
+  /**
+   * Performs one breadth-first search from every source at once and finds the
+   * path to each target from whichever source is nearest to it. The search
+   * stops as soon as every target has been found.
+   *
+   * @param state   the search state for the grid being searched, which the
+   *                caller has already reset
+   * @param sources the cell indices to start from
+   * @param targets the cell indices to find
+   * @return the path to each target in the same order, starting at its nearest
+   *         source, or null for targets that no source can reach
+   */
+  public int[][] findPaths(SearchState state, int[] sources, int[] targets) {
+    MazeGrid grid = state.getGrid();
+    int cellCount = grid.getCellCount();
+    IntQueue mazeQueue = state.getQueue();
+    long nodesExpanded = 0;
+    int[] moves = new int[4];
+
+    // Remember which cells are targets so we know when they have all been found
+    long[] wanted = new long[(cellCount + 63) >>> 6];
+    int remaining = 0;
+    for (int target : targets) {
+      if (target >= 0 && target < cellCount && grid.isPassable(target)
+          && (wanted[target >>> 6] & (1L << target)) == 0) {
+        wanted[target >>> 6] |= 1L << target;
+        remaining++;
+      }
+    }
+
+    // Every source starts at distance zero in the first level
+    for (int source : sources) {
+      if (source >= 0 && source < cellCount && grid.isPassable(source) && !state.isVisited(source)) {
+        state.setDist(source, 0);
+        mazeQueue.add(source);
+        if ((wanted[source >>> 6] & (1L << source)) != 0) {
+          remaining--;
+        }
+      }
+    }
+
+    while (!mazeQueue.isEmpty() && remaining > 0 && !state.shouldStop()) {
+      int current = mazeQueue.remove();
+      nodesExpanded++;
+
+      int count = searchMoves(state, current, moves);
+      for (int i = 0; i < count; i++) {
+        if ((wanted[moves[i] >>> 6] & (1L << moves[i])) != 0) {
+          remaining--;
+        }
+        mazeQueue.add(moves[i]);
+      }
+    }
+
+    state.addNodesExpanded(nodesExpanded);
+
+    int[][] paths = new int[targets.length][];
+    for (int i = 0; i < targets.length; i++) {
+      int target = targets[i];
+      if (target >= 0 && target < cellCount && state.isVisited(target)) {
+        // The parents lead back to whichever source reached the target first
+        paths[i] = state.reconstructPath(target);
+      }
+    }
+
+    return paths;
+  }
+
+  /**
+   * This will check whether the cell at next is a valid move, i.e. not a wall,
+   * the start, or a space that we've already found. If it is, the distance and
+   * parent are recorded.
+   *
+   * @param state     the search state for the grid being searched
+   * @param previous  the cell we are searching from
+   * @param next      the cell we are testing
+   * @param direction the direction we moved to get from previous to next
+   * @return true if the move is valid
+   */
+  private boolean checkNext(SearchState state, int previous, int next, int direction) {
+    // Walls and anything we've already reached are not valid moves
+    if (!state.getGrid().isPassable(next) || state.isVisited(next)) {
+      return false;
+    }
+
+    // We have a new distance from start
+    state.setDist(next, state.getDist(previous) + 1);
+    // We know that this is a valid move, so point the parent back the way we came
+    state.setParent(next, MazeGrid.opposite(direction));
+    return true;
+  }
+
+  /**
+   * This will search each of the cardinal directions to see if there is a valid
+   * move in that direction
+   *
+   * @param state   the search state for the grid being searched
+   * @param current the cell to search around
+   * @param moves   an array of at least four elements that the valid moves are
+   *                written into
+   * @return the number of valid moves written into the array
+   */
+  public int searchMoves(SearchState state, int current, int[] moves) {
+    MazeGrid mazeDetails = state.getGrid();
+    // This is the number of valid moves from the current position
+    int count = 0;
+    int cols = mazeDetails.getCols();
+    // Work out the position once so we don't have to divide for every direction
+    int y = current / cols;
+    int x = current - y * cols;
+
+    // Check to make sure we don't go off the west side of the maze
+    if (x > 0 && checkNext(state, current, current - 1, MazeGrid.WEST)) {
+      moves[count++] = current - 1;
+    }
+
+    // Check to make sure we don't go off the east side of the maze
+    if (x < cols - 1 && checkNext(state, current, current + 1, MazeGrid.EAST)) {
+      moves[count++] = current + 1;
+    }
+
+    // Check to make sure we don't go off the north side of the maze
+    if (y > 0 && checkNext(state, current, current - cols, MazeGrid.NORTH)) {
+      moves[count++] = current - cols;
+    }
+
+    // Check to make sure we don't go off the south side of the maze
+    if (y < mazeDetails.getRows() - 1 && checkNext(state, current, current + cols, MazeGrid.SOUTH)) {
+      moves[count++] = current + cols;
+    }
+
+    return count;
+  }
+}
@@ -0,0 +1,70 @@
+package com.awtpi314.project5;
+
+import com.awtpi314.project5.interfaces.CellStore;
+
+/**
+ * <h3>ByteCellStore</h3>
+ *
+ * Keeps one cell code per byte. This is what mazes read from text use, and it
+ * can hold any cell code.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class ByteCellStore implements CellStore {
+  /**
+   * The cell codes in row order
+   */
+  private final byte[] cells;
+
+  /**
+   * Constructor that allocates a store of walls
+   *
+   * @param size the number of cells
+   */
+  public ByteCellStore(int size) {
+    this(new byte[size]);
+  }
+
+  /**
+   * Constructor that wraps cell codes that have already been decoded
+   *
+   * @param cells the cell codes in row order
+   */
+  public ByteCellStore(byte[] cells) {
+    this.cells = cells;
+  }
+
+  /**
+   * Getter for the code of a cell
+   *
+   * @param index the cell index
+   * @return the cell code
+   */
+  @Override
+  public byte get(int index) {
+    return cells[index];
+  }
+
+  /**
+   * Setter for the code of a cell
+   *
+   * @param index the cell index
+   * @param type  the new cell code
+   */
+  @Override
+  public void set(int index, byte type) {
+    cells[index] = type;
+  }
+
+  /**
+   * Getter for the number of cells in the store
+   *
+   * @return the number of cells
+   */
+  @Override
+  public int size() {
+    return cells.length;
+  }
+}
@@ -0,0 +1,37 @@
+package com.awtpi314.project5;
+
+/**
+ * <h3>CancellationToken</h3>
+ *
+ * A flag one thread can raise to ask searches running on other threads to give
+ * up. The searches only look at it every so often, see
+ * {@link SolveLimits#getCheckInterval()}, so a search stops soon after the
+ * token is cancelled rather than straight away. One token can be shared by any
+ * number of searches, and once it is cancelled it stays cancelled.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class CancellationToken {
+  /**
+   * True once the token has been cancelled
+   */
+  private volatile boolean cancelled;
+
+  /**
+   * Asks every search using this token to stop
+   */
+  public void cancel() {
+    cancelled = true;
+  }
+
+  /**
+   * Checks whether the token has been cancelled
+   *
+   * @return true if the searches using this token should stop
+   */
+  public boolean isCancelled() {
+    return cancelled;
+  }
+}
@@ -0,0 +1,164 @@
+package com.awtpi314.project5;
+
+/**
+ * <h3>ComponentIndex</h3>
+ *
+ * Labels every open cell of a maze with the connected component it is in, so
+ * whether one cell can reach another is a single comparison. A search that
+ * can't find its target has to visit every cell it can reach before it gives
+ * up, which makes unsolvable queries the slowest ones there are. With the
+ * index they are turned away before any search runs.
+ *
+ * <p>
+ * The labels are worked out with one scanline pass. Each open cell takes the
+ * label of the cell to its left, or a new label if it starts a run, and
+ * whenever the cell above has a different label the two are joined in a
+ * union-find. A second pass replaces every label with the root of its set,
+ * numbered from zero. Both passes read the grid in row order, so building the
+ * index costs about the same as one failed search and every query after that
+ * is free.
+ * </p>
+ *
+ * <p>
+ * The index is only good for the grid as it was when the index was built.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class ComponentIndex {
+  /**
+   * The component of a wall
+   */
+  public static final int NONE = -1;
+
+  /**
+   * The component of each cell, or {@link #NONE} for walls
+   */
+  private final int[] components;
+  /**
+   * Number of components in the maze
+   */
+  private final int componentCount;
+
+  /**
+   * Constructor that labels every cell of the grid
+   *
+   * @param grid the maze to label
+   */
+  public ComponentIndex(MazeGrid grid) {
+    int cols = grid.getCols();
+    components = new int[grid.getCellCount()];
+    // The union-find over the labels given out in the first pass. A label is
+    // a root when it is its own parent.
+    IntList parents = new IntList();
+
+    for (int index = 0; index < components.length; index++) {
+      if (!grid.isPassable(index)) {
+        components[index] = NONE;
+        continue;
+      }
+
+      int x = index % cols;
+      int left = x > 0 ? components[index - 1] : NONE;
+      int up = index >= cols ? components[index - cols] : NONE;
+
+      if (left != NONE) {
+        components[index] = left;
+        // The run we are in touches the run above it
+        if (up != NONE && up != left) {
+          union(parents, left, up);
+        }
+      } else if (up != NONE) {
+        components[index] = up;
+      } else {
+        // Nothing around yet, so this is the start of a new label
+        components[index] = parents.size();
+        parents.add(parents.size());
+      }
+    }
+
+    // Number the roots from zero so the components are dense
+    int[] ids = new int[parents.size()];
+    int count = 0;
+    for (int label = 0; label < ids.length; label++) {
+      int root = find(parents, label);
+      ids[label] = root == label ? count++ : ids[root];
+    }
+    componentCount = count;
+
+    for (int index = 0; index < components.length; index++) {
+      if (components[index] != NONE) {
+        components[index] = ids[components[index]];
+      }
+    }
+  }
+
+  /**
+   * Getter for the number of components in the maze
+   *
+   * @return the number of separate open regions
+   */
+  public int getComponentCount() {
+    return componentCount;
+  }
+
+  /**
+   * Getter for the component of a cell
+   *
+   * @param index the cell index
+   * @return the component, or {@link #NONE} if the cell is a wall
+   */
+  public int getComponent(int index) {
+    return components[index];
+  }
+
+  /**
+   * Checks whether there is any path between two cells
+   *
+   * @param start  the cell index to start from
+   * @param target the cell index to find
+   * @return true if both cells are open and in the same component
+   */
+  public boolean isConnected(int start, int target) {
+    int component = components[start];
+    return component != NONE && component == components[target];
+  }
+
+  /**
+   * Finds the root of a label, halving the path on the way up
+   *
+   * @param parents the parent of each label
+   * @param label   the label to look up
+   * @return the root of the label's set
+   */
+  private static int find(IntList parents, int label) {
+    while (parents.get(label) != label) {
+      int grandparent = parents.get(parents.get(label));
+      parents.set(label, grandparent);
+      label = grandparent;
+    }
+
+    return label;
+  }
+
+  /**
+   * Joins the sets of two labels. The smaller root always becomes the parent,
+   * so every root is found before anything that points at it when the roots
+   * are numbered.
+   *
+   * @param parents the parent of each label
+   * @param a       a label in the first set
+   * @param b       a label in the second set
+   */
+  private static void union(IntList parents, int a, int b) {
+    int rootA = find(parents, a);
+    int rootB = find(parents, b);
+    if (rootA < rootB) {
+      parents.set(rootB, rootA);
+    } else if (rootB < rootA) {
+      parents.set(rootA, rootB);
+    }
+  }
+}
@@ -0,0 +1,188 @@
+package com.awtpi314.project5;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * <h3>ContentHash</h3>
+ *
+ * A 128-bit hash of the cells of a maze that can be fed a piece at a time, so
+ * {@link MazeLoader} can hash each buffer of cells as it decodes them instead
+ * of going over the maze again afterwards. It takes a whole 64-bit word at a
+ * time, which makes it about as cheap as copying the cells. It keeps two
+ * 64-bit halves the way MurmurHash3's 128-bit version does. Each word is
+ * multiplied, rotated and multiplied again before it goes into each half, so
+ * a change anywhere in the word reaches the low bits of the state as well as
+ * the high ones, and a final mix spreads every bit of the input over every
+ * bit of the hash. 128 bits is wide enough that {@link SolveCache} trusts a
+ * match without comparing the cells. Feeding the same bytes in any number of
+ * pieces gives the same hash.
+ *
+ * <p>
+ * This is for telling mazes apart in a cache, not for security. Anyone who
+ * wants two mazes with the same hash can make them.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class ContentHash {
+  /**
+   * The low half before anything is added
+   */
+  private static final long SEED = 0xcbf29ce484222325L;
+  /**
+   * The high half before anything is added
+   */
+  private static final long HIGH_SEED = 0x9e3779b97f4a7c15L;
+  /**
+   * The first MurmurHash3 multiplier for each word
+   */
+  private static final long C1 = 0x87c37b91114253d5L;
+  /**
+   * The second MurmurHash3 multiplier for each word
+   */
+  private static final long C2 = 0x4cf5ad432745937fL;
+  /**
+   * Reads eight bytes of an array as one long
+   */
+  private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class,
+      ByteOrder.LITTLE_ENDIAN);
+
+  /**
+   * The low half of the hash of every whole word so far
+   */
+  private long low = SEED;
+  /**
+   * The high half of the hash of every whole word so far
+   */
+  private long high = HIGH_SEED;
+  /**
+   * The bytes of a word that hasn't been filled yet
+   */
+  private long pending;
+  /**
+   * The number of bytes in the pending word
+   */
+  private int pendingBytes;
+  /**
+   * The number of bytes hashed so far
+   */
+  private long length;
+
+  /**
+   * Hashes the cells of a grid that wasn't hashed while it was read
+   *
+   * @param grid the grid to hash
+   * @return the hash of its cells, low half first
+   */
+  public static long[] of(MazeGrid grid) {
+    ContentHash hash = new ContentHash();
+    byte[] chunk = new byte[4096];
+    int cellCount = grid.getCellCount();
+
+    // Copy the cells out a chunk at a time since the store might not be an array
+    for (int first = 0; first < cellCount; first += chunk.length) {
+      int count = Math.min(chunk.length, cellCount - first);
+      for (int i = 0; i < count; i++) {
+        chunk[i] = grid.getType(first + i);
+      }
+      hash.update(chunk, 0, count);
+    }
+
+    return hash.getValue();
+  }
+
+  /**
+   * Adds a range of bytes to the hash
+   *
+   * @param bytes the array holding the bytes
+   * @param from  the index of the first byte
+   * @param to    the index after the last byte
+   */
+  public void update(byte[] bytes, int from, int to) {
+    int i = from;
+    length += to - from;
+
+    // Finish off a word the last piece started
+    while (pendingBytes != 0 && i < to) {
+      pending |= (bytes[i++] & 0xFFL) << (pendingBytes * 8);
+      if (++pendingBytes == 8) {
+        mix(pending);
+        pending = 0;
+        pendingBytes = 0;
+      }
+    }
+
+    // Whole words go straight in
+    for (; i + 8 <= to; i += 8) {
+      mix((long) LONGS.get(bytes, i));
+    }
+
+    // Keep what is left over for the next piece
+    for (; i < to; i++) {
+      pending |= (bytes[i] & 0xFFL) << (pendingBytes++ * 8);
+    }
+  }
+
+  /**
+   * Getter for the hash of everything added so far. More can still be added
+   * afterwards.
+   *
+   * @return the two halves of the hash, low half first
+   */
+  public long[] getValue() {
+    long h1 = low;
+    long h2 = high;
+    if (pendingBytes > 0) {
+      h1 ^= Long.rotateLeft(pending * C1, 31) * C2;
+      h2 ^= Long.rotateLeft(pending * C2, 33) * C1;
+    }
+    // The length keeps inputs that only differ by trailing zeros apart
+    h1 ^= length;
+    h2 ^= length;
+
+    // Spread every bit over both halves
+    h1 += h2;
+    h2 += h1;
+    h1 = finish(h1);
+    h2 = finish(h2);
+    h1 += h2;
+    h2 += h1;
+    return new long[] { h1, h2 };
+  }
+
+  /**
+   * Adds one whole word to both halves of the hash. A multiply only carries
+   * bits upward, so the rotate between the two multiplies brings the high bits
+   * back down for the second one to carry up again.
+   *
+   * @param word the eight bytes to add
+   */
+  private void mix(long word) {
+    low ^= Long.rotateLeft(word * C1, 31) * C2;
+    low = Long.rotateLeft(low, 27) + high;
+    low = low * 5 + 0x52dce729;
+    high ^= Long.rotateLeft(word * C2, 33) * C1;
+    high = Long.rotateLeft(high, 31) + low;
+    high = high * 5 + 0x38495ab5;
+  }
+
+  /**
+   * The MurmurHash3 finishing mix, which spreads every bit of a half over all
+   * of it
+   *
+   * @param h the half to mix
+   * @return the mixed half
+   */
+  private static long finish(long h) {
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
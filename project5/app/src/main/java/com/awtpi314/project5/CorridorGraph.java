@@ -0,0 +1,637 @@
+package com.awtpi314.project5;
+
+import java.util.Arrays;
+
+/**
+ * <h3>CorridorGraph</h3>
+ *
+ * A smaller graph of a maze that only has a node where the path can branch.
+ * Most cells of a maze are in corridors one cell wide or in dead ends, and a
+ * cell-by-cell search still queues every one of them. Here that work is done
+ * once when the graph is built, so a query only has to search the junctions.
+ *
+ * <p>
+ * Building the graph happens in three passes. First every dead end is pruned,
+ * and pruning one can turn the cell next to it into a dead end too, so whole
+ * branches that lead nowhere are peeled away. Each pruned cell remembers which
+ * way leads back out of its branch. Then every cell that is left with other
+ * than two open neighbours becomes a node. Last, every corridor leaving a node
+ * is followed to the node at its other end and recorded as a single edge with
+ * its length in steps. A loop with no junction on it at all gets one of its
+ * cells made into a node, so every corridor has a node at each end.
+ * </p>
+ *
+ * <p>
+ * A query climbs out of any pruned branch the start or target is in, since
+ * there is only one way out of a branch. The rest is an A* search over the
+ * nodes, where a start or target in the middle of a corridor is joined to the
+ * nodes at both ends of it. The edges are then walked again to expand the
+ * nodes back into every cell on the path.
+ * </p>
+ *
+ * <p>
+ * Mazes smaller than {@link #MIN_CELLS} aren't worth building a graph for, so
+ * those are just searched cell by cell. The graph is never changed by a query,
+ * so one graph can be shared between threads. It is only good for the grid as
+ * it was when the graph was built.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class CorridorGraph {
+  /**
+   * Mazes with fewer cells than this skip building the graph
+   */
+  public static final int MIN_CELLS = 1024;
+  /**
+   * Marks a cell on a corridor between two nodes
+   */
+  private static final int CORRIDOR = -1;
+  /**
+   * Marks a wall
+   */
+  private static final int WALL = -2;
+  /**
+   * Marks a cell in a pruned branch that leads back out of the branch
+   */
+  private static final int DEAD_END = -3;
+  /**
+   * Marks the last cell of a branch that was pruned away entirely because it
+   * had no way out
+   */
+  private static final int DEAD_END_ROOT = -4;
+  /**
+   * Distance used for nodes that haven't been reached
+   */
+  private static final int INFINITY = Integer.MAX_VALUE;
+
+  /**
+   * The maze the graph was built from
+   */
+  private final MazeGrid grid;
+  /**
+   * The node of each cell, or one of the markers above
+   */
+  private int[] nodeIds;
+  /**
+   * The direction out of the branch for every pruned cell
+   */
+  private PackedDirections deadEndParents;
+  /**
+   * The cell index of each node
+   */
+  private int[] nodeCells;
+  /**
+   * The node at the other end of the corridor leaving each node in each
+   * direction, at node * 4 + direction, or -1 if there isn't one
+   */
+  private int[] edgeTargets;
+  /**
+   * The length in steps of the corridor leaving each node in each direction
+   */
+  private int[] edgeCosts;
+  /**
+   * Number of nodes expanded during the last query
+   */
+  private long nodesExpanded;
+
+  /**
+   * Constructor that builds the graph for a grid, unless the grid is too small
+   * to bother
+   *
+   * @param grid the maze to build the graph for
+   */
+  public CorridorGraph(MazeGrid grid) {
+    this.grid = grid;
+    if (grid.getCellCount() >= MIN_CELLS) {
+      byte[] degrees = pruneDeadEnds();
+      buildEdges(degrees);
+    }
+  }
+
+  /**
+   * Checks whether the graph was built or the maze is searched cell by cell
+   *
+   * @return true if queries search the junctions
+   */
+  public boolean isContracted() {
+    return nodeIds != null;
+  }
+
+  /**
+   * Getter for the number of nodes in the graph
+   *
+   * @return the number of junctions, or zero if the graph wasn't built
+   */
+  public int getNodeCount() {
+    return nodeCells == null ? 0 : nodeCells.length;
+  }
+
+  /**
+   * Getter for the number of nodes expanded by the last query. Mazes that
+   * weren't contracted count cells instead.
+   *
+   * @return the number of nodes taken off the open list
+   */
+  public long getNodesExpanded() {
+    return nodesExpanded;
+  }
+
+  /**
+   * Solves the maze from the S to the T and expands the path back into
+   * locations
+   *
+   * @return the shortest path from the start to the finish, or null if there is
+   *         no path
+   */
+  public Location[] solve() {
+    int[] path = findPath();
+    if (path == null) {
+      return null;
+    }
+
+    // Give the path its own state so the locations know their distances
+    SearchState state = new SearchState(grid);
+    state.begin();
+    state.markPath(path);
+    return state.toLocations(path);
+  }
+
+  /**
+   * Finds the shortest path from the S to the T in the maze
+   *
+   * @return the cell indices from the start to the finish, or null if there is
+   *         no path
+   */
+  public int[] findPath() {
+    return findPath(grid.getStart(), grid.getFinish());
+  }
+
+  /**
+   * Finds the shortest path between two cells
+   *
+   * @param start  the cell index to start from
+   * @param target the cell index to find
+   * @return the cell indices from the start to the target, or null if there is
+   *         no path
+   */
+  public int[] findPath(int start, int target) {
+    nodesExpanded = 0;
+    int cellCount = grid.getCellCount();
+    if (start < 0 || target < 0 || start >= cellCount || target >= cellCount || !grid.isPassable(start)
+        || !grid.isPassable(target)) {
+      return null;
+    }
+    if (start == target) {
+      return new int[] { start };
+    }
+
+    // Small mazes go straight to a plain search
+    if (!isContracted()) {
+      MazeSolver solver = new MazeSolver(grid);
+      int[] path = solver.findPath(start, target);
+      nodesExpanded = solver.getNodesExpanded();
+      return path;
+    }
+
+    // Climb out of any branch the ends are in
+    IntList startBranch = climb(start);
+    IntList targetBranch = climb(target);
+    int startRoot = startBranch.get(startBranch.size() - 1);
+    int targetRoot = targetBranch.get(targetBranch.size() - 1);
+
+    if (startRoot == targetRoot) {
+      // Both ends are in the same branch, and there is only one way between
+      // two cells of a branch
+      return branchPath(startBranch, targetBranch);
+    }
+    if (nodeIds[startRoot] == DEAD_END_ROOT || nodeIds[targetRoot] == DEAD_END_ROOT) {
+      // A branch with no way out can't reach anything outside it
+      return null;
+    }
+
+    IntList core = searchNodes(startRoot, targetRoot);
+    if (core == null) {
+      return null;
+    }
+
+    // The start's branch, then the path between the roots, then the target's
+    // branch backwards
+    int[] path = new int[startBranch.size() + core.size() + targetBranch.size() - 2];
+    int length = 0;
+    for (int i = 0; i < startBranch.size() - 1; i++) {
+      path[length++] = startBranch.get(i);
+    }
+    for (int i = 0; i < core.size(); i++) {
+      path[length++] = core.get(i);
+    }
+    for (int i = targetBranch.size() - 2; i >= 0; i--) {
+      path[length++] = targetBranch.get(i);
+    }
+
+    return path;
+  }
+
+  /**
+   * Searches the nodes for the shortest path between two cells that weren't
+   * pruned. The start and target are added as two extra nodes joined to the
+   * nodes at the ends of their corridors.
+   *
+   * @param start  the cell index to start from
+   * @param target the cell index to find
+   * @return the cells from the start to the target, or null if there is no path
+   */
+  private IntList searchNodes(int start, int target) {
+    int nodeCount = nodeCells.length;
+    int startNode = nodeCount;
+    int targetNode = nodeCount + 1;
+    IntList walked = new IntList();
+
+    // The nodes next to the target, how far each is from it, and which way to
+    // go from each to get there
+    int[] targetEnds = new int[2];
+    int[] targetCosts = new int[2];
+    int[] targetDirections = new int[2];
+    int targetEndCount = 0;
+    if (nodeIds[target] >= 0) {
+      targetEnds[targetEndCount++] = nodeIds[target];
+    } else {
+      for (int direction = MazeGrid.NORTH; direction <= MazeGrid.WEST; direction++) {
+        if (isCore(grid.step(target, direction))) {
+          walked.clear();
+          int end = walk(target, direction, start, walked);
+          // Reaching the start in the middle of a corridor is found from the
+          // start's side instead
+          if (end != start || nodeIds[start] >= 0) {
+            int before = walked.size() > 1 ? walked.get(walked.size() - 2) : target;
+            targetEnds[targetEndCount] = nodeIds[end];
+            targetCosts[targetEndCount] = walked.size();
+            targetDirections[targetEndCount++] = grid.directionBetween(end, before);
+          }
+        }
+      }
+    }
+
+    // A* over the nodes, remembering which way each node was reached so the
+    // corridors can be walked again afterwards
+    int[] g = new int[nodeCount + 2];
+    int[] parent = new int[nodeCount + 2];
+    byte[] parentDirections = new byte[nodeCount + 2];
+    Arrays.fill(g, INFINITY);
+    IntPriorityQueue openList = new IntPriorityQueue();
+    int h = distance(start, target);
+    g[startNode] = 0;
+    openList.add(startNode, AStarStrategy.priority(h, h));
+
+    while (!openList.isEmpty()) {
+      long priority = openList.peekPriority();
+      int current = openList.remove();
+      int currentCell = current == startNode ? start : current == targetNode ? target : nodeCells[current];
+
+      // Skip entries that were pushed before a shorter way to the node was found
+      if ((int) (priority >>> 32) != g[current] + distance(currentCell, target)) {
+        continue;
+      }
+      nodesExpanded++;
+
+      if (current == targetNode) {
+        return expand(parent, parentDirections, startNode, targetNode, start, target);
+      }
+
+      if (current == startNode) {
+        if (nodeIds[start] >= 0) {
+          relax(openList, g, parent, parentDirections, current, nodeIds[start], 0, -1, target);
+        } else {
+          // Join the start to both ends of its corridor, or straight to the
+          // target if it is on the same corridor
+          for (int direction = MazeGrid.NORTH; direction <= MazeGrid.WEST; direction++) {
+            if (isCore(grid.step(start, direction))) {
+              walked.clear();
+              int end = walk(start, direction, target, walked);
+              int next = end == target ? targetNode : nodeIds[end];
+              relax(openList, g, parent, parentDirections, current, next, walked.size(), direction, target);
+            }
+          }
+        }
+        continue;
+      }
+
+      for (int direction = MazeGrid.NORTH; direction <= MazeGrid.WEST; direction++) {
+        int edge = current * 4 + direction;
+        if (edgeTargets[edge] >= 0) {
+          relax(openList, g, parent, parentDirections, current, edgeTargets[edge], g[current] + edgeCosts[edge],
+              direction, target);
+        }
+      }
+      for (int i = 0; i < targetEndCount; i++) {
+        if (targetEnds[i] == current) {
+          int direction = nodeIds[target] >= 0 ? -1 : targetDirections[i];
+          relax(openList, g, parent, parentDirections, current, targetNode, g[current] + targetCosts[i], direction,
+              target);
+        }
+      }
+    }
+
+    // We emptied the open list without reaching the target
+    return null;
+  }
+
+  /**
+   * Records a shorter distance to a node and puts it on the open list
+   *
+   * @param openList         the open list
+   * @param g                the distance to each node
+   * @param parent           the node each node was reached from
+   * @param parentDirections the direction each node was reached by leaving its
+   *                         parent, or -1 if the two are the same cell
+   * @param from             the node being expanded
+   * @param next             the node to update
+   * @param distance         the distance to next through from
+   * @param direction        the direction leaving from towards next
+   * @param target           the cell index we are looking for
+   */
+  private void relax(IntPriorityQueue openList, int[] g, int[] parent, byte[] parentDirections, int from,
+      int next, int distance, int direction, int target) {
+    if (distance < g[next]) {
+      g[next] = distance;
+      parent[next] = from;
+      parentDirections[next] = (byte) direction;
+      int h = next >= nodeCells.length ? 0 : distance(nodeCells[next], target);
+      openList.add(next, AStarStrategy.priority(distance + h, h));
+    }
+  }
+
+  /**
+   * Follows the parents back from the target and walks each corridor between
+   * them to fill in the cells
+   *
+   * @param parent           the node each node was reached from
+   * @param parentDirections the direction each node was reached by leaving its
+   *                         parent
+   * @param startNode        the extra node standing for the start
+   * @param targetNode       the extra node standing for the target
+   * @param start            the start cell
+   * @param target           the target cell
+   * @return the cells from the start to the target
+   */
+  private IntList expand(int[] parent, byte[] parentDirections, int startNode, int targetNode, int start,
+      int target) {
+    IntList nodes = new IntList();
+    for (int node = targetNode; node != startNode; node = parent[node]) {
+      nodes.add(node);
+    }
+
+    IntList path = new IntList();
+    path.add(start);
+    int current = start;
+    for (int i = nodes.size() - 1; i >= 0; i--) {
+      int node = nodes.get(i);
+      int next = node == targetNode ? target : nodeCells[node];
+      // Moving between a cell and the node on it doesn't take any steps
+      if (parentDirections[node] >= 0) {
+        walk(current, parentDirections[node], next, path);
+      }
+      current = next;
+    }
+
+    return path;
+  }
+
+  /**
+   * Follows a corridor from a cell until it gets to a node or the stop cell.
+   * Every cell moved onto is added to the list.
+   *
+   * @param from      the cell index to start from
+   * @param direction the direction of the first step
+   * @param stop      a cell to stop at even if it isn't a node
+   * @param cells     the list the cells are added to
+   * @return the cell index the walk stopped at
+   */
+  private int walk(int from, int direction, int stop, IntList cells) {
+    int current = grid.step(from, direction);
+    cells.add(current);
+
+    while (nodeIds[current] < 0 && current != stop) {
+      // A corridor cell has exactly two ways out, and one is the way we came in
+      int back = direction ^ 2;
+      for (direction = MazeGrid.NORTH; direction <= MazeGrid.WEST; direction++) {
+        if (direction != back && isCore(grid.step(current, direction))) {
+          break;
+        }
+      }
+      current = grid.step(current, direction);
+      cells.add(current);
+    }
+
+    return current;
+  }
+
+  /**
+   * Follows the pruned cells from a cell out of its branch
+   *
+   * @param cell the cell index to start from
+   * @return the cells from the passed one out to the first cell that wasn't
+   *         pruned, or the last cell of a branch with no way out
+   */
+  private IntList climb(int cell) {
+    IntList branch = new IntList();
+    while (nodeIds[cell] == DEAD_END) {
+      branch.add(cell);
+      cell = grid.step(cell, deadEndParents.get(cell));
+    }
+    branch.add(cell);
+
+    return branch;
+  }
+
+  /**
+   * Joins two climbs out of the same branch where they meet
+   *
+   * @param startBranch  the climb from the start
+   * @param targetBranch the climb from the target
+   * @return the cells from the start to the target
+   */
+  private static int[] branchPath(IntList startBranch, IntList targetBranch) {
+    // Drop the part the two climbs share, keeping the cell where they meet
+    int i = startBranch.size() - 1;
+    int j = targetBranch.size() - 1;
+    while (i > 0 && j > 0 && startBranch.get(i - 1) == targetBranch.get(j - 1)) {
+      i--;
+      j--;
+    }
+
+    int[] path = new int[i + j + 1];
+    for (int k = 0; k <= i; k++) {
+      path[k] = startBranch.get(k);
+    }
+    for (int k = 0; k < j; k++) {
+      path[path.length - 1 - k] = targetBranch.get(k);
+    }
+
+    return path;
+  }
+
+  /**
+   * Peels away every dead end until only loops and the corridors between them
+   * are left
+   *
+   * @return the number of open neighbours each cell has left
+   */
+  private byte[] pruneDeadEnds() {
+    int cellCount = grid.getCellCount();
+    nodeIds = new int[cellCount];
+    deadEndParents = new PackedDirections(cellCount);
+    byte[] degrees = new byte[cellCount];
+    IntQueue deadEnds = new IntQueue();
+
+    for (int cell = 0; cell < cellCount; cell++) {
+      if (!grid.isPassable(cell)) {
+        nodeIds[cell] = WALL;
+        continue;
+      }
+      nodeIds[cell] = CORRIDOR;
+      for (int direction = MazeGrid.NORTH; direction <= MazeGrid.WEST; direction++) {
+        int neighbour = grid.step(cell, direction);
+        if (neighbour >= 0 && grid.isPassable(neighbour)) {
+          degrees[cell]++;
+        }
+      }
+      if (degrees[cell] <= 1) {
+        deadEnds.add(cell);
+      }
+    }
+
+    while (!deadEnds.isEmpty()) {
+      int cell = deadEnds.remove();
+      nodeIds[cell] = DEAD_END_ROOT;
+
+      // The one neighbour left, if there is one, is the way out of the branch
+      for (int direction = MazeGrid.NORTH; direction <= MazeGrid.WEST; direction++) {
+        int neighbour = grid.step(cell, direction);
+        if (isCore(neighbour)) {
+          nodeIds[cell] = DEAD_END;
+          deadEndParents.set(cell, direction);
+          if (--degrees[neighbour] == 1) {
+            deadEnds.add(neighbour);
+          }
+          break;
+        }
+      }
+    }
+
+    return degrees;
+  }
+
+  /**
+   * Makes the junctions into nodes and follows every corridor between them
+   *
+   * @param degrees the number of open neighbours each cell has left
+   */
+  private void buildEdges(byte[] degrees) {
+    IntList cells = new IntList();
+    for (int cell = 0; cell < degrees.length; cell++) {
+      if (nodeIds[cell] == CORRIDOR && degrees[cell] != 2) {
+        nodeIds[cell] = cells.size();
+        cells.add(cell);
+      }
+    }
+
+    IntList targets = new IntList();
+    IntList costs = new IntList();
+    // Corridor cells that some edge goes along
+    long[] covered = new long[(degrees.length + 63) >>> 6];
+    IntList walked = new IntList();
+
+    int scan = 0;
+    for (int node = 0;; node++) {
+      if (node == cells.size()) {
+        // Every corridor leaving the nodes so far has been followed, so any
+        // corridor cell that isn't covered is on a loop with no junction and
+        // becomes a node of its own
+        scan = uncoveredCorridor(covered, scan);
+        if (scan < 0) {
+          break;
+        }
+        nodeIds[scan] = cells.size();
+        cells.add(scan);
+      }
+      addEdges(cells.get(node), node, targets, costs, covered, walked);
+    }
+
+    nodeCells = cells.toArray();
+    edgeTargets = targets.toArray();
+    edgeCosts = costs.toArray();
+  }
+
+  /**
+   * Follows the corridor leaving a node in each direction and records where it
+   * ends up
+   *
+   * @param cell    the cell index of the node
+   * @param node    the node
+   * @param targets the node at the end of each edge
+   * @param costs   the length of each edge
+   * @param covered the corridor cells that some edge goes along
+   * @param walked  a list to walk the corridors into
+   */
+  private void addEdges(int cell, int node, IntList targets, IntList costs, long[] covered, IntList walked) {
+    for (int direction = MazeGrid.NORTH; direction <= MazeGrid.WEST; direction++) {
+      int target = -1;
+      int cost = 0;
+      if (isCore(grid.step(cell, direction))) {
+        walked.clear();
+        int end = walk(cell, direction, -1, walked);
+        for (int i = 0; i < walked.size(); i++) {
+          covered[walked.get(i) >>> 6] |= 1L << walked.get(i);
+        }
+        // A corridor that comes back to where it started is never a shortcut
+        if (end != cell) {
+          target = nodeIds[end];
+          cost = walked.size();
+        }
+      }
+      targets.add(target);
+      costs.add(cost);
+    }
+  }
+
+  /**
+   * Finds a corridor cell that no edge goes along
+   *
+   * @param covered the corridor cells that some edge goes along
+   * @param from    the cell index to start looking from
+   * @return the first such cell, or -1 if there isn't one
+   */
+  private int uncoveredCorridor(long[] covered, int from) {
+    for (int cell = from; cell < nodeIds.length; cell++) {
+      if (nodeIds[cell] == CORRIDOR && (covered[cell >>> 6] & (1L << cell)) == 0) {
+        return cell;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Checks whether a cell is open and wasn't pruned
+   *
+   * @param cell the cell index, or -1 for off the maze
+   * @return true if the cell is a node or on a corridor
+   */
+  private boolean isCore(int cell) {
+    return cell >= 0 && nodeIds[cell] >= CORRIDOR;
+  }
+
+  /**
+   * Works out the Manhattan distance between two cells
+   *
+   * @param a the first cell index
+   * @param b the second cell index
+   * @return the number of steps between them with no walls in the way
+   */
+  private int distance(int a, int b) {
+    return Math.abs(grid.getX(a) - grid.getX(b)) + Math.abs(grid.getY(a) - grid.getY(b));
+  }
+}
@@ -0,0 +1,170 @@
+package com.awtpi314.project5;
+
+import com.awtpi314.project5.interfaces.SearchStrategy;
+
+/**
+ * <h3>DialStrategy</h3>
+ *
+ * Dijkstra's algorithm for weighted terrain using Dial's bucket queue. Moving
+ * onto a cell costs {@link MazeGrid#getCost(int)}, and since no cost is more
+ * than {@link Location.SquareType#MAX_COST} every distance waiting to be
+ * expanded is within that much of the one being expanded. So instead of a
+ * heap we keep one queue per distance in a small ring of buckets and work
+ * through them in order, which makes every push and pop constant time like a
+ * breadth-first search.
+ *
+ * <p>
+ * The distances written to the search state are the total cost from the
+ * start rather than the number of hops, so the locations built from the path
+ * carry the weighted cost in their distance from start. On a maze without any
+ * weighted terrain this finds the same length paths as
+ * {@link BreadthFirstStrategy}.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class DialStrategy implements SearchStrategy {
+  /**
+   * Number of buckets in the ring, enough that a cell can never be pushed into
+   * the bucket being expanded
+   */
+  private static final int BUCKETS = Location.SquareType.MAX_COST + 1;
+
+  /**
+   * This method performs the weighted search on the grid and returns the path
+   * with the lowest total cost as cell indices
+   *
+   * @param state  the search state for the grid being searched
+   * @param start  the cell index to start from
+   * @param target the cell index to find
+   * @return the cell indices from the start to the target, or null if there is
+   *         no path
+   */
+  @Override
+  public int[] findPath(SearchState state, int start, int target) {
+    MazeGrid grid = state.getGrid();
+    IntQueue[] buckets = state.getBuckets(BUCKETS);
+    int cols = grid.getCols();
+    int rows = grid.getRows();
+    long nodesExpanded = 0;
+
+    state.setDist(start, 0);
+    buckets[0].add(start);
+    // Number of entries across all the buckets, so we know when to stop
+    long pending = 1;
+
+    for (int distance = 0; pending > 0; distance++) {
+      IntQueue bucket = buckets[distance % BUCKETS];
+
+      while (!bucket.isEmpty()) {
+        int current = bucket.remove();
+        pending--;
+        // Skip entries that were pushed before a cheaper way to the cell was found
+        if (state.getDist(current) != distance) {
+          continue;
+        }
+        if (state.shouldStop()) {
+          // The limits ran out, which the caller finds out from the state
+          state.addNodesExpanded(nodesExpanded);
+          return null;
+        }
+        nodesExpanded++;
+
+        // Every cell in a bucket is final once we get to it
+        if (current == target) {
+          state.addNodesExpanded(nodesExpanded);
+          state.startReconstruction();
+          return buildPath(state, start, target);
+        }
+
+        int y = current / cols;
+        int x = current - y * cols;
+        if (x > 0) {
+          pending += relax(state, buckets, current - 1, distance, MazeGrid.EAST);
+        }
+        if (x < cols - 1) {
+          pending += relax(state, buckets, current + 1, distance, MazeGrid.WEST);
+        }
+        if (y > 0) {
+          pending += relax(state, buckets, current - cols, distance, MazeGrid.SOUTH);
+        }
+        if (y < rows - 1) {
+          pending += relax(state, buckets, current + cols, distance, MazeGrid.NORTH);
+        }
+      }
+    }
+
+    // We ran out of buckets without reaching the target
+    state.addNodesExpanded(nodesExpanded);
+    return null;
+  }
+
+  /**
+   * Records a cheaper cost for a cell and drops it into the bucket for that
+   * cost
+   *
+   * @param state    the search state for the grid being searched
+   * @param buckets  the ring of buckets
+   * @param next     the cell to update
+   * @param distance the cost to reach the cell we are moving from
+   * @param parent   the direction from next back to the cell we came from
+   * @return 1 if the cell was added to a bucket, otherwise 0
+   */
+  private static int relax(SearchState state, IntQueue[] buckets, int next, int distance, int parent) {
+    int cost = state.getGrid().getCost(next);
+    if (cost == 0) {
+      // Walls can't be moved onto
+      return 0;
+    }
+
+    int nextDistance = distance + cost;
+    int known = state.getDist(next);
+    if (known != -1 && known <= nextDistance) {
+      return 0;
+    }
+
+    state.setDist(next, nextDistance);
+    state.setParent(next, parent);
+    buckets[nextDistance % BUCKETS].add(next);
+    return 1;
+  }
+
+  /**
+   * Walks the parent directions back from the target. The distances are costs
+   * rather than hops here, so the path is counted out before it is filled in.
+   *
+   * @param state  the search state for the grid being searched
+   * @param start  the cell index the search started from
+   * @param target the cell index that was found
+   * @return the cell indices from the start to the target
+   */
+  private static int[] buildPath(SearchState state, int start, int target) {
+    MazeGrid grid = state.getGrid();
+    int hops = 0;
+    for (int current = target; current != start; current = grid.step(current, state.getParent(current))) {
+      hops++;
+    }
+
+    int[] path = new int[hops + 1];
+    int current = target;
+    for (int i = hops; i > 0; i--) {
+      path[i] = current;
+      current = grid.step(current, state.getParent(current));
+    }
+    path[0] = current;
+
+    return path;
+  }
+
+  /**
+   * Dial's algorithm finds the cheapest path, so its distances are costs
+   *
+   * @return always true
+   */
+  @Override
+  public boolean isWeighted() {
+    return true;
+  }
+}
@@ -0,0 +1,196 @@
+package com.awtpi314.project5;
+
+import java.util.Arrays;
+
+/**
+ * <h3>DistanceField</h3>
+ *
+ * The distance from every cell of a maze to the nearest of a set of sources,
+ * worked out once with a breadth-first search from all the sources at the
+ * same time. After that, how far any cell is from the nearest source and which
+ * source that is are both just array reads, so asking for the nearest exit
+ * from lots of different places doesn't search again each time.
+ *
+ * <p>
+ * Every reached cell also remembers which way leads towards its nearest
+ * source, so the path from a cell to that source is found by following the
+ * directions without any searching.
+ * </p>
+ *
+ * <p>
+ * The field is never changed once it is built, so it can be shared between
+ * threads. It is only good for the grid as it was when the field was built.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class DistanceField {
+  /**
+   * The maze the field was built for
+   */
+  private final MazeGrid grid;
+  /**
+   * The sources the distances are measured from
+   */
+  private final int[] sources;
+  /**
+   * The distance of each cell from its nearest source, or -1 if no source can
+   * reach it
+   */
+  private final int[] distances;
+  /**
+   * Which of the sources is nearest to each cell, as a position in the sources
+   * array
+   */
+  private final int[] nearest;
+  /**
+   * The direction from each reached cell one step towards its nearest source
+   */
+  private final PackedDirections towards;
+
+  /**
+   * Constructor that builds the field for every T in the maze, so the field
+   * answers how far every cell is from the nearest exit
+   *
+   * @param grid the maze to build the field for
+   */
+  public DistanceField(MazeGrid grid) {
+    this(grid, grid.getFinishes());
+  }
+
+  /**
+   * Constructor that builds the field for any set of sources
+   *
+   * @param grid    the maze to build the field for
+   * @param sources the cell indices the distances are measured from
+   */
+  public DistanceField(MazeGrid grid, int[] sources) {
+    this.grid = grid;
+    this.sources = sources.clone();
+    int cellCount = grid.getCellCount();
+    int cols = grid.getCols();
+    distances = new int[cellCount];
+    nearest = new int[cellCount];
+    towards = new PackedDirections(cellCount);
+    Arrays.fill(distances, -1);
+    IntQueue queue = new IntQueue();
+
+    // Every source is in the first level, so the first source to reach a cell
+    // is the nearest one
+    for (int i = 0; i < sources.length; i++) {
+      int source = sources[i];
+      if (source < 0 || source >= cellCount) {
+        throw new IllegalArgumentException("Source " + source + " is off the maze");
+      }
+      if (grid.isPassable(source) && distances[source] < 0) {
+        distances[source] = 0;
+        nearest[source] = i;
+        queue.add(source);
+      }
+    }
+
+    while (!queue.isEmpty()) {
+      int current = queue.remove();
+      int y = current / cols;
+      int x = current - y * cols;
+
+      if (x > 0) {
+        reach(queue, current, current - 1, MazeGrid.EAST);
+      }
+      if (x < cols - 1) {
+        reach(queue, current, current + 1, MazeGrid.WEST);
+      }
+      if (y > 0) {
+        reach(queue, current, current - cols, MazeGrid.SOUTH);
+      }
+      if (y < grid.getRows() - 1) {
+        reach(queue, current, current + cols, MazeGrid.NORTH);
+      }
+    }
+  }
+
+  /**
+   * Getter for the distance from a cell to the nearest source
+   *
+   * @param index the cell index
+   * @return the number of steps, or -1 if no source can be reached
+   */
+  public int getDistance(int index) {
+    return distances[index];
+  }
+
+  /**
+   * Getter for the nearest source to a cell
+   *
+   * @param index the cell index
+   * @return the cell index of the nearest source, or -1 if no source can be
+   *         reached
+   */
+  public int getNearestSource(int index) {
+    return distances[index] < 0 ? -1 : sources[nearest[index]];
+  }
+
+  /**
+   * Finds the cell with the shortest distance out of a set of cells, such as
+   * the entrance that is closest to any exit
+   *
+   * @param cells the cell indices to choose from
+   * @return the cell index with the smallest distance, or -1 if none of them
+   *         can reach a source
+   */
+  public int nearestOf(int[] cells) {
+    int best = -1;
+    for (int cell : cells) {
+      if (distances[cell] >= 0 && (best < 0 || distances[cell] < distances[best])) {
+        best = cell;
+      }
+    }
+
+    return best;
+  }
+
+  /**
+   * Follows the field from a cell to its nearest source
+   *
+   * @param index the cell index to start from
+   * @return the cell indices from the passed cell to its nearest source, or
+   *         null if no source can be reached
+   */
+  public int[] pathFrom(int index) {
+    if (distances[index] < 0) {
+      return null;
+    }
+
+    int[] path = new int[distances[index] + 1];
+    int current = index;
+    for (int i = 0; i < path.length - 1; i++) {
+      path[i] = current;
+      current = grid.step(current, towards.get(current));
+    }
+    path[path.length - 1] = current;
+
+    return path;
+  }
+
+  /**
+   * Records the distance of a cell reached from one of its neighbours if it
+   * hasn't been reached already
+   *
+   * @param queue     the cells waiting to be searched from
+   * @param from      the cell we are searching from
+   * @param next      the cell we are testing
+   * @param direction the direction from next back to from
+   */
+  private void reach(IntQueue queue, int from, int next, int direction) {
+    if (distances[next] >= 0 || !grid.isPassable(next)) {
+      return;
+    }
+
+    distances[next] = distances[from] + 1;
+    nearest[next] = nearest[from];
+    towards.set(next, direction);
+    queue.add(next);
+  }
+}
@@ -0,0 +1,286 @@
+package com.awtpi314.project5;
+
+import java.util.Arrays;
+
+/**
+ * <h3>DynamicMaze</h3>
+ *
+ * A maze whose walls can be opened and closed between solves. Instead of
+ * searching from scratch after every change, the shortest path is repaired
+ * with Lifelong Planning A*, so the work done after a small change depends on
+ * how much of the search the change actually affects rather than on the size
+ * of the maze.
+ *
+ * <p>
+ * Every cell keeps two distances from the start: g is the distance found by
+ * the last solve and rhs is what g should be given the neighbours' g values.
+ * A cell where they disagree is inconsistent and sits on the open list. A
+ * change to a wall only makes the cells around it inconsistent, and the next
+ * solve works outwards from them until the target is consistent again. The
+ * open list is ordered by the Manhattan estimate like {@link AStarStrategy}, so
+ * cells that can't affect the path to the target are never touched.
+ * </p>
+ *
+ * <p>
+ * The maze keeps its own copy of the cells, so the grid passed in is never
+ * changed.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class DynamicMaze {
+  /**
+   * Distance used for cells that can't be reached
+   */
+  private static final int INFINITY = Integer.MAX_VALUE;
+
+  /**
+   * Our own copy of the maze that the changes are made to
+   */
+  private final MazeGrid grid;
+  /**
+   * The cell index the paths start from
+   */
+  private final int start;
+  /**
+   * The cell index the paths go to
+   */
+  private final int target;
+  /**
+   * The distance from the start found by the last solve
+   */
+  private final int[] g;
+  /**
+   * The distance from the start worked out from the neighbours
+   */
+  private final int[] rhs;
+  /**
+   * The cells whose g and rhs disagree
+   */
+  private final IndexedIntPriorityQueue openList;
+  /**
+   * Number of cells expanded during the last solve
+   */
+  private long nodesExpanded;
+
+  /**
+   * Constructor that solves between the S and T in the maze
+   *
+   * @param maze the maze to start with
+   */
+  public DynamicMaze(MazeGrid maze) {
+    this(maze, maze.getStart(), maze.getFinish());
+  }
+
+  /**
+   * Constructor that solves between two positions
+   *
+   * @param maze   the maze to start with
+   * @param start  the position the paths start from
+   * @param target the position the paths go to
+   */
+  public DynamicMaze(MazeGrid maze, Coordinate start, Coordinate target) {
+    this(maze, maze.index(start.getX(), start.getY()), maze.index(target.getX(), target.getY()));
+  }
+
+  /**
+   * Constructor that copies the maze and sets up the search
+   *
+   * @param maze   the maze to start with
+   * @param start  the cell index the paths start from
+   * @param target the cell index the paths go to
+   */
+  private DynamicMaze(MazeGrid maze, int start, int target) {
+    if (start < 0 || target < 0 || start >= maze.getCellCount() || target >= maze.getCellCount()) {
+      throw new IllegalArgumentException("The maze needs a start and a target on it");
+    }
+
+    byte[] cells = new byte[maze.getCellCount()];
+    for (int i = 0; i < cells.length; i++) {
+      cells[i] = maze.getType(i);
+    }
+    grid = new MazeGrid(maze.getRows(), maze.getCols(), cells, maze.getStart(), maze.getFinish());
+    this.start = start;
+    this.target = target;
+
+    g = new int[cells.length];
+    rhs = new int[cells.length];
+    Arrays.fill(g, INFINITY);
+    Arrays.fill(rhs, INFINITY);
+    openList = new IndexedIntPriorityQueue(cells.length);
+
+    // The start is the only cell that knows its distance to begin with
+    if (grid.isPassable(start)) {
+      rhs[start] = 0;
+      openList.update(start, key(start));
+    }
+  }
+
+  /**
+   * Getter for our copy of the maze with every change made so far
+   *
+   * @return the grid
+   */
+  public MazeGrid getGrid() {
+    return grid;
+  }
+
+  /**
+   * Getter for the number of cells expanded by the last solve
+   *
+   * @return the number of cells taken off the open list
+   */
+  public long getNodesExpanded() {
+    return nodesExpanded;
+  }
+
+  /**
+   * Opens or closes a cell. The path isn't repaired until the next call to
+   * {@link #findPath()}, so several changes can be made first.
+   *
+   * @param position the position of the cell
+   * @param type     either {@link Location.SquareType#WALL} or
+   *                 {@link Location.SquareType#OPEN}
+   */
+  public void setType(Coordinate position, Location.SquareType type) {
+    if (type != Location.SquareType.WALL && type != Location.SquareType.OPEN) {
+      throw new IllegalArgumentException("Cells can only be changed to walls or open spaces");
+    }
+    int x = position.getX();
+    int y = position.getY();
+    if (x < 0 || y < 0 || x >= grid.getCols() || y >= grid.getRows()) {
+      throw new IllegalArgumentException("Position " + x + ", " + y + " is off the maze");
+    }
+
+    int index = grid.index(x, y);
+    if (index == start || index == target) {
+      throw new IllegalArgumentException("The start and target can't be changed");
+    }
+    if (grid.isPassable(index) == (type == Location.SquareType.OPEN)) {
+      // Nothing changes, so nothing needs repairing
+      return;
+    }
+
+    grid.setType(index, (byte) type.ordinal());
+
+    // Every move into or out of the cell changed, so the cell and its
+    // neighbours need their rhs worked out again
+    updateCell(index);
+    for (int direction = MazeGrid.NORTH; direction <= MazeGrid.WEST; direction++) {
+      int neighbour = grid.step(index, direction);
+      if (neighbour >= 0) {
+        updateCell(neighbour);
+      }
+    }
+  }
+
+  /**
+   * Repairs the search after any changes and returns the shortest path
+   *
+   * @return the cell indices from the start to the target, or null if there is
+   *         no path
+   */
+  public int[] findPath() {
+    nodesExpanded = 0;
+
+    // Keep going until nothing on the open list could make the target better
+    while (!openList.isEmpty() && (openList.peekPriority() < key(target) || rhs[target] != g[target])) {
+      int current = openList.remove();
+      nodesExpanded++;
+
+      if (g[current] > rhs[current]) {
+        // The cell got closer, so make it final and tell the neighbours
+        g[current] = rhs[current];
+        updateNeighbours(current);
+      } else {
+        // The cell got further away, so forget it and let everything around it,
+        // including itself, find a new way back to the start
+        g[current] = INFINITY;
+        updateCell(current);
+        updateNeighbours(current);
+      }
+    }
+
+    if (g[target] == INFINITY) {
+      // We have no path to the target. Return null to indicate that.
+      return null;
+    }
+
+    // Walk back from the target to any neighbour that is one step closer
+    int[] path = new int[g[target] + 1];
+    int current = target;
+    for (int i = path.length - 1; i > 0; i--) {
+      path[i] = current;
+      for (int direction = MazeGrid.NORTH; direction <= MazeGrid.WEST; direction++) {
+        int neighbour = grid.step(current, direction);
+        if (neighbour >= 0 && grid.isPassable(neighbour) && g[neighbour] == i - 1) {
+          current = neighbour;
+          break;
+        }
+      }
+    }
+    path[0] = current;
+
+    return path;
+  }
+
+  /**
+   * Works out the rhs of a cell from its neighbours and puts it on the open
+   * list if it doesn't agree with g
+   *
+   * @param index the cell index
+   */
+  private void updateCell(int index) {
+    if (index != start) {
+      int best = INFINITY;
+      if (grid.isPassable(index)) {
+        for (int direction = MazeGrid.NORTH; direction <= MazeGrid.WEST; direction++) {
+          int neighbour = grid.step(index, direction);
+          if (neighbour >= 0 && grid.isPassable(neighbour) && g[neighbour] != INFINITY && g[neighbour] + 1 < best) {
+            best = g[neighbour] + 1;
+          }
+        }
+      }
+      rhs[index] = best;
+    }
+
+    if (g[index] != rhs[index]) {
+      openList.update(index, key(index));
+    } else {
+      openList.remove(index);
+    }
+  }
+
+  /**
+   * Updates every neighbour of a cell
+   *
+   * @param index the cell index
+   */
+  private void updateNeighbours(int index) {
+    for (int direction = MazeGrid.NORTH; direction <= MazeGrid.WEST; direction++) {
+      int neighbour = grid.step(index, direction);
+      if (neighbour >= 0) {
+        updateCell(neighbour);
+      }
+    }
+  }
+
+  /**
+   * Works out the open list priority of a cell. The estimated total through the
+   * cell comes first and ties go to the cell closer to the start.
+   *
+   * @param index the cell index
+   * @return the packed priority
+   */
+  private long key(int index) {
+    int best = Math.min(g[index], rhs[index]);
+    if (best == INFINITY) {
+      return Long.MAX_VALUE;
+    }
+
+    int h = Math.abs(grid.getX(index) - grid.getX(target)) + Math.abs(grid.getY(index) - grid.getY(target));
+    return AStarStrategy.priority(best + h, best);
+  }
+}
@@ -0,0 +1,230 @@
+package com.awtpi314.project5;
+
+/**
+ * <h3>FrontierSearch</h3>
+ *
+ * Breadth-first frontier search for mazes where a distance and parent for every
+ * cell won't fit in memory. Only the last two levels of the search are kept,
+ * which is enough to tell new cells from old ones because a step can only
+ * ever go to the level before, the same level, or the level after. Without
+ * parents the path can't be walked back, so it is rebuilt by divide and
+ * conquer instead.
+ *
+ * <p>
+ * A search runs from both ends a level at a time, taking turns, until the two
+ * frontiers meet. The cell where they meet is on a shortest path and roughly
+ * halfway along it, so the path is that cell with the path to it from the
+ * start and the path from it to the target, and each half is found the same
+ * way. Because the halves shrink each time the whole path takes a number of
+ * searches that grows with the log of its length, and the memory used at any
+ * one time is a few levels of the search rather than the whole maze.
+ * </p>
+ *
+ * <p>
+ * Nothing here is sized by the maze, so this works on a memory mapped maze
+ * without allocating anything per cell. The paths are the same length as the
+ * ones {@link BreadthFirstStrategy} finds.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class FrontierSearch {
+  /**
+   * The maze being searched
+   */
+  private final MazeGrid grid;
+  /**
+   * The level before the current one for the searches from each end
+   */
+  private final IntHashSet[] previous = { new IntHashSet(), new IntHashSet() };
+  /**
+   * The current level for the searches from each end
+   */
+  private final IntHashSet[] current = { new IntHashSet(), new IntHashSet() };
+  /**
+   * The level being built for the searches from each end
+   */
+  private final IntHashSet[] next = { new IntHashSet(), new IntHashSet() };
+  /**
+   * Number of cells expanded during the last query, over every search it took
+   */
+  private long nodesExpanded;
+  /**
+   * The most cells held in the levels at once during the last query
+   */
+  private int peakFrontier;
+  /**
+   * The cell where the last two searches met
+   */
+  private int meetingCell;
+  /**
+   * How far the last meeting cell is from the first end
+   */
+  private int meetingDistance;
+  /**
+   * How far apart the two ends of the last search are
+   */
+  private int totalDistance;
+
+  /**
+   * Constructor that takes the maze to search
+   *
+   * @param grid the maze to search
+   */
+  public FrontierSearch(MazeGrid grid) {
+    this.grid = grid;
+  }
+
+  /**
+   * Getter for the number of cells expanded by the last query. Cells are
+   * expanded again by the searches for each half of the path, so this is more
+   * than a single search would expand.
+   *
+   * @return the number of cells taken off a frontier
+   */
+  public long getNodesExpanded() {
+    return nodesExpanded;
+  }
+
+  /**
+   * Getter for the most cells that were held in the search levels at any one
+   * time during the last query
+   *
+   * @return the peak number of cells held
+   */
+  public int getPeakFrontier() {
+    return peakFrontier;
+  }
+
+  /**
+   * Finds the shortest path from the S to the T in the maze
+   *
+   * @return the cell indices from the start to the finish, or null if there is
+   *         no path
+   */
+  public int[] findPath() {
+    return findPath(grid.getStart(), grid.getFinish());
+  }
+
+  /**
+   * Finds the shortest path between two cells
+   *
+   * @param start  the cell index to start from
+   * @param target the cell index to find
+   * @return the cell indices from the start to the target, or null if there is
+   *         no path
+   */
+  public int[] findPath(int start, int target) {
+    nodesExpanded = 0;
+    peakFrontier = 0;
+    int cellCount = grid.getCellCount();
+    if (start < 0 || target < 0 || start >= cellCount || target >= cellCount || !grid.isPassable(start)
+        || !grid.isPassable(target)) {
+      return null;
+    }
+    if (start == target) {
+      return new int[] { start };
+    }
+
+    if (!meet(start, target)) {
+      return null;
+    }
+
+    int[] path = new int[totalDistance + 1];
+    path[0] = start;
+    path[totalDistance] = target;
+    fill(path, 0, totalDistance);
+    return path;
+  }
+
+  /**
+   * Fills in the cells of the path strictly between two positions whose cells
+   * are already in place
+   *
+   * @param path the path being built
+   * @param from the position in the path of the first cell
+   * @param to   the position in the path of the second cell
+   */
+  private void fill(int[] path, int from, int to) {
+    if (to - from <= 1) {
+      // Neighbours have nothing between them
+      return;
+    }
+
+    // Two cells on a shortest path are the same distance apart as their
+    // positions, so the meeting cell goes straight into its place
+    meet(path[from], path[to]);
+    int middle = from + meetingDistance;
+    path[middle] = meetingCell;
+
+    fill(path, from, middle);
+    fill(path, middle, to);
+  }
+
+  /**
+   * Searches from both ends a level at a time until the frontiers meet. When
+   * they do the meeting cell, its distance from the first end and the total
+   * distance are left in the fields.
+   *
+   * @param first the cell index of one end
+   * @param last  the cell index of the other end
+   * @return true if the ends are connected
+   */
+  private boolean meet(int first, int last) {
+    int[] depths = new int[2];
+    for (int side = 0; side < 2; side++) {
+      previous[side].clear();
+      current[side].clear();
+      next[side].clear();
+    }
+    current[0].add(first);
+    current[1].add(last);
+
+    // Take turns so the meeting cell ends up near the middle, and so the far
+    // end has always moved before the meeting could land on it
+    for (int side = 0;; side ^= 1) {
+      IntHashSet expanding = current[side];
+      if (expanding.isEmpty()) {
+        return false;
+      }
+      IntHashSet other = current[side ^ 1];
+      IntHashSet found = next[side];
+
+      for (int i = 0; i < expanding.size(); i++) {
+        int cell = expanding.get(i);
+        nodesExpanded++;
+
+        for (int direction = MazeGrid.NORTH; direction <= MazeGrid.WEST; direction++) {
+          int neighbour = grid.step(cell, direction);
+          // A step can only go back a level, stay on this one, or go forward one
+          if (neighbour < 0 || !grid.isPassable(neighbour) || previous[side].contains(neighbour)
+              || expanding.contains(neighbour)) {
+            continue;
+          }
+
+          if (other.contains(neighbour)) {
+            // The frontiers touch, so this cell is on a shortest path
+            meetingCell = neighbour;
+            meetingDistance = side == 0 ? depths[0] + 1 : depths[0];
+            totalDistance = depths[0] + depths[1] + 1;
+            return true;
+          }
+          found.add(neighbour);
+        }
+      }
+
+      peakFrontier = Math.max(peakFrontier, previous[0].size() + current[0].size() + next[0].size()
+          + previous[1].size() + current[1].size() + next[1].size());
+
+      // Drop the oldest level and move the others along
+      IntHashSet oldest = previous[side];
+      oldest.clear();
+      previous[side] = expanding;
+      current[side] = found;
+      next[side] = oldest;
+      depths[side]++;
+    }
+  }
+}
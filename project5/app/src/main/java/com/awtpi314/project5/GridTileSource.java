@@ -0,0 +1,87 @@
+package com.awtpi314.project5;
+
+import com.awtpi314.project5.interfaces.TileSource;
+
+/**
+ * <h3>GridTileSource</h3>
+ *
+ * Reads tiles out of a {@link MazeGrid} that is already loaded. This is mostly
+ * useful for small mazes and for checking the tiled solver against the normal
+ * one.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class GridTileSource implements TileSource {
+  /**
+   * The grid the cells are read from
+   */
+  private final MazeGrid grid;
+
+  /**
+   * Constructor that wraps a grid
+   *
+   * @param grid the grid to read from
+   */
+  public GridTileSource(MazeGrid grid) {
+    this.grid = grid;
+  }
+
+  /**
+   * Getter for the number of rows
+   *
+   * @return the number of rows in the maze
+   */
+  @Override
+  public int getRows() {
+    return grid.getRows();
+  }
+
+  /**
+   * Getter for the number of columns
+   *
+   * @return the number of columns in the maze
+   */
+  @Override
+  public int getCols() {
+    return grid.getCols();
+  }
+
+  /**
+   * Getter for the start index
+   *
+   * @return the index of the start, or -1 if there isn't one
+   */
+  @Override
+  public int getStart() {
+    return grid.getStart();
+  }
+
+  /**
+   * Getter for the finish index
+   *
+   * @return the index of the finish, or -1 if there isn't one
+   */
+  @Override
+  public int getFinish() {
+    return grid.getFinish();
+  }
+
+  /**
+   * Copies part of a row of cell codes out of the grid
+   *
+   * @param y      the row to read
+   * @param x      the first column to read
+   * @param length the number of cells to read
+   * @param cells  where the cell codes are written
+   * @param offset the position in cells to write the first code
+   */
+  @Override
+  public void readRow(int y, int x, int length, byte[] cells, int offset) {
+    int index = grid.index(x, y);
+    for (int i = 0; i < length; i++) {
+      cells[offset + i] = grid.getType(index + i);
+    }
+  }
+}
@@ -0,0 +1,608 @@
+package com.awtpi314.project5;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import com.awtpi314.project5.interfaces.TileSource;
+
+/**
+ * <h3>HierarchicalSolver</h3>
+ *
+ * Hierarchical path-finding (HPA*) for mazes that are too big to hold in
+ * memory. The maze is cut into tiles by a {@link TileCache}, and wherever two
+ * neighbouring tiles have open cells facing each other along their border we
+ * put an entrance. The cells either side of an entrance become nodes of a
+ * much smaller abstract graph. Nodes in the same tile are joined by their
+ * distance inside the tile, and the two sides of an entrance are joined by a
+ * single step.
+ *
+ * <p>
+ * A query connects the start and target to the nodes in their tiles, searches
+ * the abstract graph with A*, and then refines each abstract edge into cells
+ * with a breadth-first search inside one tile. Only the tiles along the chosen
+ * route are ever read, and the cache keeps the memory used by tiles under the
+ * budget.
+ * </p>
+ *
+ * <p>
+ * Paths only cross tile borders at entrances, so they are not always the
+ * shortest possible, but they are usually within a few percent. A path is
+ * found whenever one exists.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class HierarchicalSolver {
+  /**
+   * Tile size used when none is given
+   */
+  public static final int DEFAULT_TILE_SIZE = 64;
+  /**
+   * Entrances at least this wide get a node at each end instead of one in the
+   * middle, so paths don't have to detour to the middle of a wide opening
+   */
+  private static final int WIDE_ENTRANCE = 6;
+  /**
+   * Distance used for nodes that haven't been reached
+   */
+  private static final int INFINITY = Integer.MAX_VALUE;
+
+  /**
+   * The tiles of the maze
+   */
+  private final TileCache cache;
+  /**
+   * Number of columns in the maze
+   */
+  private final int cols;
+  /**
+   * The cell index of each abstract node
+   */
+  private int[] nodeCells;
+  /**
+   * Where each node's edges start in the edge arrays, with one extra entry at
+   * the end
+   */
+  private int[] edgeOffsets;
+  /**
+   * The node at the other end of each edge
+   */
+  private int[] edgeTargets;
+  /**
+   * The length of each edge in cells
+   */
+  private int[] edgeCosts;
+  /**
+   * The nodes in each tile
+   */
+  private int[][] tileNodes;
+  /**
+   * Reused queue for the searches inside a tile
+   */
+  private final IntQueue queue = new IntQueue();
+  /**
+   * Reused distances for the searches inside a tile
+   */
+  private final int[] tileDist;
+  /**
+   * Number of abstract nodes expanded during the last query
+   */
+  private long nodesExpanded;
+
+  /**
+   * Constructor that reads every tile once to build the abstract graph
+   *
+   * @param source       where the cells are read from
+   * @param tileSize     the width and height of a tile
+   * @param memoryBudget the number of bytes of cells to keep in memory
+   * @throws IOException if the maze can't be read
+   */
+  public HierarchicalSolver(TileSource source, int tileSize, long memoryBudget) throws IOException {
+    cache = new TileCache(source, tileSize, memoryBudget);
+    cols = source.getCols();
+    tileDist = new int[tileSize * tileSize];
+    buildGraph();
+  }
+
+  /**
+   * Getter for the tile cache, mostly so the number of tile reads can be
+   * checked
+   *
+   * @return the tile cache
+   */
+  public TileCache getCache() {
+    return cache;
+  }
+
+  /**
+   * Getter for the number of nodes in the abstract graph
+   *
+   * @return the number of entrance cells
+   */
+  public int getNodeCount() {
+    return nodeCells.length;
+  }
+
+  /**
+   * Getter for the number of abstract nodes expanded by the last query
+   *
+   * @return the number of nodes taken off the open list
+   */
+  public long getNodesExpanded() {
+    return nodesExpanded;
+  }
+
+  /**
+   * Finds a path from the S to the T in the maze
+   *
+   * @return the cell indices from the start to the finish, or null if there is
+   *         no path
+   * @throws IOException if a tile can't be read
+   */
+  public int[] findPath() throws IOException {
+    TileSource source = cache.getSource();
+    return findPath(source.getStart(), source.getFinish());
+  }
+
+  /**
+   * Finds a path between two cells
+   *
+   * @param start  the cell index to start from
+   * @param target the cell index to find
+   * @return the cell indices from the start to the target, or null if there is
+   *         no path
+   * @throws IOException if a tile can't be read
+   */
+  public int[] findPath(int start, int target) throws IOException {
+    nodesExpanded = 0;
+    int cellCount = cache.getSource().getRows() * cols;
+    if (start < 0 || target < 0 || start >= cellCount || target >= cellCount || !isPassable(start)
+        || !isPassable(target)) {
+      return null;
+    }
+
+    int nodeCount = nodeCells.length;
+    int startNode = nodeCount;
+    int targetNode = nodeCount + 1;
+    int startTile = cache.tileOf(start);
+    int targetTile = cache.tileOf(target);
+
+    // Connect the start to the nodes in its tile, and the target too if it is
+    // in the same tile
+    searchTile(startTile, start);
+    int[] fromStart = new int[tileNodes[startTile].length];
+    for (int i = 0; i < fromStart.length; i++) {
+      fromStart[i] = distanceInTile(startTile, nodeCells[tileNodes[startTile][i]]);
+    }
+    int direct = startTile == targetTile ? distanceInTile(startTile, target) : -1;
+
+    // Connect the nodes in the target's tile to the target
+    searchTile(targetTile, target);
+    int[] toTarget = new int[nodeCount];
+    Arrays.fill(toTarget, -1);
+    for (int node : tileNodes[targetTile]) {
+      toTarget[node] = distanceInTile(targetTile, nodeCells[node]);
+    }
+
+    // A* over the abstract graph with the start and target as two extra nodes
+    int[] g = new int[nodeCount + 2];
+    int[] parent = new int[nodeCount + 2];
+    Arrays.fill(g, INFINITY);
+    IntPriorityQueue openList = new IntPriorityQueue();
+    g[startNode] = 0;
+    openList.add(startNode, AStarStrategy.priority(distance(start, target), distance(start, target)));
+
+    while (!openList.isEmpty()) {
+      long priority = openList.peekPriority();
+      int current = openList.remove();
+      int currentCell = current == startNode ? start : current == targetNode ? target : nodeCells[current];
+      int h = distance(currentCell, target);
+
+      // Skip entries that were pushed before a shorter way to the node was found
+      if ((int) (priority >>> 32) != g[current] + h) {
+        continue;
+      }
+      nodesExpanded++;
+
+      if (current == targetNode) {
+        return refine(abstractPath(parent, startNode, targetNode, start, target));
+      }
+
+      if (current == startNode) {
+        for (int i = 0; i < fromStart.length; i++) {
+          if (fromStart[i] >= 0) {
+            relax(openList, g, parent, current, tileNodes[startTile][i], g[current] + fromStart[i], target);
+          }
+        }
+        if (direct >= 0) {
+          relax(openList, g, parent, current, targetNode, direct, target);
+        }
+      } else {
+        for (int edge = edgeOffsets[current]; edge < edgeOffsets[current + 1]; edge++) {
+          relax(openList, g, parent, current, edgeTargets[edge], g[current] + edgeCosts[edge], target);
+        }
+        if (toTarget[current] >= 0) {
+          relax(openList, g, parent, current, targetNode, g[current] + toTarget[current], target);
+        }
+      }
+    }
+
+    // We emptied the open list without reaching the target
+    return null;
+  }
+
+  /**
+   * Records a shorter distance to an abstract node and puts it on the open list
+   *
+   * @param openList the open list
+   * @param g        the distance to each node
+   * @param parent   the node each node was reached from
+   * @param from     the node being expanded
+   * @param next     the node to update
+   * @param distance the distance to next through from
+   * @param target   the cell index we are looking for
+   */
+  private void relax(IntPriorityQueue openList, int[] g, int[] parent, int from, int next, int distance,
+      int target) {
+    if (distance < g[next]) {
+      g[next] = distance;
+      parent[next] = from;
+      int h = next >= nodeCells.length ? 0 : distance(nodeCells[next], target);
+      openList.add(next, AStarStrategy.priority(distance + h, h));
+    }
+  }
+
+  /**
+   * Follows the abstract parents back from the target and turns the nodes into
+   * cells
+   *
+   * @param parent     the node each node was reached from
+   * @param startNode  the extra node standing for the start
+   * @param targetNode the extra node standing for the target
+   * @param start      the start cell
+   * @param target     the target cell
+   * @return the cells of the abstract path from the start to the target
+   */
+  private int[] abstractPath(int[] parent, int startNode, int targetNode, int start, int target) {
+    IntList nodes = new IntList();
+    for (int node = targetNode; node != startNode; node = parent[node]) {
+      nodes.add(node);
+    }
+
+    int[] cells = new int[nodes.size() + 1];
+    cells[0] = start;
+    for (int i = 1; i < cells.length; i++) {
+      int node = nodes.get(nodes.size() - i);
+      cells[i] = node == targetNode ? target : nodeCells[node];
+    }
+
+    return cells;
+  }
+
+  /**
+   * Fills in the cells between each pair of abstract path cells. Cells in
+   * different tiles are the two sides of an entrance, and cells in the same
+   * tile are joined with a search inside that tile.
+   *
+   * @param waypoints the cells of the abstract path
+   * @return the full path
+   * @throws IOException if a tile can't be read
+   */
+  private int[] refine(int[] waypoints) throws IOException {
+    IntList path = new IntList();
+    path.add(waypoints[0]);
+
+    for (int i = 1; i < waypoints.length; i++) {
+      int from = waypoints[i - 1];
+      int to = waypoints[i];
+      int tile = cache.tileOf(from);
+      if (from == to) {
+        continue;
+      } else if (tile != cache.tileOf(to)) {
+        path.add(to);
+        continue;
+      }
+
+      // Search back from the waypoint we are heading to, then walk downhill
+      searchTile(tile, to);
+      byte[] cells = cache.getTile(tile);
+      int width = cache.tileWidth(tile);
+      int current = toLocal(tile, from);
+      while (tileDist[current] > 0) {
+        int x = current % width;
+        int step = -1;
+        if (x > 0 && tileDist[current - 1] == tileDist[current] - 1) {
+          step = current - 1;
+        } else if (x < width - 1 && tileDist[current + 1] == tileDist[current] - 1) {
+          step = current + 1;
+        } else if (current >= width && tileDist[current - width] == tileDist[current] - 1) {
+          step = current - width;
+        } else if (current + width < cells.length && tileDist[current + width] == tileDist[current] - 1) {
+          step = current + width;
+        }
+        current = step;
+        path.add(toGlobal(tile, current));
+      }
+    }
+
+    return path.toArray();
+  }
+
+  /**
+   * Builds the abstract graph one tile at a time. Entrances are found along
+   * the east and south border of every tile, and then every tile's nodes are
+   * joined up with searches inside the tile.
+   *
+   * @throws IOException if a tile can't be read
+   */
+  private void buildGraph() throws IOException {
+    int tileCount = cache.getTilesX() * cache.getTilesY();
+    HashMap<Integer, Integer> cellToNode = new HashMap<>();
+    IntList cellsOfNodes = new IntList();
+    IntList[] nodesOfTiles = new IntList[tileCount];
+    IntList edgeFrom = new IntList();
+    IntList edgeTo = new IntList();
+    IntList edgeCost = new IntList();
+
+    for (int tile = 0; tile < tileCount; tile++) {
+      int x = cache.tileX(tile);
+      int y = cache.tileY(tile);
+      int width = cache.tileWidth(tile);
+      int height = cache.tileHeight(tile);
+
+      // Entrances along the east border, between our last column and the
+      // next tile's first column
+      if (x + width < cols) {
+        int east = tile + 1;
+        int eastWidth = cache.tileWidth(east);
+        int runStart = -1;
+        for (int row = 0; row <= height; row++) {
+          boolean open = row < height && cache.getTile(tile)[row * width + width - 1] != MazeGrid.WALL
+              && cache.getTile(east)[row * eastWidth] != MazeGrid.WALL;
+          if (open && runStart < 0) {
+            runStart = row;
+          } else if (!open && runStart >= 0) {
+            for (int position : entrancePositions(runStart, row - 1)) {
+              int inside = (y + position) * cols + x + width - 1;
+              int a = nodeFor(inside, tile, cellToNode, cellsOfNodes, nodesOfTiles);
+              int b = nodeFor(inside + 1, east, cellToNode, cellsOfNodes, nodesOfTiles);
+              addEdge(edgeFrom, edgeTo, edgeCost, a, b, 1);
+            }
+            runStart = -1;
+          }
+        }
+      }
+
+      // Entrances along the south border, between our last row and the next
+      // tile's first row
+      if (y + height < cache.getSource().getRows()) {
+        int south = tile + cache.getTilesX();
+        int runStart = -1;
+        for (int col = 0; col <= width; col++) {
+          boolean open = col < width && cache.getTile(tile)[(height - 1) * width + col] != MazeGrid.WALL
+              && cache.getTile(south)[col] != MazeGrid.WALL;
+          if (open && runStart < 0) {
+            runStart = col;
+          } else if (!open && runStart >= 0) {
+            for (int position : entrancePositions(runStart, col - 1)) {
+              int inside = (y + height - 1) * cols + x + position;
+              int a = nodeFor(inside, tile, cellToNode, cellsOfNodes, nodesOfTiles);
+              int b = nodeFor(inside + cols, south, cellToNode, cellsOfNodes, nodesOfTiles);
+              addEdge(edgeFrom, edgeTo, edgeCost, a, b, 1);
+            }
+            runStart = -1;
+          }
+        }
+      }
+    }
+
+    nodeCells = cellsOfNodes.toArray();
+    tileNodes = new int[tileCount][];
+    for (int tile = 0; tile < tileCount; tile++) {
+      tileNodes[tile] = nodesOfTiles[tile] == null ? new int[0] : nodesOfTiles[tile].toArray();
+
+      // Join every pair of nodes in the tile that can reach each other
+      int[] nodes = tileNodes[tile];
+      for (int i = 0; i < nodes.length; i++) {
+        searchTile(tile, nodeCells[nodes[i]]);
+        for (int j = 0; j < nodes.length; j++) {
+          int distance = distanceInTile(tile, nodeCells[nodes[j]]);
+          if (i != j && distance >= 0) {
+            edgeFrom.add(nodes[i]);
+            edgeTo.add(nodes[j]);
+            edgeCost.add(distance);
+          }
+        }
+      }
+    }
+
+    // Pack the edges so each node's edges are next to each other
+    edgeOffsets = new int[nodeCells.length + 1];
+    for (int i = 0; i < edgeFrom.size(); i++) {
+      edgeOffsets[edgeFrom.get(i) + 1]++;
+    }
+    for (int node = 0; node < nodeCells.length; node++) {
+      edgeOffsets[node + 1] += edgeOffsets[node];
+    }
+    edgeTargets = new int[edgeFrom.size()];
+    edgeCosts = new int[edgeFrom.size()];
+    int[] filled = Arrays.copyOf(edgeOffsets, nodeCells.length);
+    for (int i = 0; i < edgeFrom.size(); i++) {
+      int position = filled[edgeFrom.get(i)]++;
+      edgeTargets[position] = edgeTo.get(i);
+      edgeCosts[position] = edgeCost.get(i);
+    }
+  }
+
+  /**
+   * Picks where along an open run of border cells to put entrances
+   *
+   * @param first the first open position along the border
+   * @param last  the last open position along the border
+   * @return the positions to put an entrance at
+   */
+  private static int[] entrancePositions(int first, int last) {
+    if (last - first + 1 >= WIDE_ENTRANCE) {
+      return new int[] { first, last };
+    }
+
+    return new int[] { (first + last) >>> 1 };
+  }
+
+  /**
+   * Looks up the node for a cell, making a new one if it doesn't have one yet
+   *
+   * @param cell         the cell index
+   * @param tile         the tile the cell is in
+   * @param cellToNode   the node already made for each cell
+   * @param cellsOfNodes the cell of each node made so far
+   * @param nodesOfTiles the nodes made so far in each tile
+   * @return the node number
+   */
+  private static int nodeFor(int cell, int tile, HashMap<Integer, Integer> cellToNode, IntList cellsOfNodes,
+      IntList[] nodesOfTiles) {
+    Integer node = cellToNode.get(cell);
+    if (node != null) {
+      return node;
+    }
+
+    int created = cellsOfNodes.size();
+    cellsOfNodes.add(cell);
+    cellToNode.put(cell, created);
+    if (nodesOfTiles[tile] == null) {
+      nodesOfTiles[tile] = new IntList(4);
+    }
+    nodesOfTiles[tile].add(created);
+
+    return created;
+  }
+
+  /**
+   * Adds an edge in both directions
+   *
+   * @param edgeFrom the node each edge starts at
+   * @param edgeTo   the node each edge ends at
+   * @param edgeCost the length of each edge
+   * @param a        one end of the edge
+   * @param b        the other end of the edge
+   * @param cost     the length of the edge
+   */
+  private static void addEdge(IntList edgeFrom, IntList edgeTo, IntList edgeCost, int a, int b, int cost) {
+    edgeFrom.add(a);
+    edgeTo.add(b);
+    edgeCost.add(cost);
+    edgeFrom.add(b);
+    edgeTo.add(a);
+    edgeCost.add(cost);
+  }
+
+  /**
+   * Breadth-first search that stays inside one tile. The distances are left in
+   * {@link #tileDist} by local index, with -1 for cells that weren't reached.
+   *
+   * @param tile the tile to search
+   * @param from the cell index to search from
+   * @throws IOException if the tile can't be read
+   */
+  private void searchTile(int tile, int from) throws IOException {
+    byte[] cells = cache.getTile(tile);
+    int width = cache.tileWidth(tile);
+    Arrays.fill(tileDist, 0, cells.length, -1);
+
+    int origin = toLocal(tile, from);
+    tileDist[origin] = 0;
+    queue.clear();
+    queue.add(origin);
+    while (!queue.isEmpty()) {
+      int current = queue.remove();
+      int next = tileDist[current] + 1;
+      int x = current % width;
+      if (x > 0) {
+        visit(cells, current - 1, next);
+      }
+      if (x < width - 1) {
+        visit(cells, current + 1, next);
+      }
+      if (current >= width) {
+        visit(cells, current - width, next);
+      }
+      if (current + width < cells.length) {
+        visit(cells, current + width, next);
+      }
+    }
+  }
+
+  /**
+   * Records the distance of a cell inside a tile if it is open and new
+   *
+   * @param cells    the cells of the tile
+   * @param local    the local index of the cell
+   * @param distance the distance to record
+   */
+  private void visit(byte[] cells, int local, int distance) {
+    if (cells[local] != MazeGrid.WALL && tileDist[local] < 0) {
+      tileDist[local] = distance;
+      queue.add(local);
+    }
+  }
+
+  /**
+   * Gets the distance the last tile search found to a cell
+   *
+   * @param tile the tile that was searched
+   * @param cell the cell index
+   * @return the distance, or -1 if it wasn't reached
+   */
+  private int distanceInTile(int tile, int cell) {
+    return tileDist[toLocal(tile, cell)];
+  }
+
+  /**
+   * Checks whether a cell can be walked through
+   *
+   * @param cell the cell index
+   * @return true if the cell isn't a wall
+   * @throws IOException if the cell's tile can't be read
+   */
+  private boolean isPassable(int cell) throws IOException {
+    int tile = cache.tileOf(cell);
+    return cache.getTile(tile)[toLocal(tile, cell)] != MazeGrid.WALL;
+  }
+
+  /**
+   * Turns a cell index into an index inside its tile
+   *
+   * @param tile the tile the cell is in
+   * @param cell the cell index
+   * @return the local index
+   */
+  private int toLocal(int tile, int cell) {
+    return (cell / cols - cache.tileY(tile)) * cache.tileWidth(tile) + cell % cols - cache.tileX(tile);
+  }
+
+  /**
+   * Turns an index inside a tile back into a cell index
+   *
+   * @param tile  the tile the cell is in
+   * @param local the local index
+   * @return the cell index
+   */
+  private int toGlobal(int tile, int local) {
+    int width = cache.tileWidth(tile);
+    return (cache.tileY(tile) + local / width) * cols + cache.tileX(tile) + local % width;
+  }
+
+  /**
+   * The Manhattan distance between two cells
+   *
+   * @param a the first cell index
+   * @param b the second cell index
+   * @return the number of moves needed if there were no walls
+   */
+  private int distance(int a, int b) {
+    return Math.abs(a % cols - b % cols) + Math.abs(a / cols - b / cols);
+  }
+}
@@ -0,0 +1,224 @@
+package com.awtpi314.project5;
+
+import java.util.Arrays;
+
+/**
+ * <h3>IndexedIntPriorityQueue</h3>
+ *
+ * A binary min-heap of cell indices that knows where every cell is in the
+ * heap. Unlike {@link IntPriorityQueue} a cell can only be in here once, and
+ * its priority can be changed or it can be taken out from anywhere in the
+ * heap. Incremental searches need this because they keep revisiting the same
+ * cells and can't afford to leave stale entries lying around.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class IndexedIntPriorityQueue {
+  /**
+   * The priority of each entry in heap order
+   */
+  private long[] priorities;
+  /**
+   * The value of each entry in heap order
+   */
+  private int[] values;
+  /**
+   * Where each value is in the heap, or -1 if it isn't in the heap
+   */
+  private final int[] positions;
+  /**
+   * Number of entries in the heap
+   */
+  private int size;
+
+  /**
+   * Constructs the queue for values from zero up to but not including the
+   * passed limit
+   *
+   * @param valueLimit one more than the largest value that will be added
+   */
+  public IndexedIntPriorityQueue(int valueLimit) {
+    priorities = new long[16];
+    values = new int[16];
+    positions = new int[valueLimit];
+    Arrays.fill(positions, -1);
+  }
+
+  /**
+   * Checks whether a value is in the heap
+   *
+   * @param value the value to look for
+   * @return true if the value is in the heap
+   */
+  public boolean contains(int value) {
+    return positions[value] >= 0;
+  }
+
+  /**
+   * Adds a value to the heap, or changes its priority if it is already there
+   *
+   * @param value    the value to add
+   * @param priority the priority of the value, smaller comes out first
+   */
+  public void update(int value, long priority) {
+    int position = positions[value];
+    if (position < 0) {
+      if (size == values.length) {
+        sizeUp();
+      }
+      position = size++;
+    } else if (priority > priorities[position]) {
+      siftDown(position, value, priority);
+      return;
+    }
+
+    siftUp(position, value, priority);
+  }
+
+  /**
+   * Takes a value out of the heap if it is in there
+   *
+   * @param value the value to take out
+   */
+  public void remove(int value) {
+    int position = positions[value];
+    if (position < 0) {
+      return;
+    }
+    positions[value] = -1;
+    size--;
+    if (position == size) {
+      return;
+    }
+
+    // Put the last entry into the hole and move it whichever way it needs to go
+    long lastPriority = priorities[size];
+    int lastValue = values[size];
+    if (position > 0 && lastPriority < priorities[(position - 1) >>> 1]) {
+      siftUp(position, lastValue, lastPriority);
+    } else {
+      siftDown(position, lastValue, lastPriority);
+    }
+  }
+
+  /**
+   * Getter for the smallest priority in the heap. The caller is expected to
+   * check {@link #isEmpty()} first.
+   *
+   * @return the priority of the entry that {@link #remove()} would return
+   */
+  public long peekPriority() {
+    return priorities[0];
+  }
+
+  /**
+   * Removes the value with the smallest priority
+   *
+   * @return the value with the smallest priority
+   */
+  public int remove() {
+    if (size == 0) {
+      throw new IllegalStateException("Cannot remove from an empty queue");
+    }
+
+    int value = values[0];
+    remove(value);
+    return value;
+  }
+
+  /**
+   * Getter for the number of entries in the heap
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Checks whether the heap has any entries in it
+   *
+   * @return true if the heap is empty
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Moves an entry up from a position until its parent is no bigger
+   *
+   * @param position the position to start from
+   * @param value    the value of the entry
+   * @param priority the priority of the entry
+   */
+  private void siftUp(int position, int value, long priority) {
+    while (position > 0) {
+      int parent = (position - 1) >>> 1;
+      if (priorities[parent] <= priority) {
+        break;
+      }
+      move(parent, position);
+      position = parent;
+    }
+    place(position, value, priority);
+  }
+
+  /**
+   * Moves an entry down from a position until both its children are no smaller
+   *
+   * @param position the position to start from
+   * @param value    the value of the entry
+   * @param priority the priority of the entry
+   */
+  private void siftDown(int position, int value, long priority) {
+    int half = size >>> 1;
+    while (position < half) {
+      int child = 2 * position + 1;
+      if (child + 1 < size && priorities[child + 1] < priorities[child]) {
+        child++;
+      }
+      if (priority <= priorities[child]) {
+        break;
+      }
+      move(child, position);
+      position = child;
+    }
+    place(position, value, priority);
+  }
+
+  /**
+   * Copies an entry from one position to another
+   *
+   * @param from the position to copy from
+   * @param to   the position to copy to
+   */
+  private void move(int from, int to) {
+    priorities[to] = priorities[from];
+    values[to] = values[from];
+    positions[values[to]] = to;
+  }
+
+  /**
+   * Writes an entry into a position
+   *
+   * @param position the position to write
+   * @param value    the value of the entry
+   * @param priority the priority of the entry
+   */
+  private void place(int position, int value, long priority) {
+    priorities[position] = priority;
+    values[position] = value;
+    positions[value] = position;
+  }
+
+  /**
+   * Doubles the size of both heap arrays
+   */
+  private void sizeUp() {
+    int newLength = values.length * 2;
+    priorities = Arrays.copyOf(priorities, newLength);
+    values = Arrays.copyOf(values, newLength);
+  }
+}
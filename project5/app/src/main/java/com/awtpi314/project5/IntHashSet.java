@@ -0,0 +1,158 @@
+package com.awtpi314.project5;
+
+import java.util.Arrays;
+
+/**
+ * <h3>IntHashSet</h3>
+ *
+ * A growable hash set of non-negative primitive integers using open addressing.
+ * The members are also kept in the order they were added, so the set can be
+ * walked through by position and cleared in time proportional to its size
+ * rather than its capacity.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class IntHashSet {
+  /**
+   * Marks an empty slot in the table
+   */
+  private static final int EMPTY = -1;
+
+  /**
+   * The hash table, with a power of two length
+   */
+  private int[] table;
+  /**
+   * The members in the order they were added
+   */
+  private final IntList members = new IntList();
+
+  /**
+   * Constructs the set with room for 16 members before it grows
+   */
+  public IntHashSet() {
+    table = new int[32];
+    Arrays.fill(table, EMPTY);
+  }
+
+  /**
+   * Adds a value to the set
+   *
+   * @param value the value to add, which must not be negative
+   * @return true if the value wasn't already in the set
+   */
+  public boolean add(int value) {
+    int mask = table.length - 1;
+    int slot = hash(value) & mask;
+    while (table[slot] != EMPTY) {
+      if (table[slot] == value) {
+        return false;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    table[slot] = value;
+    members.add(value);
+    // Keep the table at most half full so the probes stay short
+    if (members.size() * 2 > table.length) {
+      sizeUp();
+    }
+
+    return true;
+  }
+
+  /**
+   * Checks whether a value is in the set
+   *
+   * @param value the value to look for
+   * @return true if the value is in the set
+   */
+  public boolean contains(int value) {
+    int mask = table.length - 1;
+    int slot = hash(value) & mask;
+    while (table[slot] != EMPTY) {
+      if (table[slot] == value) {
+        return true;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    return false;
+  }
+
+  /**
+   * Getter for a member by the order it was added in
+   *
+   * @param index the position of the member
+   * @return the member
+   */
+  public int get(int index) {
+    return members.get(index);
+  }
+
+  /**
+   * Getter for the number of members
+   *
+   * @return the number of members
+   */
+  public int size() {
+    return members.size();
+  }
+
+  /**
+   * Checks whether the set has any members
+   *
+   * @return true if the set is empty
+   */
+  public boolean isEmpty() {
+    return members.isEmpty();
+  }
+
+  /**
+   * Takes every member out of the set, keeping the capacity for reuse
+   */
+  public void clear() {
+    int mask = table.length - 1;
+    for (int i = 0; i < members.size(); i++) {
+      // Each member is somewhere along the probe from its hash, so clear from
+      // there until we hit it
+      int slot = hash(members.get(i)) & mask;
+      while (table[slot] != members.get(i)) {
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = EMPTY;
+    }
+    members.clear();
+  }
+
+  /**
+   * Doubles the size of the table and puts every member back in
+   */
+  private void sizeUp() {
+    table = new int[table.length * 2];
+    Arrays.fill(table, EMPTY);
+    int mask = table.length - 1;
+
+    for (int i = 0; i < members.size(); i++) {
+      int slot = hash(members.get(i)) & mask;
+      while (table[slot] != EMPTY) {
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = members.get(i);
+    }
+  }
+
+  /**
+   * Spreads the bits of a value so that neighbouring cells don't land in
+   * neighbouring slots
+   *
+   * @param value the value to hash
+   * @return the hash
+   */
+  private static int hash(int value) {
+    int h = value * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+}
@@ -0,0 +1,118 @@
+package com.awtpi314.project5;
+
+import java.util.Arrays;
+
+/**
+ * <h3>IntList</h3>
+ *
+ * A growable list of primitive integers, for building up arrays when we don't
+ * know how big they will end up.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class IntList {
+  /**
+   * The elements, only the first size of which are used
+   */
+  private int[] elements;
+  /**
+   * Number of elements in the list
+   */
+  private int size;
+
+  /**
+   * Constructs the list with a default capacity of 16
+   */
+  public IntList() {
+    this(16);
+  }
+
+  /**
+   * Constructs the list with the passed capacity
+   *
+   * @param initialSize the capacity to start with
+   */
+  public IntList(int initialSize) {
+    if (initialSize <= 0) {
+      throw new IndexOutOfBoundsException("Cannot have a list with an initial size less than 1");
+    }
+
+    elements = new int[initialSize];
+  }
+
+  /**
+   * Adds a value to the end of the list, growing the array if needed
+   *
+   * @param value the value to add
+   */
+  public void add(int value) {
+    if (size == elements.length) {
+      elements = Arrays.copyOf(elements, elements.length * 2);
+    }
+    elements[size++] = value;
+  }
+
+  /**
+   * Getter for an element
+   *
+   * @param index the position of the element
+   * @return the element
+   */
+  public int get(int index) {
+    if (index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + " is past the end of the list");
+    }
+
+    return elements[index];
+  }
+
+  /**
+   * Setter for an element
+   *
+   * @param index the position of the element
+   * @param value the new value
+   */
+  public void set(int index, int value) {
+    if (index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + " is past the end of the list");
+    }
+
+    elements[index] = value;
+  }
+
+  /**
+   * Getter for the number of elements in the list
+   *
+   * @return the number of elements
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Checks whether the list has any elements
+   *
+   * @return true if the list is empty
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Empties the list while keeping the array for reuse
+   */
+  public void clear() {
+    size = 0;
+  }
+
+  /**
+   * Copies the elements into an array of exactly the right size
+   *
+   * @return the elements
+   */
+  public int[] toArray() {
+    return Arrays.copyOf(elements, size);
+  }
+}
@@ -0,0 +1,176 @@
+package com.awtpi314.project5;
+
+import java.util.Arrays;
+
+/**
+ * <h3>IntPriorityQueue</h3>
+ *
+ * A binary min-heap of primitive integer values ordered by a long priority.
+ * The informed searches keep cell indices in here so that the open list
+ * doesn't box anything. There is no decrease-key, so a search pushes a cell
+ * again when it finds a better distance and skips the old entry when it comes
+ * off the heap.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class IntPriorityQueue {
+  /**
+   * The priority of each entry in heap order
+   */
+  private long[] priorities;
+  /**
+   * The value of each entry in heap order
+   */
+  private int[] values;
+  /**
+   * Number of entries in the heap
+   */
+  private int size;
+  /**
+   * The most entries the heap has held since it was last cleared
+   */
+  private int peakSize;
+
+  /**
+   * Constructs the queue with a default capacity of 16
+   */
+  public IntPriorityQueue() {
+    this(16);
+  }
+
+  /**
+   * Constructs the queue with the passed capacity
+   *
+   * @param initialSize the capacity to start with
+   */
+  public IntPriorityQueue(int initialSize) {
+    if (initialSize <= 0) {
+      throw new IndexOutOfBoundsException("Cannot have a queue with an initial size less than 1");
+    }
+
+    priorities = new long[initialSize];
+    values = new int[initialSize];
+  }
+
+  /**
+   * Adds a value to the heap
+   *
+   * @param value    the value to add
+   * @param priority the priority of the value, smaller comes out first
+   */
+  public void add(int value, long priority) {
+    if (size == values.length) {
+      sizeUp();
+    }
+
+    // Sift the new entry up from the bottom of the heap
+    int child = size++;
+    if (size > peakSize) {
+      peakSize = size;
+    }
+    while (child > 0) {
+      int parent = (child - 1) >>> 1;
+      if (priorities[parent] <= priority) {
+        break;
+      }
+      priorities[child] = priorities[parent];
+      values[child] = values[parent];
+      child = parent;
+    }
+    priorities[child] = priority;
+    values[child] = value;
+  }
+
+  /**
+   * Getter for the smallest priority in the heap. The caller is expected to
+   * check {@link #isEmpty()} first.
+   *
+   * @return the priority of the entry that {@link #remove()} would return
+   */
+  public long peekPriority() {
+    return priorities[0];
+  }
+
+  /**
+   * Removes the value with the smallest priority
+   *
+   * @return the value with the smallest priority
+   */
+  public int remove() {
+    if (size == 0) {
+      throw new IllegalStateException("Cannot remove from an empty queue");
+    }
+
+    int value = values[0];
+    size--;
+    long lastPriority = priorities[size];
+    int lastValue = values[size];
+
+    // Sift the last entry down from the top of the heap
+    int parent = 0;
+    int half = size >>> 1;
+    while (parent < half) {
+      int child = 2 * parent + 1;
+      if (child + 1 < size && priorities[child + 1] < priorities[child]) {
+        child++;
+      }
+      if (lastPriority <= priorities[child]) {
+        break;
+      }
+      priorities[parent] = priorities[child];
+      values[parent] = values[child];
+      parent = child;
+    }
+    priorities[parent] = lastPriority;
+    values[parent] = lastValue;
+
+    return value;
+  }
+
+  /**
+   * Empties the heap while keeping the arrays for reuse
+   */
+  public void clear() {
+    size = 0;
+    peakSize = 0;
+  }
+
+  /**
+   * Getter for the number of entries in the heap
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Checks whether the heap has any entries in it
+   *
+   * @return true if the heap is empty
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Getter for the most entries the heap has held at once since it was last
+   * cleared
+   *
+   * @return the peak size
+   */
+  public int getPeakSize() {
+    return peakSize;
+  }
+
+  /**
+   * Doubles the size of both arrays
+   */
+  private void sizeUp() {
+    int newLength = Math.max(values.length * 2, 16);
+    priorities = Arrays.copyOf(priorities, newLength);
+    values = Arrays.copyOf(values, newLength);
+  }
+}
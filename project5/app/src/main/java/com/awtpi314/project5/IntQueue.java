@@ -0,0 +1,146 @@
+package com.awtpi314.project5;
+
+/**
+ * <h3>IntQueue</h3>
+ *
+ * A growable circular queue of primitive integers. The solver keeps cell
+ * indices in here instead of a {@link java.util.LinkedList} of
+ * {@link Location} objects so that nothing gets allocated per visited cell.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class IntQueue {
+  /**
+   * The circular buffer holding the elements
+   */
+  private int[] elements;
+  /**
+   * Position of the first element in the buffer
+   */
+  private int start;
+  /**
+   * Number of elements in the queue
+   */
+  private int size;
+  /**
+   * The most values the queue has held since it was last cleared
+   */
+  private int peakSize;
+
+  /**
+   * Constructs the queue with a default capacity of 16
+   */
+  public IntQueue() {
+    this(16);
+  }
+
+  /**
+   * Constructs the queue with the passed capacity
+   *
+   * @param initialSize the capacity to start with
+   */
+  public IntQueue(int initialSize) {
+    if (initialSize <= 0) {
+      throw new IndexOutOfBoundsException("Cannot have a queue with an initial size less than 1");
+    }
+
+    elements = new int[initialSize];
+  }
+
+  /**
+   * Adds a value to the end of the queue, growing the buffer if needed
+   *
+   * @param value the value to add
+   */
+  public void add(int value) {
+    if (size == elements.length) {
+      sizeUp();
+    }
+
+    int end = start + size;
+    // Wrap around without using the modulus operator
+    if (end >= elements.length) {
+      end -= elements.length;
+    }
+    elements[end] = value;
+    size++;
+    if (size > peakSize) {
+      peakSize = size;
+    }
+  }
+
+  /**
+   * Removes the value at the front of the queue. The caller is expected to check
+   * {@link #isEmpty()} first.
+   *
+   * @return the value at the front of the queue
+   */
+  public int remove() {
+    if (size == 0) {
+      throw new IllegalStateException("Cannot remove from an empty queue");
+    }
+
+    int value = elements[start];
+    start++;
+    if (start == elements.length) {
+      start = 0;
+    }
+    size--;
+
+    return value;
+  }
+
+  /**
+   * Empties the queue while keeping the buffer for reuse
+   */
+  public void clear() {
+    start = 0;
+    size = 0;
+    peakSize = 0;
+  }
+
+  /**
+   * Getter for the number of elements in the queue
+   *
+   * @return the number of elements
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Checks whether the queue has any elements in it
+   *
+   * @return true if the queue is empty
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Getter for the most values the queue has held at once since it was last
+   * cleared
+   *
+   * @return the peak size
+   */
+  public int getPeakSize() {
+    return peakSize;
+  }
+
+  /**
+   * Doubles the size of the buffer and unwraps the elements so they start at
+   * zero again
+   */
+  private void sizeUp() {
+    int[] newElements = new int[Math.max(elements.length * 2, 16)];
+    // Copy the part from start to the end of the buffer, then the wrapped part
+    int firstPart = Math.min(size, elements.length - start);
+    System.arraycopy(elements, start, newElements, 0, firstPart);
+    System.arraycopy(elements, 0, newElements, firstPart, size - firstPart);
+
+    elements = newElements;
+    start = 0;
+  }
+}
@@ -0,0 +1,261 @@
+package com.awtpi314.project5;
+
+import com.awtpi314.project5.interfaces.SearchStrategy;
+
+/**
+ * <h3>JumpPointStrategy</h3>
+ *
+ * Jump Point Search for a uniform 4-connected grid. Shortest paths on a grid
+ * usually come in lots of equally long versions, so we only ever follow one
+ * canonical version of each: vertical moves can turn either way, but a
+ * horizontal move only turns up or down when the cell diagonally behind it is
+ * a wall (a forced neighbour). With that rule a search can jump straight down
+ * a corridor without putting every cell on the open list, and only the cells
+ * where something interesting happens (jump points) get expanded.
+ *
+ * <p>
+ * The open list works the same way as {@link AStarStrategy}. Only jump points
+ * get a distance in the search state. Their parent direction points back down
+ * the straight line they were jumped along, and the full path is filled back
+ * in when it is built.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class JumpPointStrategy implements SearchStrategy {
+  /**
+   * This method performs Jump Point Search on the grid and returns the path as
+   * cell indices
+   *
+   * @param state  the search state for the grid being searched
+   * @param start  the cell index to start from
+   * @param target the cell index to find
+   * @return the cell indices from the start to the target, or null if there is
+   *         no path
+   */
+  @Override
+  public int[] findPath(SearchState state, int start, int target) {
+    MazeGrid grid = state.getGrid();
+    // The open list of jump points ordered by their estimated total distance
+    IntPriorityQueue openList = state.getOpenList();
+    long nodesExpanded = 0;
+
+    state.setDist(start, 0);
+    int startH = heuristic(grid, start, target);
+    openList.add(start, AStarStrategy.priority(startH, startH));
+
+    while (!openList.isEmpty()) {
+      long priority = openList.peekPriority();
+      int current = openList.remove();
+      int g = state.getDist(current);
+
+      // Skip entries that were pushed before a shorter way to the cell was found
+      if ((int) (priority >>> 32) != g + heuristic(grid, current, target)) {
+        continue;
+      }
+      if (state.shouldStop()) {
+        // The limits ran out, which the caller finds out from the state
+        break;
+      }
+      nodesExpanded++;
+
+      if (current == target) {
+        state.addNodesExpanded(nodesExpanded);
+        state.startReconstruction();
+        return buildPath(state, start, target);
+      }
+
+      if (current == start) {
+        // The start has no direction yet so every way out is natural
+        for (int direction = MazeGrid.NORTH; direction <= MazeGrid.WEST; direction++) {
+          addSuccessor(state, openList, target, current, g, direction);
+        }
+      } else {
+        int travel = MazeGrid.opposite(state.getParent(current));
+        if (isHorizontal(travel)) {
+          // Keep going the same way, and turn only towards forced neighbours
+          addSuccessor(state, openList, target, current, g, travel);
+          int behind = grid.step(current, MazeGrid.opposite(travel));
+          for (int vertical = MazeGrid.NORTH; vertical <= MazeGrid.SOUTH; vertical += 2) {
+            if (isForced(grid, current, behind, vertical)) {
+              addSuccessor(state, openList, target, current, g, vertical);
+            }
+          }
+        } else {
+          // Vertical moves can keep going or turn either way
+          addSuccessor(state, openList, target, current, g, travel);
+          addSuccessor(state, openList, target, current, g, MazeGrid.EAST);
+          addSuccessor(state, openList, target, current, g, MazeGrid.WEST);
+        }
+      }
+    }
+
+    // We emptied the open list without reaching the target
+    state.addNodesExpanded(nodesExpanded);
+    return null;
+  }
+
+  /**
+   * Jumps from a cell in a direction and puts the jump point it lands on onto
+   * the open list if that is a shorter way to reach it
+   *
+   * @param state     the search state for the grid being searched
+   * @param openList  the open list to add the jump point to
+   * @param target    the cell index we are looking for
+   * @param current   the cell being expanded
+   * @param g         the distance from the start to the current cell
+   * @param direction the direction to jump
+   */
+  private void addSuccessor(SearchState state, IntPriorityQueue openList, int target, int current, int g,
+      int direction) {
+    MazeGrid mazeDetails = state.getGrid();
+    int jumpPoint = isHorizontal(direction) ? jumpHorizontal(mazeDetails, target, current, direction)
+        : jumpVertical(mazeDetails, target, current, direction);
+    if (jumpPoint < 0) {
+      return;
+    }
+
+    // Jumps are straight lines so the distance is just how far we went
+    int distance = g + Math.abs(mazeDetails.getX(jumpPoint) - mazeDetails.getX(current))
+        + Math.abs(mazeDetails.getY(jumpPoint) - mazeDetails.getY(current));
+    int known = state.getDist(jumpPoint);
+    if (known == -1 || distance < known) {
+      state.setDist(jumpPoint, distance);
+      state.setParent(jumpPoint, MazeGrid.opposite(direction));
+      int h = heuristic(mazeDetails, jumpPoint, target);
+      openList.add(jumpPoint, AStarStrategy.priority(distance + h, h));
+    }
+  }
+
+  /**
+   * Moves horizontally until we hit a wall, the target, or a cell with a forced
+   * neighbour above or below it
+   *
+   * @param mazeDetails the maze being searched
+   * @param target      the cell index we are looking for
+   * @param from        the cell to jump from
+   * @param direction   either {@link MazeGrid#EAST} or {@link MazeGrid#WEST}
+   * @return the jump point, or -1 if we ran into a wall first
+   */
+  private static int jumpHorizontal(MazeGrid mazeDetails, int target, int from, int direction) {
+    int previous = from;
+    int current = mazeDetails.step(from, direction);
+
+    while (current >= 0 && mazeDetails.isPassable(current)) {
+      if (current == target || isForced(mazeDetails, current, previous, MazeGrid.NORTH)
+          || isForced(mazeDetails, current, previous, MazeGrid.SOUTH)) {
+        return current;
+      }
+      previous = current;
+      current = mazeDetails.step(current, direction);
+    }
+
+    return -1;
+  }
+
+  /**
+   * Moves vertically until we hit a wall, the target, or a cell where a
+   * horizontal jump would find a jump point
+   *
+   * @param mazeDetails the maze being searched
+   * @param target      the cell index we are looking for
+   * @param from        the cell to jump from
+   * @param direction   either {@link MazeGrid#NORTH} or {@link MazeGrid#SOUTH}
+   * @return the jump point, or -1 if we ran into a wall first
+   */
+  private static int jumpVertical(MazeGrid mazeDetails, int target, int from, int direction) {
+    int current = mazeDetails.step(from, direction);
+
+    while (current >= 0 && mazeDetails.isPassable(current)) {
+      if (current == target || jumpHorizontal(mazeDetails, target, current, MazeGrid.EAST) >= 0
+          || jumpHorizontal(mazeDetails, target, current, MazeGrid.WEST) >= 0) {
+        return current;
+      }
+      current = mazeDetails.step(current, direction);
+    }
+
+    return -1;
+  }
+
+  /**
+   * Checks whether a horizontal move into a cell has a forced neighbour in a
+   * vertical direction. It is forced when the neighbour is open but the cell
+   * next to the one we came from is not, because then the only short way to the
+   * neighbour is through this cell.
+   *
+   * @param mazeDetails the maze being searched
+   * @param current     the cell we moved into
+   * @param previous    the cell we moved from
+   * @param vertical    either {@link MazeGrid#NORTH} or {@link MazeGrid#SOUTH}
+   * @return true if the neighbour is forced
+   */
+  private static boolean isForced(MazeGrid mazeDetails, int current, int previous, int vertical) {
+    int neighbour = mazeDetails.step(current, vertical);
+    if (neighbour < 0 || !mazeDetails.isPassable(neighbour)) {
+      return false;
+    }
+
+    int diagonal = mazeDetails.step(previous, vertical);
+    return diagonal < 0 || !mazeDetails.isPassable(diagonal);
+  }
+
+  /**
+   * Fills in the cells between the jump points to get the full path. Each jump
+   * point's parent direction points back down a straight line, and we walk along
+   * it until we reach a jump point whose distance matches how far we walked.
+   *
+   * @param state  the search state for the grid being searched
+   * @param start  the cell index the search started from
+   * @param target the cell index that was found
+   * @return the cell indices from the start to the target
+   */
+  private static int[] buildPath(SearchState state, int start, int target) {
+    MazeGrid mazeDetails = state.getGrid();
+    int[] path = new int[state.getDist(target) + 1];
+    int current = target;
+    int i = path.length - 1;
+    path[i] = current;
+
+    while (current != start) {
+      int direction = state.getParent(current);
+      int jumpDist = state.getDist(current);
+      int steps = 0;
+
+      // Walk back along the straight line to the previous jump point
+      do {
+        current = mazeDetails.step(current, direction);
+        steps++;
+        path[--i] = current;
+      } while (state.getDist(current) == -1 || state.getDist(current) + steps != jumpDist);
+    }
+
+    // The cells between jump points don't have distances yet
+    state.markPath(path);
+    return path;
+  }
+
+  /**
+   * The Manhattan distance from a cell to the target
+   *
+   * @param mazeDetails the maze being searched
+   * @param index       the cell index
+   * @param target      the cell index we are looking for
+   * @return the number of moves needed if there were no walls
+   */
+  private static int heuristic(MazeGrid mazeDetails, int index, int target) {
+    return Math.abs(mazeDetails.getX(index) - mazeDetails.getX(target))
+        + Math.abs(mazeDetails.getY(index) - mazeDetails.getY(target));
+  }
+
+  /**
+   * Checks whether a direction moves along a row
+   *
+   * @param direction the direction code
+   * @return true for east and west
+   */
+  private static boolean isHorizontal(int direction) {
+    return (direction & 1) == 1;
+  }
+}
@@ -26,7 +26,9 @@ public class Location {
    */
   private SquareType type;
   /**
-   * Integer distance from the start in the least number of hops
+   * Integer distance from the start. This is the number of hops, or the total
+   * cost of the squares moved onto when the maze was solved with a weighted
+   * search.
    */
   private int distFromStart;
 
@@ -139,27 +141,44 @@ public class Location {
    * <h3>SquareType</h3>
    * 
    * The SquareType enum is used to determine what we should do with the squares
-   * in the array.
+   * in the array. Every square that isn't a wall has a cost for moving onto it.
+   * The terrain types after {@link #FOUND} cost more than one, and only a
+   * weighted search like {@link DialStrategy} pays attention to that.
    */
   public static enum SquareType {
-    WALL("X"),
-    OPEN("."),
-    START("S"),
-    FINISH("T"),
-    FOUND("F");
+    WALL("X", 0),
+    OPEN(".", 1),
+    START("S", 1),
+    FINISH("T", 1),
+    FOUND("F", 1),
+    STAIRS("=", 2),
+    MUD("~", 3),
+    DOOR("D", 5);
+
+    /**
+     * The highest cost of moving onto any square
+     */
+    public static final int MAX_COST = 5;
 
     /**
      * How the SquareType is displayed in user input
      */
     public final String display;
+    /**
+     * The cost of moving onto the square, zero for walls which can't be moved
+     * onto at all
+     */
+    public final int cost;
 
     /**
      * Private constructor for making an enum
      * 
      * @param display the value that is displayed
+     * @param cost    the cost of moving onto the square
      */
-    private SquareType(String display) {
+    private SquareType(String display, int cost) {
       this.display = display;
+      this.cost = cost;
     }
 
     /**
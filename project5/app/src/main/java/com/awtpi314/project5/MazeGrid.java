@@ -0,0 +1,519 @@
+package com.awtpi314.project5;
+
+import com.awtpi314.project5.interfaces.CellStore;
+
+/**
+ * <h3>MazeGrid</h3>
+ *
+ * A compact version of the maze that only uses primitive arrays. Every cell is
+ * addressed by a single index {@code y * cols + x}, and the cell types are kept
+ * in a {@link CellStore} using the ordinal of {@link Location.SquareType}.
+ *
+ * <p>
+ * Searching never changes the grid. Distances and parents live in a
+ * {@link SearchState}, so one grid can be loaded once and searched as many
+ * times as we like.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class MazeGrid {
+  /**
+   * Cell code for a wall, matches {@link Location.SquareType#WALL}
+   */
+  public static final byte WALL = (byte) Location.SquareType.WALL.ordinal();
+  /**
+   * Cell code for an open space, matches {@link Location.SquareType#OPEN}
+   */
+  public static final byte OPEN = (byte) Location.SquareType.OPEN.ordinal();
+  /**
+   * Cell code for the start, matches {@link Location.SquareType#START}
+   */
+  public static final byte START = (byte) Location.SquareType.START.ordinal();
+  /**
+   * Cell code for the finish, matches {@link Location.SquareType#FINISH}
+   */
+  public static final byte FINISH = (byte) Location.SquareType.FINISH.ordinal();
+  /**
+   * Cell code for a space that has been found, matches
+   * {@link Location.SquareType#FOUND}
+   */
+  public static final byte FOUND = (byte) Location.SquareType.FOUND.ordinal();
+
+  /**
+   * Direction code for moving up a row
+   */
+  public static final int NORTH = 0;
+  /**
+   * Direction code for moving right a column
+   */
+  public static final int EAST = 1;
+  /**
+   * Direction code for moving down a row
+   */
+  public static final int SOUTH = 2;
+  /**
+   * Direction code for moving left a column
+   */
+  public static final int WEST = 3;
+
+  /**
+   * Cached copy of the square types so looking one up doesn't clone the array
+   */
+  private static final Location.SquareType[] TYPES = Location.SquareType.values();
+  /**
+   * The cost of moving onto each cell code
+   */
+  private static final int[] COSTS = new int[TYPES.length];
+
+  static {
+    for (Location.SquareType type : TYPES) {
+      COSTS[type.ordinal()] = type.cost;
+    }
+  }
+
+  /**
+   * Number of rows in the maze
+   */
+  private final int rows;
+  /**
+   * Number of columns in the maze
+   */
+  private final int cols;
+  /**
+   * The type of every cell
+   */
+  private final CellStore cells;
+  /**
+   * The number of cells, rows times columns
+   */
+  private final int cellCount;
+  /**
+   * Index of the start cell, or -1 if we haven't found it yet
+   */
+  private int start = -1;
+  /**
+   * Index of the finish cell, or -1 if we haven't found it yet
+   */
+  private int finish = -1;
+  /**
+   * Index of every start cell in row order, or null if they haven't been
+   * looked for since the last change to a start
+   */
+  private int[] starts;
+  /**
+   * Index of every finish cell in row order, or null if they haven't been
+   * looked for since the last change to a finish
+   */
+  private int[] finishes;
+  /**
+   * The two halves of the hash of the cells, or null if the cells have changed
+   * since it was worked out. The array is never changed once it is set, and
+   * the field is volatile so a grid shared between threads can be hashed by
+   * any of them.
+   */
+  private volatile long[] contentHash;
+
+  /**
+   * Constructor that creates a maze of the given size. Every cell starts as a
+   * wall.
+   *
+   * @param rows the number of rows
+   * @param cols the number of columns
+   */
+  public MazeGrid(int rows, int cols) {
+    this(rows, cols, new ByteCellStore(checkedSize(rows, cols)), -1, -1);
+  }
+
+  /**
+   * Constructor that wraps cell codes that have already been decoded. The start
+   * and finish are passed in so nothing has to scan for them.
+   *
+   * @param rows   the number of rows
+   * @param cols   the number of columns
+   * @param cells  the cell codes, one per cell in row order
+   * @param start  the index of the start, or -1 if there isn't one
+   * @param finish the index of the finish, or -1 if there isn't one
+   */
+  public MazeGrid(int rows, int cols, byte[] cells, int start, int finish) {
+    this(rows, cols, new ByteCellStore(cells), start, finish);
+  }
+
+  /**
+   * Constructor that uses any cell store, such as a memory mapped file. The
+   * start and finish are passed in so nothing has to scan for them.
+   *
+   * @param rows   the number of rows
+   * @param cols   the number of columns
+   * @param cells  the store holding the cell codes in row order
+   * @param start  the index of the start, or -1 if there isn't one
+   * @param finish the index of the finish, or -1 if there isn't one
+   */
+  public MazeGrid(int rows, int cols, CellStore cells, int start, int finish) {
+    if (checkedSize(rows, cols) != cells.size()) {
+      throw new IllegalArgumentException("Invalid maze dimensions " + rows + "x" + cols);
+    }
+
+    this.rows = rows;
+    this.cols = cols;
+    this.cells = cells;
+    this.cellCount = cells.size();
+    this.start = start;
+    this.finish = finish;
+  }
+
+  /**
+   * Builds a grid from the old {@link Location} array representation. This is
+   * the adapter for code that still builds the maze out of objects.
+   *
+   * @param details the 2D location array
+   * @return the compact grid holding the same maze
+   */
+  public static MazeGrid fromLocations(Location[][] details) {
+    MazeGrid grid = new MazeGrid(details.length, details[0].length);
+
+    for (int y = 0; y < details.length; y++) {
+      for (int x = 0; x < details[y].length; x++) {
+        grid.setType(grid.index(x, y), (byte) details[y][x].getType().ordinal());
+      }
+    }
+
+    return grid;
+  }
+
+  /**
+   * Getter for the number of rows
+   *
+   * @return the number of rows in the maze
+   */
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Getter for the number of columns
+   *
+   * @return the number of columns in the maze
+   */
+  public int getCols() {
+    return cols;
+  }
+
+  /**
+   * Getter for the total number of cells
+   *
+   * @return rows times columns
+   */
+  public int getCellCount() {
+    return cellCount;
+  }
+
+  /**
+   * Getter for the store holding the cell codes
+   *
+   * @return the cell store
+   */
+  public CellStore getCells() {
+    return cells;
+  }
+
+  /**
+   * Converts an x-y position into a cell index
+   *
+   * @param x the x position from the top left
+   * @param y the y position from the top left
+   * @return the cell index
+   */
+  public int index(int x, int y) {
+    return y * cols + x;
+  }
+
+  /**
+   * Gets the x position of a cell index
+   *
+   * @param index the cell index
+   * @return the x position from the top left
+   */
+  public int getX(int index) {
+    return index % cols;
+  }
+
+  /**
+   * Gets the y position of a cell index
+   *
+   * @param index the cell index
+   * @return the y position from the top left
+   */
+  public int getY(int index) {
+    return index / cols;
+  }
+
+  /**
+   * Getter for the type of a cell
+   *
+   * @param index the cell index
+   * @return the cell code, one of the constants in this class
+   */
+  public byte getType(int index) {
+    return cells.get(index);
+  }
+
+  /**
+   * Setter for the type of a cell. Keeps track of where the start and finish
+   * are so we don't have to search for them later.
+   *
+   * @param index the cell index
+   * @param type  the new cell code
+   */
+  public void setType(int index, byte type) {
+    byte old = cells.get(index);
+    cells.set(index, type);
+    // The maze is different now so it has to be hashed again
+    contentHash = null;
+
+    // Any change to a start or finish means they have to be looked for again
+    if (type == START || old == START) {
+      starts = null;
+    }
+    if (type == FINISH || old == FINISH) {
+      finishes = null;
+    }
+
+    if (type == START) {
+      start = index;
+    } else if (type == FINISH) {
+      finish = index;
+    }
+  }
+
+  /**
+   * Checks whether a cell can be walked through
+   *
+   * @param index the cell index
+   * @return true if the cell is anything other than a wall
+   */
+  public boolean isPassable(int index) {
+    return cells.get(index) != WALL;
+  }
+
+  /**
+   * Getter for the start index. Falls back to a scan if the start wasn't set
+   * through {@link #setType(int, byte)}.
+   *
+   * @return the index of the start, or -1 if there isn't one
+   */
+  public int getStart() {
+    if (start < 0) {
+      start = scanFor(START);
+    }
+
+    return start;
+  }
+
+  /**
+   * Getter for the finish index. Falls back to a scan if the finish wasn't set
+   * through {@link #setType(int, byte)}.
+   *
+   * @return the index of the finish, or -1 if there isn't one
+   */
+  public int getFinish() {
+    if (finish < 0) {
+      finish = scanFor(FINISH);
+    }
+
+    return finish;
+  }
+
+  /**
+   * Getter for every start in the maze. A maze can have any number of S cells,
+   * and {@link #getStart()} only gives one of them.
+   *
+   * @return the index of every start in row order, which must not be changed
+   */
+  public int[] getStarts() {
+    if (starts == null) {
+      starts = scanForAll(START);
+    }
+
+    return starts;
+  }
+
+  /**
+   * Getter for every finish in the maze. A maze can have any number of T
+   * cells, and {@link #getFinish()} only gives one of them.
+   *
+   * @return the index of every finish in row order, which must not be changed
+   */
+  public int[] getFinishes() {
+    if (finishes == null) {
+      finishes = scanForAll(FINISH);
+    }
+
+    return finishes;
+  }
+
+  /**
+   * Setter for every start and finish, for loaders that already know where
+   * they are so nothing has to scan for them
+   *
+   * @param starts   the index of every start in row order
+   * @param finishes the index of every finish in row order
+   */
+  void setStartsAndFinishes(int[] starts, int[] finishes) {
+    this.starts = starts;
+    this.finishes = finishes;
+  }
+
+  /**
+   * Getter for a hash of every cell in the maze, so two mazes with the same
+   * cells can be matched up without comparing them. Mazes read by
+   * {@link MazeLoader} are hashed while they are read, anything else is hashed
+   * the first time this is called.
+   *
+   * @return the {@link ContentHash} of the cells, low half first. The array
+   *         is shared and must not be changed.
+   */
+  public long[] getContentHash() {
+    long[] hash = contentHash;
+    if (hash == null) {
+      hash = ContentHash.of(this);
+      contentHash = hash;
+    }
+
+    return hash;
+  }
+
+  /**
+   * Setter for the content hash, for loaders that worked it out while reading
+   * the cells
+   *
+   * @param contentHash the {@link ContentHash} of the cells, which the grid
+   *                    keeps
+   */
+  void setContentHash(long[] contentHash) {
+    this.contentHash = contentHash;
+  }
+
+  /**
+   * Finds the cell next to the passed one in a direction
+   *
+   * @param index     the cell index
+   * @param direction the direction to move
+   * @return the index of the neighbour, or -1 if it would be off the maze
+   */
+  public int step(int index, int direction) {
+    switch (direction) {
+      case NORTH:
+        return index >= cols ? index - cols : -1;
+      case EAST:
+        return (index % cols) < cols - 1 ? index + 1 : -1;
+      case SOUTH:
+        return index < cellCount - cols ? index + cols : -1;
+      default:
+        return (index % cols) > 0 ? index - 1 : -1;
+    }
+  }
+
+  /**
+   * Gets the direction that points the opposite way
+   *
+   * @param direction the direction code
+   * @return the reversed direction code
+   */
+  public static int opposite(int direction) {
+    return direction ^ 2;
+  }
+
+  /**
+   * Works out which direction leads from one cell to a neighbouring cell. Rows
+   * are checked first, since in a maze one column wide a step down is also
+   * one index up.
+   *
+   * @param from the cell to move from
+   * @param to   the neighbouring cell to move to
+   * @return the direction code of the move
+   */
+  public int directionBetween(int from, int to) {
+    int difference = to - from;
+    if (difference == cols) {
+      return SOUTH;
+    } else if (difference == -cols) {
+      return NORTH;
+    } else if (difference == 1) {
+      return EAST;
+    }
+
+    return WEST;
+  }
+
+  /**
+   * Gets the cost of moving onto a cell. This is one for plain open cells, more
+   * for the weighted terrain types, and zero for walls.
+   *
+   * @param index the cell index
+   * @return the cost of moving onto the cell
+   */
+  public int getCost(int index) {
+    return COSTS[cells.get(index)];
+  }
+
+  /**
+   * Gets the square type of a cell
+   *
+   * @param index the cell index
+   * @return the square type
+   */
+  public Location.SquareType getSquareType(int index) {
+    return TYPES[cells.get(index)];
+  }
+
+  /**
+   * Scans the whole grid for the first cell of a type
+   *
+   * @param type the cell code to look for
+   * @return the index of the first match, or -1 if there isn't one
+   */
+  private int scanFor(byte type) {
+    for (int i = 0; i < cellCount; i++) {
+      if (cells.get(i) == type) {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Scans the whole grid for every cell of a type
+   *
+   * @param type the cell code to look for
+   * @return the index of every match in row order
+   */
+  private int[] scanForAll(byte type) {
+    IntList matches = new IntList();
+    for (int i = 0; i < cellCount; i++) {
+      if (cells.get(i) == type) {
+        matches.add(i);
+      }
+    }
+
+    return matches.toArray();
+  }
+
+  /**
+   * Checks that a maze of the given size can be addressed with an int index
+   *
+   * @param rows the number of rows
+   * @param cols the number of columns
+   * @return the number of cells
+   */
+  private static int checkedSize(int rows, int cols) {
+    if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Invalid maze dimensions " + rows + "x" + cols);
+    }
+
+    return rows * cols;
+  }
+}
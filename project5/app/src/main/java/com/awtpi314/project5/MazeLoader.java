@@ -0,0 +1,339 @@
+package com.awtpi314.project5;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import com.awtpi314.project5.events.ParseEvent;
+import com.awtpi314.project5.exceptions.InvalidMazeException;
+
+/**
+ * <h3>MazeLoader</h3>
+ *
+ * Reads mazes in the text format described in {@link MazeSolver} straight into
+ * a {@link MazeGrid}. Input is read through a large buffer, or memory mapped in
+ * windows when it comes from a file, and every byte is decoded with a lookup
+ * table instead of making a string and searching the
+ * {@link Location.SquareType} values. The start and finish are remembered as
+ * they go by so nothing has to scan for them later.
+ *
+ * <p>
+ * Whitespace between cells is ignored, so the rows can be split over lines
+ * however the input likes as long as there are rows times columns cells. The
+ * loader stops right after the last cell, so {@link #next()} can be called
+ * again to read another maze from the same input.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class MazeLoader implements Closeable {
+  /**
+   * Size of the buffer used when reading from a stream
+   */
+  public static final int BUFFER_SIZE = 1 << 20;
+  /**
+   * How much of a file is mapped at once
+   */
+  private static final long MAP_WINDOW = 1L << 28;
+  /**
+   * Decode table entry for bytes that are skipped
+   */
+  private static final byte SKIP = -1;
+  /**
+   * Decode table entry for bytes that can't be in a maze
+   */
+  private static final byte INVALID = -2;
+  /**
+   * Lookup table from an input byte to the cell code it stands for
+   */
+  private static final byte[] DECODE = new byte[256];
+
+  static {
+    Arrays.fill(DECODE, INVALID);
+    DECODE[' '] = SKIP;
+    DECODE['\t'] = SKIP;
+    DECODE['\r'] = SKIP;
+    DECODE['\n'] = SKIP;
+    // Use the display values so this stays in step with the enum
+    for (Location.SquareType type : Location.SquareType.values()) {
+      DECODE[type.display.charAt(0)] = (byte) type.ordinal();
+    }
+  }
+
+  /**
+   * The stream being read, or null when reading a mapped file
+   */
+  private final InputStream in;
+  /**
+   * The file being mapped, or null when reading a stream
+   */
+  private final FileChannel channel;
+  /**
+   * The array behind the buffer when reading a stream
+   */
+  private final byte[] array;
+  /**
+   * The bytes that are ready to be decoded
+   */
+  private ByteBuffer buffer;
+  /**
+   * Position in the file where the next window starts
+   */
+  private long mapPosition;
+
+  /**
+   * Constructor that reads from a stream with the default buffer size
+   *
+   * @param in the stream to read from
+   */
+  public MazeLoader(InputStream in) {
+    this(in, BUFFER_SIZE);
+  }
+
+  /**
+   * Constructor that reads from a stream with the buffer size passed
+   *
+   * @param in         the stream to read from
+   * @param bufferSize the number of bytes read at a time
+   */
+  public MazeLoader(InputStream in, int bufferSize) {
+    this.in = in;
+    this.channel = null;
+    this.array = new byte[bufferSize];
+    this.buffer = ByteBuffer.wrap(array, 0, 0);
+  }
+
+  /**
+   * Constructor that maps a file
+   *
+   * @param channel the open file to map
+   */
+  private MazeLoader(FileChannel channel) {
+    this.in = null;
+    this.channel = channel;
+    this.array = null;
+    this.buffer = ByteBuffer.allocate(0);
+  }
+
+  /**
+   * Opens a file so it can be read through memory mapped windows
+   *
+   * @param file the path of the file
+   * @return a loader reading the file
+   * @throws IOException if the file can't be opened
+   */
+  public static MazeLoader open(Path file) throws IOException {
+    return new MazeLoader(FileChannel.open(file, StandardOpenOption.READ));
+  }
+
+  /**
+   * Reads a single maze from a stream
+   *
+   * @param in the stream to read from
+   * @return the maze
+   * @throws IOException          if the stream can't be read
+   * @throws InvalidMazeException if there is no maze or it isn't in the right
+   *                              format
+   */
+  public static MazeGrid load(InputStream in) throws IOException, InvalidMazeException {
+    MazeGrid grid = new MazeLoader(in).next();
+    if (grid == null) {
+      throw new InvalidMazeException("No maze in the input");
+    }
+
+    return grid;
+  }
+
+  /**
+   * Reads a single maze from a file
+   *
+   * @param file the path of the file
+   * @return the maze
+   * @throws IOException          if the file can't be read
+   * @throws InvalidMazeException if there is no maze or it isn't in the right
+   *                              format
+   */
+  public static MazeGrid load(Path file) throws IOException, InvalidMazeException {
+    try (MazeLoader loader = open(file)) {
+      MazeGrid grid = loader.next();
+      if (grid == null) {
+        throw new InvalidMazeException("No maze in " + file);
+      }
+
+      return grid;
+    }
+  }
+
+  /**
+   * Reads the next maze from the input
+   *
+   * @return the maze, or null if the input has run out
+   * @throws IOException          if the input can't be read
+   * @throws InvalidMazeException if the maze isn't in the right format
+   */
+  public MazeGrid next() throws IOException, InvalidMazeException {
+    if (!SolverMetrics.enabled()) {
+      return read();
+    }
+
+    // Time the parse so slow input can be told apart from slow searches
+    ParseEvent event = new ParseEvent();
+    event.begin();
+    long begin = System.nanoTime();
+    MazeGrid grid = read();
+    SolverMetrics.getInstance().recordParse(System.nanoTime() - begin);
+    if (grid != null && event.shouldCommit()) {
+      event.rows = grid.getRows();
+      event.cols = grid.getCols();
+      event.commit();
+    }
+
+    return grid;
+  }
+
+  /**
+   * Parses the next maze from the input
+   *
+   * @return the maze, or null if the input has run out
+   * @throws IOException          if the input can't be read
+   * @throws InvalidMazeException if the maze isn't in the right format
+   */
+  private MazeGrid read() throws IOException, InvalidMazeException {
+    int rows = readInt();
+    if (rows < 0) {
+      return null;
+    }
+    int cols = readInt();
+    if (rows == 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE) {
+      throw new InvalidMazeException("Invalid maze dimensions " + rows + "x" + cols);
+    }
+
+    byte[] cells = new byte[rows * cols];
+    int start = -1;
+    int finish = -1;
+    // Every S and T, since a maze can have more than one of each
+    IntList starts = new IntList(4);
+    IntList finishes = new IntList(4);
+    int filled = 0;
+    // The cells are hashed a buffer at a time while they are still in the cache
+    ContentHash hash = new ContentHash();
+
+    while (filled < cells.length) {
+      if (!buffer.hasRemaining() && !refill()) {
+        throw new InvalidMazeException("Expected " + cells.length + " cells but found " + filled);
+      }
+
+      // Decode as much of the buffer as we can in one go
+      int decoded = filled;
+      int position = buffer.position();
+      int limit = buffer.limit();
+      while (position < limit && filled < cells.length) {
+        byte code = DECODE[buffer.get(position++) & 0xFF];
+        if (code >= 0) {
+          // Keep the first start and finish, like a scan from the top would
+          if (code == MazeGrid.START) {
+            start = start < 0 ? filled : start;
+            starts.add(filled);
+          } else if (code == MazeGrid.FINISH) {
+            finish = finish < 0 ? filled : finish;
+            finishes.add(filled);
+          }
+          cells[filled++] = code;
+        } else if (code == INVALID) {
+          throw new InvalidMazeException("Unexpected character '" + (char) (buffer.get(position - 1) & 0xFF)
+              + "' at cell " + filled);
+        }
+      }
+      buffer.position(position);
+      hash.update(cells, decoded, filled);
+    }
+
+    MazeGrid grid = new MazeGrid(rows, cols, cells, start, finish);
+    grid.setStartsAndFinishes(starts.toArray(), finishes.toArray());
+    grid.setContentHash(hash.getValue());
+    return grid;
+  }
+
+  /**
+   * Closes the stream or file being read
+   *
+   * @throws IOException if it can't be closed
+   */
+  @Override
+  public void close() throws IOException {
+    if (channel != null) {
+      channel.close();
+    } else {
+      in.close();
+    }
+  }
+
+  /**
+   * Reads a positive integer, skipping any whitespace in front of it
+   *
+   * @return the integer, or -1 if the input ran out before there was one
+   * @throws IOException          if the input can't be read
+   * @throws InvalidMazeException if something other than a digit is found
+   */
+  private int readInt() throws IOException, InvalidMazeException {
+    long value = 0;
+    boolean digits = false;
+
+    while (buffer.hasRemaining() || refill()) {
+      byte b = buffer.get(buffer.position());
+      if (b >= '0' && b <= '9') {
+        value = value * 10 + (b - '0');
+        if (value > Integer.MAX_VALUE) {
+          throw new InvalidMazeException("Maze dimension is too large");
+        }
+        digits = true;
+      } else if (DECODE[b & 0xFF] == SKIP) {
+        // Whitespace either comes before the number or ends it
+        if (digits) {
+          return (int) value;
+        }
+      } else {
+        throw new InvalidMazeException("Expected a maze dimension but found '" + (char) (b & 0xFF) + "'");
+      }
+      buffer.position(buffer.position() + 1);
+    }
+
+    return digits ? (int) value : -1;
+  }
+
+  /**
+   * Gets more bytes into the buffer, either by reading the stream or mapping
+   * the next window of the file
+   *
+   * @return true if there are more bytes, false at the end of the input
+   * @throws IOException if the input can't be read
+   */
+  private boolean refill() throws IOException {
+    if (channel != null) {
+      long size = channel.size();
+      if (mapPosition >= size) {
+        return false;
+      }
+
+      long length = Math.min(MAP_WINDOW, size - mapPosition);
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, mapPosition, length);
+      mapPosition += length;
+      return true;
+    }
+
+    int read = in.read(array, 0, array.length);
+    if (read <= 0) {
+      return false;
+    }
+    buffer.limit(read);
+    buffer.position(0);
+    return true;
+  }
+}
@@ -0,0 +1,252 @@
+package com.awtpi314.project5;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.awtpi314.project5.interfaces.SearchStrategy;
+
+/**
+ * <h3>MazeQueryService</h3>
+ *
+ * Answers path queries against one maze from many threads at once. The grid is
+ * shared and only ever read, and every query borrows a {@link MazeSolver} from
+ * a pool so it has its own {@link SearchState} to write into. A solver goes
+ * back in the pool when its query is done, so the search arrays are only
+ * allocated once for each query that runs at the same time, not once per
+ * query.
+ *
+ * <p>
+ * Queries can be run on the calling thread with
+ * {@link #findPath(Coordinate, Coordinate)}, or handed to the service's
+ * executor with {@link #submit(Coordinate, Coordinate)}. Any executor can be
+ * passed in, including one that starts a virtual thread per task, because the
+ * solvers are pooled by the service and not by the thread.
+ * </p>
+ *
+ * <p>
+ * The service labels the connected components of the grid when it is made, so
+ * queries that have no path are answered without searching.
+ * </p>
+ *
+ * <p>
+ * The grid must not be changed while the service is using it.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class MazeQueryService implements AutoCloseable {
+  /**
+   * The maze every query is run against
+   */
+  private final MazeGrid grid;
+  /**
+   * The strategy every query uses. Strategies keep their state in the solver so
+   * this one is shared.
+   */
+  private final SearchStrategy strategy;
+  /**
+   * The connected components of the maze, shared by every solver
+   */
+  private final ComponentIndex components;
+  /**
+   * The executor that submitted queries run on
+   */
+  private final ExecutorService executor;
+  /**
+   * True if the executor was made by this service and should be shut down with
+   * it
+   */
+  private final boolean ownsExecutor;
+  /**
+   * Solvers that aren't being used by a query right now
+   */
+  private final ConcurrentLinkedQueue<MazeSolver> idleSolvers = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Constructor that uses breadth-first search and a thread for every core
+   *
+   * @param grid the maze to answer queries about
+   */
+  public MazeQueryService(MazeGrid grid) {
+    this(grid, new BreadthFirstStrategy(),
+        Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()), true);
+  }
+
+  /**
+   * Constructor that takes the strategy and the executor to run queries on. The
+   * executor is not shut down when the service is closed.
+   *
+   * @param grid     the maze to answer queries about
+   * @param strategy the strategy every query uses
+   * @param executor the executor submitted queries run on
+   */
+  public MazeQueryService(MazeGrid grid, SearchStrategy strategy, ExecutorService executor) {
+    this(grid, strategy, executor, false);
+  }
+
+  /**
+   * All parameter constructor
+   *
+   * @param grid         the maze to answer queries about
+   * @param strategy     the strategy every query uses
+   * @param executor     the executor submitted queries run on
+   * @param ownsExecutor true if closing the service should shut the executor
+   *                     down
+   */
+  private MazeQueryService(MazeGrid grid, SearchStrategy strategy, ExecutorService executor,
+      boolean ownsExecutor) {
+    this.grid = grid;
+    this.strategy = strategy;
+    this.components = new ComponentIndex(grid);
+    this.executor = executor;
+    this.ownsExecutor = ownsExecutor;
+  }
+
+  /**
+   * Getter for the maze the queries are run against
+   *
+   * @return the shared grid
+   */
+  public MazeGrid getGrid() {
+    return grid;
+  }
+
+  /**
+   * Getter for the connected components of the maze
+   *
+   * @return the component index every query is checked against
+   */
+  public ComponentIndex getComponentIndex() {
+    return components;
+  }
+
+  /**
+   * Finds the shortest path between two positions on the calling thread
+   *
+   * @param start  the position to start from
+   * @param target the position to find
+   * @return the cell indices from the start to the target, or null if there is
+   *         no path
+   */
+  public int[] findPath(Coordinate start, Coordinate target) {
+    MazeSolver solver = borrow();
+    try {
+      return solver.findPath(start, target);
+    } finally {
+      idleSolvers.offer(solver);
+    }
+  }
+
+  /**
+   * Finds the shortest path between two cells on the calling thread
+   *
+   * @param start  the cell index to start from
+   * @param target the cell index to find
+   * @return the cell indices from the start to the target, or null if there is
+   *         no path
+   */
+  public int[] findPath(int start, int target) {
+    MazeSolver solver = borrow();
+    try {
+      return solver.findPath(start, target);
+    } finally {
+      idleSolvers.offer(solver);
+    }
+  }
+
+  /**
+   * Finds the shortest path between two cells on the calling thread, giving up
+   * once any of the limits runs out
+   *
+   * @param start  the cell index to start from
+   * @param target the cell index to find
+   * @param limits the deadline, budget and cancellation token for the query
+   * @return whether a path was found, and the path if it was
+   */
+  public SolveResult solveWithin(int start, int target, SolveLimits limits) {
+    MazeSolver solver = borrow();
+    try {
+      return solver.solveWithin(start, target, limits);
+    } finally {
+      idleSolvers.offer(solver);
+    }
+  }
+
+  /**
+   * Runs a query on the executor
+   *
+   * @param start  the position to start from
+   * @param target the position to find
+   * @return a future for the cell indices from the start to the target, which
+   *         completes with null if there is no path
+   */
+  public CompletableFuture<int[]> submit(Coordinate start, Coordinate target) {
+    return CompletableFuture.supplyAsync(() -> findPath(start, target), executor);
+  }
+
+  /**
+   * Runs a batch of queries on the executor and waits for all of them
+   *
+   * @param starts  the position each query starts from
+   * @param targets the position each query is looking for
+   * @return the path for each query in the same order, with null for queries
+   *         that have no path
+   */
+  public int[][] findPaths(Coordinate[] starts, Coordinate[] targets) {
+    if (starts.length != targets.length) {
+      throw new IllegalArgumentException("Every start needs a target");
+    }
+
+    List<CompletableFuture<int[]>> futures = new ArrayList<>(starts.length);
+    for (int i = 0; i < starts.length; i++) {
+      futures.add(submit(starts[i], targets[i]));
+    }
+
+    int[][] paths = new int[starts.length][];
+    for (int i = 0; i < paths.length; i++) {
+      paths[i] = futures.get(i).join();
+    }
+
+    return paths;
+  }
+
+  /**
+   * Shuts the executor down if this service made it, waiting for the queries
+   * that are still running
+   */
+  @Override
+  public void close() {
+    if (ownsExecutor) {
+      executor.shutdown();
+      try {
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+      } catch (InterruptedException e) {
+        // Leave the queries to finish on their own and let the caller know
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Takes an idle solver out of the pool, or makes a new one if they are all
+   * busy
+   *
+   * @return a solver that only the caller is using
+   */
+  private MazeSolver borrow() {
+    MazeSolver solver = idleSolvers.poll();
+    if (solver == null) {
+      solver = new MazeSolver(grid, strategy);
+      solver.setComponentIndex(components);
+    }
+
+    return solver;
+  }
+}
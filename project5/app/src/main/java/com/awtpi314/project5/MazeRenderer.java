@@ -0,0 +1,226 @@
+package com.awtpi314.project5;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * <h3>MazeRenderer</h3>
+ *
+ * Draws a maze as text, a whole row at a time. Each cell is turned into its
+ * character with a lookup table, straight into a byte buffer that is handed
+ * to a channel once it is full, so a maze with millions of cells is drawn
+ * with a few hundred writes.
+ *
+ * <p>
+ * Given the {@link SearchState} of a search, open cells the search reached
+ * are drawn as found, the same as {@link MazeSolver#printMaze()} has always
+ * drawn them. Given a path, the cells along it are drawn as {@link #PATH},
+ * apart from the start and finish which keep their letters.
+ * </p>
+ *
+ * <p>
+ * A viewport of the maze can be drawn on its own. Only the cells inside it
+ * are read, and the path is kept sorted so finding the part of it in each
+ * row doesn't mean going over all of it, which makes it cheap to look at a
+ * small window of a maze far too big to print.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class MazeRenderer {
+  /**
+   * The character drawn for cells along the path
+   */
+  public static final byte PATH = '*';
+  /**
+   * Size of the buffer used when none is given
+   */
+  public static final int BUFFER_SIZE = 1 << 16;
+  /**
+   * The character for each cell code
+   */
+  private static final byte[] DISPLAY = new byte[Location.SquareType.values().length];
+
+  static {
+    // Use the display values so this stays in step with the enum
+    for (Location.SquareType type : Location.SquareType.values()) {
+      DISPLAY[type.ordinal()] = (byte) type.display.charAt(0);
+    }
+  }
+
+  /**
+   * The maze being drawn
+   */
+  private final MazeGrid grid;
+  /**
+   * The buffer rows are drawn into
+   */
+  private final byte[] buffer;
+  /**
+   * The state of the search whose found cells are drawn, or null
+   */
+  private SearchState state;
+  /**
+   * The cell indices of the path in order of index, or null
+   */
+  private int[] path;
+
+  /**
+   * Constructor that uses the default buffer size
+   *
+   * @param grid the maze to draw
+   */
+  public MazeRenderer(MazeGrid grid) {
+    this(grid, BUFFER_SIZE);
+  }
+
+  /**
+   * Constructor that takes the size of the buffer
+   *
+   * @param grid       the maze to draw
+   * @param bufferSize the number of bytes drawn before writing to the channel
+   */
+  public MazeRenderer(MazeGrid grid, int bufferSize) {
+    if (bufferSize < 1) {
+      throw new IllegalArgumentException("The buffer has to hold at least one cell");
+    }
+    this.grid = grid;
+    this.buffer = new byte[bufferSize];
+  }
+
+  /**
+   * Setter for the search whose found cells are drawn
+   *
+   * @param state the state of a search of this maze, or null to draw the maze
+   *              as it is
+   */
+  public void setState(SearchState state) {
+    this.state = state;
+  }
+
+  /**
+   * Setter for the path drawn over the maze
+   *
+   * @param path the cell indices of the path, or null to draw no path. The
+   *             renderer keeps its own sorted copy.
+   */
+  public void setPath(int[] path) {
+    if (path == null) {
+      this.path = null;
+      return;
+    }
+
+    this.path = path.clone();
+    Arrays.sort(this.path);
+  }
+
+  /**
+   * Draws the whole maze, one line per row
+   *
+   * @param out the channel to write to
+   * @throws IOException if the channel can't be written
+   */
+  public void render(WritableByteChannel out) throws IOException {
+    render(out, 0, 0, grid.getRows(), grid.getCols());
+  }
+
+  /**
+   * Draws a window of the maze, one line per row. The window has to start
+   * inside the maze, but one that runs off the bottom or right of the maze is
+   * cut short there.
+   *
+   * @param out      the channel to write to
+   * @param firstRow the top row of the window
+   * @param firstCol the left column of the window
+   * @param rows     the number of rows in the window
+   * @param cols     the number of columns in the window
+   * @throws IOException if the channel can't be written
+   */
+  public void render(WritableByteChannel out, int firstRow, int firstCol, int rows, int cols) throws IOException {
+    if (firstRow < 0 || firstCol < 0 || rows < 0 || cols < 0 || firstRow >= grid.getRows()
+        || firstCol >= grid.getCols()) {
+      throw new IllegalArgumentException("The window has to start inside the maze");
+    }
+    int lastRow = (int) Math.min(grid.getRows(), (long) firstRow + rows);
+    int lastCol = (int) Math.min(grid.getCols(), (long) firstCol + cols);
+    int count = 0;
+
+    for (int y = firstRow; y < lastRow; y++) {
+      int rowStart = y * grid.getCols();
+      int x = firstCol;
+
+      while (x < lastCol) {
+        // Draw as much of the row as fits in the buffer
+        if (count == buffer.length) {
+          count = drain(out, count);
+        }
+        int end = Math.min(lastCol, x + buffer.length - count);
+        count = drawCells(rowStart + x, rowStart + end, count);
+        x = end;
+      }
+
+      if (count == buffer.length) {
+        count = drain(out, count);
+      }
+      buffer[count++] = '\n';
+    }
+
+    drain(out, count);
+  }
+
+  /**
+   * Draws a run of cells from one row into the buffer
+   *
+   * @param from  the cell index of the first cell
+   * @param to    the cell index after the last cell
+   * @param count the number of bytes already in the buffer
+   * @return the number of bytes in the buffer afterwards
+   */
+  private int drawCells(int from, int to, int count) {
+    int first = count;
+    for (int cell = from; cell < to; cell++) {
+      byte type = grid.getType(cell);
+      if (state != null && type == MazeGrid.OPEN && state.isVisited(cell)) {
+        type = MazeGrid.FOUND;
+      }
+      buffer[count++] = DISPLAY[type];
+    }
+
+    if (path != null) {
+      // The path is sorted, so the cells in this run are all together
+      int i = Arrays.binarySearch(path, from);
+      if (i < 0) {
+        i = -i - 1;
+      }
+      for (; i < path.length && path[i] < to; i++) {
+        int type = grid.getType(path[i]);
+        if (type != MazeGrid.START && type != MazeGrid.FINISH) {
+          buffer[first + path[i] - from] = PATH;
+        }
+      }
+    }
+
+    return count;
+  }
+
+  /**
+   * Writes the buffer to the channel
+   *
+   * @param out   the channel to write to
+   * @param count the number of bytes in the buffer
+   * @return zero, the number of bytes left in the buffer
+   * @throws IOException if the channel can't be written
+   */
+  private int drain(WritableByteChannel out, int count) throws IOException {
+    ByteBuffer bytes = ByteBuffer.wrap(buffer, 0, count);
+    while (bytes.hasRemaining()) {
+      out.write(bytes);
+    }
+
+    return 0;
+  }
+}
@@ -1,9 +1,20 @@
 package com.awtpi314.project5;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.Queue;
-import java.util.Scanner;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+
+import com.awtpi314.project5.events.FindStartEvent;
+import com.awtpi314.project5.exceptions.InvalidMazeException;
+import com.awtpi314.project5.interfaces.SearchStrategy;
 
 /**
  * <h3>MazeSolver</h3>
@@ -27,19 +38,62 @@ import java.util.Scanner;
  * path from the start to finish and the distance in number of hops that is
  * required to get from start to finish
  * 
+ * The maze is held in a {@link MazeGrid} so that the search only works with
+ * primitive arrays. The old {@link Location} array is still accepted by the
+ * constructor and returned by {@link #breadthFirstSearch()}.
+ * 
+ * How the path is found is up to the {@link SearchStrategy} the solver is
+ * given. Breadth-first search is the default, and every strategy gives back a
+ * shortest path.
+ * 
+ * Mazes can also hold weighted terrain: "=" for stairs, "~" for mud and "D" for
+ * doors, which cost more to move onto than an open space. Only
+ * {@link DialStrategy} takes the costs into account and reports the total cost
+ * as the distance. The other strategies treat them like open spaces.
+ * 
+ * A maze can have more than one S and T. Each T is then solved from whichever
+ * S is nearest to it, all with a single search.
+ * 
+ * The maze is never changed by a search. Everything a search writes goes into
+ * the solver's {@link SearchState}, which is reset in constant time, so one
+ * solver can answer any number of start and finish queries without the maze
+ * being read again.
+ * 
  * @author Alexander Taylor
  * @since 11/1/2023
  * @version 1.0
  */
 public class MazeSolver {
   /**
-   * Queue to hold the next steps to take
+   * The compact grid holding the current status of the maze
+   */
+  private MazeGrid mazeDetails;
+  /**
+   * The distances and parents written by the searches
+   */
+  private SearchState state;
+  /**
+   * The strategy used to find the path
+   */
+  private SearchStrategy strategy;
+  /**
+   * Number of cells expanded during the last search
    */
-  private Queue<Location> mazeQueue = new LinkedList<>();
+  private long nodesExpanded;
   /**
-   * 2D array to hold the current status of the maze
+   * The connected components of the maze, or null if the solver hasn't been
+   * given any
    */
-  private Location[][] mazeDetails;
+  private ComponentIndex components;
+  /**
+   * The stats for the last search, or null if instrumentation was off
+   */
+  private SolveStats lastStats;
+  /**
+   * The answers to earlier searches, or null if the solver hasn't been given
+   * a cache
+   */
+  private SolveCache cache;
 
   /**
    * Constructor that takes in a 2D array of the maze's initial state.
@@ -47,7 +101,152 @@ public class MazeSolver {
    * @param details the initial state of the maze
    */
   public MazeSolver(Location[][] details) {
+    this(MazeGrid.fromLocations(details));
+  }
+
+  /**
+   * Constructor that takes in the compact grid of the maze's initial state.
+   * Breadth-first search is used to find the path.
+   * 
+   * @param details the initial state of the maze
+   */
+  public MazeSolver(MazeGrid details) {
+    this(details, new BreadthFirstStrategy());
+  }
+
+  /**
+   * Constructor that takes in the compact grid of the maze's initial state and
+   * the strategy to solve it with.
+   * 
+   * @param details  the initial state of the maze
+   * @param strategy the strategy used to find the path
+   */
+  public MazeSolver(MazeGrid details, SearchStrategy strategy) {
     mazeDetails = details;
+    state = new SearchState(details);
+    this.strategy = strategy;
+  }
+
+  /**
+   * Getter for the grid this solver is working on
+   * 
+   * @return the grid holding the maze
+   */
+  public MazeGrid getGrid() {
+    return mazeDetails;
+  }
+
+  /**
+   * Getter for the state written by the last search
+   * 
+   * @return the search state
+   */
+  public SearchState getState() {
+    return state;
+  }
+
+  /**
+   * Getter for the strategy used to find the path
+   * 
+   * @return the current strategy
+   */
+  public SearchStrategy getStrategy() {
+    return strategy;
+  }
+
+  /**
+   * Setter for the strategy used to find the path
+   * 
+   * @param strategy the new strategy
+   */
+  public void setStrategy(SearchStrategy strategy) {
+    this.strategy = strategy;
+  }
+
+  /**
+   * Getter for the component index unreachable queries are checked against
+   * 
+   * @return the component index, or null if there isn't one
+   */
+  public ComponentIndex getComponentIndex() {
+    return components;
+  }
+
+  /**
+   * Setter for the component index. Once the solver has one, queries between
+   * cells that aren't connected come back as null without searching. The index
+   * has to have been built from this solver's grid.
+   * 
+   * @param components the component index, or null to search every query
+   */
+  public void setComponentIndex(ComponentIndex components) {
+    this.components = components;
+  }
+
+  /**
+   * Getter for the cache queries are looked up in
+   * 
+   * @return the cache, or null if there isn't one
+   */
+  public SolveCache getSolveCache() {
+    return cache;
+  }
+
+  /**
+   * Setter for the cache. Once the solver has one, every query is looked up in
+   * it by the content hash of the maze before searching, and every finished
+   * search is added to it. The cache can be shared with solvers for other
+   * mazes, so a maze that any of them has solved before isn't searched again.
+   * 
+   * @param cache the cache, or null to search every query
+   */
+  public void setSolveCache(SolveCache cache) {
+    this.cache = cache;
+  }
+
+  /**
+   * Getter for the number of cells expanded by the last search. This is what we
+   * compare to see how much work each strategy does.
+   * 
+   * @return the number of cells that were taken off the open list
+   */
+  public long getNodesExpanded() {
+    return nodesExpanded;
+  }
+
+  /**
+   * Getter for where the time went in the last search. Stats are only kept
+   * while instrumentation is turned on with
+   * {@link SolverMetrics#setEnabled(boolean)}, which times each phase of a
+   * solve. Every solve also adds to the process-wide counters and writes
+   * flight recorder events.
+   * 
+   * @return the stats for the last search, or null if instrumentation was off
+   */
+  public SolveStats getLastStats() {
+    return lastStats;
+  }
+
+  /**
+   * Solves the maze with the current strategy.
+   * 
+   * @return the shortest path from the start to the finish
+   */
+  public Location[] solve() {
+    return toLocations(findPath());
+  }
+
+  /**
+   * Solves the maze between any two positions with the current strategy. The
+   * S and T in the maze are ignored.
+   * 
+   * @param start  the position to start from
+   * @param target the position to find
+   * @return the shortest path from the start to the target, or null if there is
+   *         no path
+   */
+  public Location[] solve(Coordinate start, Coordinate target) {
+    return toLocations(findPath(start, target));
   }
 
   /**
@@ -57,182 +256,524 @@ public class MazeSolver {
    * @return the shortest path from the start to the finish
    */
   public Location[] breadthFirstSearch() {
-    // Set the finish to null so we know if we've actually found a path from start
-    // to finish
-    Location finish = null;
-    // Find the start and add it as the first position in the queue
-    mazeQueue.add(findStart());
-
-    // Loop while we have more moves to perform
-    while (!mazeQueue.isEmpty()) {
-      // Get the current location
-      Location current = mazeQueue.remove();
-
-      // Check whether we have found the solution to the maze
-      if (current.getType() == Location.SquareType.FINISH) {
-        // If we've found it then we should set finish so that we know that we found the
-        // solution
-        finish = current;
-        break;
-      }
+    return toLocations(findPath(new BreadthFirstStrategy()));
+  }
 
-      // Search for moves using the current location
-      searchMoves(current).forEach((Location l) -> {
-        // Add each new location to the queue to search
-        mazeQueue.add(l);
-      });
-    }
-
-    // Null check to make sure we've found a solution
-    if (finish instanceof Location) {
-      // Create the path array using the distance from start contained in the finish
-      // location
-      Location[] path = new Location[finish.getDistFromStart() + 1];
-      Location current = finish;
-
-      // Find the path back to the start
-      // I thought about using recursion but the iterative solution was simpler and
-      // required less work than the recursive solution would have
-      for (int i = finish.getDistFromStart(); current.getLastPoint() instanceof Coordinate && i >= 0; i--) {
-        // Set the current point in the path
-        path[i] = current;
-        // Get the next position from the last point of the current element
-        int nextX = current.getLastPoint().getX();
-        int nextY = current.getLastPoint().getY();
-        // Get the actual location from the maze array
-        current = mazeDetails[nextY][nextX];
-      }
+  /**
+   * This method performs a bidirectional breadth-first search on the maze that
+   * the object was constructed with.
+   * 
+   * @return the shortest path from the start to the finish
+   */
+  public Location[] bidirectionalSearch() {
+    return toLocations(findPath(new BidirectionalStrategy()));
+  }
 
-      // This will be the start node
-      path[0] = current;
+  /**
+   * Finds the path with the current strategy and returns it as cell indices.
+   * 
+   * @return the cell indices from the start to the finish, or null if there is
+   *         no path
+   */
+  public int[] findPath() {
+    return findPath(strategy);
+  }
 
-      return path;
-    } else {
-      // We have no path to the finish. Return null to indicate that.
-      return null;
+  /**
+   * Finds the path with the strategy passed and returns it as cell indices.
+   * 
+   * @param searchStrategy the strategy used to find the path
+   * @return the cell indices from the start to the finish, or null if there is
+   *         no path
+   */
+  public int[] findPath(SearchStrategy searchStrategy) {
+    return findPathFromStart(searchStrategy, SolveLimits.NONE);
+  }
+
+  /**
+   * Finds the path between two positions with the current strategy and returns
+   * it as cell indices. Positions that are off the maze have no path.
+   * 
+   * @param start  the position to start from
+   * @param target the position to find
+   * @return the cell indices from the start to the target, or null if there is
+   *         no path
+   */
+  public int[] findPath(Coordinate start, Coordinate target) {
+    return findPath(strategy, indexOf(start), indexOf(target));
+  }
+
+  /**
+   * Finds the path between two cells with the current strategy and returns it
+   * as cell indices.
+   * 
+   * @param start  the cell index to start from
+   * @param target the cell index to find
+   * @return the cell indices from the start to the target, or null if there is
+   *         no path
+   */
+  public int[] findPath(int start, int target) {
+    return findPath(strategy, start, target);
+  }
+
+  /**
+   * Finds the path between two cells with the strategy passed and returns it as
+   * cell indices.
+   * 
+   * @param searchStrategy the strategy used to find the path
+   * @param start          the cell index to start from
+   * @param target         the cell index to find
+   * @return the cell indices from the start to the target, or null if there is
+   *         no path
+   */
+  public int[] findPath(SearchStrategy searchStrategy, int start, int target) {
+    return findPath(searchStrategy, start, target, SolveLimits.NONE, 0);
+  }
+
+  /**
+   * Solves the maze from the S to the T with the current strategy, giving up
+   * once any of the limits runs out, so a hard maze can't hold up the calling
+   * thread for longer than the caller wants. The {@link SolveResult} says
+   * whether the search finished or was stopped.
+   * 
+   * @param limits the deadline, budget and cancellation token for the search
+   * @return whether a path was found, and the path if it was
+   */
+  public SolveResult solveWithin(SolveLimits limits) {
+    return toResult(findPathFromStart(strategy, limits));
+  }
+
+  /**
+   * Solves the maze between two cells with the current strategy, giving up once
+   * any of the limits runs out. A search that gives up leaves the thread free
+   * for the caller to retry with more budget or try something else, and the
+   * {@link SolveResult} says which happened.
+   * 
+   * @param start  the cell index to start from
+   * @param target the cell index to find
+   * @param limits the deadline, budget and cancellation token for the search
+   * @return whether a path was found, and the path if it was
+   */
+  public SolveResult solveWithin(int start, int target, SolveLimits limits) {
+    return toResult(findPath(strategy, start, target, limits, 0));
+  }
+
+  /**
+   * Finds the path from the S to the T, timing how long it takes to find the S
+   * when instrumentation is on
+   * 
+   * @param searchStrategy the strategy used to find the path
+   * @param limits         the limits for the search
+   * @return the cell indices from the start to the finish, or null if there is
+   *         no path or the search was stopped
+   */
+  private int[] findPathFromStart(SearchStrategy searchStrategy, SolveLimits limits) {
+    if (!SolverMetrics.enabled()) {
+      return findPath(searchStrategy, findStart(), mazeDetails.getFinish(), limits, 0);
+    }
+
+    FindStartEvent event = new FindStartEvent();
+    event.begin();
+    long begin = System.nanoTime();
+    int start = findStart();
+    long findStartNanos = System.nanoTime() - begin;
+    if (event.shouldCommit()) {
+      event.start = start;
+      event.commit();
     }
+
+    return findPath(searchStrategy, start, mazeDetails.getFinish(), limits, findStartNanos);
   }
 
   /**
-   * This will check whether the point specified in newLocation is a valid move,
-   * i.e. not a wall, the start, or a space that we've already found
+   * Finds the path between two cells with the strategy passed, staying inside
+   * the limits. When instrumentation is on the search is timed and its stats
+   * are kept for {@link #getLastStats()}.
    * 
-   * @param previous    the location we are searching from
-   * @param newLocation the location we are testing
-   * @return a location if it's valid or null otherwise
+   * @param searchStrategy the strategy used to find the path
+   * @param start          the cell index to start from
+   * @param target         the cell index to find
+   * @param limits         the limits for the search
+   * @param findStartNanos the time spent finding the start before the search
+   * @return the cell indices from the start to the target, or null if there is
+   *         no path or the search was stopped
    */
-  private Location checkNext(Location previous, Location newLocation) {
-    // Use a switch statement to check the type
-    switch (newLocation.getType()) {
-      case OPEN:
-        // We have an open space. Mark it as found
-        newLocation.setType(Location.SquareType.FOUND);
-        // Fall through to the finish case so we also set the values there too
-      case FINISH:
-        // We have a new distance from start
-        newLocation.setDistFromStart(previous.getDistFromStart() + 1);
-        // We know that this is a valid move, so set the parent
-        newLocation.setLastPoint(previous.getPosition());
-        return newLocation;
-      default:
-        return null;
+  private int[] findPath(SearchStrategy searchStrategy, int start, int target, SolveLimits limits,
+      long findStartNanos) {
+    // Forget everything the last search wrote
+    state.begin();
+    state.setLimits(limits);
+    lastStats = null;
+
+    // Checking once here is all instrumentation costs while it is off
+    boolean timed = SolverMetrics.enabled();
+    if (timed) {
+      state.startTiming();
+    }
+
+    int[] path = search(searchStrategy, start, target);
+    nodesExpanded = state.getNodesExpanded();
+
+    if (timed) {
+      lastStats = state.finishTiming(searchStrategy.getClass().getSimpleName(), findStartNanos, path);
+      SolverMetrics.getInstance().record(lastStats);
     }
+    return path;
   }
 
   /**
-   * This will search each of the cardinal directions to see if there is a valid
-   * move in that direction
+   * Checks the ends of a query and runs the strategy on the state, which has
+   * already been reset
    * 
-   * @param current the node to search around
-   * @return an {@link ArrayList} that will contain all the valid moves around the
-   *         current space
+   * @param searchStrategy the strategy used to find the path
+   * @param start          the cell index to start from
+   * @param target         the cell index to find
+   * @return the cell indices from the start to the target, or null if there is
+   *         no path or the search was stopped
    */
-  public ArrayList<Location> searchMoves(Location current) {
-    // This is the array of valid moves from the current position
-    ArrayList<Location> returnValue = new ArrayList<>();
-    // Store the position so we don't have to call the getter every time
-    Coordinate location = current.getPosition();
+  private int[] search(SearchStrategy searchStrategy, int start, int target) {
+    // Without both ends there is nothing to search for
+    int cellCount = mazeDetails.getCellCount();
+    if (start < 0 || target < 0 || start >= cellCount || target >= cellCount || !mazeDetails.isPassable(start)
+        || !mazeDetails.isPassable(target)) {
+      return null;
+    }
 
-    // Check to make sure we don't get an IndexOutOfBounds exception
-    if (location.getX() > 0) {
-      // Check the space to the west of the current space
-      Location nextLocation = checkNext(current, mazeDetails[location.getY()][location.getX() - 1]);
-      // Null check
-      if (nextLocation instanceof Location) {
-        returnValue.add(nextLocation);
-      }
+    // Cells in different components can't reach each other, and finding that
+    // out by searching means visiting every cell the start can reach
+    if (components != null && !components.isConnected(start, target)) {
+      return null;
     }
 
-    // Check to make sure we don't get an IndexOutOfBounds exception
-    if (location.getX() < (mazeDetails[0].length - 1)) {
-      // Check the space to the east of the current space
-      Location nextLocation = checkNext(current, mazeDetails[location.getY()][location.getX() + 1]);
-      // Null check
-      if (nextLocation instanceof Location) {
-        returnValue.add(nextLocation);
-      }
+    // The strategies all look for the target next to a cell they expand
+    if (start == target) {
+      state.setDist(start, 0);
+      return new int[] { start };
     }
 
-    // Check to make sure we don't get an IndexOutOfBounds exception
-    if (location.getY() > 0) {
-      // Check the space to the north of the current space
-      Location nextLocation = checkNext(current, mazeDetails[location.getY() - 1][location.getX()]);
-      // Null check
-      if (nextLocation instanceof Location) {
-        returnValue.add(nextLocation);
-      }
+    if (cache == null) {
+      return searchStrategy.findPath(state, start, target);
     }
-    // Check to make sure we don't get an IndexOutOfBounds exception
-    if (location.getY() < (mazeDetails.length - 1)) {
-      // Check the space to the south of the current space
-      Location nextLocation = checkNext(current, mazeDetails[location.getY() + 1][location.getX()]);
-      // Null check
-      if (nextLocation instanceof Location) {
-        returnValue.add(nextLocation);
+
+    // Replay a remembered path into the state so the distances still work
+    boolean weighted = searchStrategy.isWeighted();
+    SolveCache.Entry entry = cache.get(mazeDetails, start, target, weighted);
+    if (entry != null) {
+      int[] path = entry.getPath();
+      if (path == null) {
+        return null;
+      }
+      if (weighted) {
+        state.markWeightedPath(path);
+      } else {
+        state.markPath(path);
       }
+      return path.clone();
     }
 
-    return returnValue;
+    int[] path = searchStrategy.findPath(state, start, target);
+    // A search that was stopped early doesn't know the answer yet
+    if (state.getStopReason() == null) {
+      int distance = path == null ? -1 : state.getDist(path[path.length - 1]);
+      cache.put(mazeDetails, start, target, weighted, path, distance);
+    }
+    return path;
   }
 
   /**
-   * This method iterates over the array and finds the start specified by an S
+   * Turns the path from the last search into a result, saying why the search
+   * stopped if it didn't find one
    * 
-   * @return the location of the square that is marked with an S in the array
+   * @param path the path the last search found, or null
+   * @return the result of the last search
    */
-  public Location findStart() {
-    for (Location[] row : mazeDetails) {
-      for (Location point : row) {
-        if (point.getType() == Location.SquareType.START) {
-          return point;
-        }
-      }
+  private SolveResult toResult(int[] path) {
+    if (path != null) {
+      return new SolveResult(SolveResult.Status.SOLVED, path, nodesExpanded, lastStats);
     }
 
-    return null;
+    // A search that was stopped doesn't tell us there is no path
+    SolveResult.Status reason = state.getStopReason();
+    return new SolveResult(reason == null ? SolveResult.Status.UNSOLVABLE : reason, null, nodesExpanded,
+        lastStats);
+  }
+
+  /**
+   * Finds the path to every target from whichever source is nearest to it,
+   * with one breadth-first search from all the sources at once. The current
+   * strategy isn't used.
+   * 
+   * @param sources the cell indices to start from
+   * @param targets the cell indices to find
+   * @return the path to each target in the same order, starting at its nearest
+   *         source, or null for targets that no source can reach
+   */
+  public int[][] findPaths(int[] sources, int[] targets) {
+    state.begin();
+    int[][] paths = new BreadthFirstStrategy().findPaths(state, sources, targets);
+    nodesExpanded = state.getNodesExpanded();
+    return paths;
+  }
+
+  /**
+   * Solves the maze from every S to every T. Each T gets the shortest path
+   * from whichever S is nearest to it.
+   * 
+   * @return the path to each finish in row order, or null for the ones no
+   *         start can reach
+   */
+  public Location[][] solveAll() {
+    int[][] paths = findPaths(mazeDetails.getStarts(), mazeDetails.getFinishes());
+    Location[][] locations = new Location[paths.length][];
+    for (int i = 0; i < paths.length; i++) {
+      locations[i] = toLocations(paths[i]);
+    }
+
+    return locations;
+  }
+
+  /**
+   * This method finds the start specified by an S. The grid remembers where the
+   * start is while it is being filled in, so this is usually just a lookup.
+   * 
+   * @return the index of the cell that is marked with an S, or -1 if there isn't
+   *         one
+   */
+  public int findStart() {
+    return mazeDetails.getStart();
+  }
+
+  /**
+   * Turns a position into a cell index, checking that it is on the maze
+   * 
+   * @param position the position to look up
+   * @return the cell index, or -1 if the position is off the maze
+   */
+  private int indexOf(Coordinate position) {
+    int x = position.getX();
+    int y = position.getY();
+    if (x < 0 || y < 0 || x >= mazeDetails.getCols() || y >= mazeDetails.getRows()) {
+      return -1;
+    }
+
+    return mazeDetails.index(x, y);
+  }
+
+  /**
+   * Only build location objects for the cells on the path
+   * 
+   * @param path the cell indices of the path
+   * @return the path as locations, or null if there is no path
+   */
+  private Location[] toLocations(int[] path) {
+    return path == null ? null : state.toLocations(path);
   }
 
   /**
    * Helper function for printing the maze. Useful for debugging
    */
   public void printMaze() {
-    for (int i = 0; i < mazeDetails.length; i++) {
-      for (int j = 0; j < mazeDetails[0].length; j++) {
-        System.out.print(mazeDetails[i][j]);
-      }
-      System.out.println();
+    printMaze(null);
+  }
+
+  /**
+   * Helper function for printing the maze with a path drawn over it. The cells
+   * the last search reached are shown as found, and the maze is drawn a row at
+   * a time by a {@link MazeRenderer}.
+   * 
+   * @param path the cell indices of the path to draw, or null for none
+   */
+  public void printMaze(int[] path) {
+    MazeRenderer renderer = new MazeRenderer(mazeDetails);
+    renderer.setState(state);
+    renderer.setPath(path);
+    try {
+      renderer.render(Channels.newChannel(System.out));
+    } catch (IOException e) {
+      // Standard output is a PrintStream, which never throws
     }
     System.out.println();
   }
 
   public static void main(String[] args) {
+    // Read the options before touching the input
+    SearchStrategy strategy = new BreadthFirstStrategy();
+    boolean stats = false;
+    boolean batch = false;
+    boolean tiled = false;
+    boolean contract = false;
+    boolean frontier = false;
+    boolean compact = false;
+    boolean render = false;
+    int[] window = null;
+    long memoryBudget = 64L << 20;
+    int threads = Runtime.getRuntime().availableProcessors();
+    int cacheEntries = 0;
+    int concurrency = Runtime.getRuntime().availableProcessors();
+    int workers = 0;
+    String serveAt = null;
+    String executor = "pool";
+    String connectTo = null;
+    Path mazeFile = null;
+    Path convertTo = null;
+    for (String arg : args) {
+      if (!arg.startsWith("--")) {
+        // Anything that isn't an option is the file to read the maze from
+        mazeFile = Path.of(arg);
+      } else if (arg.startsWith("--convert=")) {
+        convertTo = Path.of(arg.substring(10));
+      } else if (arg.equals("--stats")) {
+        stats = true;
+      } else if (arg.equals("--batch")) {
+        batch = true;
+      } else if (arg.matches("--threads=[1-9][0-9]{0,3}")) {
+        threads = Integer.parseInt(arg.substring(10));
+      } else if (arg.matches("--cache=[1-9][0-9]{0,6}")) {
+        cacheEntries = Integer.parseInt(arg.substring(8));
+      } else if (arg.startsWith("--serve=")) {
+        serveAt = arg.substring(8);
+      } else if (arg.matches("--executor=(pool|virtual)")) {
+        executor = arg.substring(11);
+      } else if (arg.startsWith("--connect=")) {
+        connectTo = arg.substring(10);
+      } else if (arg.matches("--concurrency=[1-9][0-9]{0,4}")) {
+        concurrency = Integer.parseInt(arg.substring(14));
+      } else if (arg.matches("--workers=[1-9][0-9]{0,2}")) {
+        workers = Integer.parseInt(arg.substring(10));
+      } else if (arg.equals("--contract")) {
+        contract = true;
+      } else if (arg.equals("--render")) {
+        render = true;
+      } else if (arg.matches("--render=[0-9]{1,9}(,[0-9]{1,9}){3}")) {
+        render = true;
+        String[] parts = arg.substring(9).split(",");
+        window = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+          window[i] = Integer.parseInt(parts[i]);
+        }
+      } else if (arg.equals("--compact")) {
+        compact = true;
+      } else if (arg.equals("--frontier")) {
+        frontier = true;
+      } else if (arg.equals("--tiled")) {
+        tiled = true;
+      } else if (arg.matches("--memory=[1-9][0-9]{0,6}")) {
+        memoryBudget = Long.parseLong(arg.substring(9)) << 20;
+      } else if (arg.equals("--bidirectional")) {
+        strategy = new BidirectionalStrategy();
+      } else if (arg.startsWith("--strategy=") && strategyFor(arg.substring(11)) != null) {
+        strategy = strategyFor(arg.substring(11));
+      } else {
+        System.err.println("Unknown option " + arg);
+        System.err.println("Usage: MazeSolver [--strategy=bfs|bidirectional|astar|jps|parallel|dial|bits] [--stats]");
+        System.err.println("       [--convert=maze.mazb] [--batch [--threads=N] [--cache=N]] [--tiled]");
+        System.err.println("       [--memory=MB] [--compact] [--render[=ROW,COL,ROWS,COLS]]");
+        System.err.println("       [--contract] [--frontier]");
+        System.err.println("       [--serve=PORT|socket [--concurrency=N] [--executor=pool|virtual]]");
+        System.err.println("       [--connect=PORT|socket] [--workers=N]");
+        System.err.println("       [maze.txt|maze.mazb]");
+        return;
+      }
+    }
+
+    // Drawing needs the one maze that was solved, which these modes never hold
+    if (render && (serveAt != null || connectTo != null || batch || tiled)) {
+      System.err.println("--render can't be used with --serve, --connect, --batch or --tiled");
+      return;
+    }
+    // Drawing the whole maze is a window that gets cut short at its edges
+    if (render && window == null) {
+      window = new int[] { 0, 0, Integer.MAX_VALUE, Integer.MAX_VALUE };
+    }
+
+    // Server mode keeps solving mazes sent over a socket until it is killed
+    if (serveAt != null) {
+      runServer(serveAt, strategy, concurrency, cacheEntries > 0 ? new SolveCache(cacheEntries, memoryBudget) : null,
+          compact, executor);
+      return;
+    }
+
+    // Client mode sends the input to a server instead of solving it here
+    if (connectTo != null) {
+      // The server writes the answers, so it is the one that can be compact
+      if (compact) {
+        System.err.println("--compact has to be given to the server, not to --connect");
+        return;
+      }
+      runClient(connectTo, mazeFile);
+      return;
+    }
+
+    // Batch mode solves every maze in the input instead of just the first
+    if (batch) {
+      // In batch mode the memory budget is how much the cache can hold
+      runBatch(mazeFile, strategy, threads, cacheEntries > 0 ? new SolveCache(cacheEntries, memoryBudget) : null,
+          compact);
+      return;
+    }
+
+    // Tiled mode reads a binary maze a tile at a time instead of loading it
+    if (tiled) {
+      runTiled(mazeFile, memoryBudget, stats, compact);
+      return;
+    }
+
+    // Statistics time every phase, starting with reading the maze
+    if (stats) {
+      SolverMetrics.getInstance().setEnabled(true);
+    }
+
     // Call the getUserInput function to get the initial state of the maze
-    Location[][] mazeInformation = getUserInput();
+    MazeGrid mazeInformation;
+    try {
+      mazeInformation = getUserInput(mazeFile);
+
+      // Converting only writes the binary version of the maze, it doesn't solve it
+      if (convertTo != null) {
+        BinaryMazeFormat.write(mazeInformation, convertTo);
+        return;
+      }
+    } catch (IOException | InvalidMazeException e) {
+      System.err.println("Could not read the maze: " + e.getMessage());
+      return;
+    }
+
+    // Mazes with more than one S or T get a path to every T from its nearest S
+    if (mazeInformation.getStarts().length > 1 || mazeInformation.getFinishes().length > 1) {
+      runNearest(mazeInformation, stats, compact, window);
+      return;
+    }
+
+    // Contracted mode searches the junctions of the maze instead of every cell
+    if (contract) {
+      runContracted(mazeInformation, stats, compact, window);
+      return;
+    }
+
+    // Partitioned mode splits the search between worker processes
+    if (workers > 0) {
+      runPartitioned(mazeInformation, workers, stats, compact, window);
+      return;
+    }
+
+    // Frontier mode only keeps a few levels of the search in memory
+    if (frontier) {
+      runFrontier(mazeInformation, stats, compact, window);
+      return;
+    }
 
     // Initialize the MazeSolver class with the maze information
-    MazeSolver solver = new MazeSolver(mazeInformation);
-    // Call the breadthFirstSearch method to get the path from the start to finish
-    Location[] path = solver.breadthFirstSearch();
+    MazeSolver solver = new MazeSolver(mazeInformation, strategy);
+    // Call the findPath method to get the path from the start to finish
+    int[] path = solver.findPath();
+
+    // The statistics go to standard error so the normal output doesn't change
+    if (stats) {
+      System.err.printf("Parse = %.3f ms\n", SolverMetrics.getInstance().getParseNanos() / 1e6);
+      System.err.println(solver.getLastStats());
+    }
+
+    renderMaze(mazeInformation, solver.getState(), path, window);
 
     // Check if we actually found a path from start to finish
     if (path == null) {
@@ -241,53 +782,421 @@ public class MazeSolver {
     }
 
     // Print the path if we have one
-    printPath(path);
+    printPath(mazeInformation, path, compact);
+
+    // The distance of the finish is the weighted cost when the strategy uses one
+    System.out.printf("Total distance = %d", solver.getState().getDist(path[path.length - 1]));
+  }
+
+  /**
+   * Helper method for solving a maze with a band of rows in each of several
+   * worker processes. --workers uses a {@link PartitionedSolver} so the search
+   * of one maze is split between JVMs.
+   * 
+   * @param grid    the maze to solve
+   * @param workers the number of worker processes to start
+   * @param stats   true to print the levels and boundary traffic to standard
+   *                error
+   * @param compact true to print the path as runs of moves
+   * @param window  the part of the maze to draw to standard error, or null
+   */
+  private static void runPartitioned(MazeGrid grid, int workers, boolean stats, boolean compact,
+      int[] window) {
+    int[] path;
+    try (PartitionedSolver solver = new PartitionedSolver(workers)) {
+      path = solver.findPath(grid, grid.getStart(), grid.getFinish());
+      if (stats) {
+        System.err.printf("PartitionedSolver workers = %d, levels = %d, boundary cells = %d\n", solver.getWorkers(),
+            solver.getLevels(), solver.getBoundaryCells());
+      }
+    } catch (IOException e) {
+      System.err.println("Could not run the workers: " + e.getMessage());
+      return;
+    }
+    // The search state stayed in the workers, so only the path is drawn
+    renderMaze(grid, null, path, window);
 
+    // Check if we actually found a path from start to finish
+    if (path == null) {
+      System.out.println("Maze not solvable.");
+      return;
+    }
+
+    printPath(grid, path, compact);
     System.out.printf("Total distance = %d", path.length - 1);
   }
 
   /**
-   * Helper method for printing the location array
+   * Helper method for drawing a solved maze to standard error, with the cells
+   * the search reached and the path drawn over it. --render draws the whole
+   * maze and --render=ROW,COL,ROWS,COLS just a window of it. The drawing goes
+   * to standard error so the normal output doesn't change.
+   * 
+   * @param grid   the maze that was solved
+   * @param state  the state of the search, or null to only draw the path
+   * @param path   the path it found, or null
+   * @param window the top row, left column, rows and columns to draw, or null
+   *               to draw nothing
+   */
+  private static void renderMaze(MazeGrid grid, SearchState state, int[] path, int[] window) {
+    if (window == null) {
+      return;
+    }
+
+    MazeRenderer renderer = new MazeRenderer(grid);
+    renderer.setState(state);
+    renderer.setPath(path);
+    try {
+      renderer.render(Channels.newChannel(System.err), window[0], window[1], window[2], window[3]);
+    } catch (IllegalArgumentException e) {
+      System.err.println("Could not draw the maze: " + e.getMessage());
+    } catch (IOException e) {
+      // Standard error is a PrintStream, which never throws
+    }
+    System.err.flush();
+  }
+
+  /**
+   * Helper method for solving every maze in the input. The throughput goes to
+   * standard error so it doesn't get mixed in with the results.
+   * 
+   * @param mazeFile the file to read, or null to read standard input
+   * @param strategy the strategy every maze is solved with
+   * @param threads  the number of workers solving mazes
+   * @param cache    the cache repeated mazes are answered from, or null
+   * @param compact  true to print the paths as runs of moves
+   */
+  private static void runBatch(Path mazeFile, SearchStrategy strategy, int threads, SolveCache cache,
+      boolean compact) {
+    long started = System.nanoTime();
+    long solved = 0;
+    Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.US_ASCII), 1 << 16);
+
+    try (MazeLoader loader = mazeFile != null ? MazeLoader.open(mazeFile) : new MazeLoader(System.in)) {
+      solved = new BatchSolver(strategy, threads, cache, compact).run(loader, out);
+    } catch (IOException | InvalidMazeException e) {
+      System.err.println("Could not read the maze: " + e.getMessage());
+      return;
+    }
+
+    double seconds = (System.nanoTime() - started) / 1e9;
+    System.err.printf("Solved %d mazes in %.3f s (%.1f mazes/sec)\n", solved, seconds, solved / seconds);
+    if (cache != null) {
+      System.err.println(cache);
+    }
+  }
+
+  /**
+   * Helper method for running a solve server until the process is killed.
+   * Keeping one JVM up for --serve means small mazes sent with --connect don't
+   * each pay for starting a JVM.
+   * 
+   * <p>
+   * --executor picks what the mazes are solved on. The default is a pool of
+   * platform threads, which every JDK has. --executor=virtual starts a
+   * virtual thread per maze instead, which needs a JDK with virtual threads,
+   * or Java 20 run with --enable-preview since they are a preview API there.
+   * </p>
+   * 
+   * @param address     the port or socket path to listen on
+   * @param strategy    the strategy every maze is solved with
+   * @param concurrency the most mazes solved at once
+   * @param cache       the cache repeated mazes are answered from, or null
+   * @param compact     true to answer with the paths as runs of moves
+   * @param executor    "pool" or "virtual"
+   */
+  private static void runServer(String address, SearchStrategy strategy, int concurrency, SolveCache cache,
+      boolean compact, String executor) {
+    ExecutorService workers;
+    try {
+      workers = SolveServer.workersFor(executor);
+    } catch (UnsupportedOperationException e) {
+      System.err.println("Could not start the server: " + e.getMessage());
+      return;
+    }
+
+    try (SolveServer server = new SolveServer(SolveServer.addressFor(address),
+        new BatchSolver(strategy, 1, cache, compact), concurrency, workers)) {
+      System.err.println("Listening on " + server.getAddress());
+      server.serve();
+    } catch (IOException e) {
+      System.err.println("Could not start the server: " + e.getMessage());
+    } finally {
+      workers.shutdown();
+    }
+  }
+
+  /**
+   * Helper method for sending the input to a solve server and printing the
+   * answers. The mazes go to the server as fast as it reads them, without
+   * waiting for each answer.
    * 
-   * @param path the path from start to finish
+   * @param address  the port or socket path the server is listening on
+   * @param mazeFile the file to send, or null to send standard input
    */
-  private static void printPath(Location[] path) {
-    for (var node : path) {
-      System.out.printf("<%d %d>\n", node.getPosition().getY(), node.getPosition().getX());
+  private static void runClient(String address, Path mazeFile) {
+    try (InputStream in = mazeFile != null ? Files.newInputStream(mazeFile) : System.in) {
+      SolveClient.send(SolveServer.addressFor(address), in, System.out);
+    } catch (IOException e) {
+      System.err.println("Could not reach the server: " + e.getMessage());
     }
   }
 
   /**
-   * Helper method for getting the maze from the user
+   * Helper method for solving a binary maze with the hierarchical solver, so
+   * only the tiles along the route are read into memory
    * 
-   * @return the 2D location array representing the maze
+   * @param mazeFile     the binary maze to read
+   * @param memoryBudget the number of bytes of tiles to keep in memory
+   * @param stats        true to print the tile reads to standard error
+   * @param compact      true to print the path as runs of moves
    */
-  private static Location[][] getUserInput() {
-    // Try with resources so we don't leak a scanner
-    try (Scanner sc = new Scanner(System.in)) {
-      // Get the size of the maze from the user.
-      int sizeY = sc.nextInt();
-      int sizeX = sc.nextInt();
+  private static void runTiled(Path mazeFile, long memoryBudget, boolean stats, boolean compact) {
+    if (mazeFile == null) {
+      System.err.println("Tiled mode needs a binary maze file");
+      return;
+    }
 
-      // Initialize a maze that has the specified dimensions
-      Location[][] maze = new Location[sizeY][sizeX];
+    int[] path;
+    int cols;
+    try (BinaryTileSource source = new BinaryTileSource(mazeFile)) {
+      HierarchicalSolver solver = new HierarchicalSolver(source, HierarchicalSolver.DEFAULT_TILE_SIZE,
+          memoryBudget);
+      path = solver.findPath();
+      cols = source.getCols();
 
-      // We are assuming that the user has only input correct data.
-      for (int i = 0; i < sizeY; i++) {
-        // Get the next line of input from the user
-        String inputLine = sc.next();
+      if (stats) {
+        System.err.printf("HierarchicalSolver nodes expanded = %d, tile reads = %d\n", solver.getNodesExpanded(),
+            solver.getCache().getLoads());
+      }
+    } catch (IOException | InvalidMazeException e) {
+      System.err.println("Could not read the maze: " + e.getMessage());
+      return;
+    }
 
-        for (int j = 0; j < inputLine.length(); j++) {
-          // We have to reference the SquareType enum like this because Gradel does not
-          // like packages
-          Location.SquareType type = Location.SquareType.valueOfDisplay(inputLine.substring(j, j + 1));
+    // Check if we actually found a path from start to finish
+    if (path == null) {
+      System.out.println("Maze not solvable.");
+      return;
+    }
 
-          // Create a new location and assign it to that point in the maze
-          maze[i][j] = new Location(new Coordinate(j, i), null, type, 0);
+    // The maze was never loaded, so only its width is known
+    printPath(path, cols, compact);
+    System.out.printf("Total distance = %d", path.length - 1);
+  }
+
+  /**
+   * Helper method for solving a maze with several starts or finishes. Each
+   * finish gets its own result, in row order, written the same way a single
+   * result is and separated by a newline.
+   * 
+   * @param grid    the maze to solve
+   * @param stats   true to print the number of cells expanded to standard
+   *                error
+   * @param compact true to print the paths as runs of moves
+   * @param window  the part of the maze to draw to standard error, or null
+   */
+  private static void runNearest(MazeGrid grid, boolean stats, boolean compact, int[] window) {
+    MazeSolver solver = new MazeSolver(grid);
+    int[][] paths = solver.findPaths(grid.getStarts(), grid.getFinishes());
+
+    if (stats) {
+      System.err.printf("Multi-source search nodes expanded = %d\n", solver.getNodesExpanded());
+    }
+
+    // Every path is drawn over the one maze
+    if (window != null) {
+      IntList cells = new IntList();
+      for (int[] path : paths) {
+        for (int i = 0; path != null && i < path.length; i++) {
+          cells.add(path[i]);
         }
       }
+      renderMaze(grid, solver.getState(), cells.toArray(), window);
+    }
+
+    for (int i = 0; i < paths.length; i++) {
+      if (i > 0) {
+        System.out.println();
+      }
+      if (paths[i] == null) {
+        System.out.print("Maze not solvable.");
+        continue;
+      }
+      printPath(grid, paths[i], compact);
+      System.out.printf("Total distance = %d", paths[i].length - 1);
+    }
+  }
+
+  /**
+   * Helper method for solving a maze on its corridor graph
+   * 
+   * @param grid    the maze to solve
+   * @param stats   true to print the size of the graph to standard error
+   * @param compact true to print the path as runs of moves
+   * @param window  the part of the maze to draw to standard error, or null
+   */
+  private static void runContracted(MazeGrid grid, boolean stats, boolean compact, int[] window) {
+    CorridorGraph graph = new CorridorGraph(grid);
+    int[] path = graph.findPath();
+
+    if (stats) {
+      System.err.printf("CorridorGraph nodes = %d, nodes expanded = %d\n", graph.getNodeCount(),
+          graph.getNodesExpanded());
+    }
+    // The graph searches junctions rather than cells, so only the path is drawn
+    renderMaze(grid, null, path, window);
+
+    // Check if we actually found a path from start to finish
+    if (path == null) {
+      System.out.println("Maze not solvable.");
+      return;
+    }
+
+    printPath(grid, path, compact);
+    System.out.printf("Total distance = %d", path.length - 1);
+  }
+
+  /**
+   * Helper method for solving a maze with the memory-bounded frontier search
+   * 
+   * @param grid    the maze to solve
+   * @param stats   true to print the work done and the peak memory to
+   *                standard error
+   * @param compact true to print the path as runs of moves
+   * @param window  the part of the maze to draw to standard error, or null
+   */
+  private static void runFrontier(MazeGrid grid, boolean stats, boolean compact, int[] window) {
+    FrontierSearch search = new FrontierSearch(grid);
+    int[] path = search.findPath();
 
-      return maze;
+    if (stats) {
+      System.err.printf("FrontierSearch nodes expanded = %d, peak frontier = %d cells\n", search.getNodesExpanded(),
+          search.getPeakFrontier());
     }
+    // The frontier search doesn't keep the cells it reached, so only the path
+    // is drawn
+    renderMaze(grid, null, path, window);
+
+    // Check if we actually found a path from start to finish
+    if (path == null) {
+      System.out.println("Maze not solvable.");
+      return;
+    }
+
+    printPath(grid, path, compact);
+    System.out.printf("Total distance = %d", path.length - 1);
+  }
+
+  /**
+   * Helper method for turning a strategy name from the command line into a
+   * strategy
+   * 
+   * @param name the name of the strategy
+   * @return the strategy, or null if the name isn't known
+   */
+  static SearchStrategy strategyFor(String name) {
+    switch (name) {
+      case "bfs":
+        return new BreadthFirstStrategy();
+      case "bidirectional":
+        return new BidirectionalStrategy();
+      case "astar":
+        return new AStarStrategy();
+      case "jps":
+        return new JumpPointStrategy();
+      case "parallel":
+        return new ParallelBfsStrategy();
+      case "dial":
+        return new DialStrategy();
+      case "bits":
+        return new BitParallelStrategy();
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Helper method for printing the path. With --compact it is printed on one
+   * line as the start and the runs of moves from there, which is much shorter
+   * for long paths.
+   * 
+   * @param grid    the grid the path goes through
+   * @param path    the cell indices from start to finish
+   * @param compact true to print the path as runs of moves instead of a line
+   *                per step
+   */
+  private static void printPath(MazeGrid grid, int[] path, boolean compact) {
+    printPath(path, grid.getCols(), compact, System.out);
+  }
+
+  /**
+   * Helper method for printing the path of a maze that isn't held in a grid
+   * 
+   * @param path    the cell indices from start to finish
+   * @param cols    the number of columns in the maze
+   * @param compact true to print the path as runs of moves instead of a line
+   *                per step
+   */
+  private static void printPath(int[] path, int cols, boolean compact) {
+    printPath(path, cols, compact, System.out);
+  }
+
+  /**
+   * Helper method for printing the path to any stream, so the benchmarks can
+   * print it without writing to the console. The path goes through a
+   * {@link PathWriter} and the stream is flushed once at the end.
+   * 
+   * @param grid    the grid the path goes through
+   * @param path    the cell indices from start to finish
+   * @param compact true to print the path as runs of moves instead of a line
+   *                per step
+   * @param out     the stream to print to
+   */
+  static void printPath(MazeGrid grid, int[] path, boolean compact, PrintStream out) {
+    printPath(path, grid.getCols(), compact, out);
+  }
+
+  /**
+   * Helper method that all the others print the path with
+   * 
+   * @param path    the cell indices from start to finish
+   * @param cols    the number of columns in the maze
+   * @param compact true to print the path as runs of moves instead of a line
+   *                per step
+   * @param out     the stream to print to
+   */
+  private static void printPath(int[] path, int cols, boolean compact, PrintStream out) {
+    PathWriter writer = new PathWriter(out);
+    try {
+      if (compact) {
+        writer.writeCompact(path, cols);
+      } else {
+        writer.writePath(path, cols);
+      }
+      writer.flush();
+    } catch (IOException e) {
+      // A PrintStream keeps its errors to itself, so this never happens
+    }
+  }
+
+  /**
+   * Helper method for getting the maze from the user. The maze is read from the
+   * file if one was given, otherwise from standard input. Binary maze files are
+   * memory mapped instead of being parsed.
+   * 
+   * @param mazeFile the file to read, or null to read standard input
+   * @return the grid representing the maze
+   * @throws IOException          if the input can't be read
+   * @throws InvalidMazeException if the input isn't a valid maze
+   */
+  private static MazeGrid getUserInput(Path mazeFile) throws IOException, InvalidMazeException {
+    if (mazeFile != null) {
+      return BinaryMazeFormat.load(mazeFile);
+    }
+
+    // We are assuming that the user has only input correct data, and the loader
+    // will tell us if they haven't
+    return MazeLoader.load(System.in);
   }
 }
@@ -0,0 +1,102 @@
+package com.awtpi314.project5;
+
+import java.nio.ByteBuffer;
+
+import com.awtpi314.project5.interfaces.CellStore;
+
+/**
+ * <h3>PackedCellStore</h3>
+ *
+ * Keeps each cell code in two bits, four cells to a byte with the first cell in
+ * the lowest bits. Only {@link MazeGrid#WALL}, {@link MazeGrid#OPEN},
+ * {@link MazeGrid#START} and {@link MazeGrid#FINISH} fit. The buffer can be a
+ * memory mapped file, which is how {@link BinaryMazeFormat} searches a maze in
+ * place without copying it onto the heap.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class PackedCellStore implements CellStore {
+  /**
+   * The packed cells, starting at position zero
+   */
+  private final ByteBuffer packed;
+  /**
+   * The number of cells in the store
+   */
+  private final int size;
+
+  /**
+   * Constructor that allocates a store of walls on the heap
+   *
+   * @param size the number of cells
+   */
+  public PackedCellStore(int size) {
+    this(ByteBuffer.allocate(packedLength(size)), size);
+  }
+
+  /**
+   * Constructor that wraps cells that are already packed
+   *
+   * @param packed the packed cells, starting at position zero
+   * @param size   the number of cells
+   */
+  public PackedCellStore(ByteBuffer packed, int size) {
+    if (packed.capacity() < packedLength(size)) {
+      throw new IllegalArgumentException("Buffer is too small for " + size + " cells");
+    }
+
+    this.packed = packed;
+    this.size = size;
+  }
+
+  /**
+   * Works out how many bytes it takes to pack a number of cells
+   *
+   * @param size the number of cells
+   * @return the number of bytes
+   */
+  public static int packedLength(int size) {
+    return (int) (((long) size + 3) >> 2);
+  }
+
+  /**
+   * Getter for the code of a cell
+   *
+   * @param index the cell index
+   * @return the cell code
+   */
+  @Override
+  public byte get(int index) {
+    return (byte) ((packed.get(index >>> 2) >>> ((index & 3) << 1)) & 3);
+  }
+
+  /**
+   * Setter for the code of a cell
+   *
+   * @param index the cell index
+   * @param type  the new cell code
+   */
+  @Override
+  public void set(int index, byte type) {
+    if (type < 0 || type > MazeGrid.FINISH) {
+      throw new IllegalArgumentException("Cell code " + type + " doesn't fit in two bits");
+    }
+
+    int shift = (index & 3) << 1;
+    int slot = index >>> 2;
+    // Clear the two bits for this cell and then write the new ones
+    packed.put(slot, (byte) ((packed.get(slot) & ~(3 << shift)) | (type << shift)));
+  }
+
+  /**
+   * Getter for the number of cells in the store
+   *
+   * @return the number of cells
+   */
+  @Override
+  public int size() {
+    return size;
+  }
+}
@@ -0,0 +1,52 @@
+package com.awtpi314.project5;
+
+/**
+ * <h3>PackedDirections</h3>
+ *
+ * Stores one cardinal direction per cell using only two bits, so four cells
+ * share a single byte. This is what the solver uses instead of a
+ * {@link Coordinate} per cell to remember which neighbour discovered a cell.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class PackedDirections {
+  /**
+   * The backing array, four directions per byte
+   */
+  private final byte[] packed;
+
+  /**
+   * Constructor that allocates enough room for the number of cells passed
+   *
+   * @param cellCount the number of directions that will be stored
+   */
+  public PackedDirections(int cellCount) {
+    packed = new byte[(int) (((long) cellCount + 3) >> 2)];
+  }
+
+  /**
+   * Getter for the direction stored at an index
+   *
+   * @param index the cell index
+   * @return one of {@link MazeGrid#NORTH}, {@link MazeGrid#EAST},
+   *         {@link MazeGrid#SOUTH} or {@link MazeGrid#WEST}
+   */
+  public int get(int index) {
+    return (packed[index >>> 2] >>> ((index & 3) << 1)) & 3;
+  }
+
+  /**
+   * Setter for the direction stored at an index
+   *
+   * @param index     the cell index
+   * @param direction the two bit direction code to store
+   */
+  public void set(int index, int direction) {
+    int shift = (index & 3) << 1;
+    int slot = index >>> 2;
+    // Clear the two bits for this cell and then write the new ones
+    packed[slot] = (byte) ((packed[slot] & ~(3 << shift)) | ((direction & 3) << shift));
+  }
+}
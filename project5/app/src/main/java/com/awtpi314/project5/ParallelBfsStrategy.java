@@ -0,0 +1,314 @@
+package com.awtpi314.project5;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.awtpi314.project5.interfaces.SearchStrategy;
+
+/**
+ * <h3>ParallelBfsStrategy</h3>
+ *
+ * A level-synchronous breadth-first search that expands each level across a
+ * {@link ForkJoinPool}. The current level is split into chunks, and every
+ * chunk claims the cells it discovers with
+ * {@link SearchState#claim(int, int)} so each cell is only ever added once.
+ * Discovered cells go into a buffer per chunk, and the buffers are joined
+ * together to make the next level. Because a whole level finishes before the
+ * next one starts, the distances are the same as a normal breadth-first search
+ * and the path is still a shortest path.
+ *
+ * <p>
+ * The packed parent directions can't be written safely from several threads
+ * since four cells share a byte, so the path is rebuilt from the distances
+ * instead with {@link SearchState#reconstructPathFromDistances(int)}.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class ParallelBfsStrategy implements SearchStrategy {
+  /**
+   * Levels smaller than this are expanded on the calling thread because
+   * splitting them up costs more than it saves
+   */
+  public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 4096;
+  /**
+   * Number of cells each chunk of a level gets at the least
+   */
+  private static final int MIN_CHUNK = 512;
+
+  /**
+   * The pool the levels are expanded on
+   */
+  private final ForkJoinPool pool;
+  /**
+   * Levels smaller than this are expanded on the calling thread
+   */
+  private final int sequentialThreshold;
+
+  /**
+   * Constructor that uses the common pool
+   */
+  public ParallelBfsStrategy() {
+    this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+  }
+
+  /**
+   * Constructor that takes the pool to run on and the level size where it is
+   * worth splitting the work up
+   *
+   * @param pool                the pool the levels are expanded on
+   * @param sequentialThreshold levels smaller than this are expanded on the
+   *                            calling thread
+   */
+  public ParallelBfsStrategy(ForkJoinPool pool, int sequentialThreshold) {
+    this.pool = pool;
+    this.sequentialThreshold = sequentialThreshold;
+  }
+
+  /**
+   * This method performs the level-synchronous search and returns the path as
+   * cell indices
+   *
+   * @param state  the search state for the grid being searched
+   * @param start  the cell index to start from
+   * @param target the cell index to find
+   * @return the cell indices from the start to the target, or null if there is
+   *         no path
+   */
+  @Override
+  public int[] findPath(SearchState state, int start, int target) {
+    // The chunk buffers belong to this call so one strategy can be shared
+    ChunkBuffers chunkBuffers = new ChunkBuffers();
+    int[] frontier = { start };
+    int frontierSize = 1;
+    int level = 0;
+    state.setDist(start, 0);
+
+    // Keep going until a level comes back empty or the target has been claimed
+    while (frontierSize > 0 && !state.isVisited(target) && !state.shouldStop(frontierSize)) {
+      state.addNodesExpanded(frontierSize);
+      state.recordFrontier(frontierSize);
+      int chunks = chunkCount(frontierSize);
+      chunkBuffers.ensure(chunks);
+
+      if (chunks == 1) {
+        expand(state, chunkBuffers, frontier, 0, frontierSize, level + 1, 0);
+      } else {
+        pool.invoke(new ExpandTask(state, chunkBuffers, frontier, frontierSize, chunks, level + 1, 0, chunks));
+      }
+
+      // Join the per-chunk buffers together into the next level
+      int[][] buffers = chunkBuffers.buffers;
+      int[] counts = chunkBuffers.counts;
+      int nextSize = 0;
+      for (int i = 0; i < chunks; i++) {
+        nextSize += counts[i];
+      }
+      int[] next = frontier.length >= nextSize ? frontier : new int[Math.max(nextSize, frontier.length * 2)];
+      int position = 0;
+      for (int i = 0; i < chunks; i++) {
+        System.arraycopy(buffers[i], 0, next, position, counts[i]);
+        position += counts[i];
+      }
+
+      frontier = next;
+      frontierSize = nextSize;
+      level++;
+    }
+
+    if (!state.isVisited(target)) {
+      // We have no path to the target. Return null to indicate that.
+      return null;
+    }
+
+    state.startReconstruction();
+    int[] path = state.reconstructPathFromDistances(target);
+    // Fill in the parents along the path so the location adapter works
+    state.markPath(path);
+    return path;
+  }
+
+  /**
+   * Works out how many chunks to split a level into
+   *
+   * @param frontierSize the number of cells in the level
+   * @return the number of chunks
+   */
+  private int chunkCount(int frontierSize) {
+    if (frontierSize < sequentialThreshold) {
+      return 1;
+    }
+
+    // A few chunks per thread so the pool can balance uneven chunks
+    return Math.max(1, Math.min(pool.getParallelism() * 4, frontierSize / MIN_CHUNK));
+  }
+
+  /**
+   * Expands one chunk of a level. Each neighbour that this chunk manages to
+   * claim is written to the chunk's own buffer.
+   *
+   * @param state        the search state for the grid being searched
+   * @param chunkBuffers the buffers the chunks write into
+   * @param frontier     the cells in the current level
+   * @param from         the first position in the frontier for this chunk
+   * @param to           one past the last position in the frontier for this
+   *                     chunk
+   * @param distance     the distance of the next level
+   * @param chunk        the chunk number, which picks the buffer
+   */
+  private static void expand(SearchState state, ChunkBuffers chunkBuffers, int[] frontier, int from, int to,
+      int distance, int chunk) {
+    MazeGrid grid = state.getGrid();
+    int cols = grid.getCols();
+    int rows = grid.getRows();
+    int[] buffer = chunkBuffers.buffers[chunk];
+    int count = 0;
+
+    for (int i = from; i < to; i++) {
+      int current = frontier[i];
+      int y = current / cols;
+      int x = current - y * cols;
+
+      // Every cell can add at most four neighbours
+      if (count + 4 > buffer.length) {
+        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        chunkBuffers.buffers[chunk] = buffer;
+      }
+
+      if (x > 0 && grid.isPassable(current - 1) && state.claim(current - 1, distance)) {
+        buffer[count++] = current - 1;
+      }
+      if (x < cols - 1 && grid.isPassable(current + 1) && state.claim(current + 1, distance)) {
+        buffer[count++] = current + 1;
+      }
+      if (y > 0 && grid.isPassable(current - cols) && state.claim(current - cols, distance)) {
+        buffer[count++] = current - cols;
+      }
+      if (y < rows - 1 && grid.isPassable(current + cols) && state.claim(current + cols, distance)) {
+        buffer[count++] = current + cols;
+      }
+    }
+
+    chunkBuffers.counts[chunk] = count;
+  }
+
+  /**
+   * <h3>ChunkBuffers</h3>
+   *
+   * One buffer per chunk that the chunk writes its discovered cells into, and
+   * how many cells each chunk wrote during the current level. These are kept
+   * between levels of a search so they only grow.
+   */
+  private static class ChunkBuffers {
+    /**
+     * The buffer for each chunk
+     */
+    private int[][] buffers = new int[0][];
+    /**
+     * How many cells each chunk wrote into its buffer
+     */
+    private int[] counts = new int[0];
+
+    /**
+     * Makes sure there is a buffer and a count for every chunk
+     *
+     * @param chunks the number of chunks in this level
+     */
+    void ensure(int chunks) {
+      if (buffers.length < chunks) {
+        int oldLength = buffers.length;
+        buffers = Arrays.copyOf(buffers, chunks);
+        counts = new int[chunks];
+        for (int i = oldLength; i < chunks; i++) {
+          buffers[i] = new int[MIN_CHUNK];
+        }
+      }
+    }
+  }
+
+  /**
+   * <h3>ExpandTask</h3>
+   *
+   * Splits a range of chunks in half until there is only one left, and then
+   * expands that chunk
+   */
+  private static class ExpandTask extends RecursiveAction {
+    /**
+     * The search state for the grid being searched
+     */
+    private final SearchState state;
+    /**
+     * The buffers the chunks write into
+     */
+    private final ChunkBuffers chunkBuffers;
+    /**
+     * The cells in the current level
+     */
+    private final int[] frontier;
+    /**
+     * The number of cells in the current level
+     */
+    private final int frontierSize;
+    /**
+     * The number of chunks the level is split into
+     */
+    private final int chunks;
+    /**
+     * The distance of the next level
+     */
+    private final int distance;
+    /**
+     * The first chunk this task covers
+     */
+    private final int firstChunk;
+    /**
+     * One past the last chunk this task covers
+     */
+    private final int lastChunk;
+
+    /**
+     * All parameter constructor
+     *
+     * @param state        the search state for the grid being searched
+     * @param chunkBuffers the buffers the chunks write into
+     * @param frontier     the cells in the current level
+     * @param frontierSize the number of cells in the current level
+     * @param chunks       the number of chunks the level is split into
+     * @param distance     the distance of the next level
+     * @param firstChunk   the first chunk this task covers
+     * @param lastChunk    one past the last chunk this task covers
+     */
+    ExpandTask(SearchState state, ChunkBuffers chunkBuffers, int[] frontier, int frontierSize, int chunks,
+        int distance, int firstChunk, int lastChunk) {
+      this.state = state;
+      this.chunkBuffers = chunkBuffers;
+      this.frontier = frontier;
+      this.frontierSize = frontierSize;
+      this.chunks = chunks;
+      this.distance = distance;
+      this.firstChunk = firstChunk;
+      this.lastChunk = lastChunk;
+    }
+
+    /**
+     * Either splits the range of chunks or expands the single chunk left
+     */
+    @Override
+    protected void compute() {
+      if (lastChunk - firstChunk == 1) {
+        // Spread the cells out evenly over the chunks
+        int from = (int) ((long) frontierSize * firstChunk / chunks);
+        int to = (int) ((long) frontierSize * lastChunk / chunks);
+        expand(state, chunkBuffers, frontier, from, to, distance, firstChunk);
+        return;
+      }
+
+      int middle = (firstChunk + lastChunk) >>> 1;
+      invokeAll(new ExpandTask(state, chunkBuffers, frontier, frontierSize, chunks, distance, firstChunk, middle),
+          new ExpandTask(state, chunkBuffers, frontier, frontierSize, chunks, distance, middle, lastChunk));
+    }
+  }
+}
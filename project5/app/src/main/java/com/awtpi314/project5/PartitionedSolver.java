@@ -0,0 +1,419 @@
+package com.awtpi314.project5;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h3>PartitionedSolver</h3>
+ *
+ * Breadth-first search over more than one JVM, for mazes whose search state
+ * doesn't fit in one heap or wants more cores than one machine's JVM will
+ * use well. The maze is cut into bands of whole rows and each band is given
+ * to a {@link BandWorker} running in a process of its own. The workers talk to
+ * this coordinator over loopback sockets.
+ *
+ * <p>
+ * The search runs one level at a time. Each level every worker searches its
+ * band, and the only thing sent back is the columns it reached in the rows
+ * just outside its band. Those are passed to the band that owns them, which
+ * starts from them in the next level. Once a worker reaches the target, the
+ * path is pieced together by asking each band for the parents through its
+ * rows, starting at the target. The coordinator keeps the cells of the maze
+ * to hand out, but none of the search state.
+ * </p>
+ *
+ * <p>
+ * Workers are started when the solver is made and used for every maze after
+ * that, so closing the solver is what stops them.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class PartitionedSolver implements AutoCloseable {
+  /**
+   * How long to wait for the workers to start and connect
+   */
+  private static final int CONNECT_TIMEOUT_MILLIS = 60_000;
+
+  /**
+   * The worker processes
+   */
+  private final List<Process> processes = new ArrayList<>();
+  /**
+   * The connection to each worker
+   */
+  private final List<Socket> sockets = new ArrayList<>();
+  /**
+   * Messages to each worker
+   */
+  private final List<DataOutputStream> outs = new ArrayList<>();
+  /**
+   * Answers from each worker
+   */
+  private final List<DataInputStream> ins = new ArrayList<>();
+  /**
+   * The first row of each band in use, with the number of rows at the end
+   */
+  private int[] bandStarts;
+  /**
+   * Number of columns in the maze being solved
+   */
+  private int cols;
+  /**
+   * Number of levels the last search went through
+   */
+  private int levels;
+  /**
+   * Number of boundary cells passed between bands in the last search
+   */
+  private long boundaryCells;
+
+  /**
+   * Constructor that starts the workers, each in its own JVM on this machine
+   *
+   * @param workers    the number of workers to start
+   * @param jvmOptions options for the worker JVMs, like a heap size
+   * @throws IOException if the workers can't be started or don't connect
+   */
+  public PartitionedSolver(int workers, String... jvmOptions) throws IOException {
+    if (workers < 1) {
+      throw new IllegalArgumentException("A partitioned solver needs at least one worker");
+    }
+
+    try (ServerSocket server = new ServerSocket(0, workers, InetAddress.getLoopbackAddress())) {
+      server.setSoTimeout(CONNECT_TIMEOUT_MILLIS);
+
+      // The workers run from the same class path as we do
+      List<String> command = new ArrayList<>();
+      command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+      command.addAll(List.of(jvmOptions));
+      command.add("-cp");
+      command.add(System.getProperty("java.class.path"));
+      command.add(BandWorker.class.getName());
+      command.add(Integer.toString(server.getLocalPort()));
+      for (int i = 0; i < workers; i++) {
+        processes.add(new ProcessBuilder(command).inheritIO().start());
+      }
+
+      // Bands are handed out in the order the workers connect
+      for (int i = 0; i < workers; i++) {
+        Socket socket = server.accept();
+        socket.setTcpNoDelay(true);
+        sockets.add(socket);
+        outs.add(new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 1 << 16)));
+        ins.add(new DataInputStream(new BufferedInputStream(socket.getInputStream(), 1 << 16)));
+      }
+    } catch (IOException e) {
+      stopWorkers();
+      throw e;
+    }
+  }
+
+  /**
+   * Getter for the number of workers
+   *
+   * @return the number of worker processes
+   */
+  public int getWorkers() {
+    return sockets.size();
+  }
+
+  /**
+   * Getter for the number of levels the last search went through, which is
+   * the number of times every worker was waited on
+   *
+   * @return the number of levels
+   */
+  public int getLevels() {
+    return levels;
+  }
+
+  /**
+   * Getter for the number of boundary cells passed between bands in the last
+   * search
+   *
+   * @return the number of cells sent across band edges
+   */
+  public long getBoundaryCells() {
+    return boundaryCells;
+  }
+
+  /**
+   * Finds the shortest path from the S to the T of a maze
+   *
+   * @param grid the maze to solve
+   * @return the path as locations, the same as
+   *         {@link MazeSolver#breadthFirstSearch()}, or null if there is no
+   *         path
+   * @throws IOException if a worker can't be reached
+   */
+  public Location[] solve(MazeGrid grid) throws IOException {
+    int[] path = findPath(grid, grid.getStart(), grid.getFinish());
+    if (path == null) {
+      return null;
+    }
+
+    // Every step along a breadth-first path is one hop further from the start
+    Location[] locations = new Location[path.length];
+    for (int i = 0; i < path.length; i++) {
+      Coordinate position = new Coordinate(grid.getX(path[i]), grid.getY(path[i]));
+      Coordinate lastPoint = i == 0 ? null : new Coordinate(grid.getX(path[i - 1]), grid.getY(path[i - 1]));
+      locations[i] = new Location(position, lastPoint, grid.getSquareType(path[i]), i);
+    }
+
+    return locations;
+  }
+
+  /**
+   * Finds the shortest path between two cells of a maze
+   *
+   * @param grid   the maze to search
+   * @param start  the cell index to start from
+   * @param target the cell index to find
+   * @return the cell indices from the start to the target, or null if there is
+   *         no path
+   * @throws IOException if a worker can't be reached
+   */
+  public int[] findPath(MazeGrid grid, int start, int target) throws IOException {
+    levels = 0;
+    boundaryCells = 0;
+    int cellCount = grid.getCellCount();
+    if (start < 0 || target < 0 || start >= cellCount || target >= cellCount || !grid.isPassable(start)
+        || !grid.isPassable(target)) {
+      return null;
+    }
+    if (start == target) {
+      return new int[] { start };
+    }
+
+    share(grid, start, target);
+    int bands = bandStarts.length - 1;
+    // Columns waiting to be passed to each band in the next level
+    IntList[] fromAbove = new IntList[bands];
+    IntList[] fromBelow = new IntList[bands];
+    for (int band = 0; band < bands; band++) {
+      fromAbove[band] = new IntList();
+      fromBelow[band] = new IntList();
+    }
+
+    while (true) {
+      levels++;
+      // Every band searches its level at the same time
+      for (int band = 0; band < bands; band++) {
+        DataOutputStream out = outs.get(band);
+        out.writeByte(BandWorker.LEVEL);
+        BandWorker.writeList(out, fromAbove[band]);
+        BandWorker.writeList(out, fromBelow[band]);
+        out.flush();
+        fromAbove[band].clear();
+        fromBelow[band].clear();
+      }
+
+      boolean found = false;
+      long waiting = 0;
+      for (int band = 0; band < bands; band++) {
+        DataInputStream in = ins.get(band);
+        found |= in.readBoolean();
+        waiting += in.readInt();
+        // Cells reached in the row above belong to the band above, and came
+        // from below as far as it is concerned
+        int moved = readInto(in, band > 0 ? fromBelow[band - 1] : null);
+        moved += readInto(in, band < bands - 1 ? fromAbove[band + 1] : null);
+        boundaryCells += moved;
+        waiting += moved;
+      }
+
+      if (found) {
+        return reconstruct(target);
+      }
+      if (waiting == 0) {
+        return null;
+      }
+    }
+  }
+
+  /**
+   * Stops every worker
+   */
+  @Override
+  public void close() {
+    stopWorkers();
+  }
+
+  /**
+   * Tells every connected worker to quit and waits for every process that was
+   * started, including ones that never connected. Kept private so the
+   * constructor can clean up without calling a method a subclass could change.
+   */
+  private void stopWorkers() {
+    for (int i = 0; i < sockets.size(); i++) {
+      try {
+        outs.get(i).writeByte(BandWorker.QUIT);
+        outs.get(i).flush();
+        sockets.get(i).close();
+      } catch (IOException e) {
+        // The worker is already gone
+      }
+    }
+
+    for (Process process : processes) {
+      try {
+        if (!process.waitFor(5, TimeUnit.SECONDS)) {
+          process.destroyForcibly();
+        }
+      } catch (InterruptedException e) {
+        process.destroyForcibly();
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Cuts the maze into bands and sends each worker its band along with the
+   * rows either side of it
+   *
+   * @param grid   the maze to search
+   * @param start  the cell index to start from
+   * @param target the cell index to find
+   * @throws IOException if a worker can't be reached
+   */
+  private void share(MazeGrid grid, int start, int target) throws IOException {
+    int rows = grid.getRows();
+    cols = grid.getCols();
+    // A maze with fewer rows than workers leaves some of them out
+    int bands = Math.min(sockets.size(), rows);
+    bandStarts = new int[bands + 1];
+    for (int band = 0; band <= bands; band++) {
+      bandStarts[band] = (int) ((long) band * rows / bands);
+    }
+
+    byte[] row = new byte[cols];
+    for (int band = 0; band < bands; band++) {
+      DataOutputStream out = outs.get(band);
+      int firstRow = bandStarts[band];
+      int lastRow = bandStarts[band + 1];
+      out.writeByte(BandWorker.INIT);
+      out.writeInt(rows);
+      out.writeInt(cols);
+      out.writeInt(firstRow);
+      out.writeInt(lastRow - firstRow);
+      out.writeInt(start);
+      out.writeInt(target);
+      // The band itself, then the row above it and the row below it
+      for (int y = firstRow; y < lastRow; y++) {
+        writeRow(out, grid, y, row);
+      }
+      if (firstRow > 0) {
+        writeRow(out, grid, firstRow - 1, row);
+      }
+      if (lastRow < rows) {
+        writeRow(out, grid, lastRow, row);
+      }
+      out.flush();
+    }
+  }
+
+  /**
+   * Pieces the path together from the target back to the start, one band at a
+   * time
+   *
+   * @param target the cell index that was reached
+   * @return the cell indices from the start to the target
+   * @throws IOException if a worker can't be reached
+   */
+  private int[] reconstruct(int target) throws IOException {
+    IntList backwards = new IntList();
+    int cell = target;
+
+    while (cell >= 0) {
+      int band = bandOf(cell / cols);
+      DataOutputStream out = outs.get(band);
+      out.writeByte(BandWorker.CHAIN);
+      out.writeInt(cell);
+      out.flush();
+
+      DataInputStream in = ins.get(band);
+      for (int i = in.readInt(); i > 0; i--) {
+        backwards.add(in.readInt());
+      }
+      cell = in.readInt();
+    }
+
+    int[] path = new int[backwards.size()];
+    for (int i = 0; i < path.length; i++) {
+      path[i] = backwards.get(path.length - 1 - i);
+    }
+    return path;
+  }
+
+  /**
+   * Finds the band a row is in
+   *
+   * @param row the row of the maze
+   * @return the band holding the row
+   */
+  private int bandOf(int row) {
+    int low = 0;
+    int high = bandStarts.length - 2;
+    while (low < high) {
+      int middle = (low + high + 1) >>> 1;
+      if (bandStarts[middle] <= row) {
+        low = middle;
+      } else {
+        high = middle - 1;
+      }
+    }
+
+    return low;
+  }
+
+  /**
+   * Reads a list of columns from a worker, adding them to the list for the
+   * band they belong to
+   *
+   * @param in   the answer being read
+   * @param into the list to add them to, or null if there is no band there
+   * @return the number of columns read
+   * @throws IOException if the worker can't be reached
+   */
+  private static int readInto(DataInputStream in, IntList into) throws IOException {
+    int count = in.readInt();
+    for (int i = 0; i < count; i++) {
+      int x = in.readInt();
+      if (into != null) {
+        into.add(x);
+      }
+    }
+
+    return count;
+  }
+
+  /**
+   * Writes one row of the maze to a worker
+   *
+   * @param out  the message being written
+   * @param grid the maze
+   * @param y    the row to write
+   * @param row  a buffer the width of the maze
+   * @throws IOException if the worker can't be reached
+   */
+  private static void writeRow(DataOutputStream out, MazeGrid grid, int y, byte[] row) throws IOException {
+    int first = y * grid.getCols();
+    for (int x = 0; x < row.length; x++) {
+      row[x] = grid.getType(first + x);
+    }
+    out.write(row);
+  }
+}
@@ -0,0 +1,233 @@
+package com.awtpi314.project5;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * <h3>PathWriter</h3>
+ *
+ * Writes paths as text without going through a formatter. The digits of each
+ * coordinate are worked out straight into a byte buffer that is reused for the
+ * whole path, and the buffer is only handed to the stream once it is full, so
+ * a path of millions of steps takes a few hundred writes instead of one
+ * synchronized printf per step.
+ *
+ * <p>
+ * A path can be written one step per line as "&lt;y x&gt;", the same as the
+ * solver has always printed it, or compactly as the first step followed by
+ * the direction of every move after it. Runs of moves in the same direction
+ * are written once with their length after them, so "&lt;0 0&gt; E3S2N" is
+ * three steps east, two south and one north from the top left corner. Long
+ * straight corridors take a few bytes instead of a line per cell.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class PathWriter implements Flushable {
+  /**
+   * Size of the buffer used when none is given
+   */
+  public static final int BUFFER_SIZE = 1 << 16;
+  /**
+   * The most bytes one step can take, which is two ten digit numbers and the
+   * brackets, space and newline around them
+   */
+  private static final int MAX_STEP = 24;
+  /**
+   * The letter for each direction, indexed by {@link MazeGrid#NORTH} and the
+   * others
+   */
+  private static final byte[] LETTERS = { 'N', 'E', 'S', 'W' };
+
+  /**
+   * The stream the text goes to
+   */
+  private final OutputStream out;
+  /**
+   * The text that hasn't been written to the stream yet
+   */
+  private final byte[] buffer;
+  /**
+   * Number of bytes in the buffer
+   */
+  private int count;
+
+  /**
+   * Constructor that uses the default buffer size
+   *
+   * @param out the stream to write to
+   */
+  public PathWriter(OutputStream out) {
+    this(out, BUFFER_SIZE);
+  }
+
+  /**
+   * Constructor that takes the size of the buffer
+   *
+   * @param out        the stream to write to
+   * @param bufferSize the number of bytes held before writing to the stream
+   */
+  public PathWriter(OutputStream out, int bufferSize) {
+    if (bufferSize < MAX_STEP) {
+      throw new IllegalArgumentException("The buffer has to hold at least one step");
+    }
+    this.out = out;
+    this.buffer = new byte[bufferSize];
+  }
+
+  /**
+   * Writes a path one step per line
+   *
+   * @param grid the grid the path goes through
+   * @param path the cell indices of the path
+   * @throws IOException if the stream can't be written
+   */
+  public void writePath(MazeGrid grid, int[] path) throws IOException {
+    writePath(path, grid.getCols());
+  }
+
+  /**
+   * Writes a path one step per line, for mazes that aren't held in a grid
+   *
+   * @param path the cell indices of the path
+   * @param cols the number of columns in the maze
+   * @throws IOException if the stream can't be written
+   */
+  public void writePath(int[] path, int cols) throws IOException {
+    for (int node : path) {
+      if (count > buffer.length - MAX_STEP) {
+        drain();
+      }
+      writeStep(node, cols);
+      buffer[count++] = '\n';
+    }
+  }
+
+  /**
+   * Writes a path on one line as its first step and the runs of moves after
+   * it
+   *
+   * @param grid the grid the path goes through
+   * @param path the cell indices of the path
+   * @throws IOException if the stream can't be written
+   */
+  public void writeCompact(MazeGrid grid, int[] path) throws IOException {
+    writeCompact(path, grid.getCols());
+  }
+
+  /**
+   * Writes a path on one line as its first step and the runs of moves after
+   * it, for mazes that aren't held in a grid
+   *
+   * @param path the cell indices of the path
+   * @param cols the number of columns in the maze
+   * @throws IOException if the stream can't be written
+   */
+  public void writeCompact(int[] path, int cols) throws IOException {
+    if (count > buffer.length - MAX_STEP) {
+      drain();
+    }
+    writeStep(path[0], cols);
+    if (path.length > 1) {
+      buffer[count++] = ' ';
+    }
+
+    int i = 1;
+    while (i < path.length) {
+      // Count how many moves in a row go the same way
+      int move = path[i] - path[i - 1];
+      int run = 1;
+      while (i + run < path.length && path[i + run] - path[i + run - 1] == move) {
+        run++;
+      }
+      i += run;
+
+      if (count > buffer.length - MAX_STEP) {
+        drain();
+      }
+      // Columns are checked first so a maze one column wide still works
+      int direction = move == cols ? MazeGrid.SOUTH
+          : move == -cols ? MazeGrid.NORTH : move == 1 ? MazeGrid.EAST : MazeGrid.WEST;
+      buffer[count++] = LETTERS[direction];
+      if (run > 1) {
+        writeInt(run);
+      }
+    }
+    buffer[count++] = '\n';
+  }
+
+  /**
+   * Writes some plain ASCII text, like the total distance
+   *
+   * @param text the text to write
+   * @throws IOException if the stream can't be written
+   */
+  public void write(String text) throws IOException {
+    for (int i = 0; i < text.length(); i++) {
+      if (count == buffer.length) {
+        drain();
+      }
+      buffer[count++] = (byte) text.charAt(i);
+    }
+  }
+
+  /**
+   * Writes everything in the buffer to the stream and flushes it
+   *
+   * @throws IOException if the stream can't be written
+   */
+  @Override
+  public void flush() throws IOException {
+    drain();
+    out.flush();
+  }
+
+  /**
+   * Writes a step as "&lt;y x&gt;". The caller makes sure there is room.
+   *
+   * @param node the cell index
+   * @param cols the number of columns in the maze
+   */
+  private void writeStep(int node, int cols) {
+    buffer[count++] = '<';
+    writeInt(node / cols);
+    buffer[count++] = ' ';
+    writeInt(node % cols);
+    buffer[count++] = '>';
+  }
+
+  /**
+   * Writes a number that isn't negative. The caller makes sure there is room.
+   *
+   * @param value the number to write
+   */
+  private void writeInt(int value) {
+    // Count the digits so they can be filled in from the right
+    int digits = 1;
+    for (int rest = value / 10; rest > 0; rest /= 10) {
+      digits++;
+    }
+
+    int end = count + digits;
+    for (int i = end - 1; i >= count; i--) {
+      buffer[i] = (byte) ('0' + value % 10);
+      value /= 10;
+    }
+    count = end;
+  }
+
+  /**
+   * Hands the buffer to the stream without flushing the stream
+   *
+   * @throws IOException if the stream can't be written
+   */
+  private void drain() throws IOException {
+    if (count > 0) {
+      out.write(buffer, 0, count);
+      count = 0;
+    }
+  }
+}
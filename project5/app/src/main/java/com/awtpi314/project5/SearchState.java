@@ -0,0 +1,719 @@
+package com.awtpi314.project5;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+import com.awtpi314.project5.events.ReconstructEvent;
+import com.awtpi314.project5.events.SearchEvent;
+
+/**
+ * <h3>SearchState</h3>
+ *
+ * Everything a search writes while it runs: the distance and parent direction
+ * of every cell it reaches, plus the queues it works from. Keeping this out of
+ * {@link MazeGrid} means the maze is never changed by a search.
+ *
+ * <p>
+ * Instead of clearing the arrays between searches, every cell has a stamp and
+ * the state has an epoch. A cell has only been reached in the current search
+ * if its stamp matches the epoch, so starting a new search with
+ * {@link #begin()} just moves the epoch on. The arrays only get cleared when
+ * the epoch wraps around, which is once every four billion searches.
+ * </p>
+ *
+ * <p>
+ * A state belongs to one grid and can only be used by one search at a time.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class SearchState {
+  /**
+   * Handle used to update the stamps atomically from several threads
+   */
+  private static final VarHandle STAMP = MethodHandles.arrayElementVarHandle(int[].class);
+
+  /**
+   * The grid this state is searching
+   */
+  private final MazeGrid grid;
+  /**
+   * The epoch each cell was last reached in
+   */
+  private final int[] stamp;
+  /**
+   * Distance from the start for every cell reached in this epoch. A
+   * bidirectional search stores distances from the target as negative values
+   * below -1.
+   */
+  private final int[] dist;
+  /**
+   * The direction from each cell back to the cell that discovered it
+   */
+  private final PackedDirections parents;
+  /**
+   * The current epoch, zero means no search has started
+   */
+  private int epoch;
+  /**
+   * Number of cells expanded since the search began
+   */
+  private long nodesExpanded;
+  /**
+   * Reusable queue for searches that need one
+   */
+  private IntQueue queue;
+  /**
+   * Second reusable queue for searches that need two
+   */
+  private IntQueue secondQueue;
+  /**
+   * Reusable open list for searches that need one
+   */
+  private IntPriorityQueue openList;
+  /**
+   * Reusable bucket queues for searches that sort cells by distance into
+   * buckets
+   */
+  private IntQueue[] buckets = new IntQueue[0];
+  /**
+   * The open cells as one bit per cell, a row of words at a time. Built the
+   * first time a search asks for it.
+   */
+  private long[] openMask;
+  /**
+   * Reusable bit masks the same shape as the open mask
+   */
+  private long[][] masks = new long[0][];
+  /**
+   * The limits the current search has to stay inside
+   */
+  private SolveLimits limits = SolveLimits.NONE;
+  /**
+   * The number of cells the search will have expanded at the next check
+   */
+  private long nextCheck;
+  /**
+   * Cells left to expand before the next check
+   */
+  private long countdown;
+  /**
+   * Why the current search was stopped, or null if it hasn't been
+   */
+  private SolveResult.Status stopReason;
+  /**
+   * True if the current search is timing its phases
+   */
+  private boolean instrumented;
+  /**
+   * The {@link System#nanoTime()} the current search started
+   */
+  private long searchStart;
+  /**
+   * The {@link System#nanoTime()} the path started being built
+   */
+  private long reconstructStart;
+  /**
+   * True once the current search has found its target and started building
+   * the path
+   */
+  private boolean reconstructing;
+  /**
+   * The flight recorder event for the search phase
+   */
+  private SearchEvent searchEvent;
+  /**
+   * The flight recorder event for the path building phase
+   */
+  private ReconstructEvent reconstructEvent;
+  /**
+   * The widest frontier reported by a search that doesn't keep its frontier in
+   * one of the state's queues
+   */
+  private long peakFrontier;
+
+  /**
+   * Constructor that allocates the arrays for a grid
+   *
+   * @param grid the grid that will be searched
+   */
+  public SearchState(MazeGrid grid) {
+    this.grid = grid;
+    stamp = new int[grid.getCellCount()];
+    dist = new int[grid.getCellCount()];
+    parents = new PackedDirections(grid.getCellCount());
+  }
+
+  /**
+   * Getter for the grid this state is searching
+   *
+   * @return the grid
+   */
+  public MazeGrid getGrid() {
+    return grid;
+  }
+
+  /**
+   * Starts a new search. Everything reached by the last search is forgotten in
+   * constant time by moving to the next epoch.
+   */
+  public void begin() {
+    epoch++;
+    if (epoch == 0) {
+      // We wrapped all the way around so old stamps could match again
+      Arrays.fill(stamp, 0);
+      epoch = 1;
+    }
+    nodesExpanded = 0;
+    setLimits(SolveLimits.NONE);
+    instrumented = false;
+    peakFrontier = 0;
+    // The queues remember their peaks until they are next handed out, so forget
+    // them now in case this search doesn't use them
+    if (queue != null) {
+      queue.clear();
+    }
+    if (secondQueue != null) {
+      secondQueue.clear();
+    }
+    if (openList != null) {
+      openList.clear();
+    }
+    for (IntQueue bucket : buckets) {
+      bucket.clear();
+    }
+  }
+
+  /**
+   * Starts timing the phases of the current search. This is called after
+   * {@link #begin()}, which turns the timing off again.
+   */
+  public void startTiming() {
+    instrumented = true;
+    reconstructing = false;
+    searchEvent = new SearchEvent();
+    reconstructEvent = null;
+    searchStart = System.nanoTime();
+    searchEvent.begin();
+  }
+
+  /**
+   * Called by a search when it has found the target and starts building the
+   * path, so the time spent searching and the time spent building the path can
+   * be told apart. This does nothing unless the search is being timed.
+   */
+  public void startReconstruction() {
+    if (!instrumented || reconstructing) {
+      return;
+    }
+
+    reconstructing = true;
+    searchEvent.end();
+    reconstructStart = System.nanoTime();
+    reconstructEvent = new ReconstructEvent();
+    reconstructEvent.begin();
+  }
+
+  /**
+   * Stops timing the current search, writes its flight recorder events and
+   * gives back its stats
+   *
+   * @param strategy       the name of the strategy that did the search
+   * @param findStartNanos the time spent finding the start before the search
+   * @param path           the path the search found, or null
+   * @return the stats for the search
+   */
+  public SolveStats finishTiming(String strategy, long findStartNanos, int[] path) {
+    long end = System.nanoTime();
+    long searchEnd = reconstructing ? reconstructStart : end;
+    int pathLength = path == null ? -1 : path.length - 1;
+    SolveStats stats = new SolveStats(strategy, findStartNanos, searchEnd - searchStart,
+        reconstructing ? end - reconstructStart : 0, nodesExpanded, getPeakFrontier(), pathLength);
+
+    // Only fill in the events if a recording wants them
+    if (searchEvent.shouldCommit()) {
+      searchEvent.strategy = strategy;
+      searchEvent.nodesExpanded = stats.getNodesExpanded();
+      searchEvent.peakFrontier = stats.getPeakFrontier();
+      searchEvent.solved = path != null;
+      searchEvent.commit();
+    }
+    if (reconstructing && reconstructEvent.shouldCommit()) {
+      reconstructEvent.pathLength = pathLength;
+      reconstructEvent.commit();
+    }
+
+    instrumented = false;
+    return stats;
+  }
+
+  /**
+   * Records the size of a level for searches that keep their frontier
+   * somewhere other than the state's queues
+   *
+   * @param size the number of cells in the level
+   */
+  public void recordFrontier(long size) {
+    if (size > peakFrontier) {
+      peakFrontier = size;
+    }
+  }
+
+  /**
+   * Getter for the most cells that were waiting to be expanded at once during
+   * the current search. For searches that use more than one queue this is the
+   * sum of their peaks, which can be a little more than the true peak.
+   *
+   * @return the peak size of the frontier
+   */
+  public long getPeakFrontier() {
+    long peak = peakFrontier;
+    long queued = 0;
+    if (queue != null) {
+      queued += queue.getPeakSize();
+    }
+    if (secondQueue != null) {
+      queued += secondQueue.getPeakSize();
+    }
+    if (openList != null) {
+      queued += openList.getPeakSize();
+    }
+    for (IntQueue bucket : buckets) {
+      queued += bucket.getPeakSize();
+    }
+
+    return Math.max(peak, queued);
+  }
+
+  /**
+   * Sets the limits the current search has to stay inside. This is called after
+   * {@link #begin()}, which goes back to having no limits.
+   *
+   * @param limits the limits for the search
+   */
+  public void setLimits(SolveLimits limits) {
+    this.limits = limits;
+    stopReason = null;
+    nextCheck = 0;
+    countdown = 0;
+    scheduleCheck();
+  }
+
+  /**
+   * Getter for why the current search was stopped
+   *
+   * @return the reason, or null if the search wasn't stopped by its limits
+   */
+  public SolveResult.Status getStopReason() {
+    return stopReason;
+  }
+
+  /**
+   * Called by a search before it expands a cell. Most of the time this just
+   * counts down, and the limits are only checked once the count runs out.
+   *
+   * @return true if the search has to stop without expanding the cell
+   */
+  public boolean shouldStop() {
+    return --countdown <= 0 && checkLimits();
+  }
+
+  /**
+   * Called by a search before it expands a group of cells at once, such as a
+   * whole level
+   *
+   * @param count the number of cells about to be expanded
+   * @return true if the search has to stop without expanding them
+   */
+  public boolean shouldStop(long count) {
+    countdown -= count;
+    return countdown <= 0 && checkLimits();
+  }
+
+  /**
+   * Checks every limit and decides when to check again
+   *
+   * @return true if the search has to stop
+   */
+  private boolean checkLimits() {
+    // The cells expanded so far, counting the ones about to be
+    long expanded = nextCheck - countdown;
+    if (expanded > limits.getNodeBudget()) {
+      stopReason = SolveResult.Status.BUDGET_EXHAUSTED;
+    } else if (limits.isCancelled()) {
+      stopReason = SolveResult.Status.CANCELLED;
+    } else if (limits.isPastDeadline()) {
+      stopReason = SolveResult.Status.TIMED_OUT;
+    }
+    if (stopReason != null) {
+      // Stay stopped however many more times the search asks
+      countdown = 0;
+      nextCheck = expanded;
+      return true;
+    }
+
+    nextCheck = expanded;
+    countdown = 0;
+    scheduleCheck();
+    return false;
+  }
+
+  /**
+   * Sets the countdown to the next check, which comes early enough that the
+   * search can't expand more than its budget
+   */
+  private void scheduleCheck() {
+    long left = limits.getNodeBudget() - nextCheck;
+    // The check happens on the cell after the last one the budget allows
+    long step = left < limits.getCheckInterval() ? left + 1 : limits.getCheckInterval();
+    nextCheck += step;
+    countdown += step;
+  }
+
+  /**
+   * Checks whether the current search has reached a cell
+   *
+   * @param index the cell index
+   * @return true if the cell has a distance in this search
+   */
+  public boolean isVisited(int index) {
+    return stamp[index] == epoch;
+  }
+
+  /**
+   * Getter for the distance of a cell
+   *
+   * @param index the cell index
+   * @return the distance stored for the cell, or -1 if it hasn't been reached
+   */
+  public int getDist(int index) {
+    return stamp[index] == epoch ? dist[index] : -1;
+  }
+
+  /**
+   * Setter for the distance of a cell, which also marks it as reached
+   *
+   * @param index    the cell index
+   * @param distance the new distance
+   */
+  public void setDist(int index, int distance) {
+    stamp[index] = epoch;
+    dist[index] = distance;
+  }
+
+  /**
+   * Atomically marks an unreached cell as reached. Only one thread can claim a
+   * cell, so this is how parallel searches decide who gets to expand it.
+   *
+   * @param index    the cell index
+   * @param distance the distance from the start
+   * @return true if this call claimed the cell, false if it was already reached
+   */
+  public boolean claim(int index, int distance) {
+    int old = (int) STAMP.getAcquire(stamp, index);
+    if (old == epoch || !STAMP.compareAndSet(stamp, index, old, epoch)) {
+      return false;
+    }
+
+    // Only the thread that won the stamp writes the distance
+    dist[index] = distance;
+    return true;
+  }
+
+  /**
+   * Getter for the direction that leads back to the parent of a cell
+   *
+   * @param index the cell index
+   * @return the direction code of the parent
+   */
+  public int getParent(int index) {
+    return parents.get(index);
+  }
+
+  /**
+   * Setter for the direction that leads back to the parent of a cell
+   *
+   * @param index     the cell index
+   * @param direction the direction code of the parent
+   */
+  public void setParent(int index, int direction) {
+    parents.set(index, direction);
+  }
+
+  /**
+   * Getter for the number of cells expanded since the search began
+   *
+   * @return the number of cells expanded
+   */
+  public long getNodesExpanded() {
+    return nodesExpanded;
+  }
+
+  /**
+   * Adds to the number of cells expanded. Searches count in a local and add it
+   * on at the end so the hot loop doesn't write to a field.
+   *
+   * @param count the number of cells to add
+   */
+  public void addNodesExpanded(long count) {
+    nodesExpanded += count;
+  }
+
+  /**
+   * Getter for a reusable queue, cleared and ready to use
+   *
+   * @return the queue
+   */
+  public IntQueue getQueue() {
+    if (queue == null) {
+      queue = new IntQueue();
+    }
+    queue.clear();
+
+    return queue;
+  }
+
+  /**
+   * Getter for a second reusable queue, cleared and ready to use
+   *
+   * @return the second queue
+   */
+  public IntQueue getSecondQueue() {
+    if (secondQueue == null) {
+      secondQueue = new IntQueue();
+    }
+    secondQueue.clear();
+
+    return secondQueue;
+  }
+
+  /**
+   * Getter for a reusable open list, cleared and ready to use
+   *
+   * @return the open list
+   */
+  public IntPriorityQueue getOpenList() {
+    if (openList == null) {
+      openList = new IntPriorityQueue();
+    }
+    openList.clear();
+
+    return openList;
+  }
+
+  /**
+   * Getter for reusable bucket queues, cleared and ready to use
+   *
+   * @param count the number of buckets needed
+   * @return an array of at least that many empty queues
+   */
+  public IntQueue[] getBuckets(int count) {
+    if (buckets.length < count) {
+      IntQueue[] grown = new IntQueue[count];
+      System.arraycopy(buckets, 0, grown, 0, buckets.length);
+      for (int i = buckets.length; i < count; i++) {
+        grown[i] = new IntQueue();
+      }
+      buckets = grown;
+    }
+    for (IntQueue bucket : buckets) {
+      bucket.clear();
+    }
+
+    return buckets;
+  }
+
+  /**
+   * Getter for the number of words in one row of a bit mask
+   *
+   * @return the number of longs it takes to hold a bit for every column
+   */
+  public int getWordsPerRow() {
+    return (grid.getCols() + 63) >>> 6;
+  }
+
+  /**
+   * Getter for the open cells as a bit mask. Bit x of word y * wordsPerRow +
+   * x / 64 is set when the cell at x, y can be moved onto. The bits past the
+   * last column are never set.
+   *
+   * @return the open mask, which must not be changed
+   */
+  public long[] getOpenMask() {
+    if (openMask == null) {
+      int cols = grid.getCols();
+      int wordsPerRow = getWordsPerRow();
+      long[] mask = new long[grid.getRows() * wordsPerRow];
+
+      for (int y = 0; y < grid.getRows(); y++) {
+        for (int x = 0; x < cols; x++) {
+          if (grid.isPassable(y * cols + x)) {
+            mask[y * wordsPerRow + (x >>> 6)] |= 1L << x;
+          }
+        }
+      }
+      openMask = mask;
+    }
+
+    return openMask;
+  }
+
+  /**
+   * Getter for reusable bit masks the same shape as
+   * {@link #getOpenMask()}, cleared and ready to use
+   *
+   * @param count the number of masks needed
+   * @return at least that many masks with every bit cleared
+   */
+  public long[][] getMasks(int count) {
+    int length = grid.getRows() * getWordsPerRow();
+    if (masks.length < count) {
+      long[][] grown = new long[count][];
+      System.arraycopy(masks, 0, grown, 0, masks.length);
+      for (int i = masks.length; i < count; i++) {
+        grown[i] = new long[length];
+      }
+      masks = grown;
+    }
+    for (long[] mask : masks) {
+      Arrays.fill(mask, 0);
+    }
+
+    return masks;
+  }
+
+  /**
+   * Walks the parent directions back from a reached cell to build the path
+   *
+   * @param target the cell index to walk back from
+   * @return the cell indices from the start to the target
+   */
+  public int[] reconstructPath(int target) {
+    int[] path = new int[dist[target] + 1];
+    int current = target;
+
+    // Walk backwards filling the array from the end
+    for (int i = path.length - 1; i > 0; i--) {
+      path[i] = current;
+      current = grid.step(current, parents.get(current));
+    }
+    path[0] = current;
+
+    return path;
+  }
+
+  /**
+   * Builds a path by walking back from a reached cell to any neighbour that is
+   * one step closer to the start. This works for searches that fill in
+   * distances but can't safely write the packed parent directions.
+   *
+   * @param target the cell index to walk back from
+   * @return the cell indices from the start to the target
+   */
+  public int[] reconstructPathFromDistances(int target) {
+    int[] path = new int[dist[target] + 1];
+    int current = target;
+
+    for (int i = path.length - 1; i > 0; i--) {
+      path[i] = current;
+      // Look around for the neighbour that is one step closer
+      for (int direction = MazeGrid.NORTH; direction <= MazeGrid.WEST; direction++) {
+        int neighbour = grid.step(current, direction);
+        if (neighbour >= 0 && getDist(neighbour) == i - 1) {
+          current = neighbour;
+          break;
+        }
+      }
+    }
+    path[0] = current;
+
+    return path;
+  }
+
+  /**
+   * Writes the distances and parents along a path so that they agree with the
+   * path. Searches that don't record every cell they pass through, or that
+   * search from both ends, call this so {@link #toLocations(int[])} still works.
+   *
+   * @param path the cell indices from the start to the target
+   */
+  public void markPath(int[] path) {
+    setDist(path[0], 0);
+
+    for (int i = 1; i < path.length; i++) {
+      setDist(path[i], i);
+      parents.set(path[i], grid.directionBetween(path[i], path[i - 1]));
+    }
+  }
+
+  /**
+   * Same as {@link #markPath(int[])}, except the distances are the total cost
+   * of moving onto each cell the way a weighted search writes them
+   *
+   * @param path the cell indices from the start to the target
+   */
+  public void markWeightedPath(int[] path) {
+    int distance = 0;
+    setDist(path[0], 0);
+
+    for (int i = 1; i < path.length; i++) {
+      distance += grid.getCost(path[i]);
+      setDist(path[i], distance);
+      parents.set(path[i], grid.directionBetween(path[i], path[i - 1]));
+    }
+  }
+
+  /**
+   * Adapter that creates a {@link Location} for a single cell. This is the only
+   * place a location object gets created.
+   *
+   * @param index the cell index
+   * @return a location with the position, parent, type and distance of the cell
+   */
+  public Location toLocation(int index) {
+    Coordinate position = new Coordinate(grid.getX(index), grid.getY(index));
+    Coordinate lastPoint = null;
+    int distance = getDist(index);
+    // The start doesn't have a parent, everything else that was reached does
+    if (distance > 0) {
+      int parent = grid.step(index, parents.get(index));
+      lastPoint = new Coordinate(grid.getX(parent), grid.getY(parent));
+    }
+
+    return new Location(position, lastPoint, getDisplayType(index), Math.max(distance, 0));
+  }
+
+  /**
+   * Adapter that turns a path of cell indices into the old location array
+   *
+   * @param path the cell indices of the path
+   * @return the path as locations
+   */
+  public Location[] toLocations(int[] path) {
+    Location[] locations = new Location[path.length];
+
+    for (int i = 0; i < path.length; i++) {
+      locations[i] = toLocation(path[i]);
+    }
+
+    return locations;
+  }
+
+  /**
+   * Gets the type that should be shown for a cell. Open cells that have been
+   * reached by the search are shown as found.
+   *
+   * @param index the cell index
+   * @return the square type to display
+   */
+  public Location.SquareType getDisplayType(int index) {
+    if (grid.getType(index) == MazeGrid.OPEN && isVisited(index)) {
+      return Location.SquareType.FOUND;
+    }
+
+    return grid.getSquareType(index);
+  }
+}
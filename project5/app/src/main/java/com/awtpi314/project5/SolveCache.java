@@ -0,0 +1,402 @@
+package com.awtpi314.project5;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <h3>SolveCache</h3>
+ *
+ * Remembers the answers to searches so the same maze with the same start and
+ * finish is only ever searched once. An answer is looked up by the
+ * {@link MazeGrid#getContentHash()} of the maze along with its size and the
+ * two ends, so a maze that is sent again costs one hash of its cells. Mazes
+ * with no path are remembered too, since they take the longest to search.
+ *
+ * <p>
+ * The hash is 128 bits, so two different mazes matching is unlikely enough
+ * that the cells aren't kept to compare against. A path that is found is
+ * still checked against the maze it is about to be given to, which only reads
+ * the cells along it: it has to join the two ends through passable cells one
+ * step at a time. A path that doesn't is counted as a collision and the maze
+ * is searched instead.
+ * </p>
+ *
+ * <p>
+ * The least recently used answers are dropped once the cache holds more than
+ * its most entries or its most bytes. The bytes are an estimate of the memory
+ * each answer holds on to, which is mostly its path. One cache can be shared
+ * by solvers on any number of threads.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class SolveCache {
+  /**
+   * The estimated bytes an entry takes up on top of its path
+   */
+  private static final long ENTRY_OVERHEAD = 128;
+
+  /**
+   * The answers, least recently used first
+   */
+  private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  /**
+   * The most entries the cache holds
+   */
+  private final int maxEntries;
+  /**
+   * The most bytes the cache holds
+   */
+  private final long maxBytes;
+  /**
+   * The bytes held by the entries now
+   */
+  private long bytes;
+  /**
+   * Number of lookups that found an answer
+   */
+  private long hits;
+  /**
+   * Number of lookups that didn't
+   */
+  private long misses;
+  /**
+   * Number of answers dropped to make room
+   */
+  private long evictions;
+  /**
+   * Number of lookups that found a path that doesn't fit the maze it was
+   * looked up for
+   */
+  private long collisions;
+
+  /**
+   * <h3>Entry</h3>
+   *
+   * One remembered answer. The path is shared by everyone who looks it up, so
+   * it must not be changed.
+   */
+  public static final class Entry {
+    /**
+     * The path from the start to the finish, or null if there isn't one
+     */
+    private final int[] path;
+    /**
+     * The distance of the finish, which is the total cost for weighted
+     * searches
+     */
+    private final int distance;
+
+    /**
+     * All parameter constructor
+     *
+     * @param path     the path, or null if there isn't one
+     * @param distance the distance of the finish
+     */
+    private Entry(int[] path, int distance) {
+      this.path = path;
+      this.distance = distance;
+    }
+
+    /**
+     * Getter for the path
+     *
+     * @return the cell indices from the start to the finish, or null if there
+     *         is no path. This array is shared and must not be changed.
+     */
+    public int[] getPath() {
+      return path;
+    }
+
+    /**
+     * Getter for the distance of the finish
+     *
+     * @return the number of steps, or the total cost for a weighted search
+     */
+    public int getDistance() {
+      return distance;
+    }
+  }
+
+  /**
+   * <h3>Key</h3>
+   *
+   * What an answer is looked up by
+   */
+  private static final class Key {
+    /**
+     * The low half of the content hash of the maze
+     */
+    private final long low;
+    /**
+     * The high half of the content hash of the maze
+     */
+    private final long high;
+    /**
+     * The number of rows in the maze
+     */
+    private final int rows;
+    /**
+     * The number of columns in the maze
+     */
+    private final int cols;
+    /**
+     * The cell index of the start
+     */
+    private final int start;
+    /**
+     * The cell index of the target
+     */
+    private final int target;
+    /**
+     * True if the answer takes the terrain costs into account
+     */
+    private final boolean weighted;
+
+    /**
+     * All parameter constructor
+     *
+     * @param grid     the maze
+     * @param start    the cell index of the start
+     * @param target   the cell index of the target
+     * @param weighted true if the answer takes the terrain costs into account
+     */
+    private Key(MazeGrid grid, int start, int target, boolean weighted) {
+      long[] hash = grid.getContentHash();
+      this.low = hash[0];
+      this.high = hash[1];
+      this.rows = grid.getRows();
+      this.cols = grid.getCols();
+      this.start = start;
+      this.target = target;
+      this.weighted = weighted;
+    }
+
+    /**
+     * Checks whether two keys are for the same search
+     *
+     * @param other the other key
+     * @return true if every part matches
+     */
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) other;
+      return low == key.low && high == key.high && rows == key.rows && cols == key.cols && start == key.start
+          && target == key.target && weighted == key.weighted;
+    }
+
+    /**
+     * Hashes the key for the map
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+      long h = (low ^ high) * 31 + start;
+      h = h * 31 + target;
+      h = h * 31 + rows * 31L + cols + (weighted ? 1 : 0);
+      return (int) (h ^ (h >>> 32));
+    }
+  }
+
+  /**
+   * Constructor that sets how much the cache can hold
+   *
+   * @param maxEntries the most answers to hold
+   * @param maxBytes   the most bytes of answers to hold
+   */
+  public SolveCache(int maxEntries, long maxBytes) {
+    if (maxEntries < 1 || maxBytes < 1) {
+      throw new IllegalArgumentException("The cache needs room for at least one answer");
+    }
+    this.maxEntries = maxEntries;
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * Looks up the answer to a search
+   *
+   * @param grid     the maze
+   * @param start    the cell index of the start
+   * @param target   the cell index of the target
+   * @param weighted true if the search takes the terrain costs into account
+   * @return the answer, or null if it isn't in the cache
+   */
+  public Entry get(MazeGrid grid, int start, int target, boolean weighted) {
+    // The maze might have to be hashed, which shouldn't hold up other threads
+    Key key = new Key(grid, start, target, weighted);
+    Entry entry;
+    synchronized (this) {
+      entry = entries.get(key);
+    }
+
+    // Checking the path only reads the cells along it, and needs no lock
+    boolean collided = entry != null && entry.path != null && !fits(grid, entry.path, start, target);
+    synchronized (this) {
+      if (collided) {
+        collisions++;
+        entry = null;
+      }
+      if (entry == null) {
+        misses++;
+      } else {
+        hits++;
+      }
+    }
+
+    return entry;
+  }
+
+  /**
+   * Remembers the answer to a search, dropping old answers if there isn't room
+   *
+   * @param grid     the maze
+   * @param start    the cell index of the start
+   * @param target   the cell index of the target
+   * @param weighted true if the search takes the terrain costs into account
+   * @param path     the path the search found, or null if there isn't one. The
+   *                 cache keeps a copy.
+   * @param distance the distance of the finish
+   */
+  public void put(MazeGrid grid, int start, int target, boolean weighted, int[] path, int distance) {
+    long weight = weigh(path);
+    if (weight > maxBytes) {
+      // It would push everything else out and still not fit
+      return;
+    }
+    Key key = new Key(grid, start, target, weighted);
+    Entry entry = new Entry(path == null ? null : path.clone(), distance);
+
+    synchronized (this) {
+      Entry old = entries.put(key, entry);
+      if (old != null) {
+        bytes -= weigh(old.path);
+      }
+      bytes += weight;
+
+      // Drop the least recently used answers until both limits are met
+      Iterator<Map.Entry<Key, Entry>> oldest = entries.entrySet().iterator();
+      while (entries.size() > maxEntries || bytes > maxBytes) {
+        bytes -= weigh(oldest.next().getValue().path);
+        oldest.remove();
+        evictions++;
+      }
+    }
+  }
+
+  /**
+   * Getter for the number of answers in the cache
+   *
+   * @return the number of entries
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Getter for the estimated memory held by the answers in the cache
+   *
+   * @return the number of bytes
+   */
+  public synchronized long getBytes() {
+    return bytes;
+  }
+
+  /**
+   * Getter for the number of lookups that found an answer
+   *
+   * @return the number of hits
+   */
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  /**
+   * Getter for the number of lookups that didn't find an answer
+   *
+   * @return the number of misses
+   */
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Getter for the number of answers dropped to make room for newer ones
+   *
+   * @return the number of evictions
+   */
+  public synchronized long getEvictions() {
+    return evictions;
+  }
+
+  /**
+   * Getter for the number of lookups that found a path that doesn't fit the
+   * maze, which are counted as misses as well
+   *
+   * @return the number of collisions
+   */
+  public synchronized long getCollisions() {
+    return collisions;
+  }
+
+  /**
+   * Prints the counters on one line
+   *
+   * @return the counters as a string
+   */
+  @Override
+  public synchronized String toString() {
+    return String.format(
+        "SolveCache hits = %d, misses = %d, collisions = %d, evictions = %d, entries = %d, bytes = %d", hits,
+        misses, collisions, evictions, entries.size(), bytes);
+  }
+
+  /**
+   * Checks whether a remembered path could be a path through a maze, by
+   * walking it from the start to the target
+   *
+   * @param grid   the maze being looked up
+   * @param path   the remembered path
+   * @param start  the cell index of the start
+   * @param target the cell index of the target
+   * @return true if every cell is passable and every step is to a neighbour
+   */
+  private static boolean fits(MazeGrid grid, int[] path, int start, int target) {
+    if (path[0] != start || path[path.length - 1] != target) {
+      return false;
+    }
+
+    int cols = grid.getCols();
+    for (int i = 0; i < path.length; i++) {
+      if (path[i] < 0 || path[i] >= grid.getCellCount() || !grid.isPassable(path[i])) {
+        return false;
+      }
+      if (i > 0) {
+        int move = path[i] - path[i - 1];
+        // A step sideways has to stay in the same row
+        boolean sideways = (move == 1 || move == -1) && path[i] / cols == path[i - 1] / cols;
+        if (move != cols && move != -cols && !sideways) {
+          return false;
+        }
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Estimates the memory an answer holds on to
+   *
+   * @param path the path of the answer, or null
+   * @return the number of bytes
+   */
+  private static long weigh(int[] path) {
+    return ENTRY_OVERHEAD + (path == null ? 0 : 4L * path.length);
+  }
+}
@@ -0,0 +1,116 @@
+package com.awtpi314.project5;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+/**
+ * <h3>SolveClient</h3>
+ *
+ * Sends mazes to a {@link SolveServer} and copies the answers back. The input
+ * is sent on its own thread while the answers are read, so a long stream of
+ * mazes is pipelined over one connection instead of waiting for each answer
+ * before sending the next maze. Nothing here solves anything, so the client
+ * starts quickly and never needs the JIT to warm up.
+ *
+ * <p>
+ * The protocol is plain text, so anything that can write to a socket, like
+ * netcat, can be used as a client as well.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class SolveClient {
+  /**
+   * Size of the buffers used to send and receive
+   */
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  /**
+   * Nothing to construct, everything here is static
+   */
+  private SolveClient() {
+  }
+
+  /**
+   * Sends every maze in the input to the server and writes the answers to the
+   * output as they arrive. The output is flushed but not closed.
+   *
+   * @param address the address the server is listening on
+   * @param in      the mazes to send
+   * @param out     where the answers are written
+   * @return the number of bytes of answers written
+   * @throws IOException if the server can't be reached or the input can't be
+   *                     read
+   */
+  public static long send(SocketAddress address, InputStream in, OutputStream out) throws IOException {
+    try (SocketChannel channel = open(address)) {
+      channel.connect(address);
+
+      // Send the mazes while the answers come back, then tell the server
+      // there are no more
+      IOException[] sendError = new IOException[1];
+      Thread sender = new Thread(() -> {
+        try {
+          byte[] array = new byte[BUFFER_SIZE];
+          int read;
+          while ((read = in.read(array)) > 0) {
+            ByteBuffer bytes = ByteBuffer.wrap(array, 0, read);
+            while (bytes.hasRemaining()) {
+              channel.write(bytes);
+            }
+          }
+          channel.shutdownOutput();
+        } catch (IOException e) {
+          sendError[0] = e;
+        }
+      }, "solve-client");
+      sender.setDaemon(true);
+      sender.start();
+
+      long received = 0;
+      ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+      int read;
+      while ((read = channel.read(buffer)) >= 0) {
+        out.write(buffer.array(), 0, read);
+        received += read;
+        buffer.clear();
+      }
+      out.flush();
+
+      try {
+        sender.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      // The server hangs up after a bad maze, which can stop the send early
+      if (sendError[0] != null && received == 0) {
+        throw sendError[0];
+      }
+
+      return received;
+    }
+  }
+
+  /**
+   * Opens the right kind of channel for an address
+   *
+   * @param address a TCP or Unix domain socket address
+   * @return an unconnected channel
+   * @throws IOException if the channel can't be opened
+   */
+  private static SocketChannel open(SocketAddress address) throws IOException {
+    if (address instanceof UnixDomainSocketAddress) {
+      return SocketChannel.open(StandardProtocolFamily.UNIX);
+    }
+
+    return SocketChannel.open();
+  }
+}
@@ -0,0 +1,184 @@
+package com.awtpi314.project5;
+
+import java.time.Duration;
+
+/**
+ * <h3>SolveLimits</h3>
+ *
+ * How far a search is allowed to go before it gives up: a deadline, a most
+ * number of cells to expand, and a {@link CancellationToken} another thread
+ * can use to stop it. Any of them can be left off. Checking the clock and the
+ * token on every cell would cost more than the search itself on an easy maze,
+ * so the search only checks them once every {@link #getCheckInterval()} cells.
+ * The cell budget is still exact.
+ *
+ * <p>
+ * The deadline is a point in time, so a set of limits made with
+ * {@link #withTimeout(Duration)} counts down from when it was made, not from
+ * when it is used. Limits are never changed once they are made, and the
+ * methods that add a limit give back a new set.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class SolveLimits {
+  /**
+   * Used for a budget that has no limit
+   */
+  public static final long UNLIMITED = Long.MAX_VALUE;
+  /**
+   * The number of cells expanded between checks of the clock and the token
+   * unless another number is asked for
+   */
+  public static final int DEFAULT_CHECK_INTERVAL = 1024;
+  /**
+   * Limits that never stop a search
+   */
+  public static final SolveLimits NONE = new SolveLimits(false, 0, UNLIMITED, null, DEFAULT_CHECK_INTERVAL);
+
+  /**
+   * True if the search has a deadline
+   */
+  private final boolean hasDeadline;
+  /**
+   * The {@link System#nanoTime()} the search has to stop by
+   */
+  private final long deadline;
+  /**
+   * The most cells the search may expand
+   */
+  private final long nodeBudget;
+  /**
+   * The token that cancels the search, or null if it can't be cancelled
+   */
+  private final CancellationToken token;
+  /**
+   * The number of cells expanded between checks of the clock and the token
+   */
+  private final int checkInterval;
+
+  /**
+   * All parameter constructor
+   *
+   * @param hasDeadline   true if the search has a deadline
+   * @param deadline      the {@link System#nanoTime()} the search has to stop
+   *                      by
+   * @param nodeBudget    the most cells the search may expand
+   * @param token         the token that cancels the search, or null
+   * @param checkInterval the number of cells expanded between checks
+   */
+  private SolveLimits(boolean hasDeadline, long deadline, long nodeBudget, CancellationToken token,
+      int checkInterval) {
+    this.hasDeadline = hasDeadline;
+    this.deadline = deadline;
+    this.nodeBudget = nodeBudget;
+    this.token = token;
+    this.checkInterval = checkInterval;
+  }
+
+  /**
+   * Gives back these limits with a deadline the given time from now
+   *
+   * @param timeout how long the search has from now
+   * @return the new limits
+   */
+  public SolveLimits withTimeout(Duration timeout) {
+    return withDeadline(System.nanoTime() + timeout.toNanos());
+  }
+
+  /**
+   * Gives back these limits with a deadline
+   *
+   * @param deadline the {@link System#nanoTime()} the search has to stop by
+   * @return the new limits
+   */
+  public SolveLimits withDeadline(long deadline) {
+    return new SolveLimits(true, deadline, nodeBudget, token, checkInterval);
+  }
+
+  /**
+   * Gives back these limits with a most number of cells to expand
+   *
+   * @param nodeBudget the most cells the search may expand
+   * @return the new limits
+   */
+  public SolveLimits withNodeBudget(long nodeBudget) {
+    if (nodeBudget < 0) {
+      throw new IllegalArgumentException("The node budget can't be negative");
+    }
+    return new SolveLimits(hasDeadline, deadline, nodeBudget, token, checkInterval);
+  }
+
+  /**
+   * Gives back these limits with a token that cancels the search
+   *
+   * @param token the token to watch
+   * @return the new limits
+   */
+  public SolveLimits withToken(CancellationToken token) {
+    return new SolveLimits(hasDeadline, deadline, nodeBudget, token, checkInterval);
+  }
+
+  /**
+   * Gives back these limits checking the clock and the token after a different
+   * number of cells. Smaller numbers stop sooner and cost more.
+   *
+   * @param checkInterval the number of cells expanded between checks
+   * @return the new limits
+   */
+  public SolveLimits withCheckInterval(int checkInterval) {
+    if (checkInterval < 1) {
+      throw new IllegalArgumentException("The check interval must be at least 1");
+    }
+    return new SolveLimits(hasDeadline, deadline, nodeBudget, token, checkInterval);
+  }
+
+  /**
+   * Getter for the most cells the search may expand
+   *
+   * @return the node budget, or {@link #UNLIMITED}
+   */
+  public long getNodeBudget() {
+    return nodeBudget;
+  }
+
+  /**
+   * Getter for the token that cancels the search
+   *
+   * @return the token, or null if the search can't be cancelled
+   */
+  public CancellationToken getToken() {
+    return token;
+  }
+
+  /**
+   * Getter for the number of cells expanded between checks of the clock and the
+   * token
+   *
+   * @return the check interval
+   */
+  public int getCheckInterval() {
+    return checkInterval;
+  }
+
+  /**
+   * Checks whether the deadline has passed
+   *
+   * @return true if there is a deadline and it has passed
+   */
+  public boolean isPastDeadline() {
+    // Compare the difference so this still works when nanoTime wraps around
+    return hasDeadline && System.nanoTime() - deadline >= 0;
+  }
+
+  /**
+   * Checks whether the token has been cancelled
+   *
+   * @return true if there is a token and it has been cancelled
+   */
+  public boolean isCancelled() {
+    return token != null && token.isCancelled();
+  }
+}
@@ -0,0 +1,122 @@
+package com.awtpi314.project5;
+
+/**
+ * <h3>SolveResult</h3>
+ *
+ * What came of a search run with {@link SolveLimits}. A search that was
+ * stopped isn't the same as one that showed there is no path, so the status
+ * says which it was, and the number of cells expanded says how much work was
+ * done either way. A caller whose search ran out of budget can try again with
+ * more, or fall back to something else.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class SolveResult {
+  /**
+   * <h3>Status</h3>
+   *
+   * How a search with limits ended
+   */
+  public enum Status {
+    /**
+     * The shortest path was found
+     */
+    SOLVED,
+    /**
+     * The whole search finished and there is no path
+     */
+    UNSOLVABLE,
+    /**
+     * The search expanded as many cells as it was allowed to
+     */
+    BUDGET_EXHAUSTED,
+    /**
+     * The deadline passed before the search finished
+     */
+    TIMED_OUT,
+    /**
+     * The cancellation token was cancelled before the search finished
+     */
+    CANCELLED
+  }
+
+  /**
+   * How the search ended
+   */
+  private final Status status;
+  /**
+   * The path that was found, or null if the search wasn't solved
+   */
+  private final int[] path;
+  /**
+   * The number of cells expanded before the search ended
+   */
+  private final long nodesExpanded;
+  /**
+   * Where the time went in the search, or null if instrumentation was off
+   */
+  private final SolveStats stats;
+
+  /**
+   * All parameter constructor
+   *
+   * @param status        how the search ended
+   * @param path          the path that was found, or null
+   * @param nodesExpanded the number of cells expanded before the search ended
+   * @param stats         where the time went in the search, or null
+   */
+  public SolveResult(Status status, int[] path, long nodesExpanded, SolveStats stats) {
+    this.status = status;
+    this.path = path;
+    this.nodesExpanded = nodesExpanded;
+    this.stats = stats;
+  }
+
+  /**
+   * Getter for how the search ended
+   *
+   * @return the status
+   */
+  public Status getStatus() {
+    return status;
+  }
+
+  /**
+   * Checks whether the search found a path
+   *
+   * @return true if the status is {@link Status#SOLVED}
+   */
+  public boolean isSolved() {
+    return status == Status.SOLVED;
+  }
+
+  /**
+   * Getter for the path that was found
+   *
+   * @return the cell indices from the start to the target, or null if the
+   *         search wasn't solved
+   */
+  public int[] getPath() {
+    return path;
+  }
+
+  /**
+   * Getter for the number of cells expanded before the search ended
+   *
+   * @return the number of cells expanded
+   */
+  public long getNodesExpanded() {
+    return nodesExpanded;
+  }
+
+  /**
+   * Getter for where the time went in the search
+   *
+   * @return the stats, or null if instrumentation was off
+   */
+  public SolveStats getStats() {
+    return stats;
+  }
+}
@@ -0,0 +1,451 @@
+package com.awtpi314.project5;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import com.awtpi314.project5.exceptions.InvalidMazeException;
+import com.awtpi314.project5.interfaces.SearchStrategy;
+
+/**
+ * <h3>SolveServer</h3>
+ *
+ * Keeps one JVM running to solve mazes sent to it over a local socket, so a
+ * small maze doesn't pay for starting a JVM and warming up the JIT every time.
+ * The server listens on a loopback TCP port or a Unix domain socket.
+ *
+ * <p>
+ * A client sends mazes in the text format described in {@link MazeSolver}, as
+ * many as it likes one after another on the same connection, without waiting
+ * for the answers. Each answer is written the same way {@link BatchSolver}
+ * writes it, followed by a blank line, and the answers come back in the order
+ * the mazes were sent. Once the client shuts down its side of the connection
+ * the server writes the answers it still owes and closes the connection. A
+ * maze that can't be read gets "Could not read the maze" as its answer, and
+ * the connection is closed after it since the rest of the input can't be
+ * trusted.
+ * </p>
+ *
+ * <p>
+ * Mazes from every connection are solved on the same executor, and no more
+ * than the concurrency limit are solved at once. A connection that sends
+ * mazes faster than they can be solved waits for a permit before its next
+ * maze is read, so one busy client can't take all of the memory. Any executor
+ * can be passed in, and {@link #workersFor(String)} makes either a cached
+ * pool of platform threads, the default, or one virtual thread per maze.
+ * Virtual threads are only a preview API on Java 20, so they need a JDK that
+ * has them, or Java 20 run with --enable-preview.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class SolveServer implements AutoCloseable {
+  /**
+   * How many answers a connection can have waiting to be written before it
+   * stops reading mazes
+   */
+  public static final int PIPELINE_DEPTH = 64;
+  /**
+   * Marks the end of the answers for a connection
+   */
+  private static final CompletableFuture<String> END = CompletableFuture.completedFuture(null);
+
+  /**
+   * The socket new connections arrive on
+   */
+  private final ServerSocketChannel server;
+  /**
+   * The address the server is listening on
+   */
+  private final SocketAddress address;
+  /**
+   * Solves and formats each maze, with the cache if there is one
+   */
+  private final BatchSolver solver;
+  /**
+   * One permit for every maze that can be solved at once
+   */
+  private final Semaphore permits;
+  /**
+   * The executor mazes are solved on
+   */
+  private final ExecutorService workers;
+  /**
+   * True if the executor was made by this server and should be shut down with
+   * it
+   */
+  private final boolean ownsWorkers;
+  /**
+   * The threads reading from and writing to each connection
+   */
+  private final ExecutorService connections;
+
+  /**
+   * Constructor that solves mazes on a pool of its own
+   *
+   * @param address     the port or socket path to listen on, see
+   *                    {@link #addressFor(String)}
+   * @param strategy    the strategy every maze is solved with
+   * @param concurrency the most mazes solved at once
+   * @param cache       the cache mazes are looked up in, or null to solve every
+   *                    maze
+   * @throws IOException if the server can't listen on the address
+   */
+  public SolveServer(SocketAddress address, SearchStrategy strategy, int concurrency, SolveCache cache)
+      throws IOException {
+    this(address, new BatchSolver(strategy, 1, cache), concurrency);
+  }
+
+  /**
+   * Constructor that takes the batch solver every answer is solved and
+   * written by, so the answers can be compact, and solves on a pool of its
+   * own
+   *
+   * @param address     the port or socket path to listen on
+   * @param solver      solves and formats each maze. Only its single maze
+   *                    solve is used, so its number of threads doesn't matter.
+   * @param concurrency the most mazes solved at once
+   * @throws IOException if the server can't listen on the address
+   */
+  public SolveServer(SocketAddress address, BatchSolver solver, int concurrency) throws IOException {
+    this(address, solver, concurrency, Executors.newCachedThreadPool(SolveServer::daemon), true);
+  }
+
+  /**
+   * Constructor that takes the executor to solve mazes on. The executor is not
+   * shut down when the server is closed.
+   *
+   * @param address     the port or socket path to listen on
+   * @param strategy    the strategy every maze is solved with
+   * @param concurrency the most mazes solved at once
+   * @param cache       the cache mazes are looked up in, or null
+   * @param workers     the executor mazes are solved on
+   * @throws IOException if the server can't listen on the address
+   */
+  public SolveServer(SocketAddress address, SearchStrategy strategy, int concurrency, SolveCache cache,
+      ExecutorService workers) throws IOException {
+    this(address, new BatchSolver(strategy, 1, cache), concurrency, workers, false);
+  }
+
+  /**
+   * Constructor that takes both the batch solver and the executor to solve
+   * mazes on. The executor is not shut down when the server is closed.
+   *
+   * @param address     the port or socket path to listen on
+   * @param solver      solves and formats each maze
+   * @param concurrency the most mazes solved at once
+   * @param workers     the executor mazes are solved on
+   * @throws IOException if the server can't listen on the address
+   */
+  public SolveServer(SocketAddress address, BatchSolver solver, int concurrency, ExecutorService workers)
+      throws IOException {
+    this(address, solver, concurrency, workers, false);
+  }
+
+  /**
+   * All parameter constructor
+   *
+   * @param address     the port or socket path to listen on
+   * @param solver      solves and formats each maze
+   * @param concurrency the most mazes solved at once
+   * @param workers     the executor mazes are solved on
+   * @param ownsWorkers true if closing the server should shut the executor down
+   * @throws IOException if the server can't listen on the address
+   */
+  private SolveServer(SocketAddress address, BatchSolver solver, int concurrency, ExecutorService workers,
+      boolean ownsWorkers) throws IOException {
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("The server has to be able to solve at least one maze at a time");
+    }
+    this.solver = solver;
+    this.permits = new Semaphore(concurrency);
+    this.workers = workers;
+    this.ownsWorkers = ownsWorkers;
+    this.connections = Executors.newCachedThreadPool(SolveServer::daemon);
+
+    // Unix domain sockets need their own kind of channel
+    if (address instanceof UnixDomainSocketAddress) {
+      server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+    } else {
+      server = ServerSocketChannel.open();
+    }
+    server.bind(address);
+    this.address = server.getLocalAddress();
+  }
+
+  /**
+   * Turns a command line argument into an address. A number is a TCP port on
+   * the loopback interface, and anything else is the path of a Unix domain
+   * socket.
+   *
+   * @param value the port or path
+   * @return the address it stands for
+   */
+  public static SocketAddress addressFor(String value) {
+    if (value.matches("[0-9]{1,5}")) {
+      return new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(value));
+    }
+
+    return UnixDomainSocketAddress.of(value);
+  }
+
+  /**
+   * Makes an executor to solve mazes on by name. A pool reuses platform
+   * threads, and the permit limit keeps how many it starts bounded. Virtual
+   * starts a virtual thread per maze. Those are looked up when asked for,
+   * since they are a preview API on the Java 20 toolchain this is built with
+   * and this code can't name them directly.
+   *
+   * @param kind "pool" or "virtual"
+   * @return the executor
+   * @throws UnsupportedOperationException if the JVM can't start virtual
+   *                                       threads
+   */
+  public static ExecutorService workersFor(String kind) {
+    if (kind.equals("pool")) {
+      return Executors.newCachedThreadPool(SolveServer::daemon);
+    } else if (!kind.equals("virtual")) {
+      throw new IllegalArgumentException("Unknown executor " + kind);
+    }
+
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (NoSuchMethodException e) {
+      throw new UnsupportedOperationException("Java " + Runtime.version().feature() + " has no virtual threads");
+    } catch (InvocationTargetException e) {
+      // Java 20 has the method, but it throws unless preview features are on
+      throw new UnsupportedOperationException("Virtual threads aren't available: " + e.getCause().getMessage());
+    } catch (IllegalAccessException e) {
+      throw new UnsupportedOperationException("Virtual threads aren't available: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Getter for the address the server is listening on. When it was asked for
+   * port 0 this has the port it was given.
+   *
+   * @return the address to connect to
+   */
+  public SocketAddress getAddress() {
+    return address;
+  }
+
+  /**
+   * Accepts connections on a background thread and returns straight away
+   */
+  public void start() {
+    connections.execute(this::serve);
+  }
+
+  /**
+   * Accepts connections on the calling thread until the server is closed
+   */
+  public void serve() {
+    while (server.isOpen()) {
+      try {
+        SocketChannel channel = server.accept();
+        connections.execute(() -> handle(channel));
+      } catch (IOException e) {
+        // Closing the server is the only way out of accept
+        if (server.isOpen()) {
+          System.err.println("Could not accept a connection: " + e.getMessage());
+        }
+      }
+    }
+  }
+
+  /**
+   * Stops listening and drops every connection. Mazes that are being solved
+   * are left to finish on the executor.
+   *
+   * @throws IOException if the socket can't be closed
+   */
+  @Override
+  public void close() throws IOException {
+    server.close();
+    connections.shutdownNow();
+    if (ownsWorkers) {
+      workers.shutdown();
+    }
+    if (address instanceof UnixDomainSocketAddress) {
+      Files.deleteIfExists(((UnixDomainSocketAddress) address).getPath());
+    }
+  }
+
+  /**
+   * Reads mazes from a connection and hands them to the workers, while another
+   * thread writes the answers back in order
+   *
+   * @param channel the connection to a client
+   */
+  private void handle(SocketChannel channel) {
+    BlockingQueue<CompletableFuture<String>> answers = new ArrayBlockingQueue<>(PIPELINE_DEPTH);
+    connections.execute(() -> write(channel, answers));
+
+    try {
+      // The loader stops right after the last cell of each maze, so a maze is
+      // solved as soon as it arrives even if the client is still sending more
+      MazeLoader loader = new MazeLoader(new ChannelInput(channel), 1 << 16);
+      try {
+        MazeGrid grid;
+        while ((grid = loader.next()) != null) {
+          permits.acquire();
+          MazeGrid maze = grid;
+          CompletableFuture<String> answer;
+          try {
+            answer = CompletableFuture.supplyAsync(() -> solver.solve(maze), workers);
+          } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+          }
+          answer.whenComplete((text, error) -> permits.release());
+          answers.put(answer);
+        }
+      } catch (InvalidMazeException | IOException e) {
+        answers.put(CompletableFuture.completedFuture("Could not read the maze: " + e.getMessage() + "\n"));
+      } finally {
+        answers.put(END);
+      }
+    } catch (InterruptedException e) {
+      // The server is closing, and so is the connection
+      closeQuietly(channel);
+    }
+  }
+
+  /**
+   * Writes the answers for a connection as they finish, in the order the mazes
+   * were read, then closes it
+   *
+   * @param channel the connection to a client
+   * @param answers the answers waiting to be written, ending with {@link #END}
+   */
+  private void write(SocketChannel channel, BlockingQueue<CompletableFuture<String>> answers) {
+    try {
+      CompletableFuture<String> answer;
+      while ((answer = answers.take()) != END) {
+        String text;
+        try {
+          text = answer.join() + "\n";
+        } catch (RuntimeException e) {
+          text = "Could not solve the maze: " + e.getMessage() + "\n\n";
+        }
+
+        // Write the answer straight to the channel. The streams from Channels
+        // lock the channel for reading and writing together, which would hold
+        // this up until the reader got more input.
+        ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII));
+        while (bytes.hasRemaining()) {
+          channel.write(bytes);
+        }
+      }
+    } catch (IOException e) {
+      // The client went away, so nothing else can be written. Keep taking the
+      // answers so the reader isn't stuck waiting for room.
+      closeQuietly(channel);
+      try {
+        while (answers.take() != END) {
+          // Nowhere to write it
+        }
+      } catch (InterruptedException interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      closeQuietly(channel);
+    }
+  }
+
+  /**
+   * Closes a connection, ignoring any error since there is nothing left to do
+   * with it
+   *
+   * @param channel the connection to close
+   */
+  private static void closeQuietly(SocketChannel channel) {
+    try {
+      channel.close();
+    } catch (IOException e) {
+      // Already as closed as it is going to get
+    }
+  }
+
+  /**
+   * Makes the threads the server runs on, which don't keep the JVM alive on
+   * their own
+   *
+   * @param task what the thread runs
+   * @return the thread
+   */
+  private static Thread daemon(Runnable task) {
+    Thread thread = new Thread(task, "solve-server");
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  /**
+   * <h3>ChannelInput</h3>
+   *
+   * Reads a connection as a stream for {@link MazeLoader} by going straight to
+   * the channel, so reading doesn't lock out the thread writing answers
+   */
+  private static final class ChannelInput extends InputStream {
+    /**
+     * The connection being read
+     */
+    private final SocketChannel channel;
+
+    /**
+     * Constructor that takes the connection to read
+     *
+     * @param channel the connection in blocking mode
+     */
+    private ChannelInput(SocketChannel channel) {
+      this.channel = channel;
+    }
+
+    /**
+     * Reads a single byte
+     *
+     * @return the byte, or -1 at the end of the input
+     * @throws IOException if the connection can't be read
+     */
+    @Override
+    public int read() throws IOException {
+      byte[] one = new byte[1];
+      return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+    }
+
+    /**
+     * Reads whatever has arrived, waiting for at least one byte
+     *
+     * @param bytes  the array to read into
+     * @param offset where in the array to start
+     * @param length the most bytes to read
+     * @return the number of bytes read, or -1 at the end of the input
+     * @throws IOException if the connection can't be read
+     */
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+      return channel.read(ByteBuffer.wrap(bytes, offset, length));
+    }
+  }
+}
@@ -0,0 +1,143 @@
+package com.awtpi314.project5;
+
+/**
+ * <h3>SolveStats</h3>
+ *
+ * Where the time went in one solve, and how much of the maze it had to look
+ * at. A solve is split into finding the start, searching, and building the
+ * path once the target was found, so a slow solve can be put down to a huge
+ * frontier or a long path. Stats are only made when instrumentation is turned
+ * on with {@link SolverMetrics#setEnabled(boolean)}.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class SolveStats {
+  /**
+   * The name of the strategy that did the search
+   */
+  private final String strategy;
+  /**
+   * The time spent finding the start
+   */
+  private final long findStartNanos;
+  /**
+   * The time spent searching
+   */
+  private final long searchNanos;
+  /**
+   * The time spent building the path
+   */
+  private final long reconstructNanos;
+  /**
+   * The number of cells expanded
+   */
+  private final long nodesExpanded;
+  /**
+   * The most cells waiting to be expanded at once
+   */
+  private final long peakFrontier;
+  /**
+   * The number of steps in the path, or -1 if there is no path
+   */
+  private final int pathLength;
+
+  /**
+   * All parameter constructor
+   *
+   * @param strategy         the name of the strategy that did the search
+   * @param findStartNanos   the time spent finding the start
+   * @param searchNanos      the time spent searching
+   * @param reconstructNanos the time spent building the path
+   * @param nodesExpanded    the number of cells expanded
+   * @param peakFrontier     the most cells waiting to be expanded at once
+   * @param pathLength       the number of steps in the path, or -1 if there is
+   *                         no path
+   */
+  public SolveStats(String strategy, long findStartNanos, long searchNanos, long reconstructNanos,
+      long nodesExpanded, long peakFrontier, int pathLength) {
+    this.strategy = strategy;
+    this.findStartNanos = findStartNanos;
+    this.searchNanos = searchNanos;
+    this.reconstructNanos = reconstructNanos;
+    this.nodesExpanded = nodesExpanded;
+    this.peakFrontier = peakFrontier;
+    this.pathLength = pathLength;
+  }
+
+  /**
+   * Getter for the name of the strategy that did the search
+   *
+   * @return the simple class name of the strategy
+   */
+  public String getStrategy() {
+    return strategy;
+  }
+
+  /**
+   * Getter for the time spent finding the start
+   *
+   * @return the time in nanoseconds, which is 0 if the start was passed in
+   */
+  public long getFindStartNanos() {
+    return findStartNanos;
+  }
+
+  /**
+   * Getter for the time spent searching
+   *
+   * @return the time in nanoseconds
+   */
+  public long getSearchNanos() {
+    return searchNanos;
+  }
+
+  /**
+   * Getter for the time spent building the path
+   *
+   * @return the time in nanoseconds, which is 0 if there is no path
+   */
+  public long getReconstructNanos() {
+    return reconstructNanos;
+  }
+
+  /**
+   * Getter for the number of cells expanded
+   *
+   * @return the number of cells expanded
+   */
+  public long getNodesExpanded() {
+    return nodesExpanded;
+  }
+
+  /**
+   * Getter for the most cells waiting to be expanded at once
+   *
+   * @return the peak size of the frontier
+   */
+  public long getPeakFrontier() {
+    return peakFrontier;
+  }
+
+  /**
+   * Getter for the number of steps in the path
+   *
+   * @return the path length, or -1 if there is no path
+   */
+  public int getPathLength() {
+    return pathLength;
+  }
+
+  /**
+   * Prints the stats on one line
+   *
+   * @return the stats as a string
+   */
+  @Override
+  public String toString() {
+    return String.format("%s nodes expanded = %d, peak frontier = %d, find start = %.3f ms, search = %.3f ms,"
+        + " reconstruct = %.3f ms", strategy, nodesExpanded, peakFrontier, findStartNanos / 1e6, searchNanos / 1e6,
+        reconstructNanos / 1e6);
+  }
+}
@@ -0,0 +1,292 @@
+package com.awtpi314.project5;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import com.awtpi314.project5.interfaces.SolverMetricsMXBean;
+
+/**
+ * <h3>SolverMetrics</h3>
+ *
+ * The counters for every solver in the process, and the switch that turns
+ * instrumentation on. While it is off the solvers only read the switch once
+ * per solve and skip everything else, so leaving it off costs nothing. While
+ * it is on every solve is timed phase by phase, gives back a
+ * {@link SolveStats}, adds to these counters and writes flight recorder
+ * events.
+ *
+ * <p>
+ * The counters are {@link LongAdder}s so solvers on lots of threads can add to
+ * them without fighting over one value. The first time instrumentation is
+ * turned on the counters are registered as an MXBean under
+ * {@value #OBJECT_NAME}, where they can be scraped or turned on and off.
+ * </p>
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class SolverMetrics implements SolverMetricsMXBean {
+  /**
+   * The name the counters are registered under
+   */
+  public static final String OBJECT_NAME = "com.awtpi314.project5:type=SolverMetrics";
+
+  /**
+   * The one set of counters for the process
+   */
+  private static final SolverMetrics INSTANCE = new SolverMetrics();
+
+  /**
+   * True while the solvers are recording their phases
+   */
+  private static volatile boolean enabled;
+
+  /**
+   * Number of searches recorded
+   */
+  private final LongAdder solves = new LongAdder();
+  /**
+   * Number of searches that found a path
+   */
+  private final LongAdder solved = new LongAdder();
+  /**
+   * Total cells expanded
+   */
+  private final LongAdder nodesExpanded = new LongAdder();
+  /**
+   * Widest frontier seen
+   */
+  private final LongAccumulator peakFrontier = new LongAccumulator(Math::max, 0);
+  /**
+   * Total time spent finding starts
+   */
+  private final LongAdder findStartNanos = new LongAdder();
+  /**
+   * Total time spent searching
+   */
+  private final LongAdder searchNanos = new LongAdder();
+  /**
+   * Total time spent building paths
+   */
+  private final LongAdder reconstructNanos = new LongAdder();
+  /**
+   * Number of mazes parsed
+   */
+  private final LongAdder parses = new LongAdder();
+  /**
+   * Total time spent parsing
+   */
+  private final LongAdder parseNanos = new LongAdder();
+  /**
+   * True once the counters have been registered with the platform MBean server
+   */
+  private boolean registered;
+
+  /**
+   * Only the one instance is ever made
+   */
+  private SolverMetrics() {
+  }
+
+  /**
+   * Getter for the counters for the process
+   *
+   * @return the one set of counters
+   */
+  public static SolverMetrics getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Checks whether solvers should record their phases. This is the only thing a
+   * solver does when instrumentation is off.
+   *
+   * @return true if instrumentation is on
+   */
+  public static boolean enabled() {
+    return enabled;
+  }
+
+  /**
+   * Checks whether solvers are recording their phases
+   *
+   * @return true if instrumentation is on
+   */
+  @Override
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Turns instrumentation on or off for every solver, registering the counters
+   * the first time it is turned on
+   *
+   * @param enabled true to start recording
+   */
+  @Override
+  public void setEnabled(boolean enabled) {
+    if (enabled) {
+      register();
+    }
+    SolverMetrics.enabled = enabled;
+  }
+
+  /**
+   * Adds one solve to the counters
+   *
+   * @param stats the stats of the solve
+   */
+  public void record(SolveStats stats) {
+    solves.increment();
+    if (stats.getPathLength() >= 0) {
+      solved.increment();
+    }
+    nodesExpanded.add(stats.getNodesExpanded());
+    peakFrontier.accumulate(stats.getPeakFrontier());
+    findStartNanos.add(stats.getFindStartNanos());
+    searchNanos.add(stats.getSearchNanos());
+    reconstructNanos.add(stats.getReconstructNanos());
+  }
+
+  /**
+   * Adds one parsed maze to the counters
+   *
+   * @param nanos the time it took to parse
+   */
+  public void recordParse(long nanos) {
+    parses.increment();
+    parseNanos.add(nanos);
+  }
+
+  /**
+   * Getter for the number of searches recorded
+   *
+   * @return the number of searches
+   */
+  @Override
+  public long getSolveCount() {
+    return solves.sum();
+  }
+
+  /**
+   * Getter for the number of searches that found a path
+   *
+   * @return the number of solved searches
+   */
+  @Override
+  public long getSolvedCount() {
+    return solved.sum();
+  }
+
+  /**
+   * Getter for the total number of cells expanded by every search
+   *
+   * @return the number of cells expanded
+   */
+  @Override
+  public long getNodesExpanded() {
+    return nodesExpanded.sum();
+  }
+
+  /**
+   * Getter for the widest frontier any search has had
+   *
+   * @return the most cells waiting to be expanded at once
+   */
+  @Override
+  public long getPeakFrontier() {
+    return peakFrontier.get();
+  }
+
+  /**
+   * Getter for the total time spent finding the start of a maze
+   *
+   * @return the time in nanoseconds
+   */
+  @Override
+  public long getFindStartNanos() {
+    return findStartNanos.sum();
+  }
+
+  /**
+   * Getter for the total time spent searching
+   *
+   * @return the time in nanoseconds
+   */
+  @Override
+  public long getSearchNanos() {
+    return searchNanos.sum();
+  }
+
+  /**
+   * Getter for the total time spent building paths once they were found
+   *
+   * @return the time in nanoseconds
+   */
+  @Override
+  public long getReconstructNanos() {
+    return reconstructNanos.sum();
+  }
+
+  /**
+   * Getter for the number of mazes parsed
+   *
+   * @return the number of mazes parsed
+   */
+  @Override
+  public long getParseCount() {
+    return parses.sum();
+  }
+
+  /**
+   * Getter for the total time spent parsing mazes
+   *
+   * @return the time in nanoseconds
+   */
+  @Override
+  public long getParseNanos() {
+    return parseNanos.sum();
+  }
+
+  /**
+   * Sets every counter back to zero
+   */
+  @Override
+  public void reset() {
+    solves.reset();
+    solved.reset();
+    nodesExpanded.reset();
+    peakFrontier.reset();
+    findStartNanos.reset();
+    searchNanos.reset();
+    reconstructNanos.reset();
+    parses.reset();
+    parseNanos.reset();
+  }
+
+  /**
+   * Registers the counters with the platform MBean server if they haven't been
+   * already
+   */
+  private synchronized void register() {
+    if (registered) {
+      return;
+    }
+    registered = true;
+
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+    } catch (InstanceAlreadyExistsException e) {
+      // Another copy of this class got there first, which is fine
+    } catch (JMException e) {
+      // The counters still work without JMX, they just can't be scraped
+      System.err.println("Could not register the solver metrics: " + e.getMessage());
+    }
+  }
+}
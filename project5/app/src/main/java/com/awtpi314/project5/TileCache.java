@@ -0,0 +1,197 @@
+package com.awtpi314.project5;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.awtpi314.project5.interfaces.TileSource;
+
+/**
+ * <h3>TileCache</h3>
+ *
+ * Cuts a maze into square tiles and keeps the most recently used ones in
+ * memory. Tiles are read from a {@link TileSource} the first time they are
+ * needed, and the least recently used tile is dropped whenever the tiles held
+ * would go over the memory budget. Each tile holds one byte per cell in row
+ * order, and tiles on the right and bottom edges can be smaller than the rest.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class TileCache {
+  /**
+   * Where the cells are read from
+   */
+  private final TileSource source;
+  /**
+   * The width and height of a full tile
+   */
+  private final int tileSize;
+  /**
+   * Number of tiles across the maze
+   */
+  private final int tilesX;
+  /**
+   * Number of tiles down the maze
+   */
+  private final int tilesY;
+  /**
+   * The tiles in memory, least recently used first
+   */
+  private final LinkedHashMap<Integer, byte[]> tiles;
+  /**
+   * Number of tiles read from the source
+   */
+  private long loads;
+
+  /**
+   * Constructor that takes the tile size and how much memory the tiles can use
+   *
+   * @param source       where the cells are read from
+   * @param tileSize     the width and height of a tile
+   * @param memoryBudget the number of bytes of cells to keep in memory. At
+   *                     least two tiles are always kept.
+   */
+  public TileCache(TileSource source, int tileSize, long memoryBudget) {
+    if (tileSize < 2) {
+      throw new IllegalArgumentException("Tiles have to be at least 2 cells across");
+    }
+
+    this.source = source;
+    this.tileSize = tileSize;
+    this.tilesX = (source.getCols() + tileSize - 1) / tileSize;
+    this.tilesY = (source.getRows() + tileSize - 1) / tileSize;
+    long maxTiles = Math.max(2, memoryBudget / ((long) tileSize * tileSize));
+    this.tiles = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Integer, byte[]> eldest) {
+        return size() > maxTiles;
+      }
+    };
+  }
+
+  /**
+   * Getter for where the cells are read from
+   *
+   * @return the tile source
+   */
+  public TileSource getSource() {
+    return source;
+  }
+
+  /**
+   * Getter for the width and height of a full tile
+   *
+   * @return the tile size
+   */
+  public int getTileSize() {
+    return tileSize;
+  }
+
+  /**
+   * Getter for the number of tiles across the maze
+   *
+   * @return the number of tile columns
+   */
+  public int getTilesX() {
+    return tilesX;
+  }
+
+  /**
+   * Getter for the number of tiles down the maze
+   *
+   * @return the number of tile rows
+   */
+  public int getTilesY() {
+    return tilesY;
+  }
+
+  /**
+   * Getter for the number of tiles that have been read from the source. A tile
+   * that was dropped and needed again counts twice.
+   *
+   * @return the number of tile reads
+   */
+  public long getLoads() {
+    return loads;
+  }
+
+  /**
+   * Works out which tile a cell is in
+   *
+   * @param index the cell index
+   * @return the tile number, counting across then down
+   */
+  public int tileOf(int index) {
+    int cols = source.getCols();
+    return (index / cols / tileSize) * tilesX + (index % cols) / tileSize;
+  }
+
+  /**
+   * Gets the x position of the first column in a tile
+   *
+   * @param tile the tile number
+   * @return the x position of the tile's left edge
+   */
+  public int tileX(int tile) {
+    return (tile % tilesX) * tileSize;
+  }
+
+  /**
+   * Gets the y position of the first row in a tile
+   *
+   * @param tile the tile number
+   * @return the y position of the tile's top edge
+   */
+  public int tileY(int tile) {
+    return (tile / tilesX) * tileSize;
+  }
+
+  /**
+   * Gets the width of a tile, which is smaller on the right edge
+   *
+   * @param tile the tile number
+   * @return the number of columns in the tile
+   */
+  public int tileWidth(int tile) {
+    return Math.min(tileSize, source.getCols() - tileX(tile));
+  }
+
+  /**
+   * Gets the height of a tile, which is smaller on the bottom edge
+   *
+   * @param tile the tile number
+   * @return the number of rows in the tile
+   */
+  public int tileHeight(int tile) {
+    return Math.min(tileSize, source.getRows() - tileY(tile));
+  }
+
+  /**
+   * Gets the cells of a tile, reading it from the source if it isn't in memory
+   *
+   * @param tile the tile number
+   * @return the cell codes of the tile in row order
+   * @throws IOException if the tile can't be read
+   */
+  public byte[] getTile(int tile) throws IOException {
+    byte[] cells = tiles.get(tile);
+    if (cells != null) {
+      return cells;
+    }
+
+    int x = tileX(tile);
+    int y = tileY(tile);
+    int width = tileWidth(tile);
+    int height = tileHeight(tile);
+    cells = new byte[width * height];
+    for (int row = 0; row < height; row++) {
+      source.readRow(y + row, x, width, cells, row * width);
+    }
+    loads++;
+
+    tiles.put(tile, cells);
+    return cells;
+  }
+}
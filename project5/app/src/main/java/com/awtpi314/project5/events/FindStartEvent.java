@@ -0,0 +1,28 @@
+package com.awtpi314.project5.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <h3>FindStartEvent</h3>
+ *
+ * A flight recorder event covering the time spent finding the S in a maze.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+@Name("com.awtpi314.project5.FindStart")
+@Label("Find Start")
+@Category("Maze Solver")
+@Description("Finding the start of a maze")
+public class FindStartEvent extends Event {
+  /**
+   * The cell index of the start, or -1 if there isn't one
+   */
+  @Label("Start")
+  public int start;
+}
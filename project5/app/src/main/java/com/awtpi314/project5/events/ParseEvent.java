@@ -0,0 +1,34 @@
+package com.awtpi314.project5.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <h3>ParseEvent</h3>
+ *
+ * A flight recorder event covering the time spent reading a maze into a
+ * {@link com.awtpi314.project5.MazeGrid}.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+@Name("com.awtpi314.project5.Parse")
+@Label("Maze Parse")
+@Category("Maze Solver")
+@Description("Reading a maze into a grid")
+public class ParseEvent extends Event {
+  /**
+   * The number of rows in the maze
+   */
+  @Label("Rows")
+  public int rows;
+  /**
+   * The number of columns in the maze
+   */
+  @Label("Columns")
+  public int cols;
+}
@@ -0,0 +1,29 @@
+package com.awtpi314.project5.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <h3>ReconstructEvent</h3>
+ *
+ * A flight recorder event covering the time spent building the path once a
+ * search has found the target.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+@Name("com.awtpi314.project5.Reconstruct")
+@Label("Path Reconstruction")
+@Category("Maze Solver")
+@Description("Building the path after the target was found")
+public class ReconstructEvent extends Event {
+  /**
+   * The number of steps in the path
+   */
+  @Label("Path Length")
+  public int pathLength;
+}
@@ -0,0 +1,45 @@
+package com.awtpi314.project5.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <h3>SearchEvent</h3>
+ *
+ * A flight recorder event covering a search, from when it starts until it
+ * finds the target or gives up. Building the path afterwards is a
+ * {@link ReconstructEvent}.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+@Name("com.awtpi314.project5.Search")
+@Label("Maze Search")
+@Category("Maze Solver")
+@Description("Searching a maze for the target")
+public class SearchEvent extends Event {
+  /**
+   * The name of the strategy doing the search
+   */
+  @Label("Strategy")
+  public String strategy;
+  /**
+   * The number of cells expanded
+   */
+  @Label("Nodes Expanded")
+  public long nodesExpanded;
+  /**
+   * The most cells waiting to be expanded at once
+   */
+  @Label("Peak Frontier")
+  public long peakFrontier;
+  /**
+   * True if the search found the target
+   */
+  @Label("Solved")
+  public boolean solved;
+}
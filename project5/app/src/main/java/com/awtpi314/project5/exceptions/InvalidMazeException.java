@@ -0,0 +1,21 @@
+package com.awtpi314.project5.exceptions;
+
+/**
+ * <h3>InvalidMazeException</h3>
+ *
+ * Thrown when maze input doesn't follow the expected format
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public class InvalidMazeException extends Exception {
+  /**
+   * Constructor that takes the reason the maze is invalid
+   *
+   * @param message what is wrong with the maze
+   */
+  public InvalidMazeException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,37 @@
+package com.awtpi314.project5.interfaces;
+
+/**
+ * <h3>CellStore</h3>
+ *
+ * Where the type of every cell in a {@link com.awtpi314.project5.MazeGrid} is
+ * kept. Cells are addressed by their index and hold one of the cell codes in
+ * {@link com.awtpi314.project5.MazeGrid}.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public interface CellStore {
+  /**
+   * Getter for the code of a cell
+   *
+   * @param index the cell index
+   * @return the cell code
+   */
+  public byte get(int index);
+
+  /**
+   * Setter for the code of a cell
+   *
+   * @param index the cell index
+   * @param type  the new cell code
+   */
+  public void set(int index, byte type);
+
+  /**
+   * Getter for the number of cells in the store
+   *
+   * @return the number of cells
+   */
+  public int size();
+}
@@ -0,0 +1,42 @@
+package com.awtpi314.project5.interfaces;
+
+import com.awtpi314.project5.MazeGrid;
+import com.awtpi314.project5.SearchState;
+
+/**
+ * <h3>SearchStrategy</h3>
+ *
+ * A way of finding the shortest path through a {@link MazeGrid}. Every
+ * strategy has to give back an optimal path, they only differ in how much of
+ * the maze they look at to find it. Strategies keep everything they write in
+ * the {@link SearchState} they are given, so one strategy can be shared by
+ * searches running at the same time as long as each has its own state.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public interface SearchStrategy {
+  /**
+   * Finds the shortest path between two different cells. The state is expected
+   * to have had {@link SearchState#begin()} called on it, and the number of
+   * cells expanded is added to it. Before expanding cells a strategy calls
+   * {@link SearchState#shouldStop()}, and gives back null if it says to.
+   *
+   * @param state  the search state for the grid being searched
+   * @param start  the cell index to start from
+   * @param target the cell index to find
+   * @return the cell indices from start to target, or null if there is no path
+   */
+  public int[] findPath(SearchState state, int start, int target);
+
+  /**
+   * Checks whether the strategy takes the cost of terrain into account, in
+   * which case the distances it writes are total costs rather than hops
+   *
+   * @return true if paths are the cheapest rather than the shortest
+   */
+  public default boolean isWeighted() {
+    return false;
+  }
+}
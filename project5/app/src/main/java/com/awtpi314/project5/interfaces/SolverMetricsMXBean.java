@@ -0,0 +1,97 @@
+package com.awtpi314.project5.interfaces;
+
+/**
+ * <h3>SolverMetricsMXBean</h3>
+ *
+ * The counters every solver in the process adds to while instrumentation is
+ * turned on, as seen over JMX. Times are totals in nanoseconds, so a scraper
+ * gets an average by dividing by the matching count. Turning the counters on
+ * and off here turns instrumentation on and off for every solver.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public interface SolverMetricsMXBean {
+  /**
+   * Checks whether solvers are recording their phases
+   *
+   * @return true if instrumentation is on
+   */
+  public boolean isEnabled();
+
+  /**
+   * Turns instrumentation on or off for every solver
+   *
+   * @param enabled true to start recording
+   */
+  public void setEnabled(boolean enabled);
+
+  /**
+   * Getter for the number of searches recorded
+   *
+   * @return the number of searches
+   */
+  public long getSolveCount();
+
+  /**
+   * Getter for the number of searches that found a path
+   *
+   * @return the number of solved searches
+   */
+  public long getSolvedCount();
+
+  /**
+   * Getter for the total number of cells expanded by every search
+   *
+   * @return the number of cells expanded
+   */
+  public long getNodesExpanded();
+
+  /**
+   * Getter for the widest frontier any search has had
+   *
+   * @return the most cells waiting to be expanded at once
+   */
+  public long getPeakFrontier();
+
+  /**
+   * Getter for the total time spent finding the start of a maze
+   *
+   * @return the time in nanoseconds
+   */
+  public long getFindStartNanos();
+
+  /**
+   * Getter for the total time spent searching
+   *
+   * @return the time in nanoseconds
+   */
+  public long getSearchNanos();
+
+  /**
+   * Getter for the total time spent building paths once they were found
+   *
+   * @return the time in nanoseconds
+   */
+  public long getReconstructNanos();
+
+  /**
+   * Getter for the number of mazes parsed
+   *
+   * @return the number of mazes parsed
+   */
+  public long getParseCount();
+
+  /**
+   * Getter for the total time spent parsing mazes
+   *
+   * @return the time in nanoseconds
+   */
+  public long getParseNanos();
+
+  /**
+   * Sets every counter back to zero
+   */
+  public void reset();
+}
@@ -0,0 +1,56 @@
+package com.awtpi314.project5.interfaces;
+
+import java.io.IOException;
+
+/**
+ * <h3>TileSource</h3>
+ *
+ * Somewhere the cells of a maze can be read from a row at a time, without the
+ * whole maze having to be in memory. Cell indices are {@code y * cols + x}
+ * and hold the cell codes in {@link com.awtpi314.project5.MazeGrid}.
+ *
+ * @author Alexander Taylor
+ * @since 10/18/2026
+ * @version 1.0
+ */
+public interface TileSource {
+  /**
+   * Getter for the number of rows
+   *
+   * @return the number of rows in the maze
+   */
+  public int getRows();
+
+  /**
+   * Getter for the number of columns
+   *
+   * @return the number of columns in the maze
+   */
+  public int getCols();
+
+  /**
+   * Getter for the start index
+   *
+   * @return the index of the start, or -1 if there isn't one
+   */
+  public int getStart();
+
+  /**
+   * Getter for the finish index
+   *
+   * @return the index of the finish, or -1 if there isn't one
+   */
+  public int getFinish();
+
+  /**
+   * Reads part of a row of cell codes
+   *
+   * @param y      the row to read
+   * @param x      the first column to read
+   * @param length the number of cells to read
+   * @param cells  where the cell codes are written
+   * @param offset the position in cells to write the first code
+   * @throws IOException if the cells can't be read
+   */
+  public void readRow(int y, int x, int length, byte[] cells, int offset) throws IOException;
+}
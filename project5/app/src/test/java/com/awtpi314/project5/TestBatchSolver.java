@@ -0,0 +1,120 @@
+package com.awtpi314.project5;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+import com.awtpi314.project5.exceptions.InvalidMazeException;
+
+/**
+ * <h3>TestBatchSolver</h3>
+ *
+ * TestBatchSolver feeds a stream of mazes through the batch solver and makes
+ * sure every result comes out in the order the mazes went in.
+ *
+ * @author Alexander Taylor
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class TestBatchSolver {
+  /**
+   * <h3>toText</h3>
+   *
+   * Writes a grid out in the text format
+   *
+   * @param grid the grid to write
+   * @return the maze as text
+   */
+  static String toText(MazeGrid grid) {
+    StringBuilder text = new StringBuilder();
+    text.append(grid.getRows()).append(' ').append(grid.getCols()).append('\n');
+    for (int y = 0; y < grid.getRows(); y++) {
+      for (int x = 0; x < grid.getCols(); x++) {
+        text.append(grid.getSquareType(grid.index(x, y)).display);
+      }
+      text.append('\n');
+    }
+
+    return text.toString();
+  }
+
+  /**
+   * <h3>resultsInOrder</h3>
+   *
+   * Mazes of very different sizes finish at different times, but the results
+   * still have to come out in input order
+   */
+  @Test
+  public void resultsInOrder() throws IOException, InvalidMazeException {
+    StringBuilder input = new StringBuilder();
+    StringBuilder expected = new StringBuilder();
+    for (long seed = 0; seed < 300; seed++) {
+      int size = seed % 7 == 0 ? 120 : 5 + (int) (seed % 11);
+      MazeGrid maze = TestMazeSolver.randomGrid(size, size + 3, 0.3, seed);
+      input.append(toText(maze));
+
+      int[] path = new MazeSolver(maze).findPath();
+      if (path == null) {
+        expected.append("Maze not solvable.\n");
+      } else {
+        for (int node : path) {
+          expected.append('<').append(maze.getY(node)).append(' ').append(maze.getX(node)).append(">\n");
+        }
+        expected.append("Total distance = ").append(path.length - 1).append('\n');
+      }
+    }
+
+    StringWriter out = new StringWriter();
+    long solved = new BatchSolver(new BreadthFirstStrategy(), 3)
+        .run(new MazeLoader(TestMazeLoader.stream(input.toString()), 512), out);
+
+    assertEquals(300, solved);
+    assertEquals(expected.toString(), out.toString());
+  }
+
+  /**
+   * <h3>compactResults</h3>
+   *
+   * A compact batch should write each path on one line that reads back into
+   * the path the solver found
+   */
+  @Test
+  public void compactResults() throws IOException, InvalidMazeException {
+    String input = TestMazeLoader.EXAMPLE_TEXT + "3 3\nSX.\nXX.\n..T\n" + TestMazeLoader.EXAMPLE_TEXT;
+    StringWriter out = new StringWriter();
+    new BatchSolver(new BreadthFirstStrategy(), 2, null, true).run(new MazeLoader(TestMazeLoader.stream(input)),
+        out);
+
+    String[] lines = out.toString().split("\n");
+    int[] path = new MazeSolver(TestMazeSolver.grid(TestMazeSolver.EXAMPLE)).findPath();
+    assertEquals(5, lines.length);
+    assertArrayEquals(path, TestPathWriter.readCompact(lines[0], 6));
+    assertEquals("Total distance = 12", lines[1]);
+    assertEquals("Maze not solvable.", lines[2]);
+    assertEquals(lines[0], lines[3]);
+  }
+
+  /**
+   * <h3>badMazeStops</h3>
+   *
+   * A bad maze stops the batch, but everything before it is still written
+   */
+  @Test
+  public void badMazeStops() {
+    String input = TestMazeLoader.EXAMPLE_TEXT + TestMazeLoader.EXAMPLE_TEXT + "2 2\nS?\n.T\n";
+    StringWriter out = new StringWriter();
+
+    assertThrows(InvalidMazeException.class,
+        () -> new BatchSolver(new AStarStrategy(), 2).run(new MazeLoader(TestMazeLoader.stream(input)), out));
+    String written = out.toString();
+    assertTrue(written.indexOf("Total distance = 12\n") >= 0);
+    assertEquals(written.lastIndexOf("Total distance = 12\n") + 20, written.length());
+    assertTrue(written.indexOf("Total distance = 12\n") < written.lastIndexOf("Total distance = 12\n"));
+  }
+}
@@ -0,0 +1,131 @@
+package com.awtpi314.project5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import com.awtpi314.project5.exceptions.InvalidMazeException;
+
+/**
+ * <h3>TestBinaryMazeFormat</h3>
+ *
+ * TestBinaryMazeFormat converts text mazes to the binary format and makes sure
+ * the mapped version holds the same maze and solves the same way.
+ *
+ * @author Alexander Taylor
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class TestBinaryMazeFormat {
+  /**
+   * <h3>convertAndMap</h3>
+   *
+   * Converts the example from text and solves it in place from the map
+   */
+  @Test
+  public void convertAndMap() throws IOException, InvalidMazeException {
+    Path text = Files.createTempFile("maze", ".txt");
+    Path binary = Files.createTempFile("maze", ".mazb");
+    try {
+      Files.writeString(text, TestMazeLoader.EXAMPLE_TEXT);
+      BinaryMazeFormat.convert(text, binary);
+
+      assertTrue(BinaryMazeFormat.isBinary(binary));
+      assertFalse(BinaryMazeFormat.isBinary(text));
+      // Header plus 36 cells at four to a byte
+      assertEquals(BinaryMazeFormat.HEADER_SIZE + 9, Files.size(binary));
+
+      MazeGrid mapped = BinaryMazeFormat.load(binary);
+      TestMazeLoader.assertSameMaze(TestMazeSolver.grid(TestMazeSolver.EXAMPLE), mapped);
+      assertEquals(12, new MazeSolver(mapped).findPath().length - 1);
+    } finally {
+      Files.delete(text);
+      Files.delete(binary);
+    }
+  }
+
+  /**
+   * <h3>randomRoundTrip</h3>
+   *
+   * Random mazes with sizes that don't fill the last byte survive the round trip
+   */
+  @Test
+  public void randomRoundTrip() throws IOException, InvalidMazeException {
+    Path binary = Files.createTempFile("maze", ".mazb");
+    try {
+      for (long seed = 0; seed < 20; seed++) {
+        MazeGrid maze = TestMazeSolver.randomGrid(13 + (int) seed, 7, 0.3, seed);
+        BinaryMazeFormat.write(maze, binary);
+        TestMazeLoader.assertSameMaze(maze, BinaryMazeFormat.map(binary));
+      }
+    } finally {
+      Files.delete(binary);
+    }
+  }
+
+  /**
+   * <h3>badHeader</h3>
+   *
+   * A header whose start or finish is off the maze, or isn't on an S or T
+   * cell, is reported instead of failing later in the search, whether the
+   * maze is mapped or read a tile at a time
+   */
+  @Test
+  public void badHeader() throws IOException, InvalidMazeException {
+    Path binary = Files.createTempFile("maze", ".mazb");
+    try {
+      BinaryMazeFormat.write(TestMazeSolver.grid(TestMazeSolver.EXAMPLE), binary);
+      byte[] good = Files.readAllBytes(binary);
+      int finishY = ByteBuffer.wrap(good).getInt(24);
+      int finishX = ByteBuffer.wrap(good).getInt(28);
+      // Each is the header offset to change and the value to put there
+      int[][] edits = { { 16, 6 }, { 20, 6 }, { 16, 1 << 30 }, { 20, -2 }, { 24, 0 }, { 16, finishY } };
+
+      for (int[] edit : edits) {
+        byte[] bad = good.clone();
+        ByteBuffer.wrap(bad).putInt(edit[0], edit[1]);
+        if (edit[0] == 16 && edit[1] == finishY) {
+          ByteBuffer.wrap(bad).putInt(20, finishX);
+        }
+        Files.write(binary, bad);
+        assertThrows(InvalidMazeException.class, () -> BinaryMazeFormat.map(binary),
+            "offset " + edit[0] + " = " + edit[1]);
+        assertThrows(InvalidMazeException.class, () -> new BinaryTileSource(binary).close(),
+            "tiled offset " + edit[0] + " = " + edit[1]);
+      }
+
+      // The good header still opens as tiles
+      Files.write(binary, good);
+      try (BinaryTileSource source = new BinaryTileSource(binary)) {
+        assertEquals(0, source.getStart());
+        assertEquals(finishY * 6 + finishX, source.getFinish());
+      }
+    } finally {
+      Files.delete(binary);
+    }
+  }
+
+  /**
+   * <h3>notBinary</h3>
+   *
+   * Mapping a file that isn't a binary maze is reported
+   */
+  @Test
+  public void notBinary() throws IOException {
+    Path text = Files.createTempFile("maze", ".txt");
+    try {
+      Files.writeString(text, TestMazeLoader.EXAMPLE_TEXT);
+      assertThrows(InvalidMazeException.class, () -> BinaryMazeFormat.map(text));
+    } finally {
+      Files.delete(text);
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.awtpi314.project5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * <h3>TestComponentIndex</h3>
+ *
+ * TestComponentIndex makes sure the component labels agree with what a search
+ * can actually reach, and that the solver uses them to skip hopeless queries.
+ *
+ * @author Alexander Taylor
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class TestComponentIndex {
+  /**
+   * <h3>matchesSearch</h3>
+   *
+   * Two cells should be connected exactly when a search finds a path between
+   * them, on lots of random mazes
+   */
+  @Test
+  public void matchesSearch() {
+    Random random = new Random(13);
+
+    for (long seed = 0; seed < 100; seed++) {
+      MazeGrid maze = TestMazeSolver.randomGrid(15, 20, 0.4, seed);
+      ComponentIndex index = new ComponentIndex(maze);
+      MazeSolver solver = new MazeSolver(maze);
+
+      for (int query = 0; query < 50; query++) {
+        int start = random.nextInt(maze.getCellCount());
+        int target = random.nextInt(maze.getCellCount());
+        boolean reachable = solver.findPath(start, target) != null;
+
+        assertEquals(reachable, index.isConnected(start, target), "Seed " + seed + " query " + query);
+      }
+    }
+  }
+
+  /**
+   * <h3>joinsLateMerges</h3>
+   *
+   * Runs that only meet further down the maze have to end up with the same
+   * label, even when the first pass gave them different ones
+   */
+  @Test
+  public void joinsLateMerges() {
+    MazeGrid maze = TestMazeSolver.grid(
+        "S.X.X.",
+        "..X.X.",
+        ".XX.XX",
+        "......",
+        "XXXXXX",
+        "..X..T");
+    ComponentIndex index = new ComponentIndex(maze);
+
+    assertEquals(4, index.getComponentCount());
+    assertTrue(index.isConnected(maze.index(0, 0), maze.index(3, 0)));
+    assertFalse(index.isConnected(maze.index(0, 0), maze.index(5, 0)));
+    assertFalse(index.isConnected(maze.index(0, 0), maze.getFinish()));
+    assertFalse(index.isConnected(maze.index(2, 0), maze.index(2, 0)), "Walls aren't connected to anything");
+    assertEquals(ComponentIndex.NONE, index.getComponent(maze.index(2, 0)));
+  }
+
+  /**
+   * <h3>skipsUnreachableQueries</h3>
+   *
+   * A solver with an index should turn away unreachable queries without
+   * expanding anything, and still solve the reachable ones
+   */
+  @Test
+  public void skipsUnreachableQueries() {
+    MazeGrid maze = TestMazeSolver.grid(
+        "S.X.",
+        "..XT",
+        "..X.");
+    MazeSolver solver = new MazeSolver(maze);
+    solver.setComponentIndex(new ComponentIndex(maze));
+
+    assertNull(solver.findPath());
+    assertEquals(0, solver.getNodesExpanded());
+    assertEquals(4, solver.findPath(maze.getStart(), maze.index(1, 2)).length);
+  }
+}
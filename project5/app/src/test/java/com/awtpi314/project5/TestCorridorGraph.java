@@ -0,0 +1,196 @@
+package com.awtpi314.project5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * <h3>TestCorridorGraph</h3>
+ *
+ * TestCorridorGraph makes sure searching the contracted graph gives paths as
+ * short as a search over every cell, wherever the ends of the query are.
+ *
+ * @author Alexander Taylor
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class TestCorridorGraph {
+  /**
+   * <h3>carvedGrid</h3>
+   *
+   * Carves a maze of one cell wide corridors with a seeded depth-first walk,
+   * then knocks out a few extra walls so it has some loops too
+   *
+   * @param size  the number of rooms along each side
+   * @param loops the number of extra walls to knock out
+   * @param seed  the seed for the random number generator
+   * @return the grid holding the maze
+   */
+  static MazeGrid carvedGrid(int size, int loops, long seed) {
+    Random random = new Random(seed);
+    int side = size * 2 + 1;
+    MazeGrid grid = new MazeGrid(side, side);
+    boolean[] visited = new boolean[size * size];
+    ArrayDeque<Integer> stack = new ArrayDeque<>();
+    stack.push(0);
+    visited[0] = true;
+    grid.setType(grid.index(1, 1), MazeGrid.OPEN);
+
+    while (!stack.isEmpty()) {
+      int room = stack.peek();
+      int x = room % size;
+      int y = room / size;
+      // Pick a random neighbouring room that hasn't been carved into yet
+      int[] options = new int[4];
+      int count = 0;
+      if (x > 0 && !visited[room - 1]) {
+        options[count++] = room - 1;
+      }
+      if (x < size - 1 && !visited[room + 1]) {
+        options[count++] = room + 1;
+      }
+      if (y > 0 && !visited[room - size]) {
+        options[count++] = room - size;
+      }
+      if (y < size - 1 && !visited[room + size]) {
+        options[count++] = room + size;
+      }
+      if (count == 0) {
+        // Nowhere left to go from this room, so back up
+        stack.pop();
+        continue;
+      }
+
+      int next = options[random.nextInt(count)];
+      visited[next] = true;
+      stack.push(next);
+      int nx = next % size;
+      int ny = next / size;
+      grid.setType(grid.index(nx * 2 + 1, ny * 2 + 1), MazeGrid.OPEN);
+      grid.setType(grid.index(x + nx + 1, y + ny + 1), MazeGrid.OPEN);
+    }
+
+    for (int i = 0; i < loops; i++) {
+      int x = 1 + random.nextInt(side - 2);
+      int y = 1 + random.nextInt(side - 2);
+      grid.setType(grid.index(x, y), MazeGrid.OPEN);
+    }
+    grid.setType(grid.index(1, 1), MazeGrid.START);
+    grid.setType(grid.index(side - 2, side - 2), MazeGrid.FINISH);
+
+    return grid;
+  }
+
+  /**
+   * <h3>assertSameLengths</h3>
+   *
+   * Runs random queries against the graph and a plain search and checks that
+   * they agree
+   *
+   * @param maze    the maze to query
+   * @param queries the number of queries to run
+   * @param seed    the seed for picking the ends of the queries
+   */
+  static void assertSameLengths(MazeGrid maze, int queries, long seed) {
+    CorridorGraph graph = new CorridorGraph(maze);
+    MazeSolver solver = new MazeSolver(maze);
+    Random random = new Random(seed);
+    assertTrue(graph.isContracted());
+
+    for (int query = 0; query < queries; query++) {
+      int start = random.nextInt(maze.getCellCount());
+      int target = random.nextInt(maze.getCellCount());
+      int[] expected = solver.findPath(start, target);
+      int[] actual = graph.findPath(start, target);
+
+      if (expected == null) {
+        assertNull(actual, "Query " + query + " should not be solvable");
+        continue;
+      }
+      assertNotNull(actual, "Query " + query + " should be solvable");
+      assertEquals(expected.length, actual.length, "Query " + query);
+      assertEquals(start, actual[0]);
+      assertEquals(target, actual[actual.length - 1]);
+      for (int i = 1; i < actual.length; i++) {
+        int dx = Math.abs(maze.getX(actual[i]) - maze.getX(actual[i - 1]));
+        int dy = Math.abs(maze.getY(actual[i]) - maze.getY(actual[i - 1]));
+        assertEquals(1, dx + dy, "Query " + query + " steps must be to a neighbour");
+        assertTrue(maze.isPassable(actual[i]), "Query " + query + " must not go through a wall");
+      }
+    }
+  }
+
+  /**
+   * <h3>carvedMazes</h3>
+   *
+   * Mazes made of corridors contract down to a few nodes and still give the
+   * shortest paths
+   */
+  @Test
+  public void carvedMazes() {
+    for (long seed = 0; seed < 20; seed++) {
+      MazeGrid maze = carvedGrid(20, (int) seed * 3, seed);
+      assertSameLengths(maze, 100, seed);
+      assertTrue(new CorridorGraph(maze).getNodeCount() * 4 < maze.getCellCount());
+    }
+  }
+
+  /**
+   * <h3>randomMazes</h3>
+   *
+   * Random mazes are mostly junctions, but the answers still have to match
+   */
+  @Test
+  public void randomMazes() {
+    for (long seed = 0; seed < 20; seed++) {
+      assertSameLengths(TestMazeSolver.randomGrid(40, 40, 0.35, seed), 100, seed);
+    }
+  }
+
+  /**
+   * <h3>loopWithoutJunctions</h3>
+   *
+   * A loop with nothing leading off it still has to be searchable both ways
+   * around
+   */
+  @Test
+  public void loopWithoutJunctions() {
+    MazeGrid maze = new MazeGrid(40, 40);
+    for (int i = 5; i <= 30; i++) {
+      maze.setType(maze.index(i, 5), MazeGrid.OPEN);
+      maze.setType(maze.index(i, 30), MazeGrid.OPEN);
+      maze.setType(maze.index(5, i), MazeGrid.OPEN);
+      maze.setType(maze.index(30, i), MazeGrid.OPEN);
+    }
+    CorridorGraph graph = new CorridorGraph(maze);
+
+    assertEquals(1, graph.getNodeCount());
+    assertEquals(51, graph.findPath(maze.index(5, 5), maze.index(30, 30)).length);
+    assertEquals(3, graph.findPath(maze.index(6, 5), maze.index(5, 6)).length);
+    assertSameLengths(maze, 200, 1);
+  }
+
+  /**
+   * <h3>smallMazesSkipContraction</h3>
+   *
+   * Small mazes are searched cell by cell, and the locations still come back
+   * with their distances
+   */
+  @Test
+  public void smallMazesSkipContraction() {
+    CorridorGraph graph = new CorridorGraph(TestMazeSolver.grid(TestMazeSolver.EXAMPLE));
+    assertFalse(graph.isContracted());
+
+    Location[] path = graph.solve();
+    assertEquals(13, path.length);
+    assertEquals(12, path[12].getDistFromStart());
+    assertEquals(Location.SquareType.FINISH, path[12].getType());
+  }
+}
@@ -0,0 +1,166 @@
+package com.awtpi314.project5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * <h3>TestDialStrategy</h3>
+ *
+ * TestDialStrategy makes sure the bucket queue search finds the cheapest paths
+ * over weighted terrain and still finds shortest paths when there isn't any.
+ *
+ * @author Alexander Taylor
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class TestDialStrategy {
+  /**
+   * <h3>weightedGrid</h3>
+   *
+   * Builds a seeded random maze with a mix of every kind of terrain, the start
+   * in the top left and the finish in the bottom right
+   *
+   * @param rows the number of rows
+   * @param cols the number of columns
+   * @param seed the seed for the random number generator
+   * @return the grid holding the maze
+   */
+  static MazeGrid weightedGrid(int rows, int cols, long seed) {
+    Random random = new Random(seed);
+    MazeGrid grid = new MazeGrid(rows, cols);
+    Location.SquareType[] terrain = { Location.SquareType.WALL, Location.SquareType.OPEN, Location.SquareType.OPEN,
+        Location.SquareType.STAIRS, Location.SquareType.MUD, Location.SquareType.DOOR };
+
+    for (int i = 0; i < grid.getCellCount(); i++) {
+      grid.setType(i, (byte) terrain[random.nextInt(terrain.length)].ordinal());
+    }
+    grid.setType(0, MazeGrid.START);
+    grid.setType(grid.getCellCount() - 1, MazeGrid.FINISH);
+
+    return grid;
+  }
+
+  /**
+   * <h3>cheapestCost</h3>
+   *
+   * A plain heap based Dijkstra to check the answers against
+   *
+   * @param grid   the grid to search
+   * @param start  the cell index to start from
+   * @param target the cell index to find
+   * @return the lowest total cost to reach the target, or -1 if it can't be
+   *         reached
+   */
+  static int cheapestCost(MazeGrid grid, int start, int target) {
+    int[] best = new int[grid.getCellCount()];
+    Arrays.fill(best, Integer.MAX_VALUE);
+    PriorityQueue<int[]> open = new PriorityQueue<>((a, b) -> Integer.compare(a[0], b[0]));
+    best[start] = 0;
+    open.add(new int[] { 0, start });
+
+    while (!open.isEmpty()) {
+      int[] entry = open.remove();
+      if (entry[0] > best[entry[1]]) {
+        continue;
+      }
+      for (int direction = MazeGrid.NORTH; direction <= MazeGrid.WEST; direction++) {
+        int next = grid.step(entry[1], direction);
+        if (next >= 0 && grid.isPassable(next) && entry[0] + grid.getCost(next) < best[next]) {
+          best[next] = entry[0] + grid.getCost(next);
+          open.add(new int[] { best[next], next });
+        }
+      }
+    }
+
+    return best[target] == Integer.MAX_VALUE ? -1 : best[target];
+  }
+
+  /**
+   * <h3>matchesDijkstra</h3>
+   *
+   * The bucket queue search has to find paths with the same cost as a heap
+   * based search on lots of random weighted mazes, including unsolvable ones
+   */
+  @Test
+  public void matchesDijkstra() {
+    for (long seed = 0; seed < 200; seed++) {
+      MazeGrid maze = weightedGrid(15, 20, seed);
+      MazeSolver solver = new MazeSolver(maze, new DialStrategy());
+
+      int expected = cheapestCost(maze, maze.getStart(), maze.getFinish());
+      int[] path = solver.findPath();
+
+      if (expected == -1) {
+        assertNull(path, "Seed " + seed + " should not be solvable");
+        continue;
+      }
+      TestMazeSolver.assertValidPath(maze, path);
+      // Add up what the path actually costs rather than trusting the distances
+      int cost = 0;
+      for (int i = 1; i < path.length; i++) {
+        cost += maze.getCost(path[i]);
+      }
+      assertEquals(expected, cost, "Seed " + seed);
+      assertEquals(expected, solver.getState().getDist(maze.getFinish()), "Seed " + seed);
+    }
+  }
+
+  /**
+   * <h3>unitCostMatchesBreadthFirst</h3>
+   *
+   * Without any weighted terrain the paths should be as short as the ones the
+   * breadth-first search finds
+   */
+  @Test
+  public void unitCostMatchesBreadthFirst() {
+    for (long seed = 0; seed < 200; seed++) {
+      MazeGrid maze = TestMazeSolver.randomGrid(15, 20, 0.3, seed);
+      MazeSolver solver = new MazeSolver(maze);
+
+      int[] expected = solver.findPath();
+      int[] actual = solver.findPath(new DialStrategy());
+
+      if (expected == null) {
+        assertNull(actual, "Seed " + seed + " should not be solvable");
+      } else {
+        TestMazeSolver.assertValidPath(maze, actual);
+        assertEquals(expected.length, actual.length, "Seed " + seed);
+      }
+    }
+  }
+
+  /**
+   * <h3>weightedDistanceFromStart</h3>
+   *
+   * The loader has to read the weighted terrain and the locations built from
+   * the path have to carry the total cost rather than the number of hops
+   */
+  @Test
+  public void weightedDistanceFromStart() throws Exception {
+    MazeLoader loader = new MazeLoader(TestMazeLoader.stream("3 4\nS~.D\n.XX.\n..=T\n"));
+    MazeGrid maze = loader.next();
+    assertNotNull(maze);
+    assertEquals(Location.SquareType.MUD, maze.getSquareType(maze.index(1, 0)));
+    assertEquals(Location.SquareType.DOOR, maze.getSquareType(maze.index(3, 0)));
+    assertEquals(Location.SquareType.STAIRS, maze.getSquareType(maze.index(2, 2)));
+
+    MazeSolver solver = new MazeSolver(maze, new DialStrategy());
+    Location[] path = solver.solve();
+
+    // Going round the bottom costs 1 + 1 + 1 + 2 + 1, the top costs 3 + 1 + 5 + 1
+    assertEquals(6, path.length);
+    assertEquals(6, path[5].getDistFromStart());
+    assertEquals(Location.SquareType.FINISH, path[5].getType());
+    for (int i = 1; i < path.length; i++) {
+      assertTrue(path[i].getDistFromStart() > path[i - 1].getDistFromStart());
+    }
+  }
+}
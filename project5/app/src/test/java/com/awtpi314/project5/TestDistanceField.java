@@ -0,0 +1,186 @@
+package com.awtpi314.project5;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.awtpi314.project5.exceptions.InvalidMazeException;
+
+/**
+ * <h3>TestDistanceField</h3>
+ *
+ * TestDistanceField makes sure searching from many starts at once finds the
+ * same distances as searching from each start on its own, both for the paths
+ * to a set of targets and for a whole distance field.
+ *
+ * @author Alexander Taylor
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class TestDistanceField {
+  /**
+   * <h3>randomCells</h3>
+   *
+   * Picks some random cells of a maze
+   *
+   * @param maze   the maze to pick from
+   * @param count  the number of cells to pick
+   * @param random the random number generator
+   * @return the cell indices
+   */
+  static int[] randomCells(MazeGrid maze, int count, Random random) {
+    int[] cells = new int[count];
+    for (int i = 0; i < count; i++) {
+      cells[i] = random.nextInt(maze.getCellCount());
+    }
+
+    return cells;
+  }
+
+  /**
+   * <h3>nearestDistance</h3>
+   *
+   * Works out the distance from the nearest source the slow way, with one
+   * search per source
+   *
+   * @param solver  a solver for the maze
+   * @param sources the cell indices to start from
+   * @param target  the cell index to find
+   * @return the shortest distance from any source, or -1 if none reach it
+   */
+  static int nearestDistance(MazeSolver solver, int[] sources, int target) {
+    int best = -1;
+    for (int source : sources) {
+      int[] path = solver.findPath(source, target);
+      if (path != null && (best < 0 || path.length - 1 < best)) {
+        best = path.length - 1;
+      }
+    }
+
+    return best;
+  }
+
+  /**
+   * <h3>pathsFromNearestSource</h3>
+   *
+   * Every target should get a path from one of the sources that is as short as
+   * the best of the single searches
+   */
+  @Test
+  public void pathsFromNearestSource() {
+    Random random = new Random(16);
+
+    for (long seed = 0; seed < 50; seed++) {
+      MazeGrid maze = TestMazeSolver.randomGrid(15, 20, 0.3, seed);
+      MazeSolver solver = new MazeSolver(maze);
+      int[] sources = randomCells(maze, 1 + random.nextInt(4), random);
+      int[] targets = randomCells(maze, 1 + random.nextInt(6), random);
+
+      int[][] paths = new MazeSolver(maze).findPaths(sources, targets);
+      for (int i = 0; i < targets.length; i++) {
+        int expected = nearestDistance(solver, sources, targets[i]);
+        String message = "Seed " + seed + " target " + i;
+
+        if (expected < 0) {
+          assertNull(paths[i], message);
+          continue;
+        }
+        assertNotNull(paths[i], message);
+        assertEquals(expected, paths[i].length - 1, message);
+        assertEquals(targets[i], paths[i][paths[i].length - 1], message);
+        assertEquals(expected, nearestDistance(solver, new int[] { paths[i][0] }, targets[i]),
+            message + " should start at a nearest source");
+      }
+    }
+  }
+
+  /**
+   * <h3>fieldMatchesSearch</h3>
+   *
+   * Every cell of the field should have the distance of the nearest source and
+   * a path that goes to that source
+   */
+  @Test
+  public void fieldMatchesSearch() {
+    Random random = new Random(61);
+
+    for (long seed = 0; seed < 20; seed++) {
+      MazeGrid maze = TestMazeSolver.randomGrid(12, 15, 0.3, seed);
+      MazeSolver solver = new MazeSolver(maze);
+      int[] sources = randomCells(maze, 3, random);
+      DistanceField field = new DistanceField(maze, sources);
+
+      for (int cell = 0; cell < maze.getCellCount(); cell++) {
+        int expected = nearestDistance(solver, sources, cell);
+        assertEquals(expected, field.getDistance(cell), "Seed " + seed + " cell " + cell);
+
+        int[] path = field.pathFrom(cell);
+        if (expected < 0) {
+          assertNull(path);
+          assertEquals(-1, field.getNearestSource(cell));
+          continue;
+        }
+        assertEquals(expected + 1, path.length);
+        assertEquals(cell, path[0]);
+        assertEquals(field.getNearestSource(cell), path[path.length - 1]);
+        for (int i = 1; i < path.length; i++) {
+          int dx = Math.abs(maze.getX(path[i]) - maze.getX(path[i - 1]));
+          int dy = Math.abs(maze.getY(path[i]) - maze.getY(path[i - 1]));
+          assertEquals(1, dx + dy, "Path steps must be to a neighbour");
+        }
+      }
+    }
+  }
+
+  /**
+   * <h3>multipleMarkers</h3>
+   *
+   * The loader should keep every S and T, and solving them all should give
+   * each T its nearest S
+   */
+  @Test
+  public void multipleMarkers() throws Exception {
+    MazeLoader loader = new MazeLoader(TestMazeLoader.stream("3 7\nS.....T\n.XXXXX.\nT..S...\n"));
+    MazeGrid maze = loader.next();
+
+    assertArrayEquals(new int[] { 0, 17 }, maze.getStarts());
+    assertArrayEquals(new int[] { 6, 14 }, maze.getFinishes());
+
+    Location[][] paths = new MazeSolver(maze).solveAll();
+    assertEquals(2, paths.length);
+    // The top right T is closer to the bottom S than the top left one
+    assertEquals(5, paths[0][paths[0].length - 1].getDistFromStart());
+    assertEquals(2, paths[1][paths[1].length - 1].getDistFromStart());
+    assertEquals(Location.SquareType.START, paths[0][0].getType());
+
+    // The nearest exit from anywhere is a lookup once the field is built
+    DistanceField exits = new DistanceField(maze);
+    assertEquals(0, exits.nearestOf(maze.getStarts()));
+    assertEquals(2, exits.getDistance(0));
+    assertEquals(14, exits.getNearestSource(0));
+  }
+
+  /**
+   * <h3>binaryRejectsMultipleMarkers</h3>
+   *
+   * The binary header only has room for one start and one finish
+   */
+  @Test
+  public void binaryRejectsMultipleMarkers() throws Exception {
+    MazeGrid maze = TestMazeSolver.grid("S.S", "..T");
+    Path file = Files.createTempFile("maze", ".mazb");
+    try {
+      assertThrows(InvalidMazeException.class, () -> BinaryMazeFormat.write(maze, file));
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+}
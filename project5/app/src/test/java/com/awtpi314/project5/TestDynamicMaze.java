@@ -0,0 +1,102 @@
+package com.awtpi314.project5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * <h3>TestDynamicMaze</h3>
+ *
+ * TestDynamicMaze changes walls between solves and checks that the repaired
+ * path is always as short as a search from scratch.
+ *
+ * @author Alexander Taylor
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class TestDynamicMaze {
+  /**
+   * <h3>matchesFreshSearch</h3>
+   *
+   * After every batch of random changes the repaired path has to be the same
+   * length as breadth-first search on the changed maze
+   */
+  @Test
+  public void matchesFreshSearch() {
+    for (long seed = 0; seed < 40; seed++) {
+      MazeGrid maze = TestMazeSolver.randomGrid(20, 25, 0.3, seed);
+      DynamicMaze dynamic = new DynamicMaze(maze);
+      Random random = new Random(seed);
+
+      for (int round = 0; round < 30; round++) {
+        int changes = 1 + random.nextInt(4);
+        for (int i = 0; i < changes; i++) {
+          int index = 1 + random.nextInt(maze.getCellCount() - 2);
+          Coordinate position = new Coordinate(maze.getX(index), maze.getY(index));
+          dynamic.setType(position, random.nextBoolean() ? Location.SquareType.WALL : Location.SquareType.OPEN);
+        }
+
+        int[] expected = new MazeSolver(dynamic.getGrid()).findPath();
+        int[] actual = dynamic.findPath();
+        String message = "Seed " + seed + " round " + round;
+        if (expected == null) {
+          assertNull(actual, message);
+        } else {
+          assertNotNull(actual, message);
+          TestMazeSolver.assertValidPath(dynamic.getGrid(), actual);
+          assertEquals(expected.length, actual.length, message);
+        }
+      }
+    }
+  }
+
+  /**
+   * <h3>originalUnchanged</h3>
+   *
+   * Changes only go to the dynamic maze's own copy
+   */
+  @Test
+  public void originalUnchanged() {
+    MazeGrid maze = TestMazeSolver.grid(TestMazeSolver.EXAMPLE);
+    DynamicMaze dynamic = new DynamicMaze(maze);
+    assertEquals(13, dynamic.findPath().length);
+
+    // Close the only gap in the middle wall
+    dynamic.setType(new Coordinate(2, 5), Location.SquareType.WALL);
+    assertEquals(13, dynamic.findPath().length);
+    dynamic.setType(new Coordinate(3, 4), Location.SquareType.WALL);
+    assertNull(dynamic.findPath());
+    dynamic.setType(new Coordinate(3, 4), Location.SquareType.OPEN);
+    assertEquals(13, dynamic.findPath().length);
+
+    assertEquals(MazeGrid.OPEN, maze.getType(maze.index(3, 4)));
+  }
+
+  /**
+   * <h3>smallChangeSmallRepair</h3>
+   *
+   * Blocking one cell on a big open maze should only expand the cells around
+   * the change, not the whole maze again
+   */
+  @Test
+  public void smallChangeSmallRepair() {
+    MazeGrid maze = TestMazeSolver.randomGrid(400, 400, 0.05, 3);
+    DynamicMaze dynamic = new DynamicMaze(maze);
+    int[] path = dynamic.findPath();
+    long initial = dynamic.getNodesExpanded();
+
+    // Drop a wall right onto the middle of the path
+    int blocked = path[path.length / 2];
+    dynamic.setType(new Coordinate(maze.getX(blocked), maze.getY(blocked)), Location.SquareType.WALL);
+    int[] repaired = dynamic.findPath();
+    long repair = dynamic.getNodesExpanded();
+
+    assertEquals(new MazeSolver(dynamic.getGrid()).findPath().length, repaired.length);
+    assertTrue(repair * 20 < initial, repair + " vs " + initial);
+  }
+}
@@ -0,0 +1,130 @@
+package com.awtpi314.project5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * <h3>TestFrontierSearch</h3>
+ *
+ * TestFrontierSearch makes sure the frontier search rebuilds paths that are as
+ * short as the normal breadth-first search finds, while only holding a small
+ * part of the maze in memory at once.
+ *
+ * @author Alexander Taylor
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class TestFrontierSearch {
+  /**
+   * <h3>checkPath</h3>
+   *
+   * Checks that a path goes between the right ends, one open neighbour at a
+   * time, and is as long as the breadth-first path
+   *
+   * @param maze     the maze the path goes through
+   * @param expected the breadth-first path, or null if there isn't one
+   * @param path     the frontier search path
+   * @param start    the cell index the path should start at
+   * @param target   the cell index the path should end at
+   * @param message  the message to show if the path is wrong
+   */
+  static void checkPath(MazeGrid maze, int[] expected, int[] path, int start, int target, String message) {
+    if (expected == null) {
+      assertNull(path, message);
+      return;
+    }
+
+    assertNotNull(path, message);
+    assertEquals(expected.length, path.length, message);
+    assertEquals(start, path[0], message);
+    assertEquals(target, path[path.length - 1], message);
+    for (int i = 1; i < path.length; i++) {
+      assertTrue(maze.isPassable(path[i]), message + " step " + i + " is a wall");
+      int dx = Math.abs(maze.getX(path[i]) - maze.getX(path[i - 1]));
+      int dy = Math.abs(maze.getY(path[i]) - maze.getY(path[i - 1]));
+      assertEquals(1, dx + dy, message + " step " + i + " must be to a neighbour");
+    }
+  }
+
+  /**
+   * <h3>randomMazes</h3>
+   *
+   * Random start and target cells in random mazes should get paths as short as
+   * the breadth-first ones, including when there is no path at all
+   */
+  @Test
+  public void randomMazes() {
+    Random random = new Random(17);
+
+    for (long seed = 0; seed < 100; seed++) {
+      MazeGrid maze = TestMazeSolver.randomGrid(20, 25, 0.3, seed);
+      MazeSolver solver = new MazeSolver(maze);
+      FrontierSearch search = new FrontierSearch(maze);
+
+      for (int query = 0; query < 5; query++) {
+        int start = random.nextInt(maze.getCellCount());
+        int target = random.nextInt(maze.getCellCount());
+        checkPath(maze, solver.findPath(start, target), search.findPath(start, target), start, target,
+            "Seed " + seed + " query " + query);
+      }
+    }
+  }
+
+  /**
+   * <h3>carvedMazes</h3>
+   *
+   * Carved mazes have long winding paths, so the path is split many times
+   * before it is rebuilt
+   */
+  @Test
+  public void carvedMazes() {
+    for (long seed = 0; seed < 20; seed++) {
+      MazeGrid maze = TestCorridorGraph.carvedGrid(15, (int) seed, seed);
+      int start = maze.index(1, 1);
+      int target = maze.index(maze.getCols() - 2, maze.getRows() - 2);
+
+      int[] path = new FrontierSearch(maze).findPath(start, target);
+      checkPath(maze, new MazeSolver(maze).findPath(start, target), path, start, target, "Seed " + seed);
+    }
+  }
+
+  /**
+   * <h3>smallFrontier</h3>
+   *
+   * On a big carved maze the levels held at once should be a small part of the
+   * cells, even though every cell may be searched
+   */
+  @Test
+  public void smallFrontier() {
+    MazeGrid maze = TestCorridorGraph.carvedGrid(200, 20, 3);
+    int start = maze.index(1, 1);
+    int target = maze.index(maze.getCols() - 2, maze.getRows() - 2);
+    FrontierSearch search = new FrontierSearch(maze);
+
+    int[] path = search.findPath(start, target);
+    checkPath(maze, new MazeSolver(maze).findPath(start, target), path, start, target, "Big maze");
+    assertTrue(search.getPeakFrontier() * 20 < maze.getCellCount(),
+        "Peak frontier " + search.getPeakFrontier() + " of " + maze.getCellCount() + " cells");
+  }
+
+  /**
+   * <h3>sameCell</h3>
+   *
+   * A query from a cell to itself is just that cell, and a wall has no path
+   */
+  @Test
+  public void sameCell() {
+    MazeGrid maze = TestMazeSolver.grid("S.X", "..T");
+    FrontierSearch search = new FrontierSearch(maze);
+
+    assertEquals(1, search.findPath(0, 0).length);
+    assertNull(search.findPath(0, 2));
+    assertEquals(4, search.findPath().length);
+  }
+}
@@ -0,0 +1,96 @@
+package com.awtpi314.project5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import com.awtpi314.project5.exceptions.InvalidMazeException;
+
+/**
+ * <h3>TestHierarchicalSolver</h3>
+ *
+ * TestHierarchicalSolver checks that the tiled solver finds a path exactly
+ * when breadth-first search does, and that its paths are valid and close to
+ * the shortest.
+ *
+ * @author Alexander Taylor
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class TestHierarchicalSolver {
+  /**
+   * <h3>sameSolvability</h3>
+   *
+   * Random mazes with tile edges landing in awkward places have to be solvable
+   * exactly when breadth-first search says so, and the paths have to be close
+   * to the shortest
+   */
+  @Test
+  public void sameSolvability() throws IOException {
+    long shortest = 0;
+    long tiled = 0;
+
+    for (long seed = 0; seed < 150; seed++) {
+      int rows = 10 + (int) (seed % 37);
+      int cols = 10 + (int) (seed * 7 % 41);
+      MazeGrid maze = TestMazeSolver.randomGrid(rows, cols, 0.3, seed);
+      int[] expected = new MazeSolver(maze).findPath();
+      int tileSize = 4 + (int) (seed % 9);
+      int[] actual = new HierarchicalSolver(new GridTileSource(maze), tileSize, 1 << 20).findPath();
+
+      if (expected == null) {
+        assertNull(actual, "Seed " + seed + " should not be solvable");
+      } else {
+        assertNotNull(actual, "Seed " + seed + " should be solvable");
+        TestMazeSolver.assertValidPath(maze, actual);
+        assertTrue(actual.length >= expected.length);
+        shortest += expected.length;
+        tiled += actual.length;
+      }
+    }
+
+    // Paths can detour through entrances but shouldn't be much longer overall
+    assertTrue(tiled * 10 <= shortest * 12, tiled + " vs " + shortest);
+  }
+
+  /**
+   * <h3>pagedFromFile</h3>
+   *
+   * Solves a binary maze read a tile at a time with room for only a handful of
+   * tiles in memory
+   */
+  @Test
+  public void pagedFromFile() throws IOException, InvalidMazeException {
+    MazeGrid maze = TestMazeSolver.randomGrid(301, 257, 0.2, 5);
+    Path file = Files.createTempFile("tiled", ".mazb");
+    try {
+      BinaryMazeFormat.write(maze, file);
+      int[] expected = new MazeSolver(maze).findPath();
+
+      try (BinaryTileSource source = new BinaryTileSource(file)) {
+        assertEquals(maze.getStart(), source.getStart());
+        assertEquals(maze.getFinish(), source.getFinish());
+
+        // Room for four tiles of 32 by 32 cells
+        HierarchicalSolver solver = new HierarchicalSolver(source, 32, 4 * 32 * 32);
+        long buildLoads = solver.getCache().getLoads();
+        int[] actual = solver.findPath();
+
+        TestMazeSolver.assertValidPath(maze, actual);
+        assertTrue(actual.length >= expected.length);
+        // The query only reads tiles along the route, not the whole maze again
+        int tileCount = solver.getCache().getTilesX() * solver.getCache().getTilesY();
+        assertTrue(solver.getCache().getLoads() - buildLoads < tileCount);
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+}
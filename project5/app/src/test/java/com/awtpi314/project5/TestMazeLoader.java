@@ -0,0 +1,122 @@
+package com.awtpi314.project5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import com.awtpi314.project5.exceptions.InvalidMazeException;
+
+/**
+ * <h3>TestMazeLoader</h3>
+ *
+ * TestMazeLoader makes sure the loader decodes the text format the same way
+ * the old scanner did, no matter where the buffer boundaries land.
+ *
+ * @author Alexander Taylor
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class TestMazeLoader {
+  /**
+   * The documented example in the text format
+   */
+  static final String EXAMPLE_TEXT = "6 6\n" + String.join("\n", TestMazeSolver.EXAMPLE) + "\n";
+
+  /**
+   * <h3>stream</h3>
+   *
+   * Wraps text in a stream
+   *
+   * @param text the text to read
+   * @return a stream over the text
+   */
+  static ByteArrayInputStream stream(String text) {
+    return new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII));
+  }
+
+  /**
+   * <h3>assertSameMaze</h3>
+   *
+   * Checks that two grids have the same size and cells
+   *
+   * @param expected the grid we should have
+   * @param actual   the grid we got
+   */
+  static void assertSameMaze(MazeGrid expected, MazeGrid actual) {
+    assertEquals(expected.getRows(), actual.getRows());
+    assertEquals(expected.getCols(), actual.getCols());
+    for (int i = 0; i < expected.getCellCount(); i++) {
+      assertEquals(expected.getType(i), actual.getType(i), "Cell " + i);
+    }
+    assertEquals(expected.getStart(), actual.getStart());
+    assertEquals(expected.getFinish(), actual.getFinish());
+  }
+
+  /**
+   * <h3>everyBufferSize</h3>
+   *
+   * Reads the example with buffers small enough that numbers and rows get split
+   * across reads
+   */
+  @Test
+  public void everyBufferSize() throws IOException, InvalidMazeException {
+    MazeGrid expected = TestMazeSolver.grid(TestMazeSolver.EXAMPLE);
+
+    for (int size = 1; size < 64; size++) {
+      MazeGrid actual = new MazeLoader(stream(EXAMPLE_TEXT), size).next();
+      assertSameMaze(expected, actual);
+    }
+  }
+
+  /**
+   * <h3>severalMazes</h3>
+   *
+   * Mazes one after another in the same stream are read one at a time
+   */
+  @Test
+  public void severalMazes() throws IOException, InvalidMazeException {
+    MazeLoader loader = new MazeLoader(stream(EXAMPLE_TEXT + "2 3\r\nS.X\r\n..T\r\n" + EXAMPLE_TEXT), 7);
+
+    assertSameMaze(TestMazeSolver.grid(TestMazeSolver.EXAMPLE), loader.next());
+    assertSameMaze(TestMazeSolver.grid("S.X", "..T"), loader.next());
+    assertSameMaze(TestMazeSolver.grid(TestMazeSolver.EXAMPLE), loader.next());
+    assertNull(loader.next());
+  }
+
+  /**
+   * <h3>mappedFile</h3>
+   *
+   * Reading a file through a memory map gives the same maze
+   */
+  @Test
+  public void mappedFile() throws IOException, InvalidMazeException {
+    Path file = Files.createTempFile("maze", ".txt");
+    try {
+      Files.writeString(file, EXAMPLE_TEXT);
+      assertSameMaze(TestMazeSolver.grid(TestMazeSolver.EXAMPLE), MazeLoader.load(file));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  /**
+   * <h3>badInput</h3>
+   *
+   * Unknown characters and mazes that end early are reported
+   */
+  @Test
+  public void badInput() {
+    assertThrows(InvalidMazeException.class, () -> MazeLoader.load(stream("2 2\nS?\n.T\n")));
+    assertThrows(InvalidMazeException.class, () -> MazeLoader.load(stream("2 2\nS.\n")));
+    assertThrows(InvalidMazeException.class, () -> MazeLoader.load(stream("two 2\nS.\n.T\n")));
+    assertThrows(InvalidMazeException.class, () -> MazeLoader.load(stream("")));
+  }
+}
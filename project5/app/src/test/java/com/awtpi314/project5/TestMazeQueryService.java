@@ -0,0 +1,73 @@
+package com.awtpi314.project5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * <h3>TestMazeQueryService</h3>
+ *
+ * TestMazeQueryService runs lots of queries against one shared maze at the
+ * same time and checks that every answer matches a query run on its own.
+ *
+ * @author Alexander Taylor
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class TestMazeQueryService {
+  /**
+   * <h3>concurrentQueries</h3>
+   *
+   * Queries running at the same time on a shared maze have to give the same
+   * lengths as a single solver answering them one by one
+   */
+  @Test
+  public void concurrentQueries() {
+    MazeGrid maze = TestMazeSolver.randomGrid(60, 80, 0.3, 11);
+    Random random = new Random(11);
+    Coordinate[] starts = new Coordinate[2000];
+    Coordinate[] targets = new Coordinate[starts.length];
+    for (int i = 0; i < starts.length; i++) {
+      starts[i] = new Coordinate(random.nextInt(maze.getCols()), random.nextInt(maze.getRows()));
+      targets[i] = new Coordinate(random.nextInt(maze.getCols()), random.nextInt(maze.getRows()));
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try (MazeQueryService service = new MazeQueryService(maze, new AStarStrategy(), executor)) {
+      int[][] paths = service.findPaths(starts, targets);
+      MazeSolver solver = new MazeSolver(maze);
+
+      for (int i = 0; i < starts.length; i++) {
+        int[] expected = solver.findPath(starts[i], targets[i]);
+        if (expected == null) {
+          assertNull(paths[i], "Query " + i + " should not be solvable");
+        } else {
+          assertEquals(expected.length, paths[i].length, "Query " + i);
+          assertEquals(expected[0], paths[i][0]);
+          assertEquals(expected[expected.length - 1], paths[i][paths[i].length - 1]);
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * <h3>offTheMaze</h3>
+   *
+   * Positions that aren't on the maze don't have a path
+   */
+  @Test
+  public void offTheMaze() {
+    try (MazeQueryService service = new MazeQueryService(TestMazeSolver.grid(TestMazeSolver.EXAMPLE))) {
+      assertNull(service.findPath(new Coordinate(0, 0), new Coordinate(6, 0)));
+      assertNull(service.submit(new Coordinate(0, -1), new Coordinate(5, 1)).join());
+      assertEquals(13, service.submit(new Coordinate(0, 0), new Coordinate(5, 1)).join().length);
+    }
+  }
+}
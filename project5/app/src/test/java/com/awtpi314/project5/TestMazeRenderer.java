@@ -0,0 +1,139 @@
+package com.awtpi314.project5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.awtpi314.project5.interfaces.CellStore;
+
+/**
+ * <h3>TestMazeRenderer</h3>
+ *
+ * TestMazeRenderer makes sure the renderer draws the same maze the old cell
+ * by cell printing did, draws the path in the right places, and only reads
+ * the cells inside a window.
+ *
+ * @author Alexander Taylor
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class TestMazeRenderer {
+  /**
+   * <h3>render</h3>
+   *
+   * Draws a window of a maze into a string
+   *
+   * @param renderer the renderer to draw with
+   * @param window   the top row, left column, rows and columns to draw
+   * @return the drawing
+   */
+  static String render(MazeRenderer renderer, int... window) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    renderer.render(Channels.newChannel(out), window[0], window[1], window[2], window[3]);
+    return out.toString(StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * <h3>sameAsDisplayTypes</h3>
+   *
+   * Drawing through a tiny buffer should give the display type of every cell,
+   * with the path drawn over the open cells along it
+   */
+  @Test
+  public void sameAsDisplayTypes() throws IOException {
+    MazeGrid maze = TestMazeSolver.randomGrid(23, 41, 0.25, 9);
+    MazeSolver solver = new MazeSolver(maze);
+    int[] path = solver.findPath(0, maze.getCellCount() - 1);
+    SearchState state = solver.getState();
+
+    StringBuilder expected = new StringBuilder();
+    StringBuilder withPath = new StringBuilder();
+    for (int y = 0; y < maze.getRows(); y++) {
+      for (int x = 0; x < maze.getCols(); x++) {
+        String display = state.getDisplayType(maze.index(x, y)).display;
+        expected.append(display);
+        withPath.append(display);
+      }
+      expected.append('\n');
+      withPath.append('\n');
+    }
+    for (int node : path) {
+      if (maze.getType(node) == MazeGrid.OPEN) {
+        withPath.setCharAt(maze.getY(node) * (maze.getCols() + 1) + maze.getX(node), '*');
+      }
+    }
+
+    MazeRenderer renderer = new MazeRenderer(maze, 7);
+    renderer.setState(state);
+    assertEquals(expected.toString(), render(renderer, 0, 0, maze.getRows(), maze.getCols()));
+    renderer.setPath(path);
+    assertEquals(withPath.toString(), render(renderer, 0, 0, maze.getRows(), maze.getCols()));
+  }
+
+  /**
+   * <h3>windowOnly</h3>
+   *
+   * A window should be the matching part of the whole drawing, cut short at
+   * the edges of the maze, and only read the cells inside it. A window that
+   * starts past the edges is an error.
+   */
+  @Test
+  public void windowOnly() throws IOException {
+    MazeGrid maze = TestSearchStrategies.serpentine(60, 70);
+    int[] reads = new int[1];
+    ByteCellStore cells = new ByteCellStore(maze.getCellCount());
+    for (int i = 0; i < maze.getCellCount(); i++) {
+      cells.set(i, maze.getType(i));
+    }
+    // Count every read so we know the rest of the maze was left alone
+    CellStore counted = new CellStore() {
+      /**
+       * Counts the read and passes it on
+       */
+      @Override
+      public byte get(int index) {
+        reads[0]++;
+        return cells.get(index);
+      }
+
+      /**
+       * Passes the write on
+       */
+      @Override
+      public void set(int index, byte type) {
+        cells.set(index, type);
+      }
+
+      /**
+       * Passes the size on
+       */
+      @Override
+      public int size() {
+        return cells.size();
+      }
+    };
+    MazeGrid watched = new MazeGrid(maze.getRows(), maze.getCols(), counted, 0, -1);
+
+    MazeRenderer whole = new MazeRenderer(maze);
+    whole.setPath(new MazeSolver(maze).findPath(0, maze.index(69, 0) + 2 * 70));
+    String[] lines = render(whole, 0, 0, 60, 70).split("\n");
+
+    MazeRenderer window = new MazeRenderer(watched, 16);
+    window.setPath(new MazeSolver(maze).findPath(0, maze.index(69, 0) + 2 * 70));
+    reads[0] = 0;
+    String drawn = render(window, 1, 50, 4, 30);
+    assertEquals(lines[1].substring(50) + "\n" + lines[2].substring(50) + "\n" + lines[3].substring(50) + "\n"
+        + lines[4].substring(50) + "\n", drawn);
+    // Every cell in the window once, plus once more for the two path cells in it
+    assertEquals(4 * 20 + 2, reads[0]);
+
+    assertThrows(IllegalArgumentException.class, () -> render(window, 60, 0, 1, 1));
+    assertThrows(IllegalArgumentException.class, () -> render(window, 0, 70, 1, 1));
+  }
+}
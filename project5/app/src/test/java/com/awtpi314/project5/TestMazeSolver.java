@@ -0,0 +1,262 @@
+package com.awtpi314.project5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * <h3>TestMazeSolver</h3>
+ *
+ * TestMazeSolver makes sure the solver finds shortest paths on the compact grid
+ * and that the location adapter still gives back the old path format.
+ *
+ * @author Alexander Taylor
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class TestMazeSolver {
+  /**
+   * The example maze from the {@link MazeSolver} documentation
+   */
+  static final String[] EXAMPLE = {
+      "S.X...",
+      "..X.XT",
+      "X.X.X.",
+      "..X.X.",
+      "X.....",
+      "XX.X.X" };
+
+  /**
+   * <h3>grid</h3>
+   *
+   * Builds a grid out of rows of display characters
+   *
+   * @param lines the rows of the maze
+   * @return the grid holding the maze
+   */
+  static MazeGrid grid(String... lines) {
+    MazeGrid grid = new MazeGrid(lines.length, lines[0].length());
+
+    for (int y = 0; y < lines.length; y++) {
+      for (int x = 0; x < lines[y].length(); x++) {
+        Location.SquareType type = Location.SquareType.valueOfDisplay(lines[y].substring(x, x + 1));
+        grid.setType(grid.index(x, y), (byte) type.ordinal());
+      }
+    }
+
+    return grid;
+  }
+
+  /**
+   * <h3>randomGrid</h3>
+   *
+   * Builds a seeded random maze with the start in the top left and the finish
+   * in the bottom right
+   *
+   * @param rows    the number of rows
+   * @param cols    the number of columns
+   * @param density the chance of any cell being a wall
+   * @param seed    the seed for the random number generator
+   * @return the grid holding the maze
+   */
+  static MazeGrid randomGrid(int rows, int cols, double density, long seed) {
+    Random random = new Random(seed);
+    MazeGrid grid = new MazeGrid(rows, cols);
+
+    for (int i = 0; i < grid.getCellCount(); i++) {
+      grid.setType(i, random.nextDouble() < density ? MazeGrid.WALL : MazeGrid.OPEN);
+    }
+    grid.setType(0, MazeGrid.START);
+    grid.setType(grid.getCellCount() - 1, MazeGrid.FINISH);
+
+    return grid;
+  }
+
+  /**
+   * <h3>assertValidPath</h3>
+   *
+   * Checks that every step in a path moves to a neighbouring open cell and that
+   * it goes from the start to the finish
+   *
+   * @param grid the grid the path goes through
+   * @param path the cell indices of the path
+   */
+  static void assertValidPath(MazeGrid grid, int[] path) {
+    assertEquals(grid.getStart(), path[0]);
+    assertEquals(grid.getFinish(), path[path.length - 1]);
+
+    for (int i = 1; i < path.length; i++) {
+      int dx = Math.abs(grid.getX(path[i]) - grid.getX(path[i - 1]));
+      int dy = Math.abs(grid.getY(path[i]) - grid.getY(path[i - 1]));
+      assertEquals(1, dx + dy, "Path steps must be to a neighbour");
+      assertTrue(grid.isPassable(path[i]), "Path must not go through a wall");
+    }
+  }
+
+  /**
+   * <h3>exampleMaze</h3>
+   *
+   * Solves the documented example and checks the distance
+   */
+  @Test
+  public void exampleMaze() {
+    MazeGrid maze = grid(EXAMPLE);
+    int[] path = new MazeSolver(maze).findPath();
+
+    assertValidPath(maze, path);
+    assertEquals(12, path.length - 1);
+  }
+
+  /**
+   * <h3>locationAdapter</h3>
+   *
+   * Makes sure the old constructor and location path still work the same
+   */
+  @Test
+  public void locationAdapter() {
+    MazeGrid maze = grid(EXAMPLE);
+    Location[][] details = new Location[maze.getRows()][maze.getCols()];
+    for (int y = 0; y < maze.getRows(); y++) {
+      for (int x = 0; x < maze.getCols(); x++) {
+        details[y][x] = new Location(new Coordinate(x, y), null, maze.getSquareType(maze.index(x, y)), 0);
+      }
+    }
+
+    Location[] path = new MazeSolver(details).breadthFirstSearch();
+
+    assertEquals(13, path.length);
+    assertEquals(Location.SquareType.START, path[0].getType());
+    assertEquals(Location.SquareType.FINISH, path[12].getType());
+    assertEquals(12, path[12].getDistFromStart());
+    // Every step should point back at the one before it
+    for (int i = 1; i < path.length; i++) {
+      assertEquals(path[i - 1].getPosition().getX(), path[i].getLastPoint().getX());
+      assertEquals(path[i - 1].getPosition().getY(), path[i].getLastPoint().getY());
+    }
+  }
+
+  /**
+   * <h3>unsolvable</h3>
+   *
+   * A maze with the finish walled off should give back null
+   */
+  @Test
+  public void unsolvable() {
+    MazeGrid maze = grid(
+        "S.X.",
+        "..XT",
+        "..X.");
+
+    assertNull(new MazeSolver(maze).findPath());
+  }
+
+  /**
+   * <h3>bidirectionalMatchesBreadthFirst</h3>
+   *
+   * The bidirectional search has to find paths of the same length as the plain
+   * search on lots of random mazes, including the unsolvable ones
+   */
+  @Test
+  public void bidirectionalMatchesBreadthFirst() {
+    for (long seed = 0; seed < 200; seed++) {
+      MazeGrid maze = randomGrid(15, 20, 0.3, seed);
+      MazeSolver solver = new MazeSolver(maze);
+
+      int[] expected = solver.findPath();
+      int[] actual = solver.findPath(new BidirectionalStrategy());
+
+      if (expected == null) {
+        assertNull(actual, "Seed " + seed + " should not be solvable");
+      } else {
+        assertValidPath(maze, actual);
+        assertEquals(expected.length, actual.length, "Seed " + seed);
+      }
+    }
+  }
+
+  /**
+   * <h3>bidirectionalExpandsLess</h3>
+   *
+   * On an open maze the bidirectional search should expand about half as many
+   * cells as the plain search
+   */
+  @Test
+  public void bidirectionalExpandsLess() {
+    MazeGrid maze = randomGrid(400, 400, 0.1, 42);
+    maze.setType(0, MazeGrid.OPEN);
+    maze.setType(maze.getCellCount() - 1, MazeGrid.OPEN);
+    maze.setType(maze.index(150, 200), MazeGrid.START);
+    maze.setType(maze.index(250, 200), MazeGrid.FINISH);
+    MazeSolver solver = new MazeSolver(maze);
+
+    solver.findPath();
+    long breadthFirst = solver.getNodesExpanded();
+    Location[] path = solver.bidirectionalSearch();
+    long bidirectional = solver.getNodesExpanded();
+
+    assertEquals(path.length - 1, path[path.length - 1].getDistFromStart());
+    assertTrue(bidirectional * 10 <= breadthFirst * 6, bidirectional + " vs " + breadthFirst);
+  }
+
+  /**
+   * <h3>repeatedQueries</h3>
+   *
+   * One solver answering lots of queries has to give the same answers as a new
+   * solver for each query, and must never change the maze
+   */
+  @Test
+  public void repeatedQueries() {
+    MazeGrid maze = randomGrid(30, 40, 0.3, 7);
+    byte[] before = new byte[maze.getCellCount()];
+    for (int i = 0; i < before.length; i++) {
+      before[i] = maze.getType(i);
+    }
+    MazeSolver shared = new MazeSolver(maze);
+    Random random = new Random(7);
+
+    for (int query = 0; query < 500; query++) {
+      int start = random.nextInt(maze.getCellCount());
+      int target = random.nextInt(maze.getCellCount());
+      // Switch strategies as we go so each one sees state left by the others
+      shared.setStrategy(query % 2 == 0 ? new BreadthFirstStrategy() : new AStarStrategy());
+
+      int[] expected = new MazeSolver(maze).findPath(start, target);
+      int[] actual = shared.findPath(start, target);
+
+      if (expected == null) {
+        assertNull(actual, "Query " + query + " should not be solvable");
+      } else {
+        assertNotNull(actual, "Query " + query + " should be solvable");
+        assertEquals(expected.length, actual.length, "Query " + query);
+        assertEquals(start, actual[0]);
+        assertEquals(target, actual[actual.length - 1]);
+      }
+    }
+
+    for (int i = 0; i < before.length; i++) {
+      assertEquals(before[i], maze.getType(i), "Cell " + i + " was changed by a search");
+    }
+  }
+
+  /**
+   * <h3>solveBetweenCoordinates</h3>
+   *
+   * Solving between coordinates ignores the S and T in the maze
+   */
+  @Test
+  public void solveBetweenCoordinates() {
+    MazeSolver solver = new MazeSolver(grid(EXAMPLE));
+
+    Location[] path = solver.solve(new Coordinate(1, 0), new Coordinate(3, 0));
+    assertEquals(11, path.length);
+    assertEquals(10, path[10].getDistFromStart());
+    assertEquals(1, solver.solve(new Coordinate(1, 1), new Coordinate(1, 1)).length);
+    assertNull(solver.solve(new Coordinate(2, 0), new Coordinate(3, 0)), "Walls can't be searched from");
+    assertNull(solver.solve(new Coordinate(-1, 0), new Coordinate(3, 0)), "Positions must be on the maze");
+  }
+}
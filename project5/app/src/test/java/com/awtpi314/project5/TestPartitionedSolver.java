@@ -0,0 +1,100 @@
+package com.awtpi314.project5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * <h3>TestPartitionedSolver</h3>
+ *
+ * TestPartitionedSolver starts worker processes on this machine and makes sure
+ * the path pieced together from their bands is a shortest path.
+ *
+ * @author Alexander Taylor
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class TestPartitionedSolver {
+  /**
+   * <h3>matchesBreadthFirst</h3>
+   *
+   * Random mazes should get paths of the same length as breadth-first search
+   * in one JVM, including the ones with no path, with the same workers reused
+   * for every maze
+   */
+  @Test
+  public void matchesBreadthFirst() throws IOException {
+    try (PartitionedSolver solver = new PartitionedSolver(3)) {
+      for (long seed = 0; seed < 20; seed++) {
+        MazeGrid maze = TestMazeSolver.randomGrid(31 + (int) seed, 40, 0.3, seed);
+        int[] expected = new MazeSolver(maze).findPath(0, maze.getCellCount() - 1);
+        int[] path = solver.findPath(maze, 0, maze.getCellCount() - 1);
+
+        if (expected == null) {
+          assertNull(path, "seed " + seed);
+        } else {
+          assertNotNull(path, "seed " + seed);
+          assertEquals(expected.length, path.length, "seed " + seed);
+          TestMazeSolver.assertValidPath(maze, path);
+        }
+      }
+    }
+  }
+
+  /**
+   * <h3>crossesBandsBackAndForth</h3>
+   *
+   * A snaking maze makes the path cross every band edge many times, and the
+   * boundary cells passed between bands should be only a small part of the
+   * maze
+   */
+  @Test
+  public void crossesBandsBackAndForth() throws IOException {
+    MazeGrid maze = TestMazeSolver.grid(
+        "S.X.....",
+        "X.X.XXX.",
+        "X.X.X...",
+        "X.X.X.XX",
+        "X...X..T");
+    try (PartitionedSolver solver = new PartitionedSolver(4)) {
+      int[] path = solver.findPath(maze, maze.getStart(), maze.getFinish());
+      assertNotNull(path);
+      assertEquals(new MazeSolver(maze).findPath().length, path.length);
+      TestMazeSolver.assertValidPath(maze, path);
+      assertTrue(solver.getBoundaryCells() > 0);
+
+      MazeGrid big = TestSearchStrategies.serpentine(201, 200);
+      int[] snake = solver.findPath(big, 0, big.getCellCount() - 1);
+      assertNotNull(snake);
+      assertEquals(new MazeSolver(big).findPath(0, big.getCellCount() - 1).length, snake.length);
+      assertTrue(solver.getBoundaryCells() < big.getCellCount() / 100);
+    }
+  }
+
+  /**
+   * <h3>moreWorkersThanRows</h3>
+   *
+   * Workers without any rows are left out, and the locations should match a
+   * breadth-first search of the same maze
+   */
+  @Test
+  public void moreWorkersThanRows() throws IOException {
+    MazeGrid maze = TestMazeSolver.grid(TestMazeSolver.EXAMPLE);
+    Location[] expected = new MazeSolver(TestMazeSolver.grid(TestMazeSolver.EXAMPLE)).breadthFirstSearch();
+
+    try (PartitionedSolver solver = new PartitionedSolver(8)) {
+      Location[] path = solver.solve(maze);
+      assertEquals(expected.length, path.length);
+      assertEquals(12, path[path.length - 1].getDistFromStart());
+      assertEquals(expected[0].getPosition().getX(), path[0].getPosition().getX());
+      assertEquals(expected[12].getPosition().getY(), path[12].getPosition().getY());
+      assertEquals(expected[12].getPosition().getX(), path[12].getPosition().getX());
+      assertTrue(solver.getLevels() >= 12);
+    }
+  }
+}
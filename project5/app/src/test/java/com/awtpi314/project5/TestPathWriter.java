@@ -0,0 +1,109 @@
+package com.awtpi314.project5;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * <h3>TestPathWriter</h3>
+ *
+ * TestPathWriter makes sure paths come out the same as they did with printf,
+ * and that the compact format can be read back into the same path.
+ *
+ * @author Alexander Taylor
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class TestPathWriter {
+  /**
+   * <h3>readCompact</h3>
+   *
+   * Reads a path back from the compact format
+   *
+   * @param line the compact path
+   * @param cols the number of columns in the maze
+   * @return the cell indices of the path
+   */
+  static int[] readCompact(String line, int cols) {
+    int close = line.indexOf('>');
+    String[] start = line.substring(1, close).split(" ");
+    IntList path = new IntList();
+    int cell = Integer.parseInt(start[0]) * cols + Integer.parseInt(start[1]);
+    path.add(cell);
+
+    int i = close + 2;
+    while (i < line.length()) {
+      int move = new int[] { -cols, 1, cols, -1 }["NESW".indexOf(line.charAt(i++))];
+      int run = 0;
+      while (i < line.length() && Character.isDigit(line.charAt(i))) {
+        run = run * 10 + line.charAt(i++) - '0';
+      }
+      for (int step = Math.max(run, 1); step > 0; step--) {
+        cell += move;
+        path.add(cell);
+      }
+    }
+
+    return path.toArray();
+  }
+
+  /**
+   * <h3>sameAsPrintf</h3>
+   *
+   * A long path written through a small buffer should come out exactly the
+   * way printf wrote it
+   */
+  @Test
+  public void sameAsPrintf() throws IOException {
+    MazeGrid maze = TestSearchStrategies.serpentine(101, 1234);
+    int[] path = new MazeSolver(maze).findPath(0, maze.getCellCount() - 1);
+    StringBuilder expected = new StringBuilder();
+    for (int node : path) {
+      expected.append(String.format("<%d %d>\n", maze.getY(node), maze.getX(node)));
+    }
+    expected.append("Total distance = ").append(path.length - 1);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    PathWriter writer = new PathWriter(out, 100);
+    writer.writePath(maze, path);
+    writer.write("Total distance = " + (path.length - 1));
+    writer.flush();
+
+    assertEquals(expected.toString(), out.toString(StandardCharsets.US_ASCII));
+  }
+
+  /**
+   * <h3>compactRoundTrip</h3>
+   *
+   * The compact format should read back into the same path, be much shorter
+   * on a maze with long corridors, and handle a maze one column wide
+   */
+  @Test
+  public void compactRoundTrip() throws IOException {
+    MazeGrid maze = TestSearchStrategies.serpentine(101, 500);
+    int[] path = new MazeSolver(maze).findPath(0, maze.getCellCount() - 1);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    PathWriter writer = new PathWriter(out, 64);
+    writer.writeCompact(maze, path);
+    writer.flush();
+    String line = out.toString(StandardCharsets.US_ASCII);
+
+    assertTrue(line.startsWith("<0 0> E499S2W499S2"));
+    assertTrue(line.endsWith("\n"));
+    assertArrayEquals(path, readCompact(line.trim(), maze.getCols()));
+    assertTrue(line.length() * 50 < path.length);
+
+    MazeGrid column = TestMazeSolver.grid("S", ".", ".", "T");
+    out.reset();
+    writer.writeCompact(column, new MazeSolver(column).findPath());
+    writer.writeCompact(column, new int[] { 2 });
+    writer.flush();
+    assertEquals("<0 0> S3\n<2 0>\n", out.toString(StandardCharsets.US_ASCII));
+  }
+}
@@ -0,0 +1,209 @@
+package com.awtpi314.project5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import com.awtpi314.project5.interfaces.SearchStrategy;
+
+/**
+ * <h3>TestSearchStrategies</h3>
+ *
+ * TestSearchStrategies checks every {@link SearchStrategy} against plain
+ * breadth-first search. They all have to give back shortest paths, so the
+ * lengths have to match exactly.
+ *
+ * @author Alexander Taylor
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class TestSearchStrategies {
+  /**
+   * <h3>strategies</h3>
+   *
+   * Makes a fresh copy of every strategy that is compared to breadth-first
+   * search
+   *
+   * @return the strategies to test
+   */
+  static SearchStrategy[] strategies() {
+    return new SearchStrategy[] { new BidirectionalStrategy(), new AStarStrategy(), new JumpPointStrategy(),
+        new ParallelBfsStrategy(ForkJoinPool.commonPool(), 1), new BitParallelStrategy() };
+  }
+
+  /**
+   * <h3>assertMatchesBreadthFirst</h3>
+   *
+   * Solves a maze with breadth-first search and then every other strategy and
+   * makes sure they agree on the length
+   *
+   * @param maze  the maze to solve
+   * @param label what to call the maze in failure messages
+   */
+  static void assertMatchesBreadthFirst(MazeGrid maze, String label) {
+    MazeSolver solver = new MazeSolver(maze);
+    int[] expected = solver.findPath();
+
+    for (SearchStrategy strategy : strategies()) {
+      int[] actual = solver.findPath(strategy);
+      String message = strategy.getClass().getSimpleName() + " on " + label;
+
+      if (expected == null) {
+        assertNull(actual, message);
+      } else {
+        TestMazeSolver.assertValidPath(maze, actual);
+        assertEquals(expected.length, actual.length, message);
+      }
+    }
+  }
+
+  /**
+   * <h3>randomMazes</h3>
+   *
+   * Compares the strategies on random mazes of a few different densities
+   */
+  @Test
+  public void randomMazes() {
+    double[] densities = { 0.0, 0.1, 0.25, 0.35 };
+    for (double density : densities) {
+      for (long seed = 0; seed < 100; seed++) {
+        assertMatchesBreadthFirst(TestMazeSolver.randomGrid(17, 23, density, seed), density + "/" + seed);
+      }
+    }
+  }
+
+  /**
+   * <h3>wideMazes</h3>
+   *
+   * Rows longer than one word have to carry the bit-parallel frontier across
+   * the word boundaries, including a last word that is only partly used
+   */
+  @Test
+  public void wideMazes() {
+    for (long seed = 0; seed < 40; seed++) {
+      MazeGrid maze = TestMazeSolver.randomGrid(9, 150, seed % 2 == 0 ? 0.2 : 0.35, seed);
+      assertMatchesBreadthFirst(maze, "wide " + seed);
+    }
+
+    // A single row crossing every boundary in both directions
+    MazeGrid row = TestMazeSolver.randomGrid(1, 200, 0.0, 1);
+    MazeSolver solver = new MazeSolver(row, new BitParallelStrategy());
+    assertEquals(200, solver.findPath().length);
+    assertEquals(136, solver.findPath(row.index(190, 0), row.index(55, 0)).length);
+  }
+
+  /**
+   * <h3>exampleMaze</h3>
+   *
+   * Compares the strategies on the documented example
+   */
+  @Test
+  public void exampleMaze() {
+    assertMatchesBreadthFirst(TestMazeSolver.grid(TestMazeSolver.EXAMPLE), "the example");
+  }
+
+  /**
+   * <h3>singleColumn</h3>
+   *
+   * In a maze one column wide a step down is also one index up, and every
+   * strategy should still give locations that point back at the cell above or
+   * below, going down and going up
+   */
+  @Test
+  public void singleColumn() {
+    MazeGrid down = TestMazeSolver.grid("S", ".", ".", ".", "T");
+    MazeGrid up = TestMazeSolver.grid("T", ".", ".", ".", "S");
+    for (MazeGrid maze : new MazeGrid[] { down, up }) {
+      assertMatchesBreadthFirst(maze, "a single column");
+
+      MazeSolver solver = new MazeSolver(maze);
+      solver.setSolveCache(new SolveCache(4, 1 << 20));
+      for (SearchStrategy strategy : strategies()) {
+        // The second time round the path comes from the cache
+        for (int pass = 0; pass < 2; pass++) {
+          Location[] path = solver.getState().toLocations(solver.findPath(strategy));
+          String message = strategy.getClass().getSimpleName() + " pass " + pass;
+          for (int i = 1; i < path.length; i++) {
+            assertEquals(0, path[i].getLastPoint().getX(), message);
+            assertEquals(path[i - 1].getPosition().getY(), path[i].getLastPoint().getY(), message);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * <h3>corridors</h3>
+   *
+   * Jump Point Search should expand far fewer cells than A* on a maze made of
+   * long corridors
+   */
+  @Test
+  public void corridors() {
+    MazeGrid maze = serpentine(101, 101);
+    assertMatchesBreadthFirst(maze, "a serpentine");
+
+    MazeSolver solver = new MazeSolver(maze, new AStarStrategy());
+    solver.findPath();
+    long aStar = solver.getNodesExpanded();
+    solver.setStrategy(new JumpPointStrategy());
+    solver.findPath();
+    long jumpPoint = solver.getNodesExpanded();
+
+    assertTrue(jumpPoint * 10 < aStar, jumpPoint + " vs " + aStar);
+  }
+
+  /**
+   * <h3>serpentine</h3>
+   *
+   * Builds a maze that snakes back and forth across every other row, which is
+   * the worst case for a search that looks at every cell
+   *
+   * @param rows the number of rows, should be odd
+   * @param cols the number of columns
+   * @return the grid holding the maze
+   */
+  static MazeGrid serpentine(int rows, int cols) {
+    MazeGrid maze = new MazeGrid(rows, cols);
+
+    for (int y = 0; y < rows; y++) {
+      for (int x = 0; x < cols; x++) {
+        // Even rows are corridors, odd rows are walls with a gap at alternating ends
+        boolean gap = (y % 4 == 1 && x == cols - 1) || (y % 4 == 3 && x == 0);
+        maze.setType(maze.index(x, y), y % 2 == 0 || gap ? MazeGrid.OPEN : MazeGrid.WALL);
+      }
+    }
+    maze.setType(0, MazeGrid.START);
+    maze.setType(maze.index(rows % 4 == 1 ? cols - 1 : 0, rows - 1), MazeGrid.FINISH);
+
+    return maze;
+  }
+
+  /**
+   * <h3>largeParallel</h3>
+   *
+   * Levels on a bigger maze are wide enough to be split across the pool, and
+   * the parallel search still has to find the same length as the plain one
+   */
+  @Test
+  public void largeParallel() {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (long seed = 0; seed < 3; seed++) {
+        MazeGrid maze = TestMazeSolver.randomGrid(600, 700, 0.2, seed);
+        MazeSolver solver = new MazeSolver(maze);
+        int[] expected = solver.findPath();
+        int[] actual = solver.findPath(new ParallelBfsStrategy(pool, 1));
+
+        TestMazeSolver.assertValidPath(maze, actual);
+        assertEquals(expected.length, actual.length);
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
@@ -0,0 +1,277 @@
+package com.awtpi314.project5;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.awtpi314.project5.exceptions.InvalidMazeException;
+
+/**
+ * <h3>TestSolveCache</h3>
+ *
+ * TestSolveCache makes sure mazes hash the same however they are read, that
+ * a repeated query is answered without searching, that a maze with the same
+ * hash as another never gets its answer, and that the cache drops the oldest
+ * answers once it is full.
+ *
+ * @author Alexander Taylor
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class TestSolveCache {
+  /**
+   * <h3>hashWhileReading</h3>
+   *
+   * The hash worked out while reading a maze in small pieces should match
+   * hashing the finished grid, and change as soon as a cell does
+   */
+  @Test
+  public void hashWhileReading() throws IOException, InvalidMazeException {
+    MazeGrid maze = TestMazeSolver.randomGrid(37, 53, 0.3, 11);
+    String text = TestBatchSolver.toText(maze);
+    MazeGrid small = new MazeLoader(TestMazeLoader.stream(text), 13).next();
+    MazeGrid large = new MazeLoader(TestMazeLoader.stream(text), 1 << 16).next();
+
+    assertArrayEquals(ContentHash.of(maze), small.getContentHash());
+    assertArrayEquals(ContentHash.of(maze), large.getContentHash());
+    assertArrayEquals(maze.getContentHash(), small.getContentHash());
+
+    // Opening a wall has to give a different maze
+    int wall = 0;
+    while (maze.isPassable(wall)) {
+      wall++;
+    }
+    maze.setType(wall, MazeGrid.OPEN);
+    assertNotEquals(small.getContentHash()[0], maze.getContentHash()[0]);
+    assertNotEquals(small.getContentHash()[1], maze.getContentHash()[1]);
+  }
+
+  /**
+   * <h3>hashSpreadsHighBytes</h3>
+   *
+   * Mazes that only differ in the last byte of each 8-byte word should all
+   * hash differently in both halves, since a multiply on its own only carries
+   * those bits up into the top of the hash
+   */
+  @Test
+  public void hashSpreadsHighBytes() {
+    Set<Long> lows = new HashSet<>();
+    Set<Long> highs = new HashSet<>();
+    for (int layout = 0; layout < 4096; layout++) {
+      MazeGrid maze = new MazeGrid(16, 8);
+      for (int bit = 0; bit < 12; bit++) {
+        maze.setType(bit * 8 + 7, (layout & (1 << bit)) == 0 ? MazeGrid.WALL : MazeGrid.OPEN);
+      }
+      long[] hash = ContentHash.of(maze);
+      lows.add(hash[0]);
+      highs.add(hash[1]);
+    }
+
+    assertEquals(4096, lows.size());
+    assertEquals(4096, highs.size());
+  }
+
+  /**
+   * <h3>collisionIsAMiss</h3>
+   *
+   * Two mazes of the same size with the same ends made to have the same hash
+   * shouldn't get each other's paths when the path goes through a wall
+   */
+  @Test
+  public void collisionIsAMiss() {
+    SolveCache cache = new SolveCache(16, 1 << 20);
+    MazeGrid open = TestMazeSolver.grid("S..", "...", "..T");
+    MazeGrid walled = TestMazeSolver.grid("S.X", "XX.", "..T");
+    MazeGrid corner = TestMazeSolver.grid("S.X", ".X.", "..T");
+    walled.setContentHash(open.getContentHash());
+    corner.setContentHash(open.getContentHash());
+
+    MazeSolver first = new MazeSolver(open);
+    first.setSolveCache(cache);
+    int[] straight = first.findPath();
+    assertNotNull(straight);
+    assertEquals(5, straight.length);
+
+    // The cached path runs through a wall of each of these, so they're searched
+    MazeSolver second = new MazeSolver(walled);
+    second.setSolveCache(cache);
+    assertNull(second.findPath());
+    cache.put(open, open.getStart(), open.getFinish(), false, straight, 4);
+    MazeSolver third = new MazeSolver(corner);
+    third.setSolveCache(cache);
+    int[] path = third.findPath();
+    assertNotNull(path);
+    TestMazeSolver.assertValidPath(corner, path);
+
+    assertEquals(2, cache.getCollisions());
+    assertEquals(0, cache.getHits());
+    assertEquals(3, cache.getMisses());
+  }
+
+  /**
+   * <h3>manyQueriesOneBigMaze</h3>
+   *
+   * Answers for many pairs of ends on one big maze should only cost their
+   * paths, so a small budget still holds all of them
+   */
+  @Test
+  public void manyQueriesOneBigMaze() {
+    MazeGrid maze = new MazeGrid(2000, 2000);
+    for (int i = 0; i < 64; i++) {
+      maze.setType(i, MazeGrid.OPEN);
+    }
+    SolveCache cache = new SolveCache(100, 1 << 16);
+    for (int i = 1; i < 64; i++) {
+      int[] path = new int[i + 1];
+      for (int step = 0; step <= i; step++) {
+        path[step] = step;
+      }
+      cache.put(maze, 0, i, false, path, i);
+    }
+
+    assertEquals(63, cache.size());
+    assertEquals(0, cache.getEvictions());
+    for (int i = 1; i < 64; i++) {
+      assertEquals(i, cache.get(maze, 0, i, false).getDistance());
+    }
+  }
+
+  /**
+   * <h3>repeatedQuery</h3>
+   *
+   * Solving the same maze again, even as a different grid, should give the
+   * same path and distances without expanding anything
+   */
+  @Test
+  public void repeatedQuery() {
+    SolveCache cache = new SolveCache(16, 1 << 20);
+    MazeGrid maze = TestMazeSolver.grid(TestMazeSolver.EXAMPLE);
+    MazeSolver first = new MazeSolver(maze);
+    first.setSolveCache(cache);
+    int[] path = first.findPath();
+    assertNotNull(path);
+    assertEquals(1, cache.getMisses());
+
+    MazeSolver second = new MazeSolver(TestMazeSolver.grid(TestMazeSolver.EXAMPLE));
+    second.setSolveCache(cache);
+    assertArrayEquals(path, second.findPath());
+    assertEquals(0, second.getNodesExpanded());
+    assertEquals(1, cache.getHits());
+    assertEquals(12, second.getState().getDist(path[path.length - 1]));
+    assertEquals(12, second.breadthFirstSearch()[12].getDistFromStart());
+
+    // Mazes with no path are remembered as well
+    MazeSolver blocked = new MazeSolver(TestMazeSolver.grid("SX.", "XX.", "..T"));
+    blocked.setSolveCache(cache);
+    assertNull(blocked.findPath());
+    assertNull(blocked.findPath());
+    // One for the second solver, one for the locations and one for the blocked maze
+    assertEquals(3, cache.getHits());
+  }
+
+  /**
+   * <h3>weightedQuery</h3>
+   *
+   * A weighted answer is kept apart from an unweighted one for the same maze,
+   * and a hit gives back the total cost
+   */
+  @Test
+  public void weightedQuery() {
+    SolveCache cache = new SolveCache(16, 1 << 20);
+    MazeGrid maze = TestDialStrategy.weightedGrid(30, 30, 5);
+    MazeSolver solver = new MazeSolver(maze, new DialStrategy());
+    int[] cheapest = solver.findPath();
+    assertNotNull(cheapest);
+    int cost = solver.getState().getDist(cheapest[cheapest.length - 1]);
+
+    solver.setSolveCache(cache);
+    solver.findPath();
+    assertArrayEquals(cheapest, solver.findPath());
+    assertEquals(0, solver.getNodesExpanded());
+    assertEquals(cost, solver.getState().getDist(cheapest[cheapest.length - 1]));
+
+    // Breadth-first search on the same maze isn't the same query
+    solver.setStrategy(new BreadthFirstStrategy());
+    solver.findPath();
+    assertEquals(2, cache.getMisses());
+    assertEquals(1, cache.getHits());
+  }
+
+  /**
+   * <h3>eviction</h3>
+   *
+   * The least recently used answers should be dropped once there are too many
+   * of them or they take up too many bytes
+   */
+  @Test
+  public void eviction() {
+    MazeGrid maze = TestMazeSolver.grid(TestMazeSolver.EXAMPLE);
+    int[] path = new MazeSolver(maze).findPath();
+    // Pieces of the path four cells long, which are paths of their own
+    int[][] pieces = new int[3][];
+    for (int i = 0; i < pieces.length; i++) {
+      pieces[i] = Arrays.copyOfRange(path, i, i + 4);
+    }
+    SolveCache byCount = new SolveCache(2, 1 << 20);
+    for (int i = 0; i < pieces.length; i++) {
+      byCount.put(maze, pieces[i][0], pieces[i][3], false, pieces[i], 3);
+      if (i == 1) {
+        byCount.get(maze, pieces[0][0], pieces[0][3], false);
+      }
+    }
+
+    assertEquals(2, byCount.size());
+    assertEquals(1, byCount.getEvictions());
+    assertNotNull(byCount.get(maze, pieces[0][0], pieces[0][3], false));
+    assertNull(byCount.get(maze, pieces[1][0], pieces[1][3], false));
+
+    // Room for two answers with paths, so a third pushes the first out
+    long weight = 128 + 4 * 4;
+    SolveCache byBytes = new SolveCache(100, 2 * weight);
+    for (int[] piece : pieces) {
+      byBytes.put(maze, piece[0], piece[3], false, piece, 3);
+    }
+
+    assertEquals(2, byBytes.size());
+    assertEquals(1, byBytes.getEvictions());
+    assertEquals(2 * weight, byBytes.getBytes());
+    assertNull(byBytes.get(maze, pieces[0][0], pieces[0][3], false));
+    assertNotNull(byBytes.get(maze, pieces[2][0], pieces[2][3], false));
+  }
+
+  /**
+   * <h3>batchRepeats</h3>
+   *
+   * A batch with the same mazes over and over should write exactly what it
+   * writes without the cache, while only solving each maze once
+   */
+  @Test
+  public void batchRepeats() throws IOException, InvalidMazeException {
+    StringBuilder input = new StringBuilder();
+    for (int i = 0; i < 60; i++) {
+      input.append(TestBatchSolver.toText(TestMazeSolver.randomGrid(12, 15, 0.3, i % 6)));
+    }
+
+    StringWriter plain = new StringWriter();
+    new BatchSolver(new BreadthFirstStrategy(), 2).run(new MazeLoader(TestMazeLoader.stream(input.toString())),
+        plain);
+    StringWriter cached = new StringWriter();
+    SolveCache cache = new SolveCache(100, 1 << 20);
+    new BatchSolver(new BreadthFirstStrategy(), 1, cache)
+        .run(new MazeLoader(TestMazeLoader.stream(input.toString())), cached);
+
+    assertEquals(plain.toString(), cached.toString());
+    assertEquals(6, cache.getMisses());
+    assertEquals(54, cache.getHits());
+  }
+}
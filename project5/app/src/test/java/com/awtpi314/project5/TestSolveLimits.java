@@ -0,0 +1,110 @@
+package com.awtpi314.project5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.awtpi314.project5.interfaces.SearchStrategy;
+
+/**
+ * <h3>TestSolveLimits</h3>
+ *
+ * TestSolveLimits makes sure every strategy stops when its budget, deadline or
+ * cancellation token says to, and that the result says why it stopped.
+ *
+ * @author Alexander Taylor
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class TestSolveLimits {
+  /**
+   * <h3>budgetStopsEveryStrategy</h3>
+   *
+   * A tiny budget on a long winding maze should stop every strategy without
+   * going over
+   */
+  @Test
+  public void budgetStopsEveryStrategy() {
+    MazeGrid maze = TestSearchStrategies.serpentine(201, 200);
+    int start = maze.getStart();
+    int target = maze.getFinish();
+    SolveLimits limits = SolveLimits.NONE.withNodeBudget(50);
+
+    for (SearchStrategy strategy : TestSearchStrategies.strategies()) {
+      SolveResult result = new MazeSolver(maze, strategy).solveWithin(start, target, limits);
+      String name = strategy.getClass().getSimpleName();
+
+      assertEquals(SolveResult.Status.BUDGET_EXHAUSTED, result.getStatus(), name);
+      assertNull(result.getPath(), name);
+      assertTrue(result.getNodesExpanded() <= 50, name + " expanded " + result.getNodesExpanded());
+    }
+  }
+
+  /**
+   * <h3>budgetIsExact</h3>
+   *
+   * A budget of exactly the cells the search needs should be enough, and one
+   * less should not
+   */
+  @Test
+  public void budgetIsExact() {
+    MazeGrid maze = TestMazeSolver.randomGrid(40, 40, 0.3, 7);
+    MazeSolver solver = new MazeSolver(maze);
+    int[] path = solver.findPath(maze.index(0, 0), maze.index(39, 39));
+    long needed = solver.getNodesExpanded();
+
+    SolveLimits limits = SolveLimits.NONE.withCheckInterval(16);
+    SolveResult enough = solver.solveWithin(maze.index(0, 0), maze.index(39, 39), limits.withNodeBudget(needed));
+    assertEquals(path == null ? SolveResult.Status.UNSOLVABLE : SolveResult.Status.SOLVED, enough.getStatus());
+    assertEquals(needed, enough.getNodesExpanded());
+
+    SolveResult tooFew = solver.solveWithin(maze.index(0, 0), maze.index(39, 39), limits.withNodeBudget(needed - 1));
+    assertEquals(SolveResult.Status.BUDGET_EXHAUSTED, tooFew.getStatus());
+    assertEquals(needed - 1, tooFew.getNodesExpanded());
+  }
+
+  /**
+   * <h3>cancelAndTimeout</h3>
+   *
+   * A cancelled token or a deadline that has passed should stop the search at
+   * the first check
+   */
+  @Test
+  public void cancelAndTimeout() {
+    MazeGrid maze = TestMazeSolver.randomGrid(100, 100, 0, 2);
+    MazeSolver solver = new MazeSolver(maze);
+    CancellationToken token = new CancellationToken();
+    SolveLimits limits = SolveLimits.NONE.withCheckInterval(1).withToken(token);
+
+    assertEquals(SolveResult.Status.SOLVED, solver.solveWithin(0, 9999, limits).getStatus());
+    token.cancel();
+    SolveResult cancelled = solver.solveWithin(0, 9999, limits);
+    assertEquals(SolveResult.Status.CANCELLED, cancelled.getStatus());
+    assertEquals(0, cancelled.getNodesExpanded());
+
+    SolveResult late = solver.solveWithin(0, 9999, SolveLimits.NONE.withTimeout(Duration.ZERO).withCheckInterval(1));
+    assertEquals(SolveResult.Status.TIMED_OUT, late.getStatus());
+
+    // The next search without limits isn't affected by the last one stopping
+    assertEquals(199, solver.findPath(0, 9999).length);
+  }
+
+  /**
+   * <h3>unsolvable</h3>
+   *
+   * A search that runs to the end without finding the target is unsolvable, not
+   * stopped
+   */
+  @Test
+  public void unsolvable() {
+    MazeGrid maze = TestMazeSolver.grid("S.X.", "..XT");
+    SolveResult result = new MazeSolver(maze).solveWithin(SolveLimits.NONE.withNodeBudget(100));
+
+    assertEquals(SolveResult.Status.UNSOLVABLE, result.getStatus());
+    assertEquals(4, result.getNodesExpanded());
+  }
+}
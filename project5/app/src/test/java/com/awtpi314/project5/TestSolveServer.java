@@ -0,0 +1,192 @@
+package com.awtpi314.project5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.SocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.jupiter.api.Test;
+
+import com.awtpi314.project5.exceptions.InvalidMazeException;
+
+/**
+ * <h3>TestSolveServer</h3>
+ *
+ * TestSolveServer sends mazes to a server over loopback TCP and a Unix domain
+ * socket and makes sure the answers match solving them in process.
+ *
+ * @author Alexander Taylor
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class TestSolveServer {
+  /**
+   * <h3>manyMazes</h3>
+   *
+   * Builds a stream of random mazes of different sizes
+   *
+   * @param count the number of mazes
+   * @return the mazes as text
+   */
+  static String manyMazes(int count) {
+    StringBuilder input = new StringBuilder();
+    for (long seed = 0; seed < count; seed++) {
+      int size = seed % 9 == 0 ? 90 : 4 + (int) (seed % 13);
+      input.append(TestBatchSolver.toText(TestMazeSolver.randomGrid(size, size + 2, 0.3, seed)));
+    }
+
+    return input.toString();
+  }
+
+  /**
+   * <h3>expectedAnswers</h3>
+   *
+   * Solves the mazes in process and frames the answers the way the server does
+   *
+   * @param input the mazes as text
+   * @return the answers the server should send back
+   */
+  static String expectedAnswers(String input) throws IOException, InvalidMazeException {
+    StringWriter batch = new StringWriter();
+    StringBuilder expected = new StringBuilder();
+    new BatchSolver(new BreadthFirstStrategy(), 1).run(new MazeLoader(TestMazeLoader.stream(input)), batch);
+    // Every answer ends with its distance or with not being solvable
+    for (String line : batch.toString().split("\n")) {
+      expected.append(line).append('\n');
+      if (line.startsWith("Total distance") || line.startsWith("Maze not solvable")) {
+        expected.append('\n');
+      }
+    }
+
+    return expected.toString();
+  }
+
+  /**
+   * <h3>send</h3>
+   *
+   * Sends text to a server with the client
+   *
+   * @param address the address of the server
+   * @param input   the text to send
+   * @return everything the server sent back
+   */
+  static String send(SocketAddress address, String input) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    SolveClient.send(address, TestMazeLoader.stream(input), out);
+    return out.toString(StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * <h3>pipelinedOverTcp</h3>
+   *
+   * Hundreds of mazes sent on one connection, from two clients at once, should
+   * come back in order with the same answers as solving them in process
+   */
+  @Test
+  public void pipelinedOverTcp() throws Exception {
+    String input = manyMazes(200);
+    String expected = expectedAnswers(input);
+
+    try (SolveServer server = new SolveServer(SolveServer.addressFor("0"), new BreadthFirstStrategy(), 2, null)) {
+      server.start();
+      String[] second = new String[1];
+      Thread other = new Thread(() -> {
+        try {
+          second[0] = send(server.getAddress(), input);
+        } catch (IOException e) {
+          second[0] = e.toString();
+        }
+      });
+      other.start();
+
+      assertEquals(expected, send(server.getAddress(), input));
+      other.join();
+      assertEquals(expected, second[0]);
+    }
+  }
+
+  /**
+   * <h3>unixSocketWithCache</h3>
+   *
+   * The server should also work over a Unix domain socket, and answer repeats
+   * from its cache
+   */
+  @Test
+  public void unixSocketWithCache() throws Exception {
+    Path directory = Files.createTempDirectory("solve-server");
+    Path socket = directory.resolve("maze.sock");
+    SolveCache cache = new SolveCache(100, 1 << 20);
+    String input = TestMazeLoader.EXAMPLE_TEXT.repeat(5);
+
+    try (SolveServer server = new SolveServer(SolveServer.addressFor(socket.toString()), new AStarStrategy(), 1,
+        cache)) {
+      server.start();
+      assertEquals(expectedAnswers(input), send(server.getAddress(), input));
+    } finally {
+      Files.deleteIfExists(socket);
+      Files.delete(directory);
+    }
+    assertEquals(1, cache.getMisses());
+    assertEquals(4, cache.getHits());
+  }
+
+  /**
+   * <h3>badMazeCloses</h3>
+   *
+   * A maze that can't be read gets an error as its answer and ends the
+   * connection, after the answers to the mazes before it
+   */
+  @Test
+  public void badMazeCloses() throws Exception {
+    String input = TestMazeLoader.EXAMPLE_TEXT + "2 2\nS?\n.T\n" + TestMazeLoader.EXAMPLE_TEXT;
+
+    try (SolveServer server = new SolveServer(SolveServer.addressFor("0"), new BreadthFirstStrategy(), 4, null)) {
+      server.start();
+      String answers = send(server.getAddress(), input);
+
+      assertTrue(answers.startsWith(expectedAnswers(TestMazeLoader.EXAMPLE_TEXT)));
+      assertTrue(answers.endsWith("\n\n"));
+      assertEquals(1, answers.split("Could not read the maze").length - 1);
+      assertEquals(1, answers.split("Total distance").length - 1);
+    }
+  }
+
+  /**
+   * <h3>executorChoice</h3>
+   *
+   * Either kind of executor should give the same answers. Virtual threads are
+   * only tried on a JVM that can start them.
+   */
+  @Test
+  public void executorChoice() throws Exception {
+    String input = manyMazes(30);
+    String expected = expectedAnswers(input);
+
+    for (String kind : new String[] { "pool", "virtual" }) {
+      ExecutorService workers;
+      try {
+        workers = SolveServer.workersFor(kind);
+      } catch (UnsupportedOperationException e) {
+        assertEquals("virtual", kind);
+        continue;
+      }
+      try (SolveServer server = new SolveServer(SolveServer.addressFor("0"),
+          new BatchSolver(new BreadthFirstStrategy(), 1), 3, workers)) {
+        server.start();
+        assertEquals(expected, send(server.getAddress(), input));
+      } finally {
+        workers.shutdown();
+      }
+    }
+
+    assertThrows(IllegalArgumentException.class, () -> SolveServer.workersFor("forkjoin"));
+  }
+}
@@ -0,0 +1,108 @@
+package com.awtpi314.project5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.awtpi314.project5.interfaces.SearchStrategy;
+
+/**
+ * <h3>TestSolverMetrics</h3>
+ *
+ * TestSolverMetrics makes sure solves only record stats while instrumentation
+ * is on, and that the stats and counters agree with what the search did.
+ *
+ * @author Alexander Taylor
+ * @version 1.0
+ * @since 10/18/2026
+ */
+public class TestSolverMetrics {
+  /**
+   * <h3>statsForEveryStrategy</h3>
+   *
+   * Every strategy should give back stats that match its path and the number
+   * of cells it expanded, and add them to the counters
+   */
+  @Test
+  public void statsForEveryStrategy() {
+    SolverMetrics metrics = SolverMetrics.getInstance();
+    MazeGrid maze = TestMazeSolver.randomGrid(40, 50, 0.25, 3);
+    metrics.reset();
+    metrics.setEnabled(true);
+
+    try {
+      long expanded = 0;
+      int solves = 0;
+      for (SearchStrategy strategy : TestSearchStrategies.strategies()) {
+        MazeSolver solver = new MazeSolver(maze, strategy);
+        int[] path = solver.findPath(0, maze.getCellCount() - 1);
+        SolveStats stats = solver.getLastStats();
+        String name = strategy.getClass().getSimpleName();
+
+        assertNotNull(stats, name);
+        assertEquals(name, stats.getStrategy());
+        assertEquals(path == null ? -1 : path.length - 1, stats.getPathLength(), name);
+        assertEquals(solver.getNodesExpanded(), stats.getNodesExpanded(), name);
+        assertTrue(stats.getSearchNanos() > 0, name);
+        assertTrue(path == null || stats.getPeakFrontier() > 0, name + " should have a frontier");
+        expanded += stats.getNodesExpanded();
+        solves++;
+      }
+
+      assertEquals(solves, metrics.getSolveCount());
+      assertEquals(expanded, metrics.getNodesExpanded());
+    } finally {
+      metrics.setEnabled(false);
+      metrics.reset();
+    }
+  }
+
+  /**
+   * <h3>phasesAndParse</h3>
+   *
+   * Solving from the S should time finding it, and parsing a maze should be
+   * counted while instrumentation is on
+   */
+  @Test
+  public void phasesAndParse() throws Exception {
+    SolverMetrics metrics = SolverMetrics.getInstance();
+    metrics.reset();
+    metrics.setEnabled(true);
+
+    try {
+      MazeGrid maze = MazeLoader.load(TestMazeLoader.stream("2 3\nS.X\n..T\n"));
+      assertEquals(1, metrics.getParseCount());
+
+      SolveResult result = new MazeSolver(maze).solveWithin(SolveLimits.NONE);
+      assertTrue(result.isSolved());
+      assertNotNull(result.getStats());
+      assertEquals(3, result.getStats().getPathLength());
+      assertTrue(result.getStats().getReconstructNanos() > 0);
+      assertEquals(1, metrics.getSolvedCount());
+    } finally {
+      metrics.setEnabled(false);
+      metrics.reset();
+    }
+  }
+
+  /**
+   * <h3>offByDefault</h3>
+   *
+   * Without instrumentation a solve keeps no stats and adds nothing to the
+   * counters
+   */
+  @Test
+  public void offByDefault() {
+    MazeGrid maze = TestMazeSolver.grid("S.X", "..T");
+    MazeSolver solver = new MazeSolver(maze);
+    long before = SolverMetrics.getInstance().getSolveCount();
+
+    assertNotNull(solver.findPath());
+    assertNull(solver.getLastStats());
+    assertNull(solver.solveWithin(SolveLimits.NONE).getStats());
+    assertEquals(before, SolverMetrics.getInstance().getSolveCount());
+  }
+}